@@ -0,0 +1,14 @@
+package com.financecore.application.dto.input;
+
+import com.financecore.domain.model.entity.TemaVisual;
+
+/**
+ * DTO de entrada para criação de usuário.
+ * Vem da camada de interface para a camada de aplicação.
+ */
+public record CriarUsuarioInputDTO(
+    String nome,
+    TemaVisual tema,
+    String idioma,
+    boolean notificacoesAtivas
+) {}
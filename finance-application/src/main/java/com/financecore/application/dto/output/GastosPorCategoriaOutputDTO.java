@@ -0,0 +1,27 @@
+package com.financecore.application.dto.output;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO de saída para os gastos por categoria de um usuário em um intervalo.
+ * Vai da camada de aplicação para a camada de interface.
+ */
+public record GastosPorCategoriaOutputDTO(
+    UUID usuarioId,
+    BigDecimal despesasEssenciais,
+    BigDecimal despesasNaoEssenciais,
+    BigDecimal totalParcelas,
+    List<HistoricoFinanceiroOutputDTO.TotalCategoria> despesasPorCategoria,
+    List<GastoMensal> meses
+) {
+    public record GastoMensal(
+        int mes,
+        int ano,
+        BigDecimal despesasEssenciais,
+        BigDecimal despesasNaoEssenciais,
+        BigDecimal totalParcelas,
+        List<HistoricoFinanceiroOutputDTO.TotalCategoria> despesasPorCategoria
+    ) {}
+}
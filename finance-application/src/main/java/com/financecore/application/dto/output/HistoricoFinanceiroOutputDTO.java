@@ -0,0 +1,37 @@
+package com.financecore.application.dto.output;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO de saída para a consolidação de um mês fechado.
+ * Vai da camada de aplicação para a camada de interface.
+ */
+public record HistoricoFinanceiroOutputDTO(
+    UUID mesFinanceiroId,
+    int mes,
+    int ano,
+    BigDecimal saldoInicial,
+    BigDecimal saldoFinal,
+    BigDecimal totalReceitas,
+    BigDecimal totalDespesas,
+    BigDecimal totalParcelas,
+    BigDecimal receitasFixas,
+    BigDecimal receitasVariaveis,
+    BigDecimal despesasPontuais,
+    BigDecimal despesasFixas,
+    BigDecimal despesasParceladas,
+    BigDecimal despesasEssenciais,
+    BigDecimal despesasNaoEssenciais,
+    List<TotalCategoria> despesasPorCategoria,
+    LocalDateTime dataGeracao
+) {
+    public record TotalCategoria(
+        UUID categoriaId,
+        String nome,
+        boolean essencial,
+        BigDecimal total
+    ) {}
+}
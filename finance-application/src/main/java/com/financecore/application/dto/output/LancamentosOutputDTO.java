@@ -0,0 +1,23 @@
+package com.financecore.application.dto.output;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO de saída para lançamentos encontrados no índice de um usuário.
+ * Vai da camada de aplicação para a camada de interface.
+ */
+public record LancamentosOutputDTO(
+    UUID usuarioId,
+    List<Lancamento> lancamentos
+) {
+    public record Lancamento(
+        String natureza,
+        UUID id,
+        UUID mesFinanceiroId,
+        LocalDate data,
+        BigDecimal valor
+    ) {}
+}
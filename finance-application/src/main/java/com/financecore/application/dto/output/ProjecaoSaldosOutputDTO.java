@@ -0,0 +1,21 @@
+package com.financecore.application.dto.output;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO de saída para a projeção de saldos de um usuário.
+ * Vai da camada de aplicação para a camada de interface.
+ */
+public record ProjecaoSaldosOutputDTO(
+    UUID usuarioId,
+    List<MesProjetado> meses
+) {
+    public record MesProjetado(
+        int mes,
+        int ano,
+        BigDecimal fluxo,
+        BigDecimal saldoFinal
+    ) {}
+}
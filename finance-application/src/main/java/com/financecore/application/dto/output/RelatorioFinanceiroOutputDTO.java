@@ -0,0 +1,28 @@
+package com.financecore.application.dto.output;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO de saída para relatório financeiro consolidado.
+ * Vai da camada de aplicação para a camada de interface.
+ */
+public record RelatorioFinanceiroOutputDTO(
+    UUID id,
+    UUID usuarioId,
+    LocalDate periodoInicio,
+    LocalDate periodoFim,
+    LocalDateTime dataGeracao,
+    int quantidadeMeses,
+    BigDecimal saldoInicial,
+    BigDecimal saldoFinal,
+    BigDecimal totalReceitas,
+    BigDecimal totalDespesas,
+    BigDecimal totalParcelas,
+    BigDecimal despesasEssenciais,
+    BigDecimal despesasNaoEssenciais,
+    List<HistoricoFinanceiroOutputDTO.TotalCategoria> despesasPorCategoria
+) {}
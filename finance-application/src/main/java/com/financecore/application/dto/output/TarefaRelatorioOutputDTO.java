@@ -0,0 +1,37 @@
+package com.financecore.application.dto.output;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO de saída com a situação de uma tarefa de geração de relatório.
+ * Vai da camada de aplicação para a camada de interface.
+ *
+ * mesesProcessados/totalMeses dá o andamento; emCache indica que o
+ * resultado foi reaproveitado de uma geração anterior.
+ */
+public record TarefaRelatorioOutputDTO(
+    UUID id,
+    UUID usuarioId,
+    Status status,
+    int mesesProcessados,
+    int totalMeses,
+    boolean emCache,
+    LocalDateTime solicitadaEm,
+    LocalDateTime iniciadaEm,
+    LocalDateTime concluidaEm,
+    String erro
+) {
+
+    public enum Status {
+        PENDENTE,
+        EXECUTANDO,
+        CONCLUIDA,
+        CANCELADA,
+        FALHOU;
+
+        public boolean finalizada() {
+            return this != PENDENTE && this != EXECUTANDO;
+        }
+    }
+}
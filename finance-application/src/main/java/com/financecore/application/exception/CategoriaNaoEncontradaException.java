@@ -0,0 +1,11 @@
+package com.financecore.application.exception;
+
+public class CategoriaNaoEncontradaException extends ApplicationException {
+    public CategoriaNaoEncontradaException(String message) {
+        super(message);
+    }
+    
+    public static CategoriaNaoEncontradaException comId(String id) {
+        return new CategoriaNaoEncontradaException("Categoria não encontrada com ID: " + id);
+    }
+}
@@ -0,0 +1,11 @@
+package com.financecore.application.exception;
+
+public class DespesaNaoEncontradaException extends ApplicationException {
+    public DespesaNaoEncontradaException(String message) {
+        super(message);
+    }
+    
+    public static DespesaNaoEncontradaException comId(String id) {
+        return new DespesaNaoEncontradaException("Despesa não encontrada com ID: " + id);
+    }
+}
\ No newline at end of file
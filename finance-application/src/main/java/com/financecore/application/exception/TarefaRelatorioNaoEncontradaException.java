@@ -0,0 +1,11 @@
+package com.financecore.application.exception;
+
+public class TarefaRelatorioNaoEncontradaException extends ApplicationException {
+    public TarefaRelatorioNaoEncontradaException(String message) {
+        super(message);
+    }
+    
+    public static TarefaRelatorioNaoEncontradaException comId(String id) {
+        return new TarefaRelatorioNaoEncontradaException("Tarefa de relatório não encontrada com ID: " + id);
+    }
+}
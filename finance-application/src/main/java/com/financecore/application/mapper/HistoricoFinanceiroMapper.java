@@ -0,0 +1,51 @@
+package com.financecore.application.mapper;
+
+import com.financecore.application.dto.output.HistoricoFinanceiroOutputDTO;
+import com.financecore.domain.model.entity.HistoricoFinanceiro;
+
+/**
+ * Mapper para converter consolidações mensais em DTOs.
+ */
+public final class HistoricoFinanceiroMapper {
+    
+    private HistoricoFinanceiroMapper() {
+        // Classe utilitária, não instanciável
+    }
+    
+    public static HistoricoFinanceiroOutputDTO toOutputDTO(HistoricoFinanceiro historico) {
+        if (historico == null) {
+            return null;
+        }
+        
+        return new HistoricoFinanceiroOutputDTO(
+            historico.getMesFinanceiroId(),
+            historico.getPeriodo().mes(),
+            historico.getPeriodo().ano(),
+            historico.getSaldoInicial().toBigDecimal(),
+            historico.getSaldoFinal().toBigDecimal(),
+            historico.getTotalReceitas().toBigDecimal(),
+            historico.getTotalDespesas().toBigDecimal(),
+            historico.getTotalParcelas().toBigDecimal(),
+            historico.getReceitasFixas().toBigDecimal(),
+            historico.getReceitasVariaveis().toBigDecimal(),
+            historico.getDespesasPontuais().toBigDecimal(),
+            historico.getDespesasFixas().toBigDecimal(),
+            historico.getDespesasParceladas().toBigDecimal(),
+            historico.getDespesasEssenciais().toBigDecimal(),
+            historico.getDespesasNaoEssenciais().toBigDecimal(),
+            historico.getDespesasPorCategoria().stream()
+                .map(HistoricoFinanceiroMapper::toOutputDTO)
+                .toList(),
+            historico.getDataGeracao()
+        );
+    }
+    
+    public static HistoricoFinanceiroOutputDTO.TotalCategoria toOutputDTO(HistoricoFinanceiro.TotalCategoria total) {
+        return new HistoricoFinanceiroOutputDTO.TotalCategoria(
+            total.categoriaId(),
+            total.nome(),
+            total.essencial(),
+            total.total().toBigDecimal()
+        );
+    }
+}
@@ -0,0 +1,44 @@
+package com.financecore.application.mapper;
+
+import com.financecore.application.dto.output.HistoricoFinanceiroOutputDTO;
+import com.financecore.application.dto.output.RelatorioFinanceiroOutputDTO;
+import com.financecore.domain.model.entity.RelatorioFinanceiro;
+
+/**
+ * Mapper para converter relatórios financeiros em DTOs.
+ */
+public final class RelatorioFinanceiroMapper {
+    
+    private RelatorioFinanceiroMapper() {
+        // Classe utilitária, não instanciável
+    }
+    
+    public static RelatorioFinanceiroOutputDTO toOutputDTO(RelatorioFinanceiro relatorio) {
+        if (relatorio == null) {
+            return null;
+        }
+        
+        return new RelatorioFinanceiroOutputDTO(
+            relatorio.getId(),
+            relatorio.getUsuarioId(),
+            relatorio.getPeriodoInicio(),
+            relatorio.getPeriodoFim(),
+            relatorio.getDataGeracao(),
+            relatorio.getQuantidadeMeses(),
+            relatorio.getSaldoInicial().toBigDecimal(),
+            relatorio.getSaldoFinal().toBigDecimal(),
+            relatorio.getTotalReceitas().toBigDecimal(),
+            relatorio.getTotalDespesas().toBigDecimal(),
+            relatorio.getTotalParcelas().toBigDecimal(),
+            relatorio.getDespesasEssenciais().toBigDecimal(),
+            relatorio.getDespesasNaoEssenciais().toBigDecimal(),
+            relatorio.getDespesasPorCategoria().stream()
+                .map(total -> new HistoricoFinanceiroOutputDTO.TotalCategoria(
+                    total.categoriaId(),
+                    total.nome(),
+                    total.essencial(),
+                    total.total().toBigDecimal()))
+                .toList()
+        );
+    }
+}
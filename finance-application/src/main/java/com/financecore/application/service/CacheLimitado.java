@@ -0,0 +1,142 @@
+package com.financecore.application.service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Cache em memória com capacidade e validade, usado pelos serviços que
+ * mantêm um valor derivado por usuário (classificador, projeção, índice,
+ * gastos por categoria).
+ *
+ * Acima da capacidade sai a entrada usada há mais tempo (LRU); passada a
+ * validade desde a carga, a entrada é recarregada no próximo uso, o que
+ * limita a divergência de atualizações feitas por outras instâncias.
+ *
+ * A carga roda fora de qualquer trava; só as operações sobre o valor de uma
+ * mesma chave são serializadas, pelo monitor da entrada. Cada atualização ou
+ * invalidação avança a geração da entrada: uma carga iniciada antes disso
+ * responde a quem a pediu, mas não é guardada, porque pode ter lido o estado
+ * anterior à alteração.
+ */
+final class CacheLimitado<K, V> {
+
+    private final long validadeNanos;
+    private final LongSupplier relogio;
+    private final LinkedHashMap<K, Entrada<V>> entradas;
+
+    CacheLimitado(int capacidade, Duration validade) {
+        this(capacidade, validade, System::nanoTime);
+    }
+
+    CacheLimitado(int capacidade, Duration validade, LongSupplier relogio) {
+        if (capacidade <= 0) {
+            throw new IllegalArgumentException("capacidade deve ser > 0");
+        }
+        Objects.requireNonNull(validade, "validade não pode ser nula");
+        if (validade.isNegative() || validade.isZero()) {
+            throw new IllegalArgumentException("validade deve ser positiva");
+        }
+        this.validadeNanos = validade.toNanos();
+        this.relogio = Objects.requireNonNull(relogio, "relogio não pode ser nulo");
+        this.entradas = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entrada<V>> maisAntiga) {
+                return size() > capacidade;
+            }
+        };
+    }
+
+    /**
+     * Executa a consulta sobre o valor da chave. Sem valor, com valor
+     * expirado ou com um valor que não serve à consulta, carrega um novo:
+     * a carga recebe o valor atual (ou null) e deve ler dele apenas dados
+     * imutáveis, pois ele pode estar sendo atualizado ao mesmo tempo.
+     */
+    <T> T consultar(K chave,
+                    Predicate<V> serve,
+                    Function<V, V> carregar,
+                    Function<V, T> consulta) {
+        Objects.requireNonNull(chave, "chave não pode ser nula");
+        Entrada<V> entrada = entrada(chave);
+        V atual;
+        long geracao;
+        synchronized (entrada) {
+            atual = entrada.valido(relogio.getAsLong(), validadeNanos) ? entrada.valor : null;
+            if (atual != null && serve.test(atual)) {
+                return consulta.apply(atual);
+            }
+            geracao = entrada.geracao;
+        }
+
+        V carregado = Objects.requireNonNull(carregar.apply(atual), "carga não pode devolver null");
+
+        synchronized (entrada) {
+            if (entrada.geracao == geracao) {
+                entrada.valor = carregado;
+                entrada.carregadoEm = relogio.getAsLong();
+            }
+            return consulta.apply(carregado);
+        }
+    }
+
+    /**
+     * Atualiza o valor da chave, se houver um em uso. A atualização devolve
+     * o novo valor, ou null para descartá-lo. Uma carga em andamento para a
+     * chave deixa de ser guardada.
+     */
+    void atualizar(K chave, UnaryOperator<V> atualizacao) {
+        Objects.requireNonNull(chave, "chave não pode ser nula");
+        Entrada<V> entrada;
+        synchronized (entradas) {
+            entrada = entradas.get(chave);
+        }
+        if (entrada == null) {
+            return;
+        }
+        synchronized (entrada) {
+            entrada.geracao++;
+            if (entrada.valor != null) {
+                entrada.valor = atualizacao.apply(entrada.valor);
+            }
+        }
+    }
+
+    void invalidar(K chave) {
+        atualizar(chave, valor -> null);
+    }
+
+    void invalidarTodos() {
+        synchronized (entradas) {
+            for (Entrada<V> entrada : entradas.values()) {
+                synchronized (entrada) {
+                    entrada.geracao++;
+                    entrada.valor = null;
+                }
+            }
+            entradas.clear();
+        }
+    }
+
+    private Entrada<V> entrada(K chave) {
+        synchronized (entradas) {
+            return entradas.computeIfAbsent(chave, k -> new Entrada<>());
+        }
+    }
+
+    private static final class Entrada<V> {
+
+        private V valor;
+        private long carregadoEm;
+        private long geracao;
+
+        boolean valido(long agora, long validadeNanos) {
+            return valor != null && agora - carregadoEm < validadeNanos;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.financecore.application.service;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.financecore.domain.model.repository.RegraClassificacaoRepository;
+import com.financecore.domain.model.service.ClassificadorDespesas;
+
+/**
+ * Mantém o classificador automático de despesas compilado de cada usuário.
+ *
+ * A compilação é feita na primeira classificação após o cadastro ou a
+ * alteração de regras e reaproveitada pelas seguintes, inclusive entre
+ * threads. Alterações de regras devem chamar {@link #invalidar(UUID)}.
+ *
+ * Os classificadores ficam em um cache limitado em quantidade de usuários e
+ * em validade, para que regras alteradas por outra instância da aplicação
+ * também cheguem aqui. Eles guardam só ids de categoria; quem classifica
+ * resolve a categoria pelo CategoriaRepository, que reflete renomeações e
+ * remoções.
+ */
+@Service
+public class ClassificacaoAutomaticaService {
+
+    private final RegraClassificacaoRepository regraClassificacaoRepository;
+    private final CacheLimitado<UUID, ClassificadorDespesas> classificadores;
+
+    public ClassificacaoAutomaticaService(
+            RegraClassificacaoRepository regraClassificacaoRepository,
+            @Value("${financecore.classificacao.cache.capacidade:10000}") int capacidade,
+            @Value("${financecore.classificacao.cache.validade-minutos:10}") long validadeMinutos) {
+        this.regraClassificacaoRepository = regraClassificacaoRepository;
+        this.classificadores = new CacheLimitado<>(capacidade, Duration.ofMinutes(validadeMinutos));
+    }
+
+    /**
+     * Classificador compilado com as regras atuais do usuário (RN-10).
+     */
+    public ClassificadorDespesas classificadorDo(UUID usuarioId) {
+        Objects.requireNonNull(usuarioId, "usuarioId não pode ser nulo");
+        return classificadores.consultar(usuarioId,
+                classificador -> true,
+                atual -> ClassificadorDespesas.compilar(regraClassificacaoRepository.listarPorUsuario(usuarioId)),
+                classificador -> classificador);
+    }
+
+    /**
+     * Descarta o classificador do usuário agora e, se houver transação,
+     * novamente após o término, para que uma compilação concorrente feita
+     * antes do commit não permaneça em uso.
+     */
+    public void invalidar(UUID usuarioId) {
+        Objects.requireNonNull(usuarioId, "usuarioId não pode ser nulo");
+        classificadores.invalidar(usuarioId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    classificadores.invalidar(usuarioId);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,359 @@
+package com.financecore.application.service;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.financecore.application.dto.output.RelatorioFinanceiroOutputDTO;
+import com.financecore.application.dto.output.TarefaRelatorioOutputDTO;
+import com.financecore.application.dto.output.TarefaRelatorioOutputDTO.Status;
+import com.financecore.application.exception.OperacaoNaoPermitidaException;
+import com.financecore.application.exception.TarefaRelatorioNaoEncontradaException;
+import com.financecore.application.mapper.RelatorioFinanceiroMapper;
+import com.financecore.application.usecase.relatorio.AcompanhamentoRelatorio;
+import com.financecore.application.usecase.relatorio.GerarRelatorioFinanceiroUseCase;
+import com.financecore.application.usecase.relatorio.SolicitarRelatorioCommand;
+import com.financecore.domain.model.entity.RelatorioFinanceiro;
+import com.financecore.domain.model.valueobject.Periodo;
+
+/**
+ * Geração assíncrona de relatórios financeiros (UC-10, RF11).
+ *
+ * A solicitação só enfileira a tarefa e devolve seu id; a geração roda em um
+ * pool limitado de trabalhadores, por ordem de prioridade e de chegada. O
+ * andamento pode ser consultado, acompanhado por notificação ou aguardado
+ * por um CompletableFuture, sem bloquear a thread que atende a requisição.
+ * Tarefas pendentes ou em execução podem ser canceladas; a execução é
+ * interrompida no mês seguinte ao pedido.
+ *
+ * Relatórios em que todos os meses do intervalo estão fechados são guardados
+ * em cache por (usuário, início, fim): meses fechados não mudam (RN-09), e
+ * uma nova solicitação idêntica é atendida sem gerar de novo. Intervalos com
+ * meses abertos ou inexistentes nunca vão para o cache.
+ *
+ * Tarefas finalizadas ficam disponíveis para consulta durante o tempo de
+ * retenção e depois são descartadas. Cada tarefa só é visível ao usuário que
+ * a solicitou (RN-10): para os demais, é como se não existisse.
+ */
+@Service
+public class FilaRelatoriosService implements AutoCloseable {
+
+    private final GerarRelatorioFinanceiroUseCase gerarRelatorioFinanceiroUseCase;
+    private final ThreadPoolExecutor trabalhadores;
+    private final Semaphore vagasFila;
+    private final long retencaoMinutos;
+    private final AtomicLong sequencia = new AtomicLong();
+    private final ConcurrentHashMap<UUID, Tarefa> tarefas = new ConcurrentHashMap<>();
+    private final Map<Chave, RelatorioFinanceiroOutputDTO> cache;
+
+    public FilaRelatoriosService(
+            GerarRelatorioFinanceiroUseCase gerarRelatorioFinanceiroUseCase,
+            @Value("${financecore.relatorios.trabalhadores:2}") int quantidadeTrabalhadores,
+            @Value("${financecore.relatorios.capacidade-fila:100}") int capacidadeFila,
+            @Value("${financecore.relatorios.cache.capacidade:500}") int capacidadeCache,
+            @Value("${financecore.relatorios.retencao-minutos:15}") long retencaoMinutos) {
+        if (quantidadeTrabalhadores <= 0 || capacidadeFila <= 0 || capacidadeCache <= 0 || retencaoMinutos <= 0) {
+            throw new IllegalArgumentException("Configuração da fila de relatórios deve ser maior que zero");
+        }
+        this.gerarRelatorioFinanceiroUseCase = gerarRelatorioFinanceiroUseCase;
+        this.vagasFila = new Semaphore(capacidadeFila);
+        this.retencaoMinutos = retencaoMinutos;
+        // A fila só recebe Tarefa: execute() não embrulha o Runnable, então a ordem é a de Tarefa.compareTo
+        this.trabalhadores = new ThreadPoolExecutor(quantidadeTrabalhadores, quantidadeTrabalhadores,
+                0L, TimeUnit.MILLISECONDS, new PriorityBlockingQueue<>(), novaFabricaThreads());
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Chave, RelatorioFinanceiroOutputDTO> maisAntiga) {
+                return size() > capacidadeCache;
+            }
+        });
+    }
+
+    /**
+     * Enfileira a geração de um relatório e devolve a situação da tarefa.
+     * Com o resultado em cache, a tarefa já nasce concluída.
+     */
+    public TarefaRelatorioOutputDTO solicitar(SolicitarRelatorioCommand command) {
+        Objects.requireNonNull(command, "command não pode ser nulo");
+        descartarExpiradas();
+
+        // 1. Intervalo inteiro fechado e já gerado: reaproveita
+        Tarefa tarefa = new Tarefa(command, sequencia.incrementAndGet());
+        RelatorioFinanceiroOutputDTO emCache = cache.get(tarefa.chave);
+        if (emCache != null) {
+            tarefa.concluirComCache(emCache);
+            tarefas.put(tarefa.id, tarefa);
+            return tarefa.situacao();
+        }
+
+        // 2. Fila limitada: recusa em vez de acumular trabalho sem fim. A vaga é
+        //    reservada antes de enfileirar e devolvida quando a tarefa sai da fila
+        if (!vagasFila.tryAcquire()) {
+            throw new OperacaoNaoPermitidaException("Fila de relatórios cheia. Tente novamente mais tarde.");
+        }
+
+        // 3. Enfileirar
+        tarefas.put(tarefa.id, tarefa);
+        try {
+            trabalhadores.execute(tarefa);
+        } catch (RejectedExecutionException e) {
+            tarefas.remove(tarefa.id);
+            vagasFila.release();
+            throw new OperacaoNaoPermitidaException("Fila de relatórios encerrada");
+        }
+        return tarefa.situacao();
+    }
+
+    public TarefaRelatorioOutputDTO consultar(UUID usuarioId, UUID tarefaId) {
+        return buscar(usuarioId, tarefaId).situacao();
+    }
+
+    /**
+     * Relatório de uma tarefa concluída.
+     */
+    public RelatorioFinanceiroOutputDTO resultado(UUID usuarioId, UUID tarefaId) {
+        Tarefa tarefa = buscar(usuarioId, tarefaId);
+        TarefaRelatorioOutputDTO situacao = tarefa.situacao();
+        if (situacao.status() != Status.CONCLUIDA) {
+            throw new OperacaoNaoPermitidaException(
+                "Relatório não disponível. Situação da tarefa: " + situacao.status());
+        }
+        return tarefa.resultado.join();
+    }
+
+    /**
+     * Completado com o relatório quando a tarefa terminar; excepcional se
+     * ela falhar ou for cancelada. Cancelar o futuro devolvido não cancela
+     * a tarefa.
+     */
+    public CompletableFuture<RelatorioFinanceiroOutputDTO> aguardar(UUID usuarioId, UUID tarefaId) {
+        return buscar(usuarioId, tarefaId).resultado.copy();
+    }
+
+    /**
+     * Notifica a situação atual da tarefa e, em seguida, cada mudança até a
+     * finalização. As notificações vêm da thread que gera o relatório e devem
+     * ser rápidas; um observador que lançar exceção deixa de ser notificado.
+     */
+    public void acompanhar(UUID usuarioId, UUID tarefaId, Consumer<TarefaRelatorioOutputDTO> observador) {
+        Objects.requireNonNull(observador, "observador não pode ser nulo");
+        buscar(usuarioId, tarefaId).adicionarObservador(observador);
+    }
+
+    /**
+     * Cancela uma tarefa pendente ou em execução.
+     */
+    public TarefaRelatorioOutputDTO cancelar(UUID usuarioId, UUID tarefaId) {
+        Tarefa tarefa = buscar(usuarioId, tarefaId);
+        // Só quem tira a tarefa da fila devolve a vaga: aqui ou no início de run()
+        if (tarefa.cancelar() && trabalhadores.remove(tarefa)) {
+            vagasFila.release();
+        }
+        return tarefa.situacao();
+    }
+
+    @Override
+    public void close() {
+        trabalhadores.shutdownNow();
+    }
+
+    private Tarefa buscar(UUID usuarioId, UUID tarefaId) {
+        Objects.requireNonNull(usuarioId, "usuarioId não pode ser nulo");
+        Objects.requireNonNull(tarefaId, "tarefaId não pode ser nulo");
+        Tarefa tarefa = tarefas.get(tarefaId);
+        // Tarefa de outro usuário: mesma resposta de inexistente (RN-10)
+        if (tarefa == null || !tarefa.command.usuarioId().equals(usuarioId)) {
+            throw TarefaRelatorioNaoEncontradaException.comId(tarefaId.toString());
+        }
+        return tarefa;
+    }
+
+    private void descartarExpiradas() {
+        LocalDateTime limite = LocalDateTime.now().minusMinutes(retencaoMinutos);
+        tarefas.values().removeIf(tarefa -> tarefa.expirada(limite));
+    }
+
+    private static ThreadFactory novaFabricaThreads() {
+        AtomicInteger contador = new AtomicInteger();
+        return executavel -> {
+            Thread thread = new Thread(executavel, "relatorio-" + contador.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record Chave(UUID usuarioId, Periodo inicio, Periodo fim) {
+    }
+
+    /**
+     * Estado de uma solicitação. Transições de status sob o monitor da
+     * própria tarefa; o andamento é escrito apenas pela thread que gera.
+     */
+    private final class Tarefa implements Runnable, Comparable<Tarefa>, AcompanhamentoRelatorio {
+
+        private final UUID id = UUID.randomUUID();
+        private final SolicitarRelatorioCommand command;
+        private final Chave chave;
+        private final long ordemChegada;
+        private final int totalMeses;
+        private final LocalDateTime solicitadaEm = LocalDateTime.now();
+        private final CompletableFuture<RelatorioFinanceiroOutputDTO> resultado = new CompletableFuture<>();
+        private final List<Consumer<TarefaRelatorioOutputDTO>> observadores = new CopyOnWriteArrayList<>();
+
+        private volatile Status status = Status.PENDENTE;
+        private volatile boolean cancelamentoSolicitado;
+        private volatile int mesesProcessados;
+        private volatile boolean emCache;
+        private volatile LocalDateTime iniciadaEm;
+        private volatile LocalDateTime concluidaEm;
+        private volatile String erro;
+        private int mesesNaoConsolidados;
+
+        Tarefa(SolicitarRelatorioCommand command, long ordemChegada) {
+            this.command = command;
+            this.chave = new Chave(command.usuarioId(), command.inicio(), command.fim());
+            this.ordemChegada = ordemChegada;
+            this.totalMeses = command.totalMeses();
+        }
+
+        @Override
+        public void run() {
+            vagasFila.release();
+            synchronized (this) {
+                if (status != Status.PENDENTE) {
+                    return;
+                }
+                status = Status.EXECUTANDO;
+                iniciadaEm = LocalDateTime.now();
+            }
+            notificar();
+
+            try {
+                RelatorioFinanceiro relatorio = gerarRelatorioFinanceiroUseCase.gerar(command.relatorio(), this);
+                RelatorioFinanceiroOutputDTO dto = RelatorioFinanceiroMapper.toOutputDTO(relatorio);
+                if (mesesNaoConsolidados == 0 && relatorio.getQuantidadeMeses() == totalMeses) {
+                    cache.put(chave, dto);
+                }
+                finalizar(Status.CONCLUIDA, null);
+                resultado.complete(dto);
+            } catch (CancellationException e) {
+                finalizar(Status.CANCELADA, null);
+                resultado.cancel(false);
+            } catch (RuntimeException e) {
+                finalizar(Status.FALHOU, e.getMessage());
+                resultado.completeExceptionally(e);
+            }
+            notificar();
+            observadores.clear();
+        }
+
+        @Override
+        public void mesAcumulado(Periodo periodo, boolean consolidado) {
+            if (cancelamentoSolicitado) {
+                throw new CancellationException("Tarefa de relatório cancelada");
+            }
+            if (!consolidado) {
+                mesesNaoConsolidados++;
+            }
+            mesesProcessados++;
+            notificar();
+        }
+
+        @Override
+        public int compareTo(Tarefa outra) {
+            int comparacao = command.prioridade().compareTo(outra.command.prioridade());
+            return comparacao != 0 ? comparacao : Long.compare(ordemChegada, outra.ordemChegada);
+        }
+
+        void concluirComCache(RelatorioFinanceiroOutputDTO dto) {
+            emCache = true;
+            mesesProcessados = totalMeses;
+            iniciadaEm = solicitadaEm;
+            finalizar(Status.CONCLUIDA, null);
+            resultado.complete(dto);
+        }
+
+        /**
+         * @return true se a tarefa ainda estava na fila e deve ser removida dela
+         */
+        boolean cancelar() {
+            synchronized (this) {
+                if (status == Status.EXECUTANDO) {
+                    cancelamentoSolicitado = true;
+                    return false;
+                }
+                if (status != Status.PENDENTE) {
+                    throw new OperacaoNaoPermitidaException(
+                        "Tarefa de relatório já finalizada com situação " + status);
+                }
+                finalizar(Status.CANCELADA, null);
+            }
+            resultado.cancel(false);
+            notificar();
+            observadores.clear();
+            return true;
+        }
+
+        synchronized void adicionarObservador(Consumer<TarefaRelatorioOutputDTO> observador) {
+            observador.accept(situacao());
+            if (!status.finalizada()) {
+                observadores.add(observador);
+            }
+        }
+
+        boolean expirada(LocalDateTime limite) {
+            LocalDateTime fim = concluidaEm;
+            return fim != null && fim.isBefore(limite);
+        }
+
+        TarefaRelatorioOutputDTO situacao() {
+            synchronized (this) {
+                return new TarefaRelatorioOutputDTO(id, command.usuarioId(), status, mesesProcessados, totalMeses,
+                        emCache, solicitadaEm, iniciadaEm, concluidaEm, erro);
+            }
+        }
+
+        private void finalizar(Status statusFinal, String mensagemErro) {
+            synchronized (this) {
+                erro = mensagemErro;
+                concluidaEm = LocalDateTime.now();
+                status = statusFinal;
+            }
+        }
+
+        // Sob o monitor, para que cada observador receba as situações em ordem
+        private synchronized void notificar() {
+            if (observadores.isEmpty()) {
+                return;
+            }
+            TarefaRelatorioOutputDTO situacao = situacao();
+            for (Consumer<TarefaRelatorioOutputDTO> observador : observadores) {
+                try {
+                    observador.accept(situacao);
+                } catch (RuntimeException e) {
+                    observadores.remove(observador);
+                }
+            }
+        }
+    }
+}
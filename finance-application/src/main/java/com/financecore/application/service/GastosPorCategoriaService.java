@@ -0,0 +1,88 @@
+package com.financecore.application.service;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.financecore.domain.model.entity.MesFinanceiro;
+import com.financecore.domain.model.event.MesesFinanceirosAlterados;
+import com.financecore.domain.model.event.MesesFinanceirosAlterados.MesAlterado;
+import com.financecore.domain.model.repository.HistoricoFinanceiroRepository;
+import com.financecore.domain.model.repository.MesFinanceiroRepository;
+import com.financecore.domain.model.service.GastosPorCategoria;
+import com.financecore.domain.model.valueobject.Periodo;
+
+/**
+ * Mantém os gastos por categoria de cada usuário que já os consultou.
+ *
+ * O intervalo é carregado na primeira consulta: meses fechados pela
+ * consolidação (RN-09), os demais pelos totais do agregado. Depois, cada mês
+ * alterado ({@link MesesFinanceirosAlterados}, tratado após o commit) é
+ * atualizado a partir dos totais que o próprio agregado mantém. Uma consulta
+ * fora do intervalo carregado recarrega a união dos dois intervalos.
+ *
+ * Os gastos ficam em um cache limitado em quantidade de usuários e em
+ * validade, como as projeções de saldo.
+ */
+@Service
+public class GastosPorCategoriaService {
+
+    private final HistoricoFinanceiroRepository historicoFinanceiroRepository;
+    private final MesFinanceiroRepository mesFinanceiroRepository;
+    private final CacheLimitado<UUID, GastosPorCategoria> gastos;
+
+    public GastosPorCategoriaService(
+            HistoricoFinanceiroRepository historicoFinanceiroRepository,
+            MesFinanceiroRepository mesFinanceiroRepository,
+            @Value("${financecore.gastos.cache.capacidade:10000}") int capacidade,
+            @Value("${financecore.gastos.cache.validade-minutos:10}") long validadeMinutos) {
+        this.historicoFinanceiroRepository = historicoFinanceiroRepository;
+        this.mesFinanceiroRepository = mesFinanceiroRepository;
+        this.gastos = new CacheLimitado<>(capacidade, Duration.ofMinutes(validadeMinutos));
+    }
+
+    /**
+     * Executa uma consulta sobre os gastos do usuário cobrindo o intervalo
+     * (RN-10). A consulta não deve guardar a instância recebida.
+     */
+    public <T> T consultar(UUID usuarioId, Periodo inicio, Periodo fim, Function<GastosPorCategoria, T> consulta) {
+        Objects.requireNonNull(usuarioId, "usuarioId não pode ser nulo");
+        Objects.requireNonNull(consulta, "consulta não pode ser nula");
+        return gastos.consultar(usuarioId,
+                cobertos -> cobertos.cobre(inicio, fim),
+                atual -> atual == null
+                        ? carregar(usuarioId, inicio, fim)
+                        : carregar(usuarioId,
+                            inicio.compareTo(atual.getInicio()) < 0 ? inicio : atual.getInicio(),
+                            fim.compareTo(atual.getFim()) > 0 ? fim : atual.getFim()),
+                consulta);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void aoAlterarMeses(MesesFinanceirosAlterados alterados) {
+        for (MesAlterado alterado : alterados.meses()) {
+            MesFinanceiro mes = alterado.mes();
+            gastos.atualizar(mes.getUsuarioId(), cobertos -> {
+                cobertos.atualizar(mes);
+                return cobertos;
+            });
+        }
+    }
+
+    private GastosPorCategoria carregar(UUID usuarioId, Periodo inicio, Periodo fim) {
+        GastosPorCategoria cobertos = new GastosPorCategoria(usuarioId, inicio, fim);
+        historicoFinanceiroRepository.listarPorUsuarioEPeriodo(usuarioId, inicio, fim)
+            .forEach(cobertos::atualizar);
+        try (Stream<MesFinanceiro> meses = mesFinanceiroRepository.percorrerNaoConsolidados(usuarioId, inicio, fim)) {
+            meses.forEach(cobertos::atualizar);
+        }
+        return cobertos;
+    }
+}
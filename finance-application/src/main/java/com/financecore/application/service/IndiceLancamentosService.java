@@ -0,0 +1,89 @@
+package com.financecore.application.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.financecore.domain.model.entity.MesFinanceiro;
+import com.financecore.domain.model.event.EventoMesFinanceiro;
+import com.financecore.domain.model.event.MesesFinanceirosAlterados;
+import com.financecore.domain.model.event.MesesFinanceirosAlterados.MesAlterado;
+import com.financecore.domain.model.repository.MesFinanceiroRepository;
+import com.financecore.domain.model.service.IndiceLancamentos;
+import com.financecore.domain.model.valueobject.Periodo;
+
+/**
+ * Mantém o índice de lançamentos por data e valor de cada usuário que já
+ * fez uma busca.
+ *
+ * O índice é montado na primeira busca, percorrendo uma única vez todos os
+ * meses do usuário. Depois, é atualizado pelos eventos dos meses alterados
+ * ({@link MesesFinanceirosAlterados}, tratado após o commit), sem reler os
+ * meses.
+ *
+ * Os índices ficam em um cache limitado em quantidade de usuários e em
+ * validade, como as projeções de saldo.
+ */
+@Service
+public class IndiceLancamentosService {
+
+    private final MesFinanceiroRepository mesFinanceiroRepository;
+    private final CacheLimitado<UUID, IndiceLancamentos> indices;
+
+    public IndiceLancamentosService(
+            MesFinanceiroRepository mesFinanceiroRepository,
+            @Value("${financecore.indice.cache.capacidade:10000}") int capacidade,
+            @Value("${financecore.indice.cache.validade-minutos:10}") long validadeMinutos) {
+        this.mesFinanceiroRepository = mesFinanceiroRepository;
+        this.indices = new CacheLimitado<>(capacidade, Duration.ofMinutes(validadeMinutos));
+    }
+
+    /**
+     * Executa uma busca sobre o índice do usuário (RN-10). A busca não deve
+     * guardar a instância recebida.
+     */
+    public <T> T consultar(UUID usuarioId, Function<IndiceLancamentos, T> consulta) {
+        Objects.requireNonNull(usuarioId, "usuarioId não pode ser nulo");
+        Objects.requireNonNull(consulta, "consulta não pode ser nula");
+        return indices.consultar(usuarioId, indice -> true, atual -> montar(usuarioId), consulta);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void aoAlterarMeses(MesesFinanceirosAlterados alterados) {
+        for (MesAlterado alterado : alterados.meses()) {
+            indices.atualizar(alterado.mes().getUsuarioId(), indice -> aplicar(indice, alterado));
+        }
+    }
+
+    private static IndiceLancamentos aplicar(IndiceLancamentos indice, MesAlterado alterado) {
+        try {
+            for (EventoMesFinanceiro evento : alterado.eventos()) {
+                indice.aplicar(alterado.mes(), evento);
+            }
+            return indice;
+        } catch (RuntimeException e) {
+            // Índice em estado incerto: remontado na próxima busca
+            return null;
+        }
+    }
+
+    private IndiceLancamentos montar(UUID usuarioId) {
+        // Todos os períodos do usuário, em ordem: o primeiro e o último delimitam o histórico
+        List<Periodo> periodos = mesFinanceiroRepository.listarPeriodosAlteradosDesde(usuarioId, null);
+        if (periodos.isEmpty()) {
+            return IndiceLancamentos.indexar(usuarioId, Stream.empty());
+        }
+        try (Stream<MesFinanceiro> meses = mesFinanceiroRepository.percorrerPorUsuarioEPeriodo(
+                usuarioId, periodos.get(0), periodos.get(periodos.size() - 1))) {
+            return IndiceLancamentos.indexar(usuarioId, meses);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.financecore.application.service;
+
+import java.util.Objects;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.financecore.domain.model.entity.MesFinanceiro;
+
+/**
+ * Métricas das operações de domínio sobre MêsFinanceiro.
+ *
+ * O domínio não depende de bibliotecas de métricas; os casos de uso executam
+ * as operações por aqui. No fechamento são registrados a duração, a
+ * quantidade de meses fechados e o tamanho do agregado (itens por mês).
+ *
+ * Com transação ativa, a contagem de meses fechados e o tamanho do agregado
+ * só são registrados depois do commit: um fechamento desfeito não conta.
+ */
+@Service
+public class MetricasMesFinanceiro {
+
+    private final Timer duracaoFechamento;
+    private final Counter mesesFechados;
+    private final DistributionSummary receitasPorMes;
+    private final DistributionSummary despesasPorMes;
+    private final DistributionSummary parcelasPorMes;
+
+    public MetricasMesFinanceiro(MeterRegistry registry) {
+        this.duracaoFechamento = Timer.builder("financecore.dominio.mes.fechar")
+                .description("Duração de MesFinanceiro.fechar")
+                .register(registry);
+        this.mesesFechados = Counter.builder("financecore.dominio.mes.fechados")
+                .description("Meses financeiros fechados")
+                .register(registry);
+        this.receitasPorMes = itensPorMes(registry, "receita");
+        this.despesasPorMes = itensPorMes(registry, "despesa");
+        this.parcelasPorMes = itensPorMes(registry, "parcela");
+    }
+
+    private static DistributionSummary itensPorMes(MeterRegistry registry, String tipo) {
+        return DistributionSummary.builder("financecore.dominio.mes.itens")
+                .description("Lançamentos por mês no fechamento")
+                .baseUnit("itens")
+                .tag("tipo", tipo)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    /**
+     * Fecha o mês (RN-07) registrando duração e tamanho do agregado. Se o
+     * domínio rejeitar o fechamento, só a duração é registrada.
+     */
+    public void fechar(MesFinanceiro mes) {
+        Objects.requireNonNull(mes, "mes não pode ser nulo");
+        duracaoFechamento.record(mes::fechar);
+        int receitas = mes.getReceitas().size();
+        int despesas = mes.getDespesas().size();
+        int parcelas = mes.getParcelas().size();
+        aposCommit(() -> {
+            mesesFechados.increment();
+            receitasPorMes.record(receitas);
+            despesasPorMes.record(despesas);
+            parcelasPorMes.record(parcelas);
+        });
+    }
+
+    private static void aposCommit(Runnable registro) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            registro.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                registro.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,103 @@
+package com.financecore.application.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.financecore.application.exception.OperacaoNaoPermitidaException;
+import com.financecore.domain.model.entity.MesFinanceiro;
+import com.financecore.domain.model.entity.MesFinanceiroStatus;
+import com.financecore.domain.model.event.EventoMesFinanceiro;
+import com.financecore.domain.model.event.EventoMesFinanceiro.MesFechado;
+import com.financecore.domain.model.event.MesesFinanceirosAlterados;
+import com.financecore.domain.model.event.MesesFinanceirosAlterados.MesAlterado;
+import com.financecore.domain.model.repository.MesFinanceiroRepository;
+import com.financecore.domain.model.service.ProjecaoSaldos;
+import com.financecore.domain.model.service.ProjecaoSaldos.MesProjetado;
+import com.financecore.domain.model.valueobject.Periodo;
+
+/**
+ * Mantém a projeção de saldos de cada usuário que já consultou a previsão.
+ *
+ * A projeção é montada na primeira consulta e, depois, atualizada pelos
+ * eventos dos meses alterados ({@link MesesFinanceirosAlterados}, tratado
+ * após o commit), sem reler os meses. Fechar o mês corrente ou abrir um mês
+ * anterior a ele muda o ponto de partida, e a projeção é descartada para ser
+ * remontada na próxima consulta.
+ *
+ * As projeções ficam em um cache limitado em quantidade de usuários e em
+ * validade, para que alterações feitas por outra instância da aplicação
+ * também cheguem aqui.
+ */
+@Service
+public class PrevisaoSaldosService {
+
+    private final MesFinanceiroRepository mesFinanceiroRepository;
+    private final CacheLimitado<UUID, ProjecaoSaldos> projecoes;
+
+    public PrevisaoSaldosService(
+            MesFinanceiroRepository mesFinanceiroRepository,
+            @Value("${financecore.previsao.cache.capacidade:10000}") int capacidade,
+            @Value("${financecore.previsao.cache.validade-minutos:10}") long validadeMinutos) {
+        this.mesFinanceiroRepository = mesFinanceiroRepository;
+        this.projecoes = new CacheLimitado<>(capacidade, Duration.ofMinutes(validadeMinutos));
+    }
+
+    /**
+     * Meses projetados do usuário, a partir do mês ABERTO mais antigo (RN-10).
+     * Uma projeção com horizonte maior que o pedido é reaproveitada.
+     */
+    public List<MesProjetado> projetar(UUID usuarioId, int horizonte) {
+        Objects.requireNonNull(usuarioId, "usuarioId não pode ser nulo");
+        return projecoes.consultar(usuarioId,
+                projecao -> projecao.getHorizonte() >= horizonte,
+                atual -> montar(usuarioId, horizonte),
+                projecao -> List.copyOf(projecao.meses().subList(0, horizonte)));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void aoAlterarMeses(MesesFinanceirosAlterados alterados) {
+        for (MesAlterado alterado : alterados.meses()) {
+            MesFinanceiro mes = alterado.mes();
+            projecoes.atualizar(mes.getUsuarioId(), projecao -> aplicar(projecao, alterado));
+        }
+    }
+
+    private static ProjecaoSaldos aplicar(ProjecaoSaldos projecao, MesAlterado alterado) {
+        MesFinanceiro mes = alterado.mes();
+        if (Periodo.de(mes.getMes(), mes.getAno()).compareTo(projecao.getInicio()) < 0) {
+            return null;
+        }
+        try {
+            for (EventoMesFinanceiro evento : alterado.eventos()) {
+                if (evento instanceof MesFechado) {
+                    return null;
+                }
+                projecao.aplicar(mes, evento);
+            }
+            return projecao;
+        } catch (RuntimeException e) {
+            // Projeção em estado incerto: remontada na próxima consulta
+            return null;
+        }
+    }
+
+    private ProjecaoSaldos montar(UUID usuarioId, int horizonte) {
+        List<MesFinanceiro> abertos = new ArrayList<>(
+            mesFinanceiroRepository.buscarPorUsuarioEStatus(usuarioId, MesFinanceiroStatus.ABERTO.name()));
+        if (abertos.isEmpty()) {
+            throw new OperacaoNaoPermitidaException("Usuário não possui mês financeiro ABERTO para projetar");
+        }
+        abertos.sort(Comparator.comparingInt(mes -> Periodo.indice(mes.getMes(), mes.getAno())));
+        MesFinanceiro corrente = abertos.get(0);
+        return ProjecaoSaldos.projetar(corrente, abertos.subList(1, abertos.size()), horizonte);
+    }
+}
@@ -1,14 +1,19 @@
 package com.financecore.application.service;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.stereotype.Service;
 
 import com.financecore.application.dto.input.CriarUsuarioInputDTO;
 import com.financecore.application.dto.output.UsuarioOutputDTO;
-import com.financecore.application.mapper.UsuarioMapper;
 import com.financecore.application.usecase.usuario.CriarUsuarioCommand;
 import com.financecore.application.usecase.usuario.CriarUsuarioResult;
 import com.financecore.application.usecase.usuario.CriarUsuarioUseCase;
-import com.financecore.domain.model.repository.UsuarioRepository;
+import com.financecore.application.usecase.usuario.ProvisionarUsuariosCommand;
+import com.financecore.application.usecase.usuario.ProvisionarUsuariosResult;
+import com.financecore.application.usecase.usuario.ProvisionarUsuariosResult.ItemProvisionado;
+import com.financecore.application.usecase.usuario.ProvisionarUsuariosUseCase;
 
 /**
  * Serviço de aplicação para orquestração de operações de usuário.
@@ -24,14 +29,16 @@ import com.financecore.domain.model.repository.UsuarioRepository;
 @Service
 public class UsuarioApplicationService {
     
+    private static final int TAMANHO_LOTE = 500;
+    
     private final CriarUsuarioUseCase criarUsuarioUseCase;
-    private final UsuarioRepository usuarioRepository;
+    private final ProvisionarUsuariosUseCase provisionarUsuariosUseCase;
     
     public UsuarioApplicationService(
             CriarUsuarioUseCase criarUsuarioUseCase,
-            UsuarioRepository usuarioRepository) {
+            ProvisionarUsuariosUseCase provisionarUsuariosUseCase) {
         this.criarUsuarioUseCase = criarUsuarioUseCase;
-        this.usuarioRepository = usuarioRepository;
+        this.provisionarUsuariosUseCase = provisionarUsuariosUseCase;
     }
     
     public UsuarioOutputDTO criarUsuario(CriarUsuarioInputDTO inputDTO) {
@@ -43,16 +50,52 @@ public class UsuarioApplicationService {
             inputDTO.notificacoesAtivas()
         );
         
-        // 2. Executar caso de uso
+        // 2. Executar caso de uso (o resultado já traz os dados do usuário salvo)
         CriarUsuarioResult result = criarUsuarioUseCase.executar(command);
         
-        // 3. Buscar usuário criado (para retornar dados completos)
-        var usuario = usuarioRepository.buscarPorId(result.usuarioId())
-            .orElseThrow(() -> new IllegalStateException("Usuário recém-criado não encontrado"));
-        
-        // 4. Converter para DTO de saída
-        return UsuarioMapper.toOutputDTO(usuario);
+        // 3. Retornar DTO de saída
+        return result.usuario();
+    }
+    
+    /**
+     * Cria vários usuários (ex.: migração de parceiros), em lotes de
+     * {@link #TAMANHO_LOTE}, cada lote em uma transação. Se a gravação de um
+     * lote falhar, seus itens são criados um a um, para que só os itens com
+     * problema fiquem de fora. Retorna um resultado por item, na ordem recebida.
+     */
+    public ProvisionarUsuariosResult provisionarUsuarios(List<CriarUsuarioInputDTO> inputDTOs) {
+        List<ItemProvisionado> resultados = new ArrayList<>(inputDTOs.size());
+        for (int inicio = 0; inicio < inputDTOs.size(); inicio += TAMANHO_LOTE) {
+            List<CriarUsuarioInputDTO> lote = inputDTOs.subList(inicio, Math.min(inicio + TAMANHO_LOTE, inputDTOs.size()));
+            
+            // 1. Converter DTOs em itens do Command
+            List<ProvisionarUsuariosCommand.Item> itens = new ArrayList<>(lote.size());
+            for (CriarUsuarioInputDTO dto : lote) {
+                itens.add(new ProvisionarUsuariosCommand.Item(dto.nome(), dto.tema(), dto.idioma(), dto.notificacoesAtivas()));
+            }
+            
+            // 2. Executar o lote; em falha de gravação, item a item
+            try {
+                ProvisionarUsuariosResult result = provisionarUsuariosUseCase.executar(new ProvisionarUsuariosCommand(itens));
+                for (ItemProvisionado item : result.itens()) {
+                    resultados.add(new ItemProvisionado(inicio + item.indice(), item.usuario(), item.erro()));
+                }
+            } catch (RuntimeException falhaDoLote) {
+                for (int i = 0; i < lote.size(); i++) {
+                    resultados.add(criarIsolado(inicio + i, lote.get(i)));
+                }
+            }
+        }
+        return new ProvisionarUsuariosResult(List.copyOf(resultados));
+    }
+    
+    private ItemProvisionado criarIsolado(int indice, CriarUsuarioInputDTO inputDTO) {
+        try {
+            return new ItemProvisionado(indice, criarUsuario(inputDTO), null);
+        } catch (RuntimeException e) {
+            return new ItemProvisionado(indice, null, e.getMessage());
+        }
     }
     
     // Outros métodos (buscarUsuario, atualizarPreferencias, etc.) serão adicionados futuramente
-}
\ No newline at end of file
+}
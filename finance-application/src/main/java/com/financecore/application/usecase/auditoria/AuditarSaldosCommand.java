@@ -0,0 +1,19 @@
+package com.financecore.application.usecase.auditoria;
+
+import java.util.UUID;
+
+/**
+ * Command para o caso de uso AuditarSaldos.
+ * Com completa = true, todos os meses do usuário são auditados, ignorando o
+ * ponto de retomada.
+ */
+public record AuditarSaldosCommand(
+    UUID usuarioId,
+    boolean completa
+) {
+    public AuditarSaldosCommand {
+        if (usuarioId == null) {
+            throw new IllegalArgumentException("Usuário não pode ser nulo");
+        }
+    }
+}
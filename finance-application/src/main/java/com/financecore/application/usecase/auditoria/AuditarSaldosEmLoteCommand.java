@@ -0,0 +1,15 @@
+package com.financecore.application.usecase.auditoria;
+
+/**
+ * Command para o caso de uso AuditarSaldosEmLote.
+ * paralelismo é a quantidade de usuários auditados ao mesmo tempo.
+ */
+public record AuditarSaldosEmLoteCommand(
+    int paralelismo
+) {
+    public AuditarSaldosEmLoteCommand {
+        if (paralelismo <= 0) {
+            throw new IllegalArgumentException("Paralelismo deve ser maior que zero");
+        }
+    }
+}
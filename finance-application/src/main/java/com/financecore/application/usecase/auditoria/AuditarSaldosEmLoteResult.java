@@ -0,0 +1,16 @@
+package com.financecore.application.usecase.auditoria;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Resultado do caso de uso AuditarSaldosEmLote.
+ * Usuários com falha mantêm o ponto de retomada anterior e são auditados
+ * novamente na próxima execução.
+ */
+public record AuditarSaldosEmLoteResult(
+    int usuariosAuditados,
+    int mesesAuditados,
+    int divergencias,
+    List<UUID> usuariosComFalha
+) {}
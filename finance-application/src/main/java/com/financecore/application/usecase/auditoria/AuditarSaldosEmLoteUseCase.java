@@ -0,0 +1,106 @@
+package com.financecore.application.usecase.auditoria;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import com.financecore.domain.model.repository.AuditoriaSaldoRepository;
+
+/**
+ * Caso de uso: Auditar Saldos de todos os usuários pendentes (RF10).
+ *
+ * Responsabilidades:
+ * 1. Listar os usuários com meses gravados desde a última auditoria
+ * 2. Auditar cada usuário em paralelo, em transação própria
+ * 3. Isolar falhas: a falha de um usuário não interrompe os demais
+ *
+ * As auditorias rodam no executor compartilhado de auditoria; o paralelismo
+ * do comando limita quantas tarefas desta execução ocupam o executor ao
+ * mesmo tempo. Um usuário recusado pelo executor (fila cheia) conta como
+ * falha e fica pendente para a próxima execução.
+ *
+ * Alinhado com:
+ * - RN-08: Detecção de Divergência Financeira
+ * - RN-10: Isolamento Total de Dados por Usuário
+ */
+@Service
+public class AuditarSaldosEmLoteUseCase {
+
+    private final AuditoriaSaldoRepository auditoriaSaldoRepository;
+    private final AuditarSaldosUseCase auditarSaldosUseCase;
+    private final ExecutorService executorAuditoria;
+
+    public AuditarSaldosEmLoteUseCase(
+            AuditoriaSaldoRepository auditoriaSaldoRepository,
+            AuditarSaldosUseCase auditarSaldosUseCase,
+            @Qualifier("executorAuditoria") ExecutorService executorAuditoria) {
+        this.auditoriaSaldoRepository = auditoriaSaldoRepository;
+        this.auditarSaldosUseCase = auditarSaldosUseCase;
+        this.executorAuditoria = executorAuditoria;
+    }
+
+    public AuditarSaldosEmLoteResult executar(AuditarSaldosEmLoteCommand command) {
+        // 1. Usuários pendentes
+        List<UUID> usuarios = auditoriaSaldoRepository.listarUsuariosPendentes();
+
+        // 2. Um usuário por tarefa: cada auditoria abre e confirma sua própria transação (RN-10)
+        Semaphore vagas = new Semaphore(command.paralelismo());
+        List<Future<AuditarSaldosResult>> tarefas = new ArrayList<>(usuarios.size());
+        try {
+            for (UUID usuarioId : usuarios) {
+                vagas.acquire();
+                try {
+                    tarefas.add(executorAuditoria.submit(() -> {
+                        try {
+                            return auditarSaldosUseCase.executar(new AuditarSaldosCommand(usuarioId, false));
+                        } finally {
+                            vagas.release();
+                        }
+                    }));
+                } catch (RejectedExecutionException e) {
+                    vagas.release();
+                    tarefas.add(null);
+                }
+            }
+
+            // 3. Consolidar resultados, isolando falhas
+            int auditados = 0;
+            int meses = 0;
+            int divergencias = 0;
+            List<UUID> comFalha = new ArrayList<>();
+            for (int i = 0; i < tarefas.size(); i++) {
+                Future<AuditarSaldosResult> tarefa = tarefas.get(i);
+                if (tarefa == null) {
+                    comFalha.add(usuarios.get(i));
+                    continue;
+                }
+                try {
+                    AuditarSaldosResult resultado = tarefa.get();
+                    auditados++;
+                    meses += resultado.mesesAuditados();
+                    divergencias += resultado.divergencias().size();
+                } catch (ExecutionException e) {
+                    comFalha.add(usuarios.get(i));
+                }
+            }
+            return new AuditarSaldosEmLoteResult(auditados, meses, divergencias, List.copyOf(comFalha));
+        } catch (InterruptedException e) {
+            // O executor é compartilhado: cancela só as tarefas desta execução
+            for (Future<AuditarSaldosResult> tarefa : tarefas) {
+                if (tarefa != null) {
+                    tarefa.cancel(true);
+                }
+            }
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Auditoria em lote interrompida", e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.financecore.application.usecase.auditoria;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.financecore.domain.model.entity.DivergenciaSaldo;
+import com.financecore.domain.model.valueobject.Dinheiro;
+
+/**
+ * Resultado do caso de uso AuditarSaldos.
+ * saldoEsperado é nulo quando nenhum mês precisou ser auditado.
+ */
+public record AuditarSaldosResult(
+    UUID usuarioId,
+    int mesesAuditados,
+    Dinheiro saldoEsperado,
+    List<DivergenciaSaldo> divergencias
+) {}
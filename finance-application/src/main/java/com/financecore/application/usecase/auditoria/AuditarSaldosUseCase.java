@@ -0,0 +1,96 @@
+package com.financecore.application.usecase.auditoria;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.financecore.domain.model.entity.MesFinanceiro;
+import com.financecore.domain.model.repository.AuditoriaSaldoRepository;
+import com.financecore.domain.model.repository.MesFinanceiroRepository;
+import com.financecore.domain.model.service.AuditorSaldos;
+import com.financecore.domain.model.valueobject.Periodo;
+
+/**
+ * Caso de uso: Auditar Saldos de um usuário (RF10, UC-15).
+ *
+ * Responsabilidades:
+ * 1. Descobrir os meses gravados desde a última auditoria
+ * 2. Carregar apenas esses meses e seus vizinhos, em janelas de períodos
+ * 3. Verificar encadeamento de saldos e lançamentos de cada mês alterado
+ * 4. Registrar as divergências e avançar o ponto de retomada
+ *
+ * O ponto de retomada é o instante de início da auditoria: meses gravados
+ * durante a execução são auditados novamente na próxima.
+ *
+ * Alinhado com:
+ * - RN-08: Detecção de Divergência Financeira
+ * - RN-10: Isolamento Total de Dados por Usuário
+ */
+@Service
+public class AuditarSaldosUseCase {
+
+    private final MesFinanceiroRepository mesFinanceiroRepository;
+    private final AuditoriaSaldoRepository auditoriaSaldoRepository;
+
+    public AuditarSaldosUseCase(
+            MesFinanceiroRepository mesFinanceiroRepository,
+            AuditoriaSaldoRepository auditoriaSaldoRepository) {
+        this.mesFinanceiroRepository = mesFinanceiroRepository;
+        this.auditoriaSaldoRepository = auditoriaSaldoRepository;
+    }
+
+    @Transactional
+    public AuditarSaldosResult executar(AuditarSaldosCommand command) {
+        LocalDateTime inicio = LocalDateTime.now();
+
+        // 1. Períodos alterados desde a última auditoria (todos, na primeira ou se completa)
+        LocalDateTime desde = command.completa()
+            ? null
+            : auditoriaSaldoRepository.buscarUltimaAuditoria(command.usuarioId()).orElse(null);
+        List<Periodo> alterados = mesFinanceiroRepository.listarPeriodosAlteradosDesde(command.usuarioId(), desde);
+
+        // 2-3. Auditar janela a janela; cada janela inclui o mês anterior e o seguinte ao alterado
+        AuditorSaldos auditor = new AuditorSaldos(command.usuarioId(), alterados);
+        for (Periodo[] janela : janelas(alterados)) {
+            try (Stream<MesFinanceiro> meses = mesFinanceiroRepository.percorrerPorUsuarioEPeriodo(
+                    command.usuarioId(), janela[0], janela[1])) {
+                meses.forEach(auditor::auditar);
+            }
+        }
+        AuditorSaldos.Resultado resultado = auditor.concluir();
+
+        // 4. Registrar
+        auditoriaSaldoRepository.registrarAuditoria(command.usuarioId(), inicio, resultado.divergencias());
+
+        return new AuditarSaldosResult(
+            command.usuarioId(),
+            resultado.mesesAuditados(),
+            resultado.saldoEsperado(),
+            resultado.divergencias()
+        );
+    }
+
+    /**
+     * Agrupa os períodos (em ordem) em intervalos [p − 1, q + 1] disjuntos,
+     * unindo os que se tocam.
+     */
+    private static List<Periodo[]> janelas(List<Periodo> periodos) {
+        List<Periodo[]> janelas = new ArrayList<>();
+        Periodo[] atual = null;
+        for (Periodo periodo : periodos) {
+            Periodo de = periodo.anterior();
+            Periodo ate = periodo.proximo();
+            if (atual != null && de.indice() <= atual[1].indice() + 1) {
+                atual[1] = ate;
+            } else {
+                atual = new Periodo[] {de, ate};
+                janelas.add(atual);
+            }
+        }
+        return janelas;
+    }
+}
@@ -0,0 +1,27 @@
+package com.financecore.application.usecase.auditoria;
+
+import java.util.UUID;
+
+import com.financecore.domain.model.valueobject.Dinheiro;
+
+/**
+ * Command para o caso de uso ConferirSaldoInformado.
+ * saldoInformado é o saldo externo (ex.: extrato bancário) informado pelo usuário.
+ */
+public record ConferirSaldoInformadoCommand(
+    UUID usuarioId,
+    UUID mesFinanceiroId,
+    Dinheiro saldoInformado
+) {
+    public ConferirSaldoInformadoCommand {
+        if (usuarioId == null) {
+            throw new IllegalArgumentException("Usuário não pode ser nulo");
+        }
+        if (mesFinanceiroId == null) {
+            throw new IllegalArgumentException("Mês financeiro não pode ser nulo");
+        }
+        if (saldoInformado == null) {
+            throw new IllegalArgumentException("Saldo informado não pode ser nulo");
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.financecore.application.usecase.auditoria;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.financecore.domain.model.valueobject.Dinheiro;
+
+/**
+ * Resultado do caso de uso ConferirSaldoInformado.
+ * diferenca = saldo informado − saldo calculado.
+ */
+public record ConferirSaldoInformadoResult(
+    boolean divergente,
+    Dinheiro saldoCalculado,
+    Dinheiro diferenca,
+    List<UUID> lancamentosSuspeitos
+) {}
@@ -0,0 +1,70 @@
+package com.financecore.application.usecase.auditoria;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.financecore.application.exception.MesFinanceiroNaoEncontradoException;
+import com.financecore.application.exception.OperacaoNaoPermitidaException;
+import com.financecore.domain.model.entity.DivergenciaSaldo;
+import com.financecore.domain.model.entity.MesFinanceiro;
+import com.financecore.domain.model.entity.MesFinanceiroStatus;
+import com.financecore.domain.model.repository.AuditoriaSaldoRepository;
+import com.financecore.domain.model.repository.MesFinanceiroRepository;
+import com.financecore.domain.model.service.AuditorSaldos;
+import com.financecore.domain.model.valueobject.Dinheiro;
+
+/**
+ * Caso de uso: Conferir Saldo Informado pelo usuário (UC-15, RF10).
+ *
+ * Responsabilidades:
+ * 1. Localizar o mês, garantindo que pertence ao usuário
+ * 2. Comparar o saldo calculado com o saldo informado
+ * 3. Registrar a divergência, com os lançamentos suspeitos
+ *
+ * Alinhado com:
+ * - RN-08: Detecção de Divergência Financeira
+ * - RN-10: Isolamento Total de Dados por Usuário
+ */
+@Service
+public class ConferirSaldoInformadoUseCase {
+
+    private final MesFinanceiroRepository mesFinanceiroRepository;
+    private final AuditoriaSaldoRepository auditoriaSaldoRepository;
+
+    public ConferirSaldoInformadoUseCase(
+            MesFinanceiroRepository mesFinanceiroRepository,
+            AuditoriaSaldoRepository auditoriaSaldoRepository) {
+        this.mesFinanceiroRepository = mesFinanceiroRepository;
+        this.auditoriaSaldoRepository = auditoriaSaldoRepository;
+    }
+
+    @Transactional
+    public ConferirSaldoInformadoResult executar(ConferirSaldoInformadoCommand command) {
+        // 1. Carregar mês e validar isolamento (RN-10)
+        MesFinanceiro mes = mesFinanceiroRepository.buscarPorId(command.mesFinanceiroId())
+            .orElseThrow(() -> MesFinanceiroNaoEncontradoException.comId(command.mesFinanceiroId().toString()));
+        if (!mes.getUsuarioId().equals(command.usuarioId())) {
+            throw new OperacaoNaoPermitidaException("Mês financeiro não pertence ao usuário informado");
+        }
+
+        // 2. Comparar
+        Optional<DivergenciaSaldo> divergencia = AuditorSaldos.conferirSaldoInformado(mes, command.saldoInformado());
+        if (divergencia.isEmpty()) {
+            Dinheiro calculado = mes.getStatus() == MesFinanceiroStatus.FECHADO ? mes.getSaldoFinal() : mes.saldoParcial();
+            return new ConferirSaldoInformadoResult(false, calculado, Dinheiro.ZERO, List.of());
+        }
+
+        // 3. Registrar (RN-08)
+        auditoriaSaldoRepository.registrarDivergencias(List.of(divergencia.get()));
+        DivergenciaSaldo encontrada = divergencia.get();
+        return new ConferirSaldoInformadoResult(
+            true,
+            encontrada.esperado(),
+            encontrada.diferenca(),
+            encontrada.lancamentosSuspeitos()
+        );
+    }
+}
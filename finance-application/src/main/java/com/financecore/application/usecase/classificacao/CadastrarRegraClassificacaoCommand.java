@@ -0,0 +1,27 @@
+package com.financecore.application.usecase.classificacao;
+
+import java.util.UUID;
+
+/**
+ * Command para o caso de uso CadastrarRegraClassificacao.
+ * A regra precisa de palavra-chave, de método de pagamento ou de ambos.
+ */
+public record CadastrarRegraClassificacaoCommand(
+    UUID usuarioId,
+    String palavraChave,
+    String metodoPagamento,
+    UUID categoriaId,
+    int prioridade
+) {
+    public CadastrarRegraClassificacaoCommand {
+        if (usuarioId == null) {
+            throw new IllegalArgumentException("Usuário não pode ser nulo");
+        }
+        if ((palavraChave == null || palavraChave.isBlank()) && (metodoPagamento == null || metodoPagamento.isBlank())) {
+            throw new IllegalArgumentException("Informe palavra-chave ou método de pagamento");
+        }
+        if (categoriaId == null) {
+            throw new IllegalArgumentException("Categoria não pode ser nula");
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.financecore.application.usecase.classificacao;
+
+import java.util.UUID;
+
+/**
+ * Resultado do caso de uso CadastrarRegraClassificacao.
+ */
+public record CadastrarRegraClassificacaoResult(
+    UUID regraId
+) {}
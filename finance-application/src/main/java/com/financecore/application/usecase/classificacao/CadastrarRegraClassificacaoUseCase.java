@@ -0,0 +1,70 @@
+package com.financecore.application.usecase.classificacao;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.financecore.application.exception.CategoriaNaoEncontradaException;
+import com.financecore.application.exception.UsuarioNaoEncontradoException;
+import com.financecore.application.service.ClassificacaoAutomaticaService;
+import com.financecore.domain.model.entity.Categoria;
+import com.financecore.domain.model.entity.RegraClassificacao;
+import com.financecore.domain.model.repository.CategoriaRepository;
+import com.financecore.domain.model.repository.RegraClassificacaoRepository;
+import com.financecore.domain.model.repository.UsuarioRepository;
+
+/**
+ * Caso de uso: Cadastrar Regra de Classificação (RF06).
+ *
+ * Responsabilidades:
+ * 1. Validar usuário e categoria de destino
+ * 2. Criar e persistir a regra
+ * 3. Descartar o classificador compilado do usuário
+ *
+ * Alinhado com:
+ * - RN-04: Despesa sempre com Categoria
+ * - RN-10: Isolamento Total de Dados por Usuário
+ */
+@Service
+public class CadastrarRegraClassificacaoUseCase {
+
+    private final UsuarioRepository usuarioRepository;
+    private final CategoriaRepository categoriaRepository;
+    private final RegraClassificacaoRepository regraClassificacaoRepository;
+    private final ClassificacaoAutomaticaService classificacaoAutomaticaService;
+
+    public CadastrarRegraClassificacaoUseCase(
+            UsuarioRepository usuarioRepository,
+            CategoriaRepository categoriaRepository,
+            RegraClassificacaoRepository regraClassificacaoRepository,
+            ClassificacaoAutomaticaService classificacaoAutomaticaService) {
+        this.usuarioRepository = usuarioRepository;
+        this.categoriaRepository = categoriaRepository;
+        this.regraClassificacaoRepository = regraClassificacaoRepository;
+        this.classificacaoAutomaticaService = classificacaoAutomaticaService;
+    }
+
+    @Transactional
+    public CadastrarRegraClassificacaoResult executar(CadastrarRegraClassificacaoCommand command) {
+        // 1. Validar usuário e categoria
+        if (!usuarioRepository.existePorId(command.usuarioId())) {
+            throw UsuarioNaoEncontradoException.comId(command.usuarioId().toString());
+        }
+        Categoria categoria = categoriaRepository.buscarPorId(command.categoriaId())
+            .orElseThrow(() -> CategoriaNaoEncontradaException.comId(command.categoriaId().toString()));
+
+        // 2. Criar e persistir a regra
+        RegraClassificacao regra = RegraClassificacao.nova(
+            command.usuarioId(),
+            command.palavraChave(),
+            command.metodoPagamento(),
+            categoria,
+            command.prioridade()
+        );
+        regraClassificacaoRepository.salvar(regra);
+
+        // 3. A próxima classificação recompila com a nova regra
+        classificacaoAutomaticaService.invalidar(command.usuarioId());
+
+        return new CadastrarRegraClassificacaoResult(regra.getId());
+    }
+}
@@ -0,0 +1,22 @@
+package com.financecore.application.usecase.classificacao;
+
+import java.util.UUID;
+
+/**
+ * Consulta para o caso de uso SugerirCategoria.
+ * O método de pagamento é opcional.
+ */
+public record SugerirCategoriaQuery(
+    UUID usuarioId,
+    String descricao,
+    String metodoPagamento
+) {
+    public SugerirCategoriaQuery {
+        if (usuarioId == null) {
+            throw new IllegalArgumentException("Usuário não pode ser nulo");
+        }
+        if (descricao == null) {
+            throw new IllegalArgumentException("Descrição não pode ser nula");
+        }
+    }
+}
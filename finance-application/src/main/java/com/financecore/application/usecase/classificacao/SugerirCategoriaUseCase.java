@@ -0,0 +1,44 @@
+package com.financecore.application.usecase.classificacao;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+
+import com.financecore.application.service.ClassificacaoAutomaticaService;
+import com.financecore.domain.model.entity.Categoria;
+import com.financecore.domain.model.repository.CategoriaRepository;
+
+/**
+ * Caso de uso: Sugerir Categoria durante o lançamento de uma despesa (UC-06).
+ *
+ * Usa o classificador compilado do usuário; não acessa o banco quando ele
+ * e a categoria sugerida já estão em memória. Uma categoria removida depois
+ * da compilação não é sugerida.
+ *
+ * Alinhado com:
+ * - RN-10: Isolamento Total de Dados por Usuário
+ */
+@Service
+public class SugerirCategoriaUseCase {
+
+    private final ClassificacaoAutomaticaService classificacaoAutomaticaService;
+    private final CategoriaRepository categoriaRepository;
+
+    public SugerirCategoriaUseCase(
+            ClassificacaoAutomaticaService classificacaoAutomaticaService,
+            CategoriaRepository categoriaRepository) {
+        this.classificacaoAutomaticaService = classificacaoAutomaticaService;
+        this.categoriaRepository = categoriaRepository;
+    }
+
+    /**
+     * Id da categoria sugerida, ou vazio se nenhuma regra se aplica.
+     */
+    public Optional<UUID> executar(SugerirCategoriaQuery query) {
+        return classificacaoAutomaticaService.classificadorDo(query.usuarioId())
+            .classificar(query.descricao(), query.metodoPagamento())
+            .flatMap(categoriaRepository::buscarPorId)
+            .map(Categoria::getId);
+    }
+}
@@ -0,0 +1,21 @@
+package com.financecore.application.usecase.criptografia;
+
+/**
+ * Recifragem dos dados armazenados com a versão atual da chave (RNF02). A
+ * implementação vive na camada de infraestrutura, junto das chaves.
+ */
+public interface RecifragemDados {
+
+    /**
+     * false sem chave configurada: não há com o que recifrar.
+     */
+    boolean isAtiva();
+
+    /**
+     * Regrava com a versão atual tudo o que estiver em texto claro ou cifrado
+     * com versões anteriores, em lotes de até {@code tamanhoLote} registros.
+     *
+     * @return quantidade de registros regravados
+     */
+    long recifrarTudo(int tamanhoLote);
+}
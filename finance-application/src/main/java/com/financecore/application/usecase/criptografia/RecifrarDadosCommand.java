@@ -0,0 +1,14 @@
+package com.financecore.application.usecase.criptografia;
+
+/**
+ * Command para o caso de uso RecifrarDados.
+ */
+public record RecifrarDadosCommand(
+    int tamanhoLote
+) {
+    public RecifrarDadosCommand {
+        if (tamanhoLote <= 0) {
+            throw new IllegalArgumentException("Tamanho do lote deve ser positivo");
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.financecore.application.usecase.criptografia;
+
+import java.time.Duration;
+
+/**
+ * Resultado do caso de uso RecifrarDados.
+ */
+public record RecifrarDadosResult(
+    long registrosRecifrados,
+    Duration duracao
+) {}
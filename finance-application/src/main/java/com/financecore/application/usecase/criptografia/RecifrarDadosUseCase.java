@@ -0,0 +1,37 @@
+package com.financecore.application.usecase.criptografia;
+
+import java.time.Duration;
+
+import org.springframework.stereotype.Service;
+
+import com.financecore.application.exception.OperacaoNaoPermitidaException;
+
+/**
+ * Caso de uso: Recifrar Dados com a versão atual da chave (RNF02).
+ *
+ * Passo obrigatório da troca de chave: depois de apontar a versão atual para
+ * a chave nova, esta recifragem migra os dados ainda em texto claro ou
+ * cifrados com as anteriores, que só então podem sair da configuração.
+ *
+ * Não abre transação: cada lote é confirmado por si, então uma execução
+ * interrompida mantém o que já foi regravado e a próxima continua do que
+ * restou. É seguro executá-lo com a aplicação em uso.
+ */
+@Service
+public class RecifrarDadosUseCase {
+
+    private final RecifragemDados recifragemDados;
+
+    public RecifrarDadosUseCase(RecifragemDados recifragemDados) {
+        this.recifragemDados = recifragemDados;
+    }
+
+    public RecifrarDadosResult executar(RecifrarDadosCommand command) {
+        if (!recifragemDados.isAtiva()) {
+            throw new OperacaoNaoPermitidaException("Criptografia desativada: nenhuma chave configurada");
+        }
+        long inicio = System.nanoTime();
+        long recifrados = recifragemDados.recifrarTudo(command.tamanhoLote());
+        return new RecifrarDadosResult(recifrados, Duration.ofNanos(System.nanoTime() - inicio));
+    }
+}
@@ -0,0 +1,23 @@
+package com.financecore.application.usecase.exportacao;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Cifragem dos arquivos exportados (RNF02). A implementação vive na camada
+ * de infraestrutura, junto das chaves.
+ */
+public interface CifragemExportacao {
+
+    /**
+     * false sem chave configurada: a exportação sai em texto claro.
+     */
+    boolean isAtiva();
+
+    /**
+     * Canal que cifra o que recebe e grava no destino. Fechar o canal
+     * devolvido completa o arquivo cifrado; o destino não é fechado. Sem o
+     * fechamento, o arquivo fica incompleto e não decifra.
+     */
+    WritableByteChannel cifrar(WritableByteChannel destino) throws IOException;
+}
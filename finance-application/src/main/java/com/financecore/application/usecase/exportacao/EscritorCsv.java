@@ -0,0 +1,333 @@
+package com.financecore.application.usecase.exportacao;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.UUID;
+
+import com.financecore.domain.model.valueobject.Dinheiro;
+
+/**
+ * Escritor CSV (RFC 4180, UTF-8) que grava diretamente em um canal.
+ *
+ * Os bytes são montados em um buffer do próprio escritor e enviados ao
+ * canal quando o buffer enche. Textos são codificados caractere a caractere
+ * e números, datas e UUIDs são formatados direto no buffer, sem criar
+ * Strings intermediárias.
+ *
+ * {@link #concluir()} descarrega o que falta. {@link #close()} sem conclusão,
+ * ou depois de uma falha de gravação, descarta o buffer em vez de completar
+ * uma saída parcial; o canal nunca é fechado. Não é thread-safe.
+ *
+ * Com cifragem ativa, os bytes passam pelo canal cifrado antes do destino e
+ * só a conclusão completa o arquivo: uma saída parcial fica sem o último
+ * segmento e não decifra.
+ */
+final class EscritorCsv implements Closeable {
+
+    private static final int CAPACIDADE_BUFFER = 64 * 1024;
+
+    // Maior campo de tamanho fixo: Long.MIN_VALUE com sinal e separador decimal
+    private static final int ESPACO_CAMPO_FIXO = 24;
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private final WritableByteChannel canal;
+    private final boolean cifrado;
+    private final ByteBuffer buffer = ByteBuffer.allocate(CAPACIDADE_BUFFER);
+    private final byte[] digitos = new byte[20];
+    private boolean inicioLinha = true;
+    private boolean concluido;
+    private boolean falhou;
+    private long bytesEscritos;
+    private long linhas;
+
+    EscritorCsv(WritableByteChannel canal) {
+        this(canal, false);
+    }
+
+    private EscritorCsv(WritableByteChannel canal, boolean cifrado) {
+        this.canal = Objects.requireNonNull(canal, "canal não pode ser nulo");
+        this.cifrado = cifrado;
+    }
+
+    /**
+     * Escritor para o destino, cifrado se a cifragem estiver ativa (RNF02).
+     */
+    static EscritorCsv para(WritableByteChannel destino, CifragemExportacao cifragem) {
+        Objects.requireNonNull(destino, "destino não pode ser nulo");
+        if (!cifragem.isAtiva()) {
+            return new EscritorCsv(destino);
+        }
+        try {
+            return new EscritorCsv(cifragem.cifrar(destino), true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao iniciar exportação cifrada", e);
+        }
+    }
+
+    EscritorCsv texto(CharSequence valor) {
+        separar();
+        if (valor == null) {
+            return this;
+        }
+        boolean aspas = precisaAspas(valor);
+        if (aspas) {
+            garantir(1);
+            buffer.put((byte) '"');
+        }
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            garantir(4);
+            if (c == '"') {
+                buffer.put((byte) '"').put((byte) '"');
+            } else if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | (c >> 6)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < valor.length()
+                    && Character.isLowSurrogate(valor.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, valor.charAt(++i));
+                buffer.put((byte) (0xF0 | (codePoint >> 18)));
+                buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                buffer.put((byte) '?');
+            } else {
+                buffer.put((byte) (0xE0 | (c >> 12)));
+                buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+        if (aspas) {
+            garantir(1);
+            buffer.put((byte) '"');
+        }
+        return this;
+    }
+
+    EscritorCsv texto(Enum<?> valor) {
+        return texto(valor == null ? null : valor.name());
+    }
+
+    EscritorCsv inteiro(long valor) {
+        separar();
+        garantir(ESPACO_CAMPO_FIXO);
+        escreverInteiro(valor);
+        return this;
+    }
+
+    EscritorCsv booleano(boolean valor) {
+        return texto(valor ? "true" : "false");
+    }
+
+    /**
+     * Valor monetário com duas casas decimais e ponto como separador.
+     */
+    EscritorCsv dinheiro(Dinheiro valor) {
+        separar();
+        if (valor == null) {
+            return this;
+        }
+        garantir(ESPACO_CAMPO_FIXO);
+        long centavos = valor.getCentavos();
+        if (centavos < 0) {
+            buffer.put((byte) '-');
+        }
+        // Divisão antes do módulo: funciona também para Long.MIN_VALUE
+        escreverDigitos(Math.abs(centavos / 100));
+        int fracao = (int) Math.abs(centavos % 100);
+        buffer.put((byte) '.');
+        buffer.put((byte) ('0' + fracao / 10));
+        buffer.put((byte) ('0' + fracao % 10));
+        return this;
+    }
+
+    /**
+     * Data no formato ISO (aaaa-mm-dd).
+     */
+    EscritorCsv data(LocalDate valor) {
+        separar();
+        if (valor == null) {
+            return this;
+        }
+        garantir(ESPACO_CAMPO_FIXO);
+        escreverComZeros(valor.getYear(), 4);
+        buffer.put((byte) '-');
+        escreverComZeros(valor.getMonthValue(), 2);
+        buffer.put((byte) '-');
+        escreverComZeros(valor.getDayOfMonth(), 2);
+        return this;
+    }
+
+    /**
+     * Período no formato ISO (aaaa-mm).
+     */
+    EscritorCsv periodo(int mes, int ano) {
+        separar();
+        garantir(ESPACO_CAMPO_FIXO);
+        escreverComZeros(ano, 4);
+        buffer.put((byte) '-');
+        escreverComZeros(mes, 2);
+        return this;
+    }
+
+    EscritorCsv uuid(UUID valor) {
+        separar();
+        if (valor == null) {
+            return this;
+        }
+        garantir(36);
+        escreverHex(valor.getMostSignificantBits() >>> 32, 8);
+        buffer.put((byte) '-');
+        escreverHex(valor.getMostSignificantBits() >>> 16, 4);
+        buffer.put((byte) '-');
+        escreverHex(valor.getMostSignificantBits(), 4);
+        buffer.put((byte) '-');
+        escreverHex(valor.getLeastSignificantBits() >>> 48, 4);
+        buffer.put((byte) '-');
+        escreverHex(valor.getLeastSignificantBits(), 12);
+        return this;
+    }
+
+    EscritorCsv vazio() {
+        separar();
+        return this;
+    }
+
+    EscritorCsv fimLinha() {
+        garantir(2);
+        buffer.put((byte) '\r').put((byte) '\n');
+        inicioLinha = true;
+        linhas++;
+        return this;
+    }
+
+    long getBytesEscritos() {
+        return bytesEscritos + buffer.position();
+    }
+
+    long getLinhas() {
+        return linhas;
+    }
+
+    /**
+     * Descarrega o buffer no canal e, com cifragem, completa o arquivo
+     * cifrado; a saída está completa.
+     */
+    void concluir() {
+        if (falhou) {
+            throw new IllegalStateException("Exportação falhou e não pode ser concluída");
+        }
+        descarregar();
+        if (cifrado) {
+            try {
+                canal.close();
+            } catch (IOException e) {
+                falhou = true;
+                throw new UncheckedIOException("Falha ao gravar exportação", e);
+            }
+        }
+        concluido = true;
+    }
+
+    @Override
+    public void close() {
+        if (!concluido) {
+            // Saída parcial: o que ainda está no buffer não chega ao canal
+            falhou = true;
+            buffer.clear();
+        }
+    }
+
+    private void separar() {
+        if (inicioLinha) {
+            inicioLinha = false;
+            return;
+        }
+        garantir(1);
+        buffer.put((byte) ',');
+    }
+
+    private void garantir(int bytes) {
+        if (buffer.remaining() < bytes) {
+            descarregar();
+        }
+    }
+
+    private void descarregar() {
+        if (falhou) {
+            throw new IllegalStateException("Exportação já falhou ao gravar");
+        }
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                bytesEscritos += canal.write(buffer);
+            }
+        } catch (IOException e) {
+            falhou = true;
+            throw new UncheckedIOException("Falha ao gravar exportação", e);
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    private static boolean precisaAspas(CharSequence valor) {
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void escreverInteiro(long valor) {
+        if (valor == Long.MIN_VALUE) {
+            // -Long.MIN_VALUE não cabe em um long
+            buffer.put((byte) '-');
+            escreverDigitos(Long.MAX_VALUE / 10);
+            buffer.put((byte) ('0' + (int) -(Long.MIN_VALUE % 10)));
+            return;
+        }
+        if (valor < 0) {
+            buffer.put((byte) '-');
+            valor = -valor;
+        }
+        escreverDigitos(valor);
+    }
+
+    private void escreverDigitos(long valor) {
+        int posicao = digitos.length;
+        do {
+            digitos[--posicao] = (byte) ('0' + (valor % 10));
+            valor /= 10;
+        } while (valor > 0);
+        buffer.put(digitos, posicao, digitos.length - posicao);
+    }
+
+    private void escreverComZeros(int valor, int largura) {
+        int posicao = digitos.length;
+        do {
+            digitos[--posicao] = (byte) ('0' + (valor % 10));
+            valor /= 10;
+        } while (valor > 0);
+        while (digitos.length - posicao < largura) {
+            digitos[--posicao] = '0';
+        }
+        buffer.put(digitos, posicao, digitos.length - posicao);
+    }
+
+    private void escreverHex(long valor, int digitosHex) {
+        for (int deslocamento = (digitosHex - 1) * 4; deslocamento >= 0; deslocamento -= 4) {
+            buffer.put(HEX[(int) ((valor >>> deslocamento) & 0xF)]);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.financecore.application.usecase.exportacao;
+
+/**
+ * Resultado de uma exportação: linhas (incluindo cabeçalho) e bytes gravados.
+ */
+public record ExportacaoResult(
+    long linhas,
+    long bytes
+) {}
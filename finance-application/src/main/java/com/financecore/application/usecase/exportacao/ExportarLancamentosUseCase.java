@@ -0,0 +1,93 @@
+package com.financecore.application.usecase.exportacao;
+
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.financecore.domain.model.entity.Despesa;
+import com.financecore.domain.model.entity.MesFinanceiro;
+import com.financecore.domain.model.entity.Parcela;
+import com.financecore.domain.model.entity.Receita;
+import com.financecore.domain.model.repository.MesFinanceiroRepository;
+
+/**
+ * Caso de uso: Exportar Lançamentos (UC-11, RF12).
+ * 
+ * Grava receitas, despesas e parcelas do intervalo em CSV, mês a mês,
+ * à medida que os meses são lidos do repositório. Apenas uma página de
+ * meses e o buffer de saída ficam em memória, qualquer que seja o intervalo.
+ * 
+ * Colunas: registro, periodo, id, data, descricao, categoria, essencial,
+ * tipo, metodo_pagamento, numero_parcela, valor.
+ * 
+ * Alinhado com:
+ * - RN-10: Isolamento Total de Dados por Usuário
+ */
+@Service
+public class ExportarLancamentosUseCase {
+    
+    private final MesFinanceiroRepository mesFinanceiroRepository;
+    private final CifragemExportacao cifragemExportacao;
+    
+    public ExportarLancamentosUseCase(
+            MesFinanceiroRepository mesFinanceiroRepository,
+            CifragemExportacao cifragemExportacao) {
+        this.mesFinanceiroRepository = mesFinanceiroRepository;
+        this.cifragemExportacao = cifragemExportacao;
+    }
+    
+    /**
+     * Exporta para o canal informado, cifrado se houver chave configurada
+     * (RNF02). O canal não é fechado.
+     */
+    @Transactional(readOnly = true)
+    public ExportacaoResult executar(ExportarLancamentosCommand command, WritableByteChannel destino) {
+        Objects.requireNonNull(destino, "destino não pode ser nulo");
+        EscritorCsv csv = EscritorCsv.para(destino, cifragemExportacao);
+        try (csv; Stream<MesFinanceiro> meses = mesFinanceiroRepository
+                .percorrerPorUsuarioEPeriodo(command.usuarioId(), command.inicio(), command.fim())) {
+            escreverCabecalho(csv);
+            meses.forEach(mes -> escreverMes(csv, mes));
+            csv.concluir();
+        }
+        return new ExportacaoResult(csv.getLinhas(), csv.getBytesEscritos());
+    }
+    
+    private static void escreverCabecalho(EscritorCsv csv) {
+        csv.texto("registro").texto("periodo").texto("id").texto("data").texto("descricao")
+            .texto("categoria").texto("essencial").texto("tipo").texto("metodo_pagamento")
+            .texto("numero_parcela").texto("valor").fimLinha();
+    }
+    
+    private static void escreverMes(EscritorCsv csv, MesFinanceiro mes) {
+        List<Receita> receitas = mes.getReceitas();
+        for (int i = 0, n = receitas.size(); i < n; i++) {
+            Receita receita = receitas.get(i);
+            csv.texto("RECEITA").periodo(mes.getMes(), mes.getAno()).uuid(receita.getId())
+                .data(receita.getDataReferencia()).texto(receita.getDescricao())
+                .vazio().vazio().texto(receita.getTipo()).vazio().vazio()
+                .dinheiro(receita.getValor()).fimLinha();
+        }
+        List<Despesa> despesas = mes.getDespesas();
+        for (int i = 0, n = despesas.size(); i < n; i++) {
+            Despesa despesa = despesas.get(i);
+            csv.texto("DESPESA").periodo(mes.getMes(), mes.getAno()).uuid(despesa.getId())
+                .data(despesa.getData()).texto(despesa.getDescricao())
+                .texto(despesa.getCategoria().getNome()).booleano(despesa.getCategoria().isEssencial())
+                .texto(despesa.getTipo()).texto(despesa.getMetodoPagamento()).vazio()
+                .dinheiro(despesa.getValor()).fimLinha();
+        }
+        List<Parcela> parcelas = mes.getParcelas();
+        for (int i = 0, n = parcelas.size(); i < n; i++) {
+            Parcela parcela = parcelas.get(i);
+            csv.texto("PARCELA").periodo(mes.getMes(), mes.getAno()).uuid(parcela.getId())
+                .vazio().vazio().vazio().vazio().texto(parcela.getStatus()).vazio()
+                .inteiro(parcela.getNumero())
+                .dinheiro(parcela.getValor()).fimLinha();
+        }
+    }
+}
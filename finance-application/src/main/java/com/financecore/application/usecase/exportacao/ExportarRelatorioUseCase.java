@@ -0,0 +1,65 @@
+package com.financecore.application.usecase.exportacao;
+
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.financecore.application.usecase.relatorio.GerarRelatorioFinanceiroCommand;
+import com.financecore.application.usecase.relatorio.GerarRelatorioFinanceiroUseCase;
+import com.financecore.domain.model.entity.HistoricoFinanceiro.TotalCategoria;
+import com.financecore.domain.model.entity.RelatorioFinanceiro;
+
+/**
+ * Caso de uso: Exportar Relatório (UC-11, RF12).
+ * 
+ * Gera o relatório do intervalo e grava o resumo em CSV: uma linha de
+ * cabeçalho com os totais, seguida de uma linha por categoria.
+ */
+@Service
+public class ExportarRelatorioUseCase {
+    
+    private final GerarRelatorioFinanceiroUseCase gerarRelatorioFinanceiroUseCase;
+    private final CifragemExportacao cifragemExportacao;
+    
+    public ExportarRelatorioUseCase(
+            GerarRelatorioFinanceiroUseCase gerarRelatorioFinanceiroUseCase,
+            CifragemExportacao cifragemExportacao) {
+        this.gerarRelatorioFinanceiroUseCase = gerarRelatorioFinanceiroUseCase;
+        this.cifragemExportacao = cifragemExportacao;
+    }
+    
+    /**
+     * Exporta para o canal informado, cifrado se houver chave configurada
+     * (RNF02). O canal não é fechado.
+     */
+    @Transactional(readOnly = true)
+    public ExportacaoResult executar(GerarRelatorioFinanceiroCommand command, WritableByteChannel destino) {
+        Objects.requireNonNull(destino, "destino não pode ser nulo");
+        RelatorioFinanceiro relatorio = gerarRelatorioFinanceiroUseCase.gerar(command);
+        
+        EscritorCsv csv = EscritorCsv.para(destino, cifragemExportacao);
+        try (csv) {
+            csv.texto("usuario_id").texto("periodo_inicio").texto("periodo_fim").texto("quantidade_meses")
+                .texto("saldo_inicial").texto("saldo_final").texto("total_receitas").texto("total_despesas")
+                .texto("total_parcelas").texto("despesas_essenciais").texto("despesas_nao_essenciais").fimLinha();
+            csv.uuid(relatorio.getUsuarioId()).data(relatorio.getPeriodoInicio()).data(relatorio.getPeriodoFim())
+                .inteiro(relatorio.getQuantidadeMeses())
+                .dinheiro(relatorio.getSaldoInicial()).dinheiro(relatorio.getSaldoFinal())
+                .dinheiro(relatorio.getTotalReceitas()).dinheiro(relatorio.getTotalDespesas())
+                .dinheiro(relatorio.getTotalParcelas())
+                .dinheiro(relatorio.getDespesasEssenciais()).dinheiro(relatorio.getDespesasNaoEssenciais())
+                .fimLinha();
+            
+            csv.fimLinha();
+            csv.texto("categoria_id").texto("categoria").texto("essencial").texto("total").fimLinha();
+            for (TotalCategoria total : relatorio.getDespesasPorCategoria()) {
+                csv.uuid(total.categoriaId()).texto(total.nome()).booleano(total.essencial())
+                    .dinheiro(total.total()).fimLinha();
+            }
+            csv.concluir();
+        }
+        return new ExportacaoResult(csv.getLinhas(), csv.getBytesEscritos());
+    }
+}
@@ -0,0 +1,31 @@
+package com.financecore.application.usecase.gastos;
+
+import java.util.UUID;
+
+import com.financecore.domain.model.valueobject.Periodo;
+
+/**
+ * Consulta dos gastos por categoria de um usuário entre dois períodos (inclusive).
+ */
+public record ConsultarGastosPorCategoriaQuery(
+    UUID usuarioId,
+    Periodo inicio,
+    Periodo fim
+) {
+    public static final int MESES_MAXIMO = 120;
+
+    public ConsultarGastosPorCategoriaQuery {
+        if (usuarioId == null) {
+            throw new IllegalArgumentException("Usuário não pode ser nulo");
+        }
+        if (inicio == null || fim == null) {
+            throw new IllegalArgumentException("Período não pode ser nulo");
+        }
+        if (fim.compareTo(inicio) < 0) {
+            throw new IllegalArgumentException("Período final não pode ser anterior ao inicial");
+        }
+        if (inicio.mesesAte(fim) >= MESES_MAXIMO) {
+            throw new IllegalArgumentException("Intervalo não pode passar de " + MESES_MAXIMO + " meses");
+        }
+    }
+}
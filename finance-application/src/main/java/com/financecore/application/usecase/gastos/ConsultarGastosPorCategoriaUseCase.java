@@ -0,0 +1,55 @@
+package com.financecore.application.usecase.gastos;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.financecore.application.dto.output.GastosPorCategoriaOutputDTO;
+import com.financecore.application.mapper.HistoricoFinanceiroMapper;
+import com.financecore.application.service.GastosPorCategoriaService;
+
+/**
+ * Caso de uso: Consultar Gastos por Categoria.
+ * 
+ * Responsabilidades:
+ * 1. Totalizar as despesas por categoria e por essencialidade no intervalo
+ * 2. Detalhar os mesmos totais mês a mês, para gráficos
+ * 3. Responder a partir dos totais mantidos entre consultas, sem agrupar despesas
+ * 
+ * Alinhado com:
+ * - RN-04: Classificação Obrigatória de Despesas
+ * - RN-09: Histórico Financeiro Consolidado
+ * - RN-10: Isolamento Total de Dados por Usuário
+ */
+@Service
+public class ConsultarGastosPorCategoriaUseCase {
+    
+    private final GastosPorCategoriaService gastosPorCategoriaService;
+    
+    public ConsultarGastosPorCategoriaUseCase(GastosPorCategoriaService gastosPorCategoriaService) {
+        this.gastosPorCategoriaService = gastosPorCategoriaService;
+    }
+    
+    @Transactional(readOnly = true)
+    public GastosPorCategoriaOutputDTO executar(ConsultarGastosPorCategoriaQuery query) {
+        return gastosPorCategoriaService.consultar(query.usuarioId(), query.inicio(), query.fim(), gastos ->
+            new GastosPorCategoriaOutputDTO(
+                query.usuarioId(),
+                gastos.totalEssenciais(query.inicio(), query.fim()).toBigDecimal(),
+                gastos.totalNaoEssenciais(query.inicio(), query.fim()).toBigDecimal(),
+                gastos.totalParcelas(query.inicio(), query.fim()).toBigDecimal(),
+                gastos.totalPorCategoria(query.inicio(), query.fim()).stream()
+                    .map(HistoricoFinanceiroMapper::toOutputDTO)
+                    .toList(),
+                gastos.meses(query.inicio(), query.fim()).stream()
+                    .map(mes -> new GastosPorCategoriaOutputDTO.GastoMensal(
+                        mes.periodo().mes(),
+                        mes.periodo().ano(),
+                        mes.essenciais().toBigDecimal(),
+                        mes.naoEssenciais().toBigDecimal(),
+                        mes.parcelas().toBigDecimal(),
+                        mes.porCategoria().stream()
+                            .map(HistoricoFinanceiroMapper::toOutputDTO)
+                            .toList()))
+                    .toList()));
+    }
+}
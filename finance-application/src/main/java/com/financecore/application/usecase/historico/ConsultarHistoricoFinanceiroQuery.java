@@ -0,0 +1,26 @@
+package com.financecore.application.usecase.historico;
+
+import java.util.UUID;
+
+import com.financecore.domain.model.valueobject.Periodo;
+
+/**
+ * Consulta do histórico consolidado de um usuário entre dois períodos (inclusive).
+ */
+public record ConsultarHistoricoFinanceiroQuery(
+    UUID usuarioId,
+    Periodo inicio,
+    Periodo fim
+) {
+    public ConsultarHistoricoFinanceiroQuery {
+        if (usuarioId == null) {
+            throw new IllegalArgumentException("Usuário não pode ser nulo");
+        }
+        if (inicio == null || fim == null) {
+            throw new IllegalArgumentException("Período não pode ser nulo");
+        }
+        if (fim.compareTo(inicio) < 0) {
+            throw new IllegalArgumentException("Período final não pode ser anterior ao inicial");
+        }
+    }
+}
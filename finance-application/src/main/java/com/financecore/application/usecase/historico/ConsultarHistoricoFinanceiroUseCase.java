@@ -0,0 +1,36 @@
+package com.financecore.application.usecase.historico;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.financecore.application.dto.output.HistoricoFinanceiroOutputDTO;
+import com.financecore.application.mapper.HistoricoFinanceiroMapper;
+import com.financecore.domain.model.repository.HistoricoFinanceiroRepository;
+
+/**
+ * Caso de uso: Consultar Histórico Financeiro (UC-10, RN-09).
+ * 
+ * Lê apenas as consolidações gravadas no fechamento de cada mês:
+ * um intervalo de vários anos custa uma linha por mês, sem
+ * percorrer receitas, despesas e parcelas.
+ */
+@Service
+public class ConsultarHistoricoFinanceiroUseCase {
+    
+    private final HistoricoFinanceiroRepository historicoFinanceiroRepository;
+    
+    public ConsultarHistoricoFinanceiroUseCase(HistoricoFinanceiroRepository historicoFinanceiroRepository) {
+        this.historicoFinanceiroRepository = historicoFinanceiroRepository;
+    }
+    
+    @Transactional(readOnly = true)
+    public List<HistoricoFinanceiroOutputDTO> executar(ConsultarHistoricoFinanceiroQuery query) {
+        return historicoFinanceiroRepository
+            .listarPorUsuarioEPeriodo(query.usuarioId(), query.inicio(), query.fim())
+            .stream()
+            .map(HistoricoFinanceiroMapper::toOutputDTO)
+            .toList();
+    }
+}
@@ -0,0 +1,16 @@
+package com.financecore.application.usecase.importacao;
+
+/**
+ * Formatos de extrato bancário aceitos na importação.
+ */
+public enum FormatoExtrato {
+    /**
+     * Colunas data, descrição e valor, separadas por vírgula ou ponto e vírgula.
+     * Valores negativos são despesas; positivos, receitas.
+     */
+    CSV,
+    /**
+     * Open Financial Exchange (SGML ou XML), lido a partir dos blocos STMTTRN.
+     */
+    OFX
+}
@@ -0,0 +1,36 @@
+package com.financecore.application.usecase.importacao;
+
+import java.nio.file.Path;
+import java.util.UUID;
+
+/**
+ * Command para o caso de uso ImportarExtrato.
+ * Despesas importadas são classificadas pelas regras do usuário (RF06); as
+ * que nenhuma regra alcança recebem a categoria padrão (RN-04). Todas recebem
+ * o método de pagamento informado e podem ser reclassificadas depois.
+ */
+public record ImportarExtratoCommand(
+    UUID usuarioId,
+    Path arquivo,
+    FormatoExtrato formato,
+    UUID categoriaPadraoId,
+    String metodoPagamento
+) {
+    public ImportarExtratoCommand {
+        if (usuarioId == null) {
+            throw new IllegalArgumentException("Usuário não pode ser nulo");
+        }
+        if (arquivo == null) {
+            throw new IllegalArgumentException("Arquivo não pode ser nulo");
+        }
+        if (formato == null) {
+            throw new IllegalArgumentException("Formato não pode ser nulo");
+        }
+        if (categoriaPadraoId == null) {
+            throw new IllegalArgumentException("Categoria padrão não pode ser nula");
+        }
+        if (metodoPagamento == null || metodoPagamento.isBlank()) {
+            throw new IllegalArgumentException("Método de pagamento não pode ser vazio");
+        }
+    }
+}
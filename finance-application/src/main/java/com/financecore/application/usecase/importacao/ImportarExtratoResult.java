@@ -0,0 +1,19 @@
+package com.financecore.application.usecase.importacao;
+
+import java.util.List;
+
+/**
+ * Resultado do caso de uso ImportarExtrato.
+ * Linhas duplicadas são ignoradas; linhas rejeitadas trazem o motivo.
+ */
+public record ImportarExtratoResult(
+    int receitasImportadas,
+    int despesasImportadas,
+    int duplicadas,
+    List<LinhaRejeitada> rejeitadas
+) {
+    public record LinhaRejeitada(
+        int linha,
+        String motivo
+    ) {}
+}
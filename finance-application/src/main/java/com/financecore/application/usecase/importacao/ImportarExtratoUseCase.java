@@ -0,0 +1,294 @@
+package com.financecore.application.usecase.importacao;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.financecore.application.exception.CategoriaNaoEncontradaException;
+import com.financecore.application.exception.UsuarioNaoEncontradoException;
+import com.financecore.application.service.ClassificacaoAutomaticaService;
+import com.financecore.application.usecase.importacao.ImportarExtratoResult.LinhaRejeitada;
+import com.financecore.domain.model.entity.Categoria;
+import com.financecore.domain.model.entity.Despesa;
+import com.financecore.domain.model.entity.MesFinanceiro;
+import com.financecore.domain.model.entity.MesFinanceiroStatus;
+import com.financecore.domain.model.entity.Receita;
+import com.financecore.domain.model.entity.TipoDespesa;
+import com.financecore.domain.model.entity.TipoReceita;
+import com.financecore.domain.model.entity.Usuario;
+import com.financecore.domain.model.event.MesesFinanceirosAlterados;
+import com.financecore.domain.model.repository.CategoriaRepository;
+import com.financecore.domain.model.repository.MesFinanceiroRepository;
+import com.financecore.domain.model.repository.UsuarioRepository;
+import com.financecore.domain.model.service.ClassificadorDespesas;
+import com.financecore.domain.model.valueobject.Periodo;
+
+/**
+ * Caso de uso: Importar Extrato Bancário (RF04, RF05).
+ *
+ * Responsabilidades:
+ * 1. Ler o arquivo linha a linha e interpretar cada registro
+ * 2. Agrupar os lançamentos por período e resolver o Mês Financeiro de cada um
+ * 3. Descartar duplicatas por (data, valor, descrição), no arquivo e no mês
+ * 4. Construir receitas e despesas de cada mês, classificando as
+ *    despesas pelas regras do usuário (RF06)
+ * 5. Registrar em bloco e persistir em lote, em uma única transação
+ *
+ * Linhas inválidas e linhas de meses FECHADOS são rejeitadas individualmente,
+ * sem interromper a importação. Tudo roda na thread da transação: o arquivo
+ * não é carregado inteiro em memória e nada é delegado ao pool comum.
+ *
+ * Alinhado com:
+ * - RN-02: Imutabilidade de Meses Fechados
+ * - RN-04: Despesa sempre com Categoria
+ * - RN-10: Isolamento Total de Dados por Usuário
+ */
+@Service
+public class ImportarExtratoUseCase {
+
+    private final UsuarioRepository usuarioRepository;
+    private final MesFinanceiroRepository mesFinanceiroRepository;
+    private final CategoriaRepository categoriaRepository;
+    private final ClassificacaoAutomaticaService classificacaoAutomaticaService;
+    private final ApplicationEventPublisher eventos;
+
+    public ImportarExtratoUseCase(
+            UsuarioRepository usuarioRepository,
+            MesFinanceiroRepository mesFinanceiroRepository,
+            CategoriaRepository categoriaRepository,
+            ClassificacaoAutomaticaService classificacaoAutomaticaService,
+            ApplicationEventPublisher eventos) {
+        this.usuarioRepository = usuarioRepository;
+        this.mesFinanceiroRepository = mesFinanceiroRepository;
+        this.categoriaRepository = categoriaRepository;
+        this.classificacaoAutomaticaService = classificacaoAutomaticaService;
+        this.eventos = eventos;
+    }
+
+    @Transactional
+    public ImportarExtratoResult executar(ImportarExtratoCommand command) {
+        // 1. Carregar usuário, categoria padrão (RN-04) e classificador do usuário (RF06)
+        Usuario usuario = usuarioRepository.buscarPorId(command.usuarioId())
+            .orElseThrow(() -> UsuarioNaoEncontradoException.comId(command.usuarioId().toString()));
+        Categoria categoriaPadrao = categoriaRepository.buscarPorId(command.categoriaPadraoId())
+            .orElseThrow(() -> CategoriaNaoEncontradaException.comId(command.categoriaPadraoId().toString()));
+        ClassificadorDespesas classificador = classificacaoAutomaticaService.classificadorDo(command.usuarioId());
+
+        // 2. Separar e interpretar os registros à medida que são lidos
+        LeitorExtrato leitor = LeitorExtrato.para(command.formato());
+        List<LinhaRejeitada> rejeitadas = new ArrayList<>();
+        TreeMap<Periodo, List<LancamentoExtrato>> porPeriodo = new TreeMap<>();
+        ler(command.arquivo(), leitor, registro -> {
+            try {
+                LancamentoExtrato lancamento = leitor.interpretar(registro);
+                porPeriodo.computeIfAbsent(Periodo.de(lancamento.data()), p -> new ArrayList<>()).add(lancamento);
+            } catch (RuntimeException e) {
+                rejeitadas.add(new LinhaRejeitada(registro.linha(), e.getMessage()));
+            }
+        });
+
+        // 3. Resolver o mês de cada período; meses FECHADOS não aceitam lançamentos (RN-02).
+        //    O usuário conhece os meses do intervalo do extrato e o anterior a ele,
+        //    de onde partem saldo e recorrências dos meses criados
+        conhecerMeses(usuario, porPeriodo.navigableKeySet());
+        List<Lote> lotes = new ArrayList<>(porPeriodo.size());
+        for (Map.Entry<Periodo, List<LancamentoExtrato>> entrada : porPeriodo.entrySet()) {
+            MesFinanceiro mes = usuario.buscarMesFinanceiro(entrada.getKey())
+                .orElseGet(() -> usuario.obterOuCriarMesesFinanceiros(entrada.getKey(), 1).get(0));
+            if (mes.getStatus() == MesFinanceiroStatus.FECHADO) {
+                for (LancamentoExtrato lancamento : entrada.getValue()) {
+                    rejeitadas.add(new LinhaRejeitada(lancamento.linha(), "Mês " + entrada.getKey() + " está FECHADO"));
+                }
+            } else {
+                lotes.add(new Lote(mes, entrada.getValue()));
+            }
+        }
+
+        // 4. Deduplicar, classificar e construir os lançamentos de cada mês
+        Map<UUID, Optional<Categoria>> categorias = new HashMap<>();
+        Function<UUID, Categoria> categoriaPorId = id -> categorias
+            .computeIfAbsent(id, categoriaRepository::buscarPorId)
+            .orElse(categoriaPadrao);
+        for (Lote lote : lotes) {
+            lote.construir(classificador, categoriaPorId, categoriaPadrao, command.metodoPagamento());
+        }
+
+        // 5. Registrar em bloco e persistir em lote
+        int receitas = 0;
+        int despesas = 0;
+        int duplicadas = 0;
+        List<MesFinanceiro> alterados = new ArrayList<>(lotes.size());
+        for (Lote lote : lotes) {
+            rejeitadas.addAll(lote.rejeitadas);
+            duplicadas += lote.duplicadas;
+            if (lote.receitas.isEmpty() && lote.despesas.isEmpty()) {
+                continue;
+            }
+            lote.mes.registrarReceitas(lote.receitas);
+            lote.mes.registrarDespesas(lote.despesas);
+            receitas += lote.receitas.size();
+            despesas += lote.despesas.size();
+            alterados.add(lote.mes);
+        }
+        MesesFinanceirosAlterados alteracoes = MesesFinanceirosAlterados.de(alterados);
+        mesFinanceiroRepository.salvarTodos(alterados);
+        eventos.publishEvent(alteracoes);
+
+        // 6. Retornar resultado
+        rejeitadas.sort((a, b) -> Integer.compare(a.linha(), b.linha()));
+        return new ImportarExtratoResult(receitas, despesas, duplicadas, List.copyOf(rejeitadas));
+    }
+
+    private void conhecerMeses(Usuario usuario, NavigableSet<Periodo> periodos) {
+        if (periodos.isEmpty()) {
+            return;
+        }
+        Periodo primeiro = periodos.first();
+        Periodo ultimo = periodos.last();
+        mesFinanceiroRepository.buscarMaisRecenteAte(usuario.getId(), primeiro.anterior())
+            .ifPresent(anterior -> usuario.conhecerMeses(List.of(anterior)));
+        try (Stream<MesFinanceiro> meses =
+                 mesFinanceiroRepository.percorrerPorUsuarioEPeriodo(usuario.getId(), primeiro, ultimo)) {
+            usuario.conhecerMeses(meses.toList());
+        }
+    }
+
+    /**
+     * Lê o arquivo linha a linha como UTF-8; extratos em ISO-8859-1, comuns
+     * em OFX de bancos brasileiros, são decodificados como tal. A codificação
+     * é decidida em uma primeira passada, antes de entregar qualquer registro.
+     */
+    private static void ler(Path arquivo, LeitorExtrato leitor, Consumer<LeitorExtrato.Registro> destino) {
+        try {
+            Charset codificacao = codificacao(arquivo);
+            try (BufferedReader entrada = Files.newBufferedReader(arquivo, codificacao)) {
+                leitor.separar(entrada, destino);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler extrato " + arquivo, e);
+        }
+    }
+
+    private static Charset codificacao(Path arquivo) throws IOException {
+        // newBufferedReader usa um decodificador que rejeita bytes inválidos
+        try (BufferedReader entrada = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8)) {
+            char[] trecho = new char[8192];
+            while (entrada.read(trecho) >= 0) {
+                // só a decodificação interessa
+            }
+            return StandardCharsets.UTF_8;
+        } catch (CharacterCodingException e) {
+            return StandardCharsets.ISO_8859_1;
+        }
+    }
+
+    /**
+     * Chave de deduplicação. O valor tem sinal, então receita e despesa de
+     * mesmo valor e descrição não se confundem.
+     */
+    private record Chave(LocalDate data, long centavos, String descricao) {
+
+        static Chave de(LocalDate data, long centavos, String descricao) {
+            return new Chave(data, centavos, normalizar(descricao));
+        }
+
+        private static String normalizar(String descricao) {
+            StringBuilder normalizada = new StringBuilder(descricao.length());
+            boolean espaco = false;
+            for (int i = 0; i < descricao.length(); i++) {
+                char c = descricao.charAt(i);
+                if (Character.isWhitespace(c)) {
+                    espaco = normalizada.length() > 0;
+                } else {
+                    if (espaco) {
+                        normalizada.append(' ');
+                        espaco = false;
+                    }
+                    normalizada.append(c);
+                }
+            }
+            return normalizada.toString().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * Lançamentos de um mês, deduplicados contra os já registrados nele.
+     */
+    private static final class Lote {
+
+        private final MesFinanceiro mes;
+        private final List<LancamentoExtrato> lancamentos;
+        private final List<Receita> receitas = new ArrayList<>();
+        private final List<Despesa> despesas = new ArrayList<>();
+        private final List<LinhaRejeitada> rejeitadas = new ArrayList<>();
+        private int duplicadas;
+
+        Lote(MesFinanceiro mes, List<LancamentoExtrato> lancamentos) {
+            this.mes = mes;
+            this.lancamentos = lancamentos;
+        }
+
+        /**
+         * @param categoriaPorId resolve o id sugerido pelo classificador; uma
+         *                       categoria removida depois da compilação cai na padrão
+         */
+        void construir(ClassificadorDespesas classificador,
+                       Function<UUID, Categoria> categoriaPorId,
+                       Categoria categoriaPadrao,
+                       String metodoPagamento) {
+            Set<Chave> existentes = new HashSet<>();
+            for (Receita receita : mes.getReceitas()) {
+                existentes.add(Chave.de(receita.getDataReferencia(), receita.getValor().getCentavos(), receita.getDescricao()));
+            }
+            for (Despesa despesa : mes.getDespesas()) {
+                existentes.add(Chave.de(despesa.getData(), -despesa.getValor().getCentavos(), despesa.getDescricao()));
+            }
+
+            UUID mesId = mes.getId();
+            for (LancamentoExtrato lancamento : lancamentos) {
+                if (!existentes.add(Chave.de(lancamento.data(), lancamento.valor().getCentavos(), lancamento.descricao()))) {
+                    duplicadas++;
+                    continue;
+                }
+                try {
+                    if (lancamento.valor().isNegativo()) {
+                        Categoria categoria = classificador.classificar(lancamento.descricao(), metodoPagamento)
+                            .map(categoriaPorId)
+                            .orElse(categoriaPadrao);
+                        despesas.add(new Despesa(UUID.randomUUID(), mesId, categoria, lancamento.descricao(),
+                            lancamento.valor().negar(), lancamento.data(), TipoDespesa.PONTUAL, metodoPagamento));
+                    } else {
+                        receitas.add(new Receita(UUID.randomUUID(), mesId, lancamento.descricao(),
+                            lancamento.valor(), TipoReceita.VARIAVEL, lancamento.data()));
+                    }
+                } catch (RuntimeException e) {
+                    rejeitadas.add(new LinhaRejeitada(lancamento.linha(), e.getMessage()));
+                }
+            }
+        }
+    }
+}
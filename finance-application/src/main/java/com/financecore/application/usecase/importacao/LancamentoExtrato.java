@@ -0,0 +1,15 @@
+package com.financecore.application.usecase.importacao;
+
+import java.time.LocalDate;
+
+import com.financecore.domain.model.valueobject.Dinheiro;
+
+/**
+ * Lançamento lido de um extrato. Valor negativo indica despesa.
+ */
+record LancamentoExtrato(
+    int linha,
+    LocalDate data,
+    Dinheiro valor,
+    String descricao
+) {}
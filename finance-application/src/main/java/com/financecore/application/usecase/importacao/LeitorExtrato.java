@@ -0,0 +1,84 @@
+package com.financecore.application.usecase.importacao;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.function.Consumer;
+
+import com.financecore.domain.model.valueobject.Dinheiro;
+
+/**
+ * Leitor de um formato de extrato, em duas etapas: a separação do conteúdo
+ * em registros, linha a linha, e a interpretação de cada registro.
+ */
+interface LeitorExtrato {
+
+    /**
+     * Entrega cada registro assim que é lido; só a linha ou o bloco corrente
+     * fica em memória, qualquer que seja o tamanho do arquivo.
+     */
+    void separar(BufferedReader entrada, Consumer<Registro> destino) throws IOException;
+
+    /**
+     * Interpreta um registro. Lança IllegalArgumentException ou
+     * ArithmeticException para registros inválidos.
+     */
+    LancamentoExtrato interpretar(Registro registro);
+
+    static LeitorExtrato para(FormatoExtrato formato) {
+        return switch (formato) {
+            case CSV -> new LeitorExtratoCsv();
+            case OFX -> new LeitorExtratoOfx();
+        };
+    }
+
+    /**
+     * Interpreta valores como "1234.56", "-1.234,56", "1.234" ou "R$ 10,00",
+     * com o agrupamento do pt-BR:
+     * - com vírgula e ponto, o último separador é o decimal;
+     * - uma única vírgula é o decimal;
+     * - um único ponto seguido de exatamente 3 dígitos é separador de
+     *   milhar ("1.234" = 1234); seguido de outra quantidade, é o decimal;
+     * - um separador repetido, sem o outro, é sempre de milhar.
+     */
+    static Dinheiro interpretarValor(String texto) {
+        StringBuilder limpo = new StringBuilder(texto.length());
+        int decimal = separadorDecimal(texto);
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            if ((c >= '0' && c <= '9') || c == '-' || c == '+') {
+                limpo.append(c);
+            } else if (i == decimal) {
+                limpo.append('.');
+            }
+        }
+        if (limpo.isEmpty()) {
+            throw new IllegalArgumentException("valor ausente");
+        }
+        return Dinheiro.de(new BigDecimal(limpo.toString()));
+    }
+
+    private static int separadorDecimal(String texto) {
+        int ultimaVirgula = texto.lastIndexOf(',');
+        int ultimoPonto = texto.lastIndexOf('.');
+        if (ultimaVirgula >= 0 && ultimoPonto >= 0) {
+            return Math.max(ultimaVirgula, ultimoPonto);
+        }
+        if (ultimaVirgula >= 0) {
+            return texto.indexOf(',') == ultimaVirgula ? ultimaVirgula : -1;
+        }
+        if (ultimoPonto >= 0 && texto.indexOf('.') == ultimoPonto) {
+            int digitos = 0;
+            for (int i = ultimoPonto + 1; i < texto.length() && Character.isDigit(texto.charAt(i)); i++) {
+                digitos++;
+            }
+            return digitos == 3 ? -1 : ultimoPonto;
+        }
+        return -1;
+    }
+
+    /**
+     * Trecho do conteúdo correspondente a um lançamento e a linha onde começa.
+     */
+    record Registro(int linha, String texto) {}
+}
@@ -0,0 +1,111 @@
+package com.financecore.application.usecase.importacao;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Leitor de extratos CSV com colunas data, descrição e valor.
+ *
+ * O separador (vírgula ou ponto e vírgula) é detectado na primeira linha,
+ * que é tratada como cabeçalho quando não começa por uma data. Datas são
+ * aceitas nos formatos aaaa-mm-dd e dd/mm/aaaa. Campos entre aspas podem
+ * conter o separador, mas não quebras de linha.
+ */
+final class LeitorExtratoCsv implements LeitorExtrato {
+
+    private char separador = ',';
+
+    @Override
+    public void separar(BufferedReader entrada, Consumer<Registro> destino) throws IOException {
+        int numeroLinha = 0;
+        boolean primeira = true;
+        String linha;
+        while ((linha = entrada.readLine()) != null) {
+            numeroLinha++;
+            if (linha.isBlank()) {
+                continue;
+            }
+            if (primeira) {
+                primeira = false;
+                separador = contar(linha, ';') > contar(linha, ',') ? ';' : ',';
+                if (!comecaComData(linha)) {
+                    continue;
+                }
+            }
+            destino.accept(new Registro(numeroLinha, linha));
+        }
+    }
+
+    @Override
+    public LancamentoExtrato interpretar(Registro registro) {
+        List<String> campos = campos(registro.texto());
+        if (campos.size() < 3) {
+            throw new IllegalArgumentException("esperadas 3 colunas (data, descrição, valor)");
+        }
+        return new LancamentoExtrato(
+                registro.linha(),
+                interpretarData(campos.get(0)),
+                LeitorExtrato.interpretarValor(campos.get(2)),
+                campos.get(1).strip()
+        );
+    }
+
+    private List<String> campos(String linha) {
+        List<String> campos = new ArrayList<>(4);
+        StringBuilder atual = new StringBuilder();
+        boolean entreAspas = false;
+        for (int i = 0; i < linha.length(); i++) {
+            char c = linha.charAt(i);
+            if (c == '"') {
+                if (entreAspas && i + 1 < linha.length() && linha.charAt(i + 1) == '"') {
+                    atual.append('"');
+                    i++;
+                } else {
+                    entreAspas = !entreAspas;
+                }
+            } else if (c == separador && !entreAspas) {
+                campos.add(atual.toString());
+                atual.setLength(0);
+            } else {
+                atual.append(c);
+            }
+        }
+        campos.add(atual.toString());
+        return campos;
+    }
+
+    private boolean comecaComData(String linha) {
+        try {
+            interpretarData(campos(linha).get(0));
+            return true;
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static LocalDate interpretarData(String texto) {
+        String data = texto.strip();
+        if (data.length() == 10 && data.charAt(2) == '/' && data.charAt(5) == '/') {
+            return LocalDate.of(
+                    Integer.parseInt(data, 6, 10, 10),
+                    Integer.parseInt(data, 3, 5, 10),
+                    Integer.parseInt(data, 0, 2, 10));
+        }
+        return LocalDate.parse(data);
+    }
+
+    private static int contar(String texto, char caractere) {
+        int total = 0;
+        for (int i = 0; i < texto.length(); i++) {
+            if (texto.charAt(i) == caractere) {
+                total++;
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,115 @@
+package com.financecore.application.usecase.importacao;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+/**
+ * Leitor de extratos OFX (SGML 1.x ou XML 2.x).
+ *
+ * Cada bloco STMTTRN vira um registro; um bloco pode ocupar várias linhas e
+ * uma linha pode conter vários blocos (XML sem quebras). Sem o fechamento, o
+ * bloco vai até o fim do arquivo. Do bloco são lidos DTPOSTED, TRNAMT
+ * e a descrição (MEMO ou, na falta dele, NAME). Em SGML os elementos folha
+ * não têm tag de fechamento: o valor termina no próximo '<' ou fim de linha.
+ */
+final class LeitorExtratoOfx implements LeitorExtrato {
+
+    private static final String ABERTURA = "<STMTTRN>";
+    private static final String FECHAMENTO = "</STMTTRN>";
+
+    @Override
+    public void separar(BufferedReader entrada, Consumer<Registro> destino) throws IOException {
+        StringBuilder bloco = null;
+        int linhaBloco = 0;
+        int numeroLinha = 0;
+        String linha;
+        while ((linha = entrada.readLine()) != null) {
+            numeroLinha++;
+            int posicao = 0;
+            while (true) {
+                if (bloco == null) {
+                    int inicio = buscar(linha, ABERTURA, posicao);
+                    if (inicio < 0) {
+                        break;
+                    }
+                    bloco = new StringBuilder();
+                    linhaBloco = numeroLinha;
+                    posicao = inicio + ABERTURA.length();
+                } else {
+                    int fim = buscar(linha, FECHAMENTO, posicao);
+                    if (fim < 0) {
+                        // Elementos folha do SGML terminam na quebra de linha, que é preservada
+                        bloco.append(linha, posicao, linha.length()).append('\n');
+                        break;
+                    }
+                    bloco.append(linha, posicao, fim);
+                    destino.accept(new Registro(linhaBloco, bloco.toString()));
+                    bloco = null;
+                    posicao = fim + FECHAMENTO.length();
+                }
+            }
+        }
+        if (bloco != null) {
+            destino.accept(new Registro(linhaBloco, bloco.toString()));
+        }
+    }
+
+    @Override
+    public LancamentoExtrato interpretar(Registro registro) {
+        String bloco = registro.texto();
+        String data = valor(bloco, "DTPOSTED");
+        String valor = valor(bloco, "TRNAMT");
+        String descricao = valor(bloco, "MEMO");
+        if (descricao == null || descricao.isBlank()) {
+            descricao = valor(bloco, "NAME");
+        }
+        if (data == null || data.length() < 8) {
+            throw new IllegalArgumentException("DTPOSTED ausente ou inválido");
+        }
+        if (valor == null) {
+            throw new IllegalArgumentException("TRNAMT ausente");
+        }
+        return new LancamentoExtrato(
+                registro.linha(),
+                LocalDate.of(
+                        Integer.parseInt(data, 0, 4, 10),
+                        Integer.parseInt(data, 4, 6, 10),
+                        Integer.parseInt(data, 6, 8, 10)),
+                LeitorExtrato.interpretarValor(valor),
+                descricao == null ? "" : descricao
+        );
+    }
+
+    private static int buscar(String conteudo, String marcador, int desde) {
+        for (int i = conteudo.indexOf('<', desde); i >= 0; i = conteudo.indexOf('<', i + 1)) {
+            if (conteudo.regionMatches(true, i, marcador, 0, marcador.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String valor(String bloco, String tag) {
+        int inicio = indiceTag(bloco, tag);
+        if (inicio < 0) {
+            return null;
+        }
+        int fim = inicio;
+        while (fim < bloco.length() && bloco.charAt(fim) != '<' && bloco.charAt(fim) != '\n' && bloco.charAt(fim) != '\r') {
+            fim++;
+        }
+        return bloco.substring(inicio, fim).strip();
+    }
+
+    private static int indiceTag(String bloco, String tag) {
+        int tamanho = tag.length() + 2;
+        for (int i = bloco.indexOf('<'); i >= 0 && i + tamanho <= bloco.length(); i = bloco.indexOf('<', i + 1)) {
+            if (bloco.charAt(i + tamanho - 1) == '>' && bloco.regionMatches(true, i + 1, tag, 0, tag.length())) {
+                return i + tamanho;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,37 @@
+package com.financecore.application.usecase.lancamento;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import com.financecore.domain.model.service.IndiceLancamentos.Natureza;
+import com.financecore.domain.model.valueobject.Dinheiro;
+
+/**
+ * Busca das receitas ou despesas de um usuário entre duas datas (inclusive)
+ * com valor maior ou igual ao mínimo.
+ */
+public record BuscarLancamentosQuery(
+    UUID usuarioId,
+    Natureza natureza,
+    LocalDate dataInicio,
+    LocalDate dataFim,
+    Dinheiro valorMinimo
+) {
+    public BuscarLancamentosQuery {
+        if (usuarioId == null) {
+            throw new IllegalArgumentException("Usuário não pode ser nulo");
+        }
+        if (natureza == null) {
+            throw new IllegalArgumentException("Natureza não pode ser nula");
+        }
+        if (dataInicio == null || dataFim == null) {
+            throw new IllegalArgumentException("Data não pode ser nula");
+        }
+        if (dataFim.isBefore(dataInicio)) {
+            throw new IllegalArgumentException("Data final não pode ser anterior à inicial");
+        }
+        if (valorMinimo == null) {
+            throw new IllegalArgumentException("Valor mínimo não pode ser nulo");
+        }
+    }
+}
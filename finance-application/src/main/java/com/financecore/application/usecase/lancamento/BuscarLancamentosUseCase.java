@@ -0,0 +1,59 @@
+package com.financecore.application.usecase.lancamento;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.financecore.application.dto.output.LancamentosOutputDTO;
+import com.financecore.application.service.IndiceLancamentosService;
+import com.financecore.domain.model.service.IndiceLancamentos.LancamentoIndexado;
+
+/**
+ * Caso de uso: Buscar Lançamentos.
+ * 
+ * Responsabilidades:
+ * 1. Buscar receitas ou despesas por intervalo de datas e valor mínimo em
+ *    todo o histórico do usuário
+ * 2. Listar os maiores lançamentos de um intervalo
+ * 3. Responder pelo índice mantido entre buscas, sem reler meses fechados
+ * 
+ * Alinhado com:
+ * - RN-10: Isolamento Total de Dados por Usuário
+ */
+@Service
+public class BuscarLancamentosUseCase {
+    
+    private final IndiceLancamentosService indiceLancamentosService;
+    
+    public BuscarLancamentosUseCase(IndiceLancamentosService indiceLancamentosService) {
+        this.indiceLancamentosService = indiceLancamentosService;
+    }
+    
+    @Transactional(readOnly = true)
+    public LancamentosOutputDTO executar(BuscarLancamentosQuery query) {
+        return toOutputDTO(query.usuarioId(), indiceLancamentosService.consultar(query.usuarioId(), indice ->
+            indice.buscar(query.natureza(), query.dataInicio(), query.dataFim(), query.valorMinimo())));
+    }
+    
+    @Transactional(readOnly = true)
+    public LancamentosOutputDTO executar(ListarMaioresLancamentosQuery query) {
+        return toOutputDTO(query.usuarioId(), indiceLancamentosService.consultar(query.usuarioId(), indice ->
+            indice.maiores(query.natureza(), query.dataInicio(), query.dataFim(), query.quantidade())));
+    }
+    
+    private static LancamentosOutputDTO toOutputDTO(UUID usuarioId, List<LancamentoIndexado> lancamentos) {
+        return new LancamentosOutputDTO(
+            usuarioId,
+            lancamentos.stream()
+                .map(lancamento -> new LancamentosOutputDTO.Lancamento(
+                    lancamento.natureza().name(),
+                    lancamento.id(),
+                    lancamento.mesFinanceiroId(),
+                    lancamento.data(),
+                    lancamento.valor().toBigDecimal()))
+                .toList()
+        );
+    }
+}
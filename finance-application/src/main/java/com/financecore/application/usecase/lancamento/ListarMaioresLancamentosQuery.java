@@ -0,0 +1,38 @@
+package com.financecore.application.usecase.lancamento;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import com.financecore.domain.model.service.IndiceLancamentos.Natureza;
+
+/**
+ * Consulta dos maiores lançamentos (receitas ou despesas) de um usuário
+ * entre duas datas (inclusive).
+ */
+public record ListarMaioresLancamentosQuery(
+    UUID usuarioId,
+    Natureza natureza,
+    LocalDate dataInicio,
+    LocalDate dataFim,
+    int quantidade
+) {
+    public static final int QUANTIDADE_MAXIMA = 100;
+
+    public ListarMaioresLancamentosQuery {
+        if (usuarioId == null) {
+            throw new IllegalArgumentException("Usuário não pode ser nulo");
+        }
+        if (natureza == null) {
+            throw new IllegalArgumentException("Natureza não pode ser nula");
+        }
+        if (dataInicio == null || dataFim == null) {
+            throw new IllegalArgumentException("Data não pode ser nula");
+        }
+        if (dataFim.isBefore(dataInicio)) {
+            throw new IllegalArgumentException("Data final não pode ser anterior à inicial");
+        }
+        if (quantidade <= 0 || quantidade > QUANTIDADE_MAXIMA) {
+            throw new IllegalArgumentException("Quantidade deve estar entre 1 e " + QUANTIDADE_MAXIMA);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.financecore.application.usecase.mesfinanceiro;
+
+import java.util.UUID;
+
+import com.financecore.domain.model.valueobject.Periodo;
+
+/**
+ * Command para o caso de uso AbrirMesFinanceiro.
+ * Meses pulados entre o último mês do usuário e o período são criados junto.
+ */
+public record AbrirMesFinanceiroCommand(
+    UUID usuarioId,
+    Periodo periodo
+) {
+    public AbrirMesFinanceiroCommand {
+        if (usuarioId == null) {
+            throw new IllegalArgumentException("Usuário não pode ser nulo");
+        }
+        if (periodo == null) {
+            throw new IllegalArgumentException("Período não pode ser nulo");
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.financecore.application.usecase.mesfinanceiro;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Resultado do caso de uso AbrirMesFinanceiro.
+ * Contém o mês do período pedido e os meses criados, em ordem; a lista é
+ * vazia se o mês já existia.
+ */
+public record AbrirMesFinanceiroResult(
+    UUID mesFinanceiroId,
+    List<UUID> mesesCriadosIds,
+    int lancamentosRecorrentes
+) {}
@@ -0,0 +1,92 @@
+package com.financecore.application.usecase.mesfinanceiro;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.financecore.application.exception.UsuarioNaoEncontradoException;
+import com.financecore.domain.model.entity.MesFinanceiro;
+import com.financecore.domain.model.entity.Usuario;
+import com.financecore.domain.model.event.MesesFinanceirosAlterados;
+import com.financecore.domain.model.repository.MesFinanceiroRepository;
+import com.financecore.domain.model.repository.UsuarioRepository;
+import com.financecore.domain.model.valueobject.Periodo;
+
+/**
+ * Caso de uso: Abrir Mês Financeiro (RF02, RF05).
+ *
+ * Responsabilidades:
+ * 1. Carregar o usuário e apenas o mês mais recente até o período, de onde
+ *    vêm o saldo inicial e as recorrências
+ * 2. Criar o mês do período e os meses pulados antes dele, cada um recebendo
+ *    as receitas e despesas FIXA do anterior (RN-05)
+ * 3. Persistir todos os meses criados em lote
+ *
+ * Períodos que já possuem mês não são recriados, então repetir a operação
+ * não duplica lançamentos recorrentes.
+ *
+ * Alinhado com:
+ * - RN-01: Unicidade de Mês por período
+ * - RN-05: Lançamentos Fixos Recorrentes
+ * - RN-10: Isolamento Total de Dados por Usuário
+ */
+@Service
+public class AbrirMesFinanceiroUseCase {
+
+    private final UsuarioRepository usuarioRepository;
+    private final MesFinanceiroRepository mesFinanceiroRepository;
+    private final ApplicationEventPublisher eventos;
+
+    public AbrirMesFinanceiroUseCase(
+            UsuarioRepository usuarioRepository,
+            MesFinanceiroRepository mesFinanceiroRepository,
+            ApplicationEventPublisher eventos) {
+        this.usuarioRepository = usuarioRepository;
+        this.mesFinanceiroRepository = mesFinanceiroRepository;
+        this.eventos = eventos;
+    }
+
+    @Transactional
+    public AbrirMesFinanceiroResult executar(AbrirMesFinanceiroCommand command) {
+        // 1. Carregar usuário e o mês mais recente até o período
+        Usuario usuario = usuarioRepository.buscarPorId(command.usuarioId())
+            .orElseThrow(() -> UsuarioNaoEncontradoException.comId(command.usuarioId().toString()));
+        Optional<MesFinanceiro> maisRecente =
+            mesFinanceiroRepository.buscarMaisRecenteAte(command.usuarioId(), command.periodo());
+
+        // 2. Mês já existente: nada a criar
+        if (maisRecente.isPresent()
+                && Periodo.de(maisRecente.get().getMes(), maisRecente.get().getAno()).equals(command.periodo())) {
+            return new AbrirMesFinanceiroResult(maisRecente.get().getId(), List.of(), 0);
+        }
+        maisRecente.ifPresent(mes -> usuario.conhecerMeses(List.of(mes)));
+
+        // 3. Criar o mês e os meses pulados, propagando recorrências (RN-05);
+        //    um período anterior ao último mês é criado isoladamente
+        List<Periodo> periodos = mesFinanceiroRepository.listarPeriodosAlteradosDesde(command.usuarioId(), null);
+        boolean existePosterior = !periodos.isEmpty()
+            && periodos.get(periodos.size() - 1).compareTo(command.periodo()) > 0;
+        List<MesFinanceiro> criados = existePosterior
+            ? usuario.obterOuCriarMesesFinanceiros(command.periodo(), 1)
+            : usuario.preencherMesesAte(command.periodo());
+
+        // 4. Persistir em lote; os eventos são capturados antes da gravação
+        MesesFinanceirosAlterados alteracoes = MesesFinanceirosAlterados.de(criados);
+        mesFinanceiroRepository.salvarTodos(criados);
+        eventos.publishEvent(alteracoes);
+
+        // 5. Retornar resultado
+        int recorrentes = 0;
+        for (MesFinanceiro mes : criados) {
+            recorrentes += mes.getReceitas().size() + mes.getDespesas().size();
+        }
+        return new AbrirMesFinanceiroResult(
+            criados.get(criados.size() - 1).getId(),
+            criados.stream().map(MesFinanceiro::getId).toList(),
+            recorrentes
+        );
+    }
+}
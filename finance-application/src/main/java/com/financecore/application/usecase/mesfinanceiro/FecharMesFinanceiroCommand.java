@@ -0,0 +1,20 @@
+package com.financecore.application.usecase.mesfinanceiro;
+
+import java.util.UUID;
+
+/**
+ * Command para o caso de uso FecharMesFinanceiro.
+ */
+public record FecharMesFinanceiroCommand(
+    UUID usuarioId,
+    UUID mesFinanceiroId
+) {
+    public FecharMesFinanceiroCommand {
+        if (usuarioId == null) {
+            throw new IllegalArgumentException("Usuário não pode ser nulo");
+        }
+        if (mesFinanceiroId == null) {
+            throw new IllegalArgumentException("Mês financeiro não pode ser nulo");
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.financecore.application.usecase.mesfinanceiro;
+
+import java.util.UUID;
+
+import com.financecore.domain.model.valueobject.Dinheiro;
+
+/**
+ * Resultado do caso de uso FecharMesFinanceiro.
+ * Contém o saldo final calculado e a consolidação gravada.
+ */
+public record FecharMesFinanceiroResult(
+    UUID mesFinanceiroId,
+    UUID historicoId,
+    Dinheiro saldoFinal
+) {}
@@ -0,0 +1,77 @@
+package com.financecore.application.usecase.mesfinanceiro;
+
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.financecore.application.exception.MesFinanceiroNaoEncontradoException;
+import com.financecore.application.exception.OperacaoNaoPermitidaException;
+import com.financecore.application.service.MetricasMesFinanceiro;
+import com.financecore.domain.model.entity.HistoricoFinanceiro;
+import com.financecore.domain.model.entity.MesFinanceiro;
+import com.financecore.domain.model.event.MesesFinanceirosAlterados;
+import com.financecore.domain.model.repository.HistoricoFinanceiroRepository;
+import com.financecore.domain.model.repository.MesFinanceiroRepository;
+
+/**
+ * Caso de uso: Fechar Mês Financeiro (UC-08, RF08).
+ * 
+ * Responsabilidades:
+ * 1. Localizar o mês, garantindo que pertence ao usuário
+ * 2. Fechar o mês calculando o saldo final (RN-07)
+ * 3. Consolidar o mês fechado em HistoricoFinanceiro (RN-09)
+ * 4. Persistir mês e consolidação na mesma transação
+ * 
+ * Alinhado com:
+ * - RN-02: Imutabilidade de Meses Fechados
+ * - RN-09: Histórico Financeiro Consolidado
+ * - RN-10: Isolamento Total de Dados por Usuário
+ */
+@Service
+public class FecharMesFinanceiroUseCase {
+    
+    private final MesFinanceiroRepository mesFinanceiroRepository;
+    private final HistoricoFinanceiroRepository historicoFinanceiroRepository;
+    private final MetricasMesFinanceiro metricasMesFinanceiro;
+    private final ApplicationEventPublisher eventos;
+    
+    public FecharMesFinanceiroUseCase(
+            MesFinanceiroRepository mesFinanceiroRepository,
+            HistoricoFinanceiroRepository historicoFinanceiroRepository,
+            MetricasMesFinanceiro metricasMesFinanceiro,
+            ApplicationEventPublisher eventos) {
+        this.mesFinanceiroRepository = mesFinanceiroRepository;
+        this.historicoFinanceiroRepository = historicoFinanceiroRepository;
+        this.metricasMesFinanceiro = metricasMesFinanceiro;
+        this.eventos = eventos;
+    }
+    
+    @Transactional
+    public FecharMesFinanceiroResult executar(FecharMesFinanceiroCommand command) {
+        // 1. Carregar mês e validar isolamento (RN-10)
+        MesFinanceiro mes = mesFinanceiroRepository.buscarPorId(command.mesFinanceiroId())
+            .orElseThrow(() -> MesFinanceiroNaoEncontradoException.comId(command.mesFinanceiroId().toString()));
+        if (!mes.getUsuarioId().equals(command.usuarioId())) {
+            throw new OperacaoNaoPermitidaException("Mês financeiro não pertence ao usuário informado");
+        }
+        
+        // 2. Fechar (o domínio rejeita meses já fechados)
+        metricasMesFinanceiro.fechar(mes);
+        
+        // 3. Consolidar enquanto os lançamentos ainda estão em memória
+        HistoricoFinanceiro historico = HistoricoFinanceiro.consolidar(mes);
+        
+        // 4. Persistir (o mês antes da consolidação que o referencia)
+        MesesFinanceirosAlterados alteracoes = MesesFinanceirosAlterados.de(List.of(mes));
+        mesFinanceiroRepository.salvar(mes);
+        HistoricoFinanceiro historicoSalvo = historicoFinanceiroRepository.salvar(historico);
+        
+        // 5. Publicar as alterações, tratadas só depois do commit
+        eventos.publishEvent(alteracoes);
+        
+        // 6. Retornar resultado
+        return new FecharMesFinanceiroResult(mes.getId(), historicoSalvo.getId(), mes.getSaldoFinal());
+    }
+}
@@ -0,0 +1,30 @@
+package com.financecore.application.usecase.mesfinanceiro;
+
+import com.financecore.domain.model.valueobject.Periodo;
+
+/**
+ * Command para o caso de uso FecharMesesEmLote.
+ *
+ * paralelismo é a quantidade de lotes desta execução processados ao mesmo
+ * tempo (limitada, na prática, pelo executor de fechamento) e tamanhoLote a quantidade de meses por
+ * transação. Com reiniciar = true, o ponto de retomada é descartado e meses
+ * que falharam antes são tentados de novo.
+ */
+public record FecharMesesEmLoteCommand(
+    Periodo periodo,
+    int paralelismo,
+    int tamanhoLote,
+    boolean reiniciar
+) {
+    public FecharMesesEmLoteCommand {
+        if (periodo == null) {
+            throw new IllegalArgumentException("Período não pode ser nulo");
+        }
+        if (paralelismo <= 0) {
+            throw new IllegalArgumentException("Paralelismo deve ser maior que zero");
+        }
+        if (tamanhoLote <= 0) {
+            throw new IllegalArgumentException("Tamanho do lote deve ser maior que zero");
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.financecore.application.usecase.mesfinanceiro;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import com.financecore.domain.model.valueobject.Periodo;
+
+/**
+ * Resultado do caso de uso FecharMesesEmLote.
+ *
+ * Contadores e vazão referem-se a esta execução; totalFechados e totalFalhas
+ * incluem execuções anteriores retomadas. falhasDetalhadas traz no máximo as
+ * primeiras falhas desta execução.
+ */
+public record FecharMesesEmLoteResult(
+    Periodo periodo,
+    long fechados,
+    long falhas,
+    long totalFechados,
+    long totalFalhas,
+    List<FalhaFechamento> falhasDetalhadas,
+    Duration duracao,
+    double mesesPorSegundo
+) {
+
+    /**
+     * Mês que não pôde ser fechado e o motivo.
+     */
+    public record FalhaFechamento(UUID mesFinanceiroId, String motivo) {}
+}
@@ -0,0 +1,264 @@
+package com.financecore.application.usecase.mesfinanceiro;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.financecore.application.service.MetricasMesFinanceiro;
+import com.financecore.application.usecase.mesfinanceiro.FecharMesesEmLoteResult.FalhaFechamento;
+import com.financecore.domain.model.entity.HistoricoFinanceiro;
+import com.financecore.domain.model.entity.MesFinanceiro;
+import com.financecore.domain.model.entity.MesFinanceiroStatus;
+import com.financecore.domain.model.entity.ProgressoFechamentoLote;
+import com.financecore.domain.model.event.MesesFinanceirosAlterados;
+import com.financecore.domain.model.repository.HistoricoFinanceiroRepository;
+import com.financecore.domain.model.repository.MesFinanceiroRepository;
+import com.financecore.domain.model.repository.ProgressoFechamentoLoteRepository;
+import com.financecore.domain.model.valueobject.Periodo;
+
+/**
+ * Caso de uso: Fechar em Lote os Meses de um Período (UC-08).
+ *
+ * Responsabilidades:
+ * 1. Retomar do último ponto salvo para o período
+ * 2. Percorrer os meses ABERTOS do período em ordem de id, em lotes
+ * 3. Fechar e consolidar cada lote em transação própria, vários lotes em paralelo
+ * 4. Se um lote falhar na gravação, refazer mês a mês, isolando o usuário afetado
+ * 5. Salvar o ponto de retomada ao fim de cada rodada de lotes
+ * 6. Informar vazão e falhas
+ *
+ * Os lotes rodam no executor compartilhado de fechamento; o paralelismo do
+ * comando limita quantos lotes desta execução ocupam o executor ao mesmo
+ * tempo. Um lote recusado pelo executor (fila cheia) conta como falha de
+ * cada mês e é tentado de novo com reiniciar = true.
+ *
+ * Sem transação própria: cada lote é confirmado independentemente.
+ *
+ * Alinhado com:
+ * - RN-02: Imutabilidade de Meses Fechados
+ * - RN-07: Cálculo Determinístico do Saldo
+ * - RN-09: Histórico Financeiro Consolidado
+ * - RN-10: Isolamento Total de Dados por Usuário
+ */
+@Service
+public class FecharMesesEmLoteUseCase {
+
+    private static final int LIMITE_FALHAS_DETALHADAS = 1000;
+
+    private final MesFinanceiroRepository mesFinanceiroRepository;
+    private final HistoricoFinanceiroRepository historicoFinanceiroRepository;
+    private final ProgressoFechamentoLoteRepository progressoRepository;
+    private final MetricasMesFinanceiro metricasMesFinanceiro;
+    private final ApplicationEventPublisher eventos;
+    private final TransactionTemplate transacao;
+    private final ExecutorService executorFechamento;
+
+    public FecharMesesEmLoteUseCase(
+            MesFinanceiroRepository mesFinanceiroRepository,
+            HistoricoFinanceiroRepository historicoFinanceiroRepository,
+            ProgressoFechamentoLoteRepository progressoRepository,
+            MetricasMesFinanceiro metricasMesFinanceiro,
+            ApplicationEventPublisher eventos,
+            PlatformTransactionManager gerenciadorTransacoes,
+            @Qualifier("executorFechamento") ExecutorService executorFechamento) {
+        this.mesFinanceiroRepository = mesFinanceiroRepository;
+        this.historicoFinanceiroRepository = historicoFinanceiroRepository;
+        this.progressoRepository = progressoRepository;
+        this.metricasMesFinanceiro = metricasMesFinanceiro;
+        this.eventos = eventos;
+        this.transacao = new TransactionTemplate(gerenciadorTransacoes);
+        this.executorFechamento = executorFechamento;
+    }
+
+    public FecharMesesEmLoteResult executar(FecharMesesEmLoteCommand command) {
+        long inicio = System.nanoTime();
+
+        // 1. Retomar (ou reiniciar) o progresso do período
+        ProgressoFechamentoLote progresso = command.reiniciar()
+            ? ProgressoFechamentoLote.iniciar(command.periodo())
+            : progressoRepository.buscar(command.periodo())
+                .orElseGet(() -> ProgressoFechamentoLote.iniciar(command.periodo()));
+
+        long fechados = 0;
+        long falhas = 0;
+        List<FalhaFechamento> falhasDetalhadas = new ArrayList<>();
+
+        if (!progresso.concluido()) {
+            UUID cursor = progresso.ultimoMesId();
+            boolean esgotado = false;
+            while (!esgotado) {
+                // 2. Uma rodada: até "paralelismo" lotes consecutivos
+                List<List<UUID>> lotes = new ArrayList<>(command.paralelismo());
+                while (lotes.size() < command.paralelismo() && !esgotado) {
+                    List<UUID> ids = mesFinanceiroRepository.listarIdsAbertosPorPeriodo(
+                        command.periodo(), cursor, command.tamanhoLote());
+                    if (!ids.isEmpty()) {
+                        lotes.add(ids);
+                        cursor = ids.get(ids.size() - 1);
+                    }
+                    esgotado = ids.size() < command.tamanhoLote();
+                }
+                if (lotes.isEmpty()) {
+                    break;
+                }
+
+                // 3-4. Processar a rodada em paralelo
+                long fechadosRodada = 0;
+                long falhasRodada = 0;
+                for (ResultadoLote resultado : processarRodada(command.periodo(), lotes)) {
+                    fechadosRodada += resultado.fechados();
+                    falhasRodada += resultado.falhas().size();
+                    for (FalhaFechamento falha : resultado.falhas()) {
+                        if (falhasDetalhadas.size() < LIMITE_FALHAS_DETALHADAS) {
+                            falhasDetalhadas.add(falha);
+                        }
+                    }
+                }
+                fechados += fechadosRodada;
+                falhas += falhasRodada;
+
+                // 5. Ponto de retomada só avança depois que toda a rodada terminou
+                progresso = progresso.avancar(cursor, fechadosRodada, falhasRodada);
+                progressoRepository.salvar(progresso);
+            }
+            progresso = progresso.concluir();
+            progressoRepository.salvar(progresso);
+        }
+
+        // 6. Vazão e falhas
+        Duration duracao = Duration.ofNanos(System.nanoTime() - inicio);
+        double segundos = Math.max(duracao.toNanos(), 1L) / 1_000_000_000.0;
+        return new FecharMesesEmLoteResult(
+            command.periodo(),
+            fechados,
+            falhas,
+            progresso.fechados(),
+            progresso.falhas(),
+            List.copyOf(falhasDetalhadas),
+            duracao,
+            fechados / segundos
+        );
+    }
+
+    private List<ResultadoLote> processarRodada(Periodo periodo, List<List<UUID>> lotes) {
+        List<Future<ResultadoLote>> tarefas = new ArrayList<>(lotes.size());
+        try {
+            for (List<UUID> lote : lotes) {
+                try {
+                    tarefas.add(executorFechamento.submit(() -> fecharLote(periodo, lote)));
+                } catch (RejectedExecutionException e) {
+                    tarefas.add(null);
+                }
+            }
+            List<ResultadoLote> resultados = new ArrayList<>(lotes.size());
+            for (int i = 0; i < tarefas.size(); i++) {
+                Future<ResultadoLote> tarefa = tarefas.get(i);
+                resultados.add(tarefa == null
+                    ? ResultadoLote.recusado(lotes.get(i))
+                    : aguardar(tarefa));
+            }
+            return resultados;
+        } catch (InterruptedException e) {
+            // O executor é compartilhado: cancela só as tarefas desta execução
+            for (Future<ResultadoLote> tarefa : tarefas) {
+                if (tarefa != null) {
+                    tarefa.cancel(true);
+                }
+            }
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Fechamento em lote interrompido", e);
+        }
+    }
+
+    /**
+     * Fecha o lote em uma transação; se ela falhar (ex.: erro de gravação),
+     * refaz mês a mês para que só os meses com problema fiquem de fora.
+     */
+    private ResultadoLote fecharLote(Periodo periodo, List<UUID> lote) {
+        try {
+            return transacao.execute(status -> fecharNaTransacao(periodo, lote));
+        } catch (RuntimeException falhaDoLote) {
+            int fechados = 0;
+            List<FalhaFechamento> falhas = new ArrayList<>();
+            for (UUID mesId : lote) {
+                try {
+                    ResultadoLote resultado = transacao.execute(
+                        status -> fecharNaTransacao(periodo, List.of(mesId)));
+                    fechados += resultado.fechados();
+                    falhas.addAll(resultado.falhas());
+                } catch (RuntimeException e) {
+                    falhas.add(new FalhaFechamento(mesId, e.getMessage()));
+                }
+            }
+            return new ResultadoLote(fechados, falhas);
+        }
+    }
+
+    /**
+     * Carrega o lote, fecha e consolida cada mês (falhas do domínio afetam só
+     * o próprio mês) e persiste tudo na transação corrente. Meses que já não
+     * estão ABERTOS no período são ignorados.
+     */
+    private ResultadoLote fecharNaTransacao(Periodo periodo, List<UUID> ids) {
+        List<MesFinanceiro> meses = mesFinanceiroRepository.buscarPorIds(ids);
+
+        List<MesFinanceiro> fechados = new ArrayList<>(meses.size());
+        List<HistoricoFinanceiro> historicos = new ArrayList<>(meses.size());
+        List<FalhaFechamento> falhas = new ArrayList<>();
+        for (MesFinanceiro mes : meses) {
+            if (mes.getStatus() != MesFinanceiroStatus.ABERTO
+                    || mes.getMes() != periodo.mes()
+                    || mes.getAno() != periodo.ano()) {
+                continue;
+            }
+            try {
+                metricasMesFinanceiro.fechar(mes);
+                historicos.add(HistoricoFinanceiro.consolidar(mes));
+                fechados.add(mes);
+            } catch (RuntimeException e) {
+                falhas.add(new FalhaFechamento(mes.getId(), e.getMessage()));
+            }
+        }
+
+        // Os meses antes das consolidações que os referenciam
+        MesesFinanceirosAlterados alteracoes = MesesFinanceirosAlterados.de(fechados);
+        mesFinanceiroRepository.salvarTodos(fechados);
+        historicoFinanceiroRepository.salvarTodos(historicos);
+
+        // Alterações tratadas só depois do commit do lote
+        eventos.publishEvent(alteracoes);
+
+        return new ResultadoLote(fechados.size(), falhas);
+    }
+
+    private static ResultadoLote aguardar(Future<ResultadoLote> tarefa) throws InterruptedException {
+        try {
+            return tarefa.get();
+        } catch (ExecutionException e) {
+            // fecharLote já trata falhas de negócio e de gravação; aqui só chegam erros graves
+            throw new IllegalStateException("Falha inesperada no fechamento em lote", e.getCause());
+        }
+    }
+
+    private record ResultadoLote(int fechados, List<FalhaFechamento> falhas) {
+
+        static ResultadoLote recusado(List<UUID> lote) {
+            List<FalhaFechamento> falhas = new ArrayList<>(lote.size());
+            for (UUID mesId : lote) {
+                falhas.add(new FalhaFechamento(mesId, "Executor de fechamento sem capacidade para o lote"));
+            }
+            return new ResultadoLote(0, falhas);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.financecore.application.usecase.parcelamento;
+
+import java.util.UUID;
+
+/**
+ * Command para o caso de uso RegistrarParcelamento.
+ * Identifica a despesa PARCELADA e define o número de parcelas; o valor
+ * total é o da despesa (RN-06).
+ */
+public record RegistrarParcelamentoCommand(
+    UUID usuarioId,
+    UUID mesFinanceiroId,
+    UUID despesaId,
+    int numeroParcelas
+) {
+    public RegistrarParcelamentoCommand {
+        if (usuarioId == null) {
+            throw new IllegalArgumentException("Usuário não pode ser nulo");
+        }
+        if (mesFinanceiroId == null) {
+            throw new IllegalArgumentException("Mês financeiro não pode ser nulo");
+        }
+        if (despesaId == null) {
+            throw new IllegalArgumentException("Despesa não pode ser nula");
+        }
+        if (numeroParcelas <= 1) {
+            throw new IllegalArgumentException("Número de parcelas deve ser maior que 1");
+        }
+    }
+}
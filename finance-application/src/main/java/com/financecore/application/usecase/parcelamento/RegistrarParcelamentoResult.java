@@ -0,0 +1,13 @@
+package com.financecore.application.usecase.parcelamento;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Resultado do caso de uso RegistrarParcelamento.
+ * Contém o parcelamento criado e os meses que receberam parcelas, em ordem.
+ */
+public record RegistrarParcelamentoResult(
+    UUID parcelamentoId,
+    List<UUID> mesesFinanceirosIds
+) {}
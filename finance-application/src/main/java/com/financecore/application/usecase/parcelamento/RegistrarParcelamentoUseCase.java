@@ -0,0 +1,108 @@
+package com.financecore.application.usecase.parcelamento;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.financecore.application.exception.DespesaNaoEncontradaException;
+import com.financecore.application.exception.MesFinanceiroNaoEncontradoException;
+import com.financecore.application.exception.OperacaoNaoPermitidaException;
+import com.financecore.application.exception.UsuarioNaoEncontradoException;
+import com.financecore.domain.model.entity.Despesa;
+import com.financecore.domain.model.entity.MesFinanceiro;
+import com.financecore.domain.model.entity.Parcelamento;
+import com.financecore.domain.model.entity.TipoDespesa;
+import com.financecore.domain.model.entity.Usuario;
+import com.financecore.domain.model.event.MesesFinanceirosAlterados;
+import com.financecore.domain.model.repository.MesFinanceiroRepository;
+import com.financecore.domain.model.repository.ParcelamentoRepository;
+import com.financecore.domain.model.repository.UsuarioRepository;
+import com.financecore.domain.model.valueobject.Periodo;
+
+/**
+ * Caso de uso: Registrar Parcelamento (UC-07, RF07).
+ * 
+ * Responsabilidades:
+ * 1. Localizar a despesa PARCELADA de origem
+ * 2. Carregar, em uma consulta, os meses futuros já existentes
+ * 3. Gerar as parcelas com divisão exata do valor da despesa, que passa a
+ *    ser paga pelas parcelas e não entra no saldo do mês de origem,
+ *    criando os meses que faltam com o saldo já descontado das parcelas
+ * 4. Persistir meses e parcelamento em uma única transação, com escrita em lote
+ * 
+ * Alinhado com:
+ * - UC-07: Gerenciar Parcelamentos
+ * - RN-06: Parcelamento como Compromisso Temporal
+ * - RN-10: Isolamento Total de Dados por Usuário
+ */
+@Service
+public class RegistrarParcelamentoUseCase {
+    
+    private final UsuarioRepository usuarioRepository;
+    private final MesFinanceiroRepository mesFinanceiroRepository;
+    private final ParcelamentoRepository parcelamentoRepository;
+    private final ApplicationEventPublisher eventos;
+    
+    public RegistrarParcelamentoUseCase(
+            UsuarioRepository usuarioRepository,
+            MesFinanceiroRepository mesFinanceiroRepository,
+            ParcelamentoRepository parcelamentoRepository,
+            ApplicationEventPublisher eventos) {
+        this.usuarioRepository = usuarioRepository;
+        this.mesFinanceiroRepository = mesFinanceiroRepository;
+        this.parcelamentoRepository = parcelamentoRepository;
+        this.eventos = eventos;
+    }
+    
+    @Transactional
+    public RegistrarParcelamentoResult executar(RegistrarParcelamentoCommand command) {
+        // 1. Carregar usuário e mês de origem, garantindo isolamento (RN-10)
+        Usuario usuario = usuarioRepository.buscarPorId(command.usuarioId())
+            .orElseThrow(() -> UsuarioNaoEncontradoException.comId(command.usuarioId().toString()));
+        
+        MesFinanceiro mesOrigem = mesFinanceiroRepository.buscarPorId(command.mesFinanceiroId())
+            .orElseThrow(() -> MesFinanceiroNaoEncontradoException.comId(command.mesFinanceiroId().toString()));
+        if (!mesOrigem.getUsuarioId().equals(usuario.getId())) {
+            throw new OperacaoNaoPermitidaException("Mês financeiro não pertence ao usuário informado");
+        }
+        
+        // 2. Validar despesa de origem (RN-06)
+        Despesa despesa = mesOrigem.buscarDespesa(command.despesaId())
+            .orElseThrow(() -> DespesaNaoEncontradaException.comId(command.despesaId().toString()));
+        if (despesa.getTipo() != TipoDespesa.PARCELADA) {
+            throw new OperacaoNaoPermitidaException("Somente despesas PARCELADA podem originar parcelamento");
+        }
+        if (parcelamentoRepository.buscarPorDespesaId(despesa.getId()).isPresent()) {
+            throw new OperacaoNaoPermitidaException("Despesa já possui parcelamento");
+        }
+        
+        // 3. O usuário conhece só o mês de origem e os já existentes no
+        //    intervalo das parcelas
+        Periodo primeiroPeriodo = Periodo.de(mesOrigem.getMes(), mesOrigem.getAno()).proximo();
+        usuario.conhecerMeses(List.of(mesOrigem));
+        try (Stream<MesFinanceiro> existentes = mesFinanceiroRepository.percorrerPorUsuarioEPeriodo(
+                usuario.getId(), primeiroPeriodo, primeiroPeriodo.somarMeses(command.numeroParcelas() - 1))) {
+            usuario.conhecerMeses(existentes.toList());
+        }
+        
+        // 4. Gerar parcelas (o domínio cria os meses que faltam e registra
+        //    cada parcela em seu mês)
+        Parcelamento parcelamento = Parcelamento.novo(despesa, command.numeroParcelas());
+        List<MesFinanceiro> meses = parcelamento.gerarParcelas(usuario, mesOrigem);
+        
+        // 5. Persistir em lote (o parcelamento antes das parcelas que o referenciam)
+        Parcelamento parcelamentoSalvo = parcelamentoRepository.salvar(parcelamento);
+        MesesFinanceirosAlterados alteracoes = MesesFinanceirosAlterados.de(meses);
+        mesFinanceiroRepository.salvarTodos(meses);
+        eventos.publishEvent(alteracoes);
+        
+        // 6. Retornar resultado
+        return new RegistrarParcelamentoResult(
+            parcelamentoSalvo.getId(),
+            meses.stream().map(MesFinanceiro::getId).toList()
+        );
+    }
+}
@@ -0,0 +1,23 @@
+package com.financecore.application.usecase.previsao;
+
+import java.util.UUID;
+
+/**
+ * Consulta da projeção de saldos de um usuário para os próximos meses.
+ * O horizonte conta o mês corrente.
+ */
+public record ProjetarSaldosQuery(
+    UUID usuarioId,
+    int horizonte
+) {
+    public static final int HORIZONTE_MAXIMO = 120;
+
+    public ProjetarSaldosQuery {
+        if (usuarioId == null) {
+            throw new IllegalArgumentException("Usuário não pode ser nulo");
+        }
+        if (horizonte <= 0 || horizonte > HORIZONTE_MAXIMO) {
+            throw new IllegalArgumentException("Horizonte deve estar entre 1 e " + HORIZONTE_MAXIMO + " meses");
+        }
+    }
+}
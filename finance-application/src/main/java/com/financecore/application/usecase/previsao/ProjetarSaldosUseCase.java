@@ -0,0 +1,45 @@
+package com.financecore.application.usecase.previsao;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.financecore.application.dto.output.ProjecaoSaldosOutputDTO;
+import com.financecore.application.service.PrevisaoSaldosService;
+
+/**
+ * Caso de uso: Projetar Saldos.
+ * 
+ * Responsabilidades:
+ * 1. Partir do mês ABERTO corrente do usuário
+ * 2. Projetar o saldo final de cada mês do horizonte com lançamentos
+ *    registrados, parcelas futuras e recorrências FIXA
+ * 3. Reaproveitar a projeção mantida entre consultas, atualizada a cada lançamento
+ * 
+ * Alinhado com:
+ * - RN-05: Recorrências
+ * - RN-07: Cálculo Determinístico de Saldo
+ * - RN-10: Isolamento Total de Dados por Usuário
+ */
+@Service
+public class ProjetarSaldosUseCase {
+    
+    private final PrevisaoSaldosService previsaoSaldosService;
+    
+    public ProjetarSaldosUseCase(PrevisaoSaldosService previsaoSaldosService) {
+        this.previsaoSaldosService = previsaoSaldosService;
+    }
+    
+    @Transactional(readOnly = true)
+    public ProjecaoSaldosOutputDTO executar(ProjetarSaldosQuery query) {
+        return new ProjecaoSaldosOutputDTO(
+            query.usuarioId(),
+            previsaoSaldosService.projetar(query.usuarioId(), query.horizonte()).stream()
+                .map(mes -> new ProjecaoSaldosOutputDTO.MesProjetado(
+                    mes.periodo().mes(),
+                    mes.periodo().ano(),
+                    mes.fluxo().toBigDecimal(),
+                    mes.saldoFinal().toBigDecimal()))
+                .toList()
+        );
+    }
+}
@@ -0,0 +1,22 @@
+package com.financecore.application.usecase.relatorio;
+
+import com.financecore.domain.model.valueobject.Periodo;
+
+/**
+ * Recebe o andamento da geração de um relatório (UC-10), um mês por vez.
+ *
+ * Chamado na thread que gera o relatório, depois de cada mês acumulado.
+ * Lançar {@link java.util.concurrent.CancellationException} interrompe a
+ * geração.
+ */
+@FunctionalInterface
+public interface AcompanhamentoRelatorio {
+
+    AcompanhamentoRelatorio NENHUM = (periodo, consolidado) -> { };
+
+    /**
+     * @param consolidado true se o mês entrou pela consolidação do
+     *                    fechamento (RN-09), false se pelo agregado
+     */
+    void mesAcumulado(Periodo periodo, boolean consolidado);
+}
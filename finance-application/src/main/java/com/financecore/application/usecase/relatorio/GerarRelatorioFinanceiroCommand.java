@@ -0,0 +1,27 @@
+package com.financecore.application.usecase.relatorio;
+
+import java.util.UUID;
+
+import com.financecore.domain.model.valueobject.Periodo;
+
+/**
+ * Command para o caso de uso GerarRelatorioFinanceiro.
+ * Define o usuário e o intervalo de períodos (inclusive).
+ */
+public record GerarRelatorioFinanceiroCommand(
+    UUID usuarioId,
+    Periodo inicio,
+    Periodo fim
+) {
+    public GerarRelatorioFinanceiroCommand {
+        if (usuarioId == null) {
+            throw new IllegalArgumentException("Usuário não pode ser nulo");
+        }
+        if (inicio == null || fim == null) {
+            throw new IllegalArgumentException("Período não pode ser nulo");
+        }
+        if (fim.compareTo(inicio) < 0) {
+            throw new IllegalArgumentException("Período final não pode ser anterior ao inicial");
+        }
+    }
+}
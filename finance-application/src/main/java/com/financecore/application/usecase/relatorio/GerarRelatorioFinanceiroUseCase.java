@@ -0,0 +1,87 @@
+package com.financecore.application.usecase.relatorio;
+
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.financecore.application.dto.output.RelatorioFinanceiroOutputDTO;
+import com.financecore.application.mapper.RelatorioFinanceiroMapper;
+import com.financecore.domain.model.entity.ConsolidadorRelatorio;
+import com.financecore.domain.model.entity.HistoricoFinanceiro;
+import com.financecore.domain.model.entity.MesFinanceiro;
+import com.financecore.domain.model.entity.RelatorioFinanceiro;
+import com.financecore.domain.model.repository.HistoricoFinanceiroRepository;
+import com.financecore.domain.model.repository.MesFinanceiroRepository;
+import com.financecore.domain.model.valueobject.Periodo;
+
+/**
+ * Caso de uso: Gerar Relatório Financeiro (UC-10, RF11).
+ * 
+ * Responsabilidades:
+ * 1. Acumular as consolidações dos meses fechados do intervalo (RN-09)
+ * 2. Percorrer, sob demanda, os meses ainda não consolidados
+ * 3. Produzir o relatório sem manter o intervalo inteiro em memória
+ * 
+ * Alinhado com:
+ * - RN-09: Histórico Financeiro Consolidado
+ * - RN-10: Isolamento Total de Dados por Usuário
+ */
+@Service
+public class GerarRelatorioFinanceiroUseCase {
+    
+    private final HistoricoFinanceiroRepository historicoFinanceiroRepository;
+    private final MesFinanceiroRepository mesFinanceiroRepository;
+    
+    public GerarRelatorioFinanceiroUseCase(
+            HistoricoFinanceiroRepository historicoFinanceiroRepository,
+            MesFinanceiroRepository mesFinanceiroRepository) {
+        this.historicoFinanceiroRepository = historicoFinanceiroRepository;
+        this.mesFinanceiroRepository = mesFinanceiroRepository;
+    }
+    
+    @Transactional(readOnly = true)
+    public RelatorioFinanceiroOutputDTO executar(GerarRelatorioFinanceiroCommand command) {
+        return RelatorioFinanceiroMapper.toOutputDTO(gerar(command));
+    }
+    
+    /**
+     * Gera o relatório no domínio, para consumidores que precisam da entidade
+     * (exportação, por exemplo).
+     */
+    @Transactional(readOnly = true)
+    public RelatorioFinanceiro gerar(GerarRelatorioFinanceiroCommand command) {
+        return gerar(command, AcompanhamentoRelatorio.NENHUM);
+    }
+    
+    /**
+     * Gera o relatório informando o andamento a cada mês acumulado. Usado pela
+     * geração assíncrona, que acompanha o progresso e pode cancelar.
+     */
+    @Transactional(readOnly = true)
+    public RelatorioFinanceiro gerar(GerarRelatorioFinanceiroCommand command, AcompanhamentoRelatorio acompanhamento) {
+        Objects.requireNonNull(acompanhamento, "acompanhamento não pode ser nulo");
+        ConsolidadorRelatorio consolidador =
+            new ConsolidadorRelatorio(command.usuarioId(), command.inicio(), command.fim());
+        
+        // 1. Meses fechados: uma linha consolidada por mês
+        for (HistoricoFinanceiro historico : historicoFinanceiroRepository
+                .listarPorUsuarioEPeriodo(command.usuarioId(), command.inicio(), command.fim())) {
+            consolidador.acumular(historico);
+            acompanhamento.mesAcumulado(historico.getPeriodo(), true);
+        }
+        
+        // 2. Meses sem consolidação: carregados e descartados um a um
+        try (Stream<MesFinanceiro> meses = mesFinanceiroRepository
+                .percorrerNaoConsolidados(command.usuarioId(), command.inicio(), command.fim())) {
+            meses.forEach(mes -> {
+                consolidador.acumular(mes);
+                acompanhamento.mesAcumulado(Periodo.de(mes.getMes(), mes.getAno()), false);
+            });
+        }
+        
+        // 3. Concluir
+        return consolidador.concluir();
+    }
+}
@@ -0,0 +1,11 @@
+package com.financecore.application.usecase.relatorio;
+
+/**
+ * Prioridade de uma solicitação de relatório na fila de geração.
+ * Solicitações de mesma prioridade são atendidas por ordem de chegada.
+ */
+public enum PrioridadeRelatorio {
+    ALTA,
+    NORMAL,
+    BAIXA
+}
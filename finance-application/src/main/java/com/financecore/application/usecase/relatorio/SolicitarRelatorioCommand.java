@@ -0,0 +1,35 @@
+package com.financecore.application.usecase.relatorio;
+
+import java.util.UUID;
+
+import com.financecore.domain.model.valueobject.Periodo;
+
+/**
+ * Command para solicitar a geração assíncrona de um relatório financeiro.
+ * Define o usuário, o intervalo de períodos (inclusive) e a prioridade na fila.
+ */
+public record SolicitarRelatorioCommand(
+    UUID usuarioId,
+    Periodo inicio,
+    Periodo fim,
+    PrioridadeRelatorio prioridade
+) {
+    public SolicitarRelatorioCommand {
+        if (prioridade == null) {
+            throw new IllegalArgumentException("Prioridade não pode ser nula");
+        }
+        // Demais validações iguais às da geração síncrona
+        new GerarRelatorioFinanceiroCommand(usuarioId, inicio, fim);
+    }
+
+    public GerarRelatorioFinanceiroCommand relatorio() {
+        return new GerarRelatorioFinanceiroCommand(usuarioId, inicio, fim);
+    }
+
+    /**
+     * Quantidade de meses do intervalo.
+     */
+    public int totalMeses() {
+        return inicio.mesesAte(fim) + 1;
+    }
+}
@@ -2,10 +2,14 @@ package com.financecore.application.usecase.usuario;
 
 import java.util.UUID;
 
+import com.financecore.application.dto.output.UsuarioOutputDTO;
+
 /**
  * Resultado do caso de uso CriarUsuario.
- * Contém o identificador do usuário criado.
+ * Contém o identificador e os dados do usuário criado, montados a partir do
+ * agregado salvo (sem nova leitura).
  */
 public record CriarUsuarioResult(
-    UUID usuarioId
-) {}
\ No newline at end of file
+    UUID usuarioId,
+    UsuarioOutputDTO usuario
+) {}
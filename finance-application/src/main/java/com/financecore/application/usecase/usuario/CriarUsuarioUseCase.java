@@ -3,6 +3,7 @@ package com.financecore.application.usecase.usuario;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.financecore.application.mapper.UsuarioMapper;
 import com.financecore.domain.model.entity.PreferenciasSistema;
 import com.financecore.domain.model.entity.TemaVisual;
 import com.financecore.domain.model.entity.Usuario;
@@ -15,7 +16,7 @@ import com.financecore.domain.model.repository.UsuarioRepository;
  * 1. Receber dados do usuário
  * 2. Criar entidades de domínio (Usuario e PreferenciasSistema)
  * 3. Persistir através do repositório
- * 4. Retornar resultado com ID do usuário criado
+ * 4. Retornar resultado com ID e dados do usuário criado
  * 
  * Alinhado com:
  * - UC-01: Cadastro de Usuário
@@ -47,6 +48,6 @@ public class CriarUsuarioUseCase {
         Usuario usuarioSalvo = usuarioRepository.salvar(usuario);
         
         // 4. Retornar resultado
-        return new CriarUsuarioResult(usuarioSalvo.getId());
+        return new CriarUsuarioResult(usuarioSalvo.getId(), UsuarioMapper.toOutputDTO(usuarioSalvo));
     }
 }
\ No newline at end of file
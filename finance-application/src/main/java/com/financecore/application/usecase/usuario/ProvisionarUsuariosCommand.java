@@ -0,0 +1,32 @@
+package com.financecore.application.usecase.usuario;
+
+import java.util.List;
+
+import com.financecore.domain.model.entity.TemaVisual;
+
+/**
+ * Command para o caso de uso ProvisionarUsuarios.
+ *
+ * Os itens não são validados aqui: cada um é validado individualmente, e um
+ * item inválido não impede a criação dos demais.
+ */
+public record ProvisionarUsuariosCommand(
+    List<Item> usuarios
+) {
+    public ProvisionarUsuariosCommand {
+        if (usuarios == null || usuarios.isEmpty()) {
+            throw new IllegalArgumentException("Lista de usuários não pode ser vazia");
+        }
+        usuarios = List.copyOf(usuarios);
+    }
+
+    /**
+     * Dados de um usuário a criar, como em CriarUsuarioCommand.
+     */
+    public record Item(
+        String nome,
+        TemaVisual tema,
+        String idioma,
+        boolean notificacoesAtivas
+    ) {}
+}
@@ -0,0 +1,31 @@
+package com.financecore.application.usecase.usuario;
+
+import java.util.List;
+
+import com.financecore.application.dto.output.UsuarioOutputDTO;
+
+/**
+ * Resultado do caso de uso ProvisionarUsuarios: um item por usuário
+ * solicitado, na mesma ordem.
+ */
+public record ProvisionarUsuariosResult(
+    List<ItemProvisionado> itens
+) {
+    public long criados() {
+        return itens.stream().filter(ItemProvisionado::criado).count();
+    }
+
+    public long falhas() {
+        return itens.size() - criados();
+    }
+
+    /**
+     * Usuário criado ou, se não foi possível, o motivo.
+     */
+    public record ItemProvisionado(int indice, UsuarioOutputDTO usuario, String erro) {
+
+        public boolean criado() {
+            return usuario != null;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.financecore.application.usecase.usuario;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.financecore.application.mapper.UsuarioMapper;
+import com.financecore.application.usecase.usuario.ProvisionarUsuariosResult.ItemProvisionado;
+import com.financecore.domain.model.entity.PreferenciasSistema;
+import com.financecore.domain.model.entity.Usuario;
+import com.financecore.domain.model.repository.UsuarioRepository;
+
+/**
+ * Caso de uso: Provisionar Usuários em Lote (UC-01, RF01).
+ *
+ * Responsabilidades:
+ * 1. Validar cada item e criar Usuario e PreferenciasSistema
+ * 2. Persistir todos os usuários válidos em uma única escrita em lote
+ * 3. Retornar um resultado por item, montado a partir dos agregados salvos
+ *
+ * Itens inválidos são reportados sem desfazer os demais. Uma falha na
+ * gravação desfaz o lote inteiro; quem chama decide como reprocessá-lo
+ * (ver UsuarioApplicationService).
+ *
+ * Alinhado com:
+ * - UC-01: Cadastro de Usuário
+ * - RN-11: Persistência de Preferências do Sistema
+ */
+@Service
+public class ProvisionarUsuariosUseCase {
+
+    private final UsuarioRepository usuarioRepository;
+
+    public ProvisionarUsuariosUseCase(UsuarioRepository usuarioRepository) {
+        this.usuarioRepository = usuarioRepository;
+    }
+
+    @Transactional
+    public ProvisionarUsuariosResult executar(ProvisionarUsuariosCommand command) {
+        List<ProvisionarUsuariosCommand.Item> itens = command.usuarios();
+        ItemProvisionado[] resultados = new ItemProvisionado[itens.size()];
+        List<Usuario> validos = new ArrayList<>(itens.size());
+        List<Integer> indicesValidos = new ArrayList<>(itens.size());
+
+        // 1. Validar e criar os agregados, item a item
+        for (int i = 0; i < itens.size(); i++) {
+            ProvisionarUsuariosCommand.Item item = itens.get(i);
+            try {
+                CriarUsuarioCommand dados = new CriarUsuarioCommand(
+                    item.nome(), item.tema(), item.idioma(), item.notificacoesAtivas());
+                PreferenciasSistema preferencias = new PreferenciasSistema(
+                    dados.tema(), dados.idioma(), dados.notificacoesAtivas());
+                validos.add(Usuario.novo(dados.nome(), preferencias));
+                indicesValidos.add(i);
+            } catch (IllegalArgumentException | NullPointerException e) {
+                resultados[i] = new ItemProvisionado(i, null, e.getMessage());
+            }
+        }
+
+        // 2. Persistir em lote
+        if (!validos.isEmpty()) {
+            usuarioRepository.salvarTodos(validos);
+        }
+
+        // 3. Resultados a partir dos agregados salvos
+        for (int v = 0; v < validos.size(); v++) {
+            int indice = indicesValidos.get(v);
+            resultados[indice] = new ItemProvisionado(indice, UsuarioMapper.toOutputDTO(validos.get(v)), null);
+        }
+        return new ProvisionarUsuariosResult(List.of(resultados));
+    }
+}
@@ -0,0 +1,106 @@
+package com.financecore.application.usecase.importacao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.financecore.application.usecase.importacao.LeitorExtrato.Registro;
+import com.financecore.domain.model.valueobject.Dinheiro;
+
+class LeitorExtratoTest {
+
+    @Test
+    void valoresComAgrupamentoDoPtBr() {
+        assertEquals(centavos(123_456), LeitorExtrato.interpretarValor("1.234,56"));
+        assertEquals(centavos(-123_456), LeitorExtrato.interpretarValor("-1.234,56"));
+        assertEquals(centavos(1_000), LeitorExtrato.interpretarValor("R$ 10,00"));
+        assertEquals(centavos(150), LeitorExtrato.interpretarValor("1,5"));
+        assertEquals(centavos(123_456_789), LeitorExtrato.interpretarValor("1.234.567,89"));
+    }
+
+    @Test
+    void pontoSeguidoDeTresDigitosEhSeparadorDeMilhar() {
+        assertEquals(centavos(123_400), LeitorExtrato.interpretarValor("1.234"));
+        assertEquals(centavos(123_456_700), LeitorExtrato.interpretarValor("1.234.567"));
+        assertEquals(centavos(-2_500_000), LeitorExtrato.interpretarValor("-25.000"));
+    }
+
+    @Test
+    void pontoComOutraQuantidadeDeDigitosEhDecimal() {
+        assertEquals(centavos(123_456), LeitorExtrato.interpretarValor("1234.56"));
+        assertEquals(centavos(1_250), LeitorExtrato.interpretarValor("12.5"));
+        assertEquals(centavos(-4_990), LeitorExtrato.interpretarValor("-49.90"));
+    }
+
+    @Test
+    void comVirgulaEPontoOUltimoSeparadorEhODecimal() {
+        assertEquals(centavos(123_456), LeitorExtrato.interpretarValor("1,234.56"));
+        assertEquals(centavos(123_456_700), LeitorExtrato.interpretarValor("1,234,567"));
+    }
+
+    @Test
+    void valorAusenteOuComCasasDemaisEhRejeitado() {
+        assertThrows(IllegalArgumentException.class, () -> LeitorExtrato.interpretarValor(""));
+        assertThrows(IllegalArgumentException.class, () -> LeitorExtrato.interpretarValor("R$"));
+        assertThrows(ArithmeticException.class, () -> LeitorExtrato.interpretarValor("1,2345"));
+    }
+
+    @Test
+    void csvComPontoEVirgulaCabecalhoEAspas() throws IOException {
+        String conteudo = """
+                Data;Descrição;Valor
+                05/03/2024;"Mercado; filial 2";-1.234,56
+
+                2024-03-06;Salário;5.000
+                """;
+        LeitorExtrato leitor = LeitorExtrato.para(FormatoExtrato.CSV);
+
+        List<LancamentoExtrato> lancamentos = ler(leitor, conteudo);
+
+        assertEquals(List.of(
+                new LancamentoExtrato(2, LocalDate.of(2024, 3, 5), centavos(-123_456), "Mercado; filial 2"),
+                new LancamentoExtrato(4, LocalDate.of(2024, 3, 6), centavos(500_000), "Salário")
+        ), lancamentos);
+    }
+
+    @Test
+    void ofxSgmlComValorDecimalEmPonto() throws IOException {
+        String conteudo = """
+                OFXHEADER:100
+                <OFX><BANKTRANLIST>
+                <STMTTRN>
+                <DTPOSTED>20240307120000[-3:BRT]
+                <TRNAMT>-1234.56
+                <MEMO>Farmácia
+                </STMTTRN>
+                <STMTTRN><DTPOSTED>20240308<TRNAMT>1.500<NAME>Pix recebido</STMTTRN>
+                </BANKTRANLIST></OFX>
+                """;
+        LeitorExtrato leitor = LeitorExtrato.para(FormatoExtrato.OFX);
+
+        List<LancamentoExtrato> lancamentos = ler(leitor, conteudo);
+
+        assertEquals(List.of(
+                new LancamentoExtrato(3, LocalDate.of(2024, 3, 7), centavos(-123_456), "Farmácia"),
+                new LancamentoExtrato(8, LocalDate.of(2024, 3, 8), centavos(150_000), "Pix recebido")
+        ), lancamentos);
+    }
+
+    private static List<LancamentoExtrato> ler(LeitorExtrato leitor, String conteudo) throws IOException {
+        List<Registro> registros = new ArrayList<>();
+        leitor.separar(new BufferedReader(new StringReader(conteudo)), registros::add);
+        return registros.stream().map(leitor::interpretar).toList();
+    }
+
+    private static Dinheiro centavos(long centavos) {
+        return Dinheiro.deCentavos(centavos);
+    }
+}
@@ -0,0 +1,41 @@
+package com.financecore.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Ponto de entrada dos benchmarks (RNF03).
+ *
+ * Aceita as mesmas opções de linha de comando do JMH. Quando o formato ou o
+ * arquivo de resultado não são informados, grava JSON em target/jmh-result.json
+ * para permitir comparação entre releases.
+ *
+ * Uso: java -jar finance-benchmarks/target/benchmarks.jar [opções JMH]
+ */
+public final class BenchmarkRunner {
+
+    private static final String RESULTADO_PADRAO = "target/jmh-result.json";
+
+    private BenchmarkRunner() {
+        // Classe utilitária, não instanciável
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions linhaDeComando = new CommandLineOptions(args);
+        ChainedOptionsBuilder opcoes = new OptionsBuilder().parent(linhaDeComando);
+
+        if (!linhaDeComando.getResultFormat().hasValue()) {
+            opcoes.resultFormat(ResultFormatType.JSON);
+        }
+        if (!linhaDeComando.getResult().hasValue()) {
+            opcoes.result(RESULTADO_PADRAO);
+        }
+
+        new Runner(opcoes.build()).run();
+    }
+}
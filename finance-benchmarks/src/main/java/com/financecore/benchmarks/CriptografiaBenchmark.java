@@ -0,0 +1,112 @@
+package com.financecore.benchmarks;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.financecore.infrastructure.criptografia.ChavesCriptografia;
+import com.financecore.infrastructure.criptografia.CifradorArquivos;
+import com.financecore.infrastructure.criptografia.CifradorColunas;
+import com.financecore.infrastructure.criptografia.CifradorColunas.Coluna;
+
+/**
+ * Custo da criptografia AES-GCM (RNF02) por coluna gravada e lida e por
+ * arquivo exportado, para comparar com a latência de escrita (RNF03).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CriptografiaBenchmark {
+
+    @Param({"1024", "1048576"})
+    public int bytesArquivo;
+
+    private final UUID id = UUID.randomUUID();
+    private final String descricao = "Supermercado - compra do mês";
+
+    private CifradorColunas colunas;
+    private CifradorArquivos arquivos;
+    private byte[] descricaoCifrada;
+    private byte[] conteudoArquivo;
+
+    @Setup(Level.Trial)
+    public void prepararChaves() {
+        byte[] mestra = new byte[32];
+        ThreadLocalRandom.current().nextBytes(mestra);
+        ChavesCriptografia chaves = ChavesCriptografia.de("1:" + Base64.getEncoder().encodeToString(mestra), 1);
+        colunas = new CifradorColunas(chaves);
+        arquivos = new CifradorArquivos(chaves);
+        descricaoCifrada = colunas.cifrarTexto(id, Coluna.DESCRICAO, descricao);
+        conteudoArquivo = new byte[bytesArquivo];
+        ThreadLocalRandom.current().nextBytes(conteudoArquivo);
+    }
+
+    // Concorrente: cada thread usa o próprio Cipher
+    @Benchmark
+    @Threads(4)
+    public byte[] cifrarDescricao() {
+        return colunas.cifrarTexto(id, Coluna.DESCRICAO, descricao);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String decifrarDescricao() {
+        return colunas.decifrarTexto(id, Coluna.DESCRICAO, descricaoCifrada);
+    }
+
+    @Benchmark
+    public long cifrarArquivo() throws IOException {
+        Descarte descarte = new Descarte();
+        try (WritableByteChannel canal = arquivos.cifrar(descarte)) {
+            canal.write(ByteBuffer.wrap(conteudoArquivo));
+        }
+        return descarte.bytes;
+    }
+
+    /**
+     * Destino que só conta os bytes, para medir apenas a cifragem.
+     */
+    private static final class Descarte implements WritableByteChannel {
+
+        private long bytes;
+
+        @Override
+        public int write(ByteBuffer origem) {
+            int quantidade = origem.remaining();
+            origem.position(origem.limit());
+            bytes += quantidade;
+            return quantidade;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+            // nada a liberar
+        }
+    }
+}
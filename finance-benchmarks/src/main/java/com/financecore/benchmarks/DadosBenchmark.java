@@ -0,0 +1,133 @@
+package com.financecore.benchmarks;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.financecore.domain.model.entity.Categoria;
+import com.financecore.domain.model.entity.Despesa;
+import com.financecore.domain.model.entity.MesFinanceiro;
+import com.financecore.domain.model.entity.MesFinanceiroStatus;
+import com.financecore.domain.model.entity.Parcela;
+import com.financecore.domain.model.entity.Parcelamento;
+import com.financecore.domain.model.entity.PreferenciasSistema;
+import com.financecore.domain.model.entity.Receita;
+import com.financecore.domain.model.entity.TemaVisual;
+import com.financecore.domain.model.entity.TipoDespesa;
+import com.financecore.domain.model.entity.TipoReceita;
+import com.financecore.domain.model.entity.Usuario;
+import com.financecore.domain.model.valueobject.Dinheiro;
+
+/**
+ * Geração determinística de dados para os benchmarks.
+ */
+final class DadosBenchmark {
+
+    static final int ANO_INICIAL = 2000;
+
+    private static final Categoria MERCADO = Categoria.nova("Mercado", true);
+    private static final Categoria LAZER = Categoria.nova("Lazer", false);
+
+    private DadosBenchmark() {
+        // Classe utilitária, não instanciável
+    }
+
+    static PreferenciasSistema preferencias() {
+        return new PreferenciasSistema(TemaVisual.ESCURO, "pt-BR", true);
+    }
+
+    /**
+     * Lançamentos de um mês com a proporção típica: 10% receitas,
+     * 80% despesas e 10% parcelas.
+     */
+    static Lancamentos lancamentos(UUID mesFinanceiroId, int quantidade) {
+        LocalDate data = LocalDate.of(2024, 1, 1);
+        UUID parcelamentoId = UUID.randomUUID();
+        List<Receita> receitas = new ArrayList<>();
+        List<Despesa> despesas = new ArrayList<>();
+        List<Parcela> parcelas = new ArrayList<>();
+
+        for (int i = 0; i < quantidade; i++) {
+            Dinheiro valor = Dinheiro.deCentavos(100L + (i * 37L) % 50_000L);
+            int tipo = i % 10;
+            if (tipo == 0) {
+                receitas.add(Receita.nova(mesFinanceiroId, "Receita " + i, valor, TipoReceita.VARIAVEL, data));
+            } else if (tipo == 1) {
+                parcelas.add(Parcela.nova(parcelamentoId, mesFinanceiroId, i + 1, valor));
+            } else {
+                despesas.add(Despesa.nova(
+                        mesFinanceiroId,
+                        i % 2 == 0 ? MERCADO : LAZER,
+                        "Despesa " + i,
+                        valor,
+                        data,
+                        TipoDespesa.PONTUAL,
+                        "CARTAO"
+                ));
+            }
+        }
+        return new Lancamentos(receitas, despesas, parcelas);
+    }
+
+    static MesFinanceiro mesAberto(UUID usuarioId, Lancamentos lancamentos) {
+        return MesFinanceiro.reconstituir(
+                UUID.randomUUID(),
+                usuarioId,
+                1,
+                2024,
+                MesFinanceiroStatus.ABERTO,
+                Dinheiro.deCentavos(1_000_000L),
+                null,
+                lancamentos.receitas(),
+                lancamentos.despesas(),
+                lancamentos.parcelas()
+        );
+    }
+
+    /**
+     * Histórico de meses consecutivos já fechados a partir de janeiro/2000.
+     */
+    static List<MesFinanceiro> historicoFechado(UUID usuarioId, int quantidadeMeses) {
+        List<MesFinanceiro> meses = new ArrayList<>(quantidadeMeses);
+        for (int i = 0; i < quantidadeMeses; i++) {
+            meses.add(MesFinanceiro.reconstituir(
+                    UUID.randomUUID(),
+                    usuarioId,
+                    i % 12 + 1,
+                    ANO_INICIAL + i / 12,
+                    MesFinanceiroStatus.FECHADO,
+                    Dinheiro.ZERO,
+                    Dinheiro.ZERO,
+                    List.of(),
+                    List.of(),
+                    List.of()
+            ));
+        }
+        return meses;
+    }
+
+    static Usuario usuario(UUID id, List<MesFinanceiro> meses) {
+        return new Usuario(id, "Usuário Benchmark", LocalDateTime.of(2000, 1, 1, 0, 0), preferencias(), meses);
+    }
+
+    static Parcelamento parcelamento(int numeroParcelas) {
+        UUID id = UUID.randomUUID();
+        UUID mesFinanceiroId = UUID.randomUUID();
+        long valorParcela = 12_345L;
+        List<Parcela> parcelas = new ArrayList<>(numeroParcelas);
+        for (int i = 1; i <= numeroParcelas; i++) {
+            parcelas.add(Parcela.nova(id, mesFinanceiroId, i, Dinheiro.deCentavos(valorParcela)));
+        }
+        return new Parcelamento(
+                id,
+                UUID.randomUUID(),
+                Dinheiro.deCentavos(valorParcela * numeroParcelas),
+                numeroParcelas,
+                parcelas
+        );
+    }
+
+    record Lancamentos(List<Receita> receitas, List<Despesa> despesas, List<Parcela> parcelas) {}
+}
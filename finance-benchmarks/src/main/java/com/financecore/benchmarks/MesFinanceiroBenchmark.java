@@ -0,0 +1,88 @@
+package com.financecore.benchmarks;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.financecore.domain.model.entity.MesFinanceiro;
+import com.financecore.domain.model.valueobject.Dinheiro;
+
+/**
+ * Fechamento (RN-07) e saldo parcial (RF08) de um MesFinanceiro
+ * com diferentes volumes de lançamentos.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MesFinanceiroBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int itens;
+
+    private final UUID usuarioId = UUID.randomUUID();
+
+    private DadosBenchmark.Lancamentos lancamentos;
+    private MesFinanceiro mesAberto;
+
+    @Setup(Level.Trial)
+    public void prepararLancamentos() {
+        lancamentos = DadosBenchmark.lancamentos(UUID.randomUUID(), itens);
+        mesAberto = DadosBenchmark.mesAberto(usuarioId, lancamentos);
+    }
+
+    // fechar() leva nanossegundos e altera o agregado: cada chamada do lote consome um mês ABERTO novo
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 5, batchSize = MesesParaFechar.LOTE)
+    @Measurement(iterations = 10, batchSize = MesesParaFechar.LOTE)
+    public Dinheiro fechar(MesesParaFechar meses) {
+        MesFinanceiro mes = meses.proximo();
+        mes.fechar();
+        return mes.getSaldoFinal();
+    }
+
+    @Benchmark
+    public Dinheiro saldoParcial() {
+        return mesAberto.saldoParcial();
+    }
+
+    /**
+     * Meses ABERTO montados antes de cada iteração, fora da medição. O lote
+     * tem o tamanho do batchSize, então cada mês é fechado uma única vez.
+     */
+    @State(Scope.Thread)
+    public static class MesesParaFechar {
+
+        static final int LOTE = 100;
+
+        private final MesFinanceiro[] meses = new MesFinanceiro[LOTE];
+        private int proximo;
+
+        @Setup(Level.Iteration)
+        public void preparar(MesFinanceiroBenchmark benchmark) {
+            for (int i = 0; i < LOTE; i++) {
+                meses[i] = DadosBenchmark.mesAberto(benchmark.usuarioId, benchmark.lancamentos);
+            }
+            proximo = 0;
+        }
+
+        MesFinanceiro proximo() {
+            return meses[proximo++];
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.financecore.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.financecore.domain.model.entity.Parcelamento;
+
+/**
+ * Validação das invariantes de Parcelamento (RN-06).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParcelamentoBenchmark {
+
+    @Param({"2", "12", "48", "360"})
+    public int numeroParcelas;
+
+    private Parcelamento parcelamento;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        parcelamento = DadosBenchmark.parcelamento(numeroParcelas);
+    }
+
+    @Benchmark
+    public Parcelamento validarConsistencia() {
+        parcelamento.validarConsistencia();
+        return parcelamento;
+    }
+}
@@ -0,0 +1,92 @@
+package com.financecore.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.financecore.application.dto.output.UsuarioOutputDTO;
+import com.financecore.application.mapper.UsuarioMapper;
+import com.financecore.application.usecase.usuario.CriarUsuarioCommand;
+import com.financecore.application.usecase.usuario.CriarUsuarioResult;
+import com.financecore.application.usecase.usuario.CriarUsuarioUseCase;
+import com.financecore.domain.model.entity.TemaVisual;
+import com.financecore.domain.model.entity.Usuario;
+import com.financecore.domain.model.repository.UsuarioRepository;
+
+/**
+ * Caminhos da camada de aplicação para usuários (UC-01):
+ * mapeamento para DTO e caso de uso de criação sobre repositório em memória.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UsuarioApplicationBenchmark {
+
+    private final CriarUsuarioCommand command =
+            new CriarUsuarioCommand("Usuário Benchmark", TemaVisual.CLARO, "pt-BR", true);
+
+    private Usuario usuario;
+    private UsuarioRepositoryEmMemoria repositorio;
+    private CriarUsuarioUseCase criarUsuarioUseCase;
+
+    @Setup(Level.Trial)
+    public void prepararUsuario() {
+        usuario = DadosBenchmark.usuario(UUID.randomUUID(), List.of());
+    }
+
+    // Evita que o repositório em memória cresça indefinidamente durante a iteração
+    @Setup(Level.Iteration)
+    public void prepararCasoDeUso() {
+        repositorio = new UsuarioRepositoryEmMemoria();
+        criarUsuarioUseCase = new CriarUsuarioUseCase(repositorio);
+    }
+
+    @Benchmark
+    public UsuarioOutputDTO toOutputDTO() {
+        return UsuarioMapper.toOutputDTO(usuario);
+    }
+
+    @Benchmark
+    public CriarUsuarioResult criarUsuario() {
+        return criarUsuarioUseCase.executar(command);
+    }
+
+    static final class UsuarioRepositoryEmMemoria implements UsuarioRepository {
+
+        private final Map<UUID, Usuario> usuarios = new ConcurrentHashMap<>();
+
+        @Override
+        public Usuario salvar(Usuario usuario) {
+            usuarios.put(usuario.getId(), usuario);
+            return usuario;
+        }
+
+        @Override
+        public Optional<Usuario> buscarPorId(UUID id) {
+            return Optional.ofNullable(usuarios.get(id));
+        }
+
+        @Override
+        public boolean existePorId(UUID id) {
+            return usuarios.containsKey(id);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.financecore.benchmarks;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.financecore.domain.model.entity.MesFinanceiro;
+import com.financecore.domain.model.entity.Usuario;
+import com.financecore.domain.model.valueobject.Dinheiro;
+
+/**
+ * Criação do próximo mês financeiro (RN-01) para usuários
+ * com históricos longos.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UsuarioBenchmark {
+
+    @Param({"12", "120", "600", "1200"})
+    public int mesesHistorico;
+
+    private final UUID usuarioId = UUID.randomUUID();
+
+    private List<MesFinanceiro> historico;
+    private int proximoMes;
+    private int proximoAno;
+
+    @Setup(Level.Trial)
+    public void prepararHistorico() {
+        historico = DadosBenchmark.historicoFechado(usuarioId, mesesHistorico);
+        proximoMes = mesesHistorico % 12 + 1;
+        proximoAno = DadosBenchmark.ANO_INICIAL + mesesHistorico / 12;
+    }
+
+    // criarMesFinanceiro() altera o agregado: cada chamada do lote parte de um usuário com o mesmo histórico
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 5, batchSize = Usuarios.LOTE)
+    @Measurement(iterations = 10, batchSize = Usuarios.LOTE)
+    public MesFinanceiro criarMesFinanceiro(Usuarios usuarios) {
+        return usuarios.proximo().criarMesFinanceiro(proximoMes, proximoAno, Dinheiro.ZERO);
+    }
+
+    /**
+     * Usuários montados antes de cada iteração, fora da medição. O lote tem o
+     * tamanho do batchSize, então cada usuário recebe um único mês novo.
+     */
+    @State(Scope.Thread)
+    public static class Usuarios {
+
+        static final int LOTE = 100;
+
+        private final Usuario[] usuarios = new Usuario[LOTE];
+        private int proximo;
+
+        @Setup(Level.Iteration)
+        public void preparar(UsuarioBenchmark benchmark) {
+            for (int i = 0; i < LOTE; i++) {
+                usuarios[i] = DadosBenchmark.usuario(benchmark.usuarioId, benchmark.historico);
+            }
+            proximo = 0;
+        }
+
+        Usuario proximo() {
+            return usuarios[proximo++];
+        }
+    }
+}
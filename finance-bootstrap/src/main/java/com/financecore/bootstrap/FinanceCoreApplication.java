@@ -3,7 +3,7 @@ package com.financecore.bootstrap;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
-@SpringBootApplication
+@SpringBootApplication(scanBasePackages = "com.financecore")
 public class FinanceCoreApplication {
     public static void main(String[] args) {
         SpringApplication.run(FinanceCoreApplication.class, args);
@@ -1,5 +1,6 @@
 package com.financecore.domain.model.entity;
 
+import java.util.Locale;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -32,6 +33,26 @@ public class Categoria {
         return nome;
     }
 
+    /**
+     * Forma canônica de um nome para comparação: sem espaços nas extremidades
+     * e em minúsculas. Dois nomes com a mesma forma canônica são a mesma categoria.
+     *
+     * Corresponde a lower(trim(nome)) no banco, que usa o mesmo índice: só o
+     * espaço ' ' é removido, como no trim do SQL, e não outros brancos Unicode.
+     */
+    public static String normalizarNome(String nome) {
+        Objects.requireNonNull(nome, "nome não pode ser nulo");
+        int inicio = 0;
+        int fim = nome.length();
+        while (inicio < fim && nome.charAt(inicio) == ' ') {
+            inicio++;
+        }
+        while (fim > inicio && nome.charAt(fim - 1) == ' ') {
+            fim--;
+        }
+        return nome.substring(inicio, fim).toLowerCase(Locale.ROOT);
+    }
+
     public UUID getId() {
         return id;
     }
@@ -0,0 +1,171 @@
+package com.financecore.domain.model.entity;
+
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+import com.financecore.domain.model.entity.HistoricoFinanceiro.TotalCategoria;
+import com.financecore.domain.model.exception.DomainException;
+import com.financecore.domain.model.valueobject.Dinheiro;
+import com.financecore.domain.model.valueobject.Periodo;
+
+/**
+ * Consolida, de forma incremental, os meses de um intervalo em um
+ * {@link RelatorioFinanceiro} (RF11, UC-10).
+ *
+ * Cada mês é acumulado e descartado em seguida: a memória usada depende da
+ * quantidade de categorias, não do tamanho do intervalo. Meses fechados
+ * entram pela consolidação gravada no fechamento (RN-09); meses ainda
+ * abertos entram pelo agregado. Um período já acumulado é ignorado, o que
+ * dá precedência à fonte acumulada primeiro.
+ */
+public final class ConsolidadorRelatorio {
+
+    private final UUID usuarioId;
+    private final Periodo inicio;
+    private final Periodo fim;
+    private final BitSet periodosAcumulados = new BitSet();
+    private final Map<UUID, Acumulador> porCategoria = new LinkedHashMap<>();
+
+    private int primeiroIndice = Integer.MAX_VALUE;
+    private int ultimoIndice = Integer.MIN_VALUE;
+    private Dinheiro saldoInicial = Dinheiro.ZERO;
+    private Dinheiro saldoFinal = Dinheiro.ZERO;
+    private long totalReceitas;
+    private long totalDespesas;
+    private long totalParcelas;
+    private long despesasEssenciais;
+    private long despesasNaoEssenciais;
+
+    public ConsolidadorRelatorio(UUID usuarioId, Periodo inicio, Periodo fim) {
+        this.usuarioId = Objects.requireNonNull(usuarioId, "usuarioId não pode ser nulo");
+        this.inicio = Objects.requireNonNull(inicio, "inicio não pode ser nulo");
+        this.fim = Objects.requireNonNull(fim, "fim não pode ser nulo");
+        if (fim.compareTo(inicio) < 0) {
+            throw new IllegalArgumentException("fim não pode ser anterior a inicio");
+        }
+    }
+
+    /**
+     * Acumula a consolidação de um mês fechado.
+     */
+    public void acumular(HistoricoFinanceiro historico) {
+        Objects.requireNonNull(historico, "historico não pode ser nulo");
+        if (!registrarPeriodo(historico.getUsuarioId(), historico.getPeriodo(),
+                historico.getSaldoInicial(), historico.getSaldoFinal())) {
+            return;
+        }
+        somarTotais(historico.getTotalReceitas().getCentavos(),
+                historico.getTotalDespesas().getCentavos(),
+                historico.getTotalParcelas().getCentavos());
+        despesasEssenciais = Math.addExact(despesasEssenciais, historico.getDespesasEssenciais().getCentavos());
+        despesasNaoEssenciais = Math.addExact(despesasNaoEssenciais, historico.getDespesasNaoEssenciais().getCentavos());
+        acumularCategorias(historico.getDespesasPorCategoria());
+    }
+
+    /**
+     * Acumula um mês a partir do agregado, pelos totais por categoria que ele
+     * mantém. Usado para meses ainda não consolidados, tipicamente o mês
+     * ABERTO corrente.
+     */
+    public void acumular(MesFinanceiro mes) {
+        Objects.requireNonNull(mes, "mes não pode ser nulo");
+        Dinheiro saldoFinalMes = mes.getStatus() == MesFinanceiroStatus.FECHADO
+                ? mes.getSaldoFinal()
+                : mes.saldoParcial();
+        if (!registrarPeriodo(mes.getUsuarioId(), Periodo.de(mes.getMes(), mes.getAno()),
+                mes.getSaldoInicial(), saldoFinalMes)) {
+            return;
+        }
+        somarTotais(mes.getTotalReceitas().getCentavos(),
+                mes.getTotalDespesas().getCentavos(),
+                mes.getTotalParcelas().getCentavos());
+        despesasEssenciais = Math.addExact(despesasEssenciais, mes.getDespesasEssenciais().getCentavos());
+        despesasNaoEssenciais = Math.addExact(despesasNaoEssenciais, mes.getDespesasNaoEssenciais().getCentavos());
+        acumularCategorias(mes.getDespesasPorCategoria());
+    }
+
+    public RelatorioFinanceiro concluir() {
+        List<TotalCategoria> categorias = porCategoria.entrySet().stream()
+                .map(e -> new TotalCategoria(e.getKey(), e.getValue().nome, e.getValue().essencial,
+                        Dinheiro.deCentavos(e.getValue().total)))
+                .sorted(Comparator.comparing(TotalCategoria::total).reversed())
+                .toList();
+        return new RelatorioFinanceiro(
+                UUID.randomUUID(),
+                usuarioId,
+                inicio.primeiroDia(),
+                fim.ultimoDia(),
+                LocalDateTime.now(),
+                periodosAcumulados.cardinality(),
+                saldoInicial,
+                saldoFinal,
+                Dinheiro.deCentavos(totalReceitas),
+                Dinheiro.deCentavos(totalDespesas),
+                Dinheiro.deCentavos(totalParcelas),
+                Dinheiro.deCentavos(despesasEssenciais),
+                Dinheiro.deCentavos(despesasNaoEssenciais),
+                categorias
+        );
+    }
+
+    private boolean registrarPeriodo(UUID usuarioDoMes, Periodo periodo, Dinheiro saldoInicialMes, Dinheiro saldoFinalMes) {
+        if (!usuarioId.equals(usuarioDoMes)) {
+            // RN-10: um relatório nunca mistura dados de usuários
+            throw new DomainException("Mês financeiro não pertence ao usuário do relatório.");
+        }
+        if (periodo.compareTo(inicio) < 0 || periodo.compareTo(fim) > 0) {
+            throw new DomainException("Mês " + periodo + " fora do intervalo do relatório.");
+        }
+        int deslocamento = inicio.mesesAte(periodo);
+        if (periodosAcumulados.get(deslocamento)) {
+            return false;
+        }
+        periodosAcumulados.set(deslocamento);
+
+        int indice = periodo.indice();
+        if (indice < primeiroIndice) {
+            primeiroIndice = indice;
+            saldoInicial = saldoInicialMes;
+        }
+        if (indice > ultimoIndice) {
+            ultimoIndice = indice;
+            saldoFinal = saldoFinalMes;
+        }
+        return true;
+    }
+
+    private void acumularCategorias(List<TotalCategoria> totais) {
+        for (TotalCategoria total : totais) {
+            porCategoria.computeIfAbsent(total.categoriaId(), k -> new Acumulador(total.nome(), total.essencial()))
+                    .somar(total.total().getCentavos());
+        }
+    }
+
+    private void somarTotais(long receitas, long despesas, long parcelas) {
+        totalReceitas = Math.addExact(totalReceitas, receitas);
+        totalDespesas = Math.addExact(totalDespesas, despesas);
+        totalParcelas = Math.addExact(totalParcelas, parcelas);
+    }
+
+    private static final class Acumulador {
+
+        private final String nome;
+        private final boolean essencial;
+        private long total;
+
+        Acumulador(String nome, boolean essencial) {
+            this.nome = nome;
+            this.essencial = essencial;
+        }
+
+        void somar(long valor) {
+            total = Math.addExact(total, valor);
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package com.financecore.domain.model.entity;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.Objects;
 import java.util.UUID;
 
 import com.financecore.domain.model.exception.DespesaSemCategoriaException;
+import com.financecore.domain.model.valueobject.Dinheiro;
+import com.financecore.domain.model.valueobject.Periodo;
+
 /**
  * Entidade de domínio que representa uma Despesa.
  *
@@ -18,19 +21,56 @@ public class Despesa {
     private final UUID mesFinanceiroId;
     private Categoria categoria; // RN-04: deve ser uma categoria válida
     private final String descricao;
-    private final BigDecimal valor;
+    private final Dinheiro valor;
     private final LocalDate data;
     private final TipoDespesa tipo;
     private final String metodoPagamento;
+    private final UUID recorrenciaId; // RN-05: comum a todas as ocorrências de uma despesa FIXA
+    private final Integer diaRecorrencia; // RN-05: dia do mês da primeira ocorrência
 
+    /**
+     * Despesas FIXA criadas por aqui iniciam uma nova recorrência, identificada
+     * pelo próprio id.
+     */
     public Despesa(UUID id,
                    UUID mesFinanceiroId,
                    Categoria categoria,
                    String descricao,
-                   BigDecimal valor,
+                   Dinheiro valor,
                    LocalDate data,
                    TipoDespesa tipo,
                    String metodoPagamento) {
+        this(id, mesFinanceiroId, categoria, descricao, valor, data, tipo, metodoPagamento,
+                tipo == TipoDespesa.FIXA ? id : null);
+    }
+
+    /**
+     * Ocorrências carregadas sem o dia da recorrência (dados anteriores a ele)
+     * assumem o dia da própria data.
+     */
+    public Despesa(UUID id,
+                   UUID mesFinanceiroId,
+                   Categoria categoria,
+                   String descricao,
+                   Dinheiro valor,
+                   LocalDate data,
+                   TipoDespesa tipo,
+                   String metodoPagamento,
+                   UUID recorrenciaId) {
+        this(id, mesFinanceiroId, categoria, descricao, valor, data, tipo, metodoPagamento, recorrenciaId,
+                recorrenciaId == null ? null : data.getDayOfMonth());
+    }
+
+    public Despesa(UUID id,
+                   UUID mesFinanceiroId,
+                   Categoria categoria,
+                   String descricao,
+                   Dinheiro valor,
+                   LocalDate data,
+                   TipoDespesa tipo,
+                   String metodoPagamento,
+                   UUID recorrenciaId,
+                   Integer diaRecorrencia) {
         this.id = Objects.requireNonNull(id, "id não pode ser nulo");
         this.mesFinanceiroId = Objects.requireNonNull(mesFinanceiroId, "mesFinanceiroId não pode ser nulo");
         this.categoria = Objects.requireNonNull(categoria, "categoria não pode ser nula");
@@ -39,12 +79,14 @@ public class Despesa {
         this.data = Objects.requireNonNull(data, "data não pode ser nula");
         this.tipo = Objects.requireNonNull(tipo, "tipo não pode ser nulo");
         this.metodoPagamento = validarMetodoPagamento(metodoPagamento);
+        this.recorrenciaId = validarRecorrencia(tipo, recorrenciaId);
+        this.diaRecorrencia = validarDiaRecorrencia(this.recorrenciaId, diaRecorrencia);
     }
 
     public static Despesa nova(UUID mesFinanceiroId,
                                Categoria categoria,
                                String descricao,
-                               BigDecimal valor,
+                               Dinheiro valor,
                                LocalDate data,
                                TipoDespesa tipo,
                                String metodoPagamento) {
@@ -76,9 +118,33 @@ public class Despesa {
         return metodoPagamento;
     }
 
-    private static BigDecimal validarValorPositivo(BigDecimal valor) {
+    private static UUID validarRecorrencia(TipoDespesa tipo, UUID recorrenciaId) {
+        if (tipo == TipoDespesa.FIXA) {
+            return Objects.requireNonNull(recorrenciaId, "recorrenciaId não pode ser nulo para despesa FIXA");
+        }
+        if (recorrenciaId != null) {
+            throw new IllegalArgumentException("somente despesas FIXA possuem recorrência");
+        }
+        return null;
+    }
+
+    private static Integer validarDiaRecorrencia(UUID recorrenciaId, Integer diaRecorrencia) {
+        if (recorrenciaId == null) {
+            if (diaRecorrencia != null) {
+                throw new IllegalArgumentException("somente despesas FIXA possuem dia de recorrência");
+            }
+            return null;
+        }
+        Objects.requireNonNull(diaRecorrencia, "diaRecorrencia não pode ser nulo para despesa FIXA");
+        if (diaRecorrencia < 1 || diaRecorrencia > 31) {
+            throw new IllegalArgumentException("diaRecorrencia deve estar entre 1 e 31");
+        }
+        return diaRecorrencia;
+    }
+
+    private static Dinheiro validarValorPositivo(Dinheiro valor) {
         Objects.requireNonNull(valor, "valor não pode ser nulo");
-        if (valor.signum() <= 0) {
+        if (!valor.isPositivo()) {
             throw new IllegalArgumentException("valor deve ser maior que zero");
         }
         return valor;
@@ -86,14 +152,33 @@ public class Despesa {
 
     /**
      * Aplica RN-04: toda despesa deve possuir uma categoria válida.
+     * Fora do pacote, a reclassificação passa por
+     * {@link MesFinanceiro#reclassificarDespesa}, que registra o evento.
      */
-    public void classificar(Categoria novaCategoria) {
+    void classificar(Categoria novaCategoria) {
         if (novaCategoria == null) {
             throw new DespesaSemCategoriaException();
         }
         this.categoria = novaCategoria;
     }
 
+    /**
+     * Aplica RN-05: nova ocorrência desta despesa FIXA em outro mês, na mesma
+     * recorrência e no dia da primeira ocorrência, limitado ao último dia do
+     * mês. Uma ocorrência no dia 31 cai em 28/29 de fevereiro e volta ao dia
+     * 31 em março.
+     */
+    public Despesa repetirEm(UUID outroMesFinanceiroId, Periodo periodo) {
+        Objects.requireNonNull(periodo, "periodo não pode ser nulo");
+        if (recorrenciaId == null) {
+            throw new IllegalStateException("somente despesas FIXA podem ser repetidas");
+        }
+        YearMonth mes = YearMonth.of(periodo.ano(), periodo.mes());
+        LocalDate dataNoPeriodo = mes.atDay(Math.min(diaRecorrencia, mes.lengthOfMonth()));
+        return new Despesa(UUID.randomUUID(), outroMesFinanceiroId, categoria, descricao, valor,
+                dataNoPeriodo, tipo, metodoPagamento, recorrenciaId, diaRecorrencia);
+    }
+
     public UUID getId() {
         return id;
     }
@@ -113,7 +198,7 @@ public class Despesa {
         return descricao;
     }
 
-    public BigDecimal getValor() {
+    public Dinheiro getValor() {
         return valor;
     }
 
@@ -128,5 +213,16 @@ public class Despesa {
     public String getMetodoPagamento() {
         return metodoPagamento;
     }
+
+    /**
+     * Recorrência à qual a despesa pertence; nula se não for FIXA.
+     */
+    public UUID getRecorrenciaId() {
+        return recorrenciaId;
+    }
+
+    public Integer getDiaRecorrencia() {
+        return diaRecorrencia;
+    }
 }
 
@@ -0,0 +1,42 @@
+package com.financecore.domain.model.entity;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import com.financecore.domain.model.valueobject.Dinheiro;
+import com.financecore.domain.model.valueobject.Periodo;
+
+/**
+ * Divergência de saldo em um mês financeiro (RN-08, UC-15).
+ *
+ * lancamentosSuspeitos traz os ids de receitas, despesas e parcelas que
+ * explicam a diferença ou estão inconsistentes com o mês; pode ser vazia.
+ */
+public record DivergenciaSaldo(
+        UUID usuarioId,
+        UUID mesFinanceiroId,
+        Periodo periodo,
+        TipoDivergencia tipo,
+        Dinheiro esperado,
+        Dinheiro encontrado,
+        List<UUID> lancamentosSuspeitos
+) {
+
+    public DivergenciaSaldo {
+        Objects.requireNonNull(usuarioId, "usuarioId não pode ser nulo");
+        Objects.requireNonNull(mesFinanceiroId, "mesFinanceiroId não pode ser nulo");
+        Objects.requireNonNull(periodo, "periodo não pode ser nulo");
+        Objects.requireNonNull(tipo, "tipo não pode ser nulo");
+        Objects.requireNonNull(esperado, "esperado não pode ser nulo");
+        Objects.requireNonNull(encontrado, "encontrado não pode ser nulo");
+        lancamentosSuspeitos = List.copyOf(Objects.requireNonNullElseGet(lancamentosSuspeitos, List::of));
+    }
+
+    /**
+     * encontrado − esperado.
+     */
+    public Dinheiro diferenca() {
+        return encontrado.subtrair(esperado);
+    }
+}
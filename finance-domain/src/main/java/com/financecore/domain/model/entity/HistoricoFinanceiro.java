@@ -0,0 +1,212 @@
+package com.financecore.domain.model.entity;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import com.financecore.domain.model.exception.DomainException;
+import com.financecore.domain.model.valueobject.Dinheiro;
+import com.financecore.domain.model.valueobject.Periodo;
+
+/**
+ * Consolidação histórica de um Mês Financeiro fechado (RN-09).
+ *
+ * Preserva totais por tipo, por categoria e por essencialidade, além dos
+ * saldos do período. Como meses fechados são imutáveis (RN-02), a
+ * consolidação nunca fica desatualizada e pode substituir a leitura dos
+ * lançamentos em relatórios e consultas históricas.
+ */
+public class HistoricoFinanceiro {
+
+    private final UUID id;
+    private final UUID usuarioId;
+    private final UUID mesFinanceiroId;
+    private final Periodo periodo;
+    private final Dinheiro saldoInicial;
+    private final Dinheiro saldoFinal;
+    private final Dinheiro totalReceitas;
+    private final Dinheiro totalDespesas;
+    private final Dinheiro totalParcelas;
+    private final Dinheiro receitasFixas;
+    private final Dinheiro receitasVariaveis;
+    private final Dinheiro despesasPontuais;
+    private final Dinheiro despesasFixas;
+    private final Dinheiro despesasParceladas;
+    private final Dinheiro despesasEssenciais;
+    private final Dinheiro despesasNaoEssenciais;
+    private final List<TotalCategoria> despesasPorCategoria;
+    private final LocalDateTime dataGeracao;
+
+    public HistoricoFinanceiro(UUID id,
+                               UUID usuarioId,
+                               UUID mesFinanceiroId,
+                               Periodo periodo,
+                               Dinheiro saldoInicial,
+                               Dinheiro saldoFinal,
+                               Dinheiro totalReceitas,
+                               Dinheiro totalDespesas,
+                               Dinheiro totalParcelas,
+                               Dinheiro receitasFixas,
+                               Dinheiro receitasVariaveis,
+                               Dinheiro despesasPontuais,
+                               Dinheiro despesasFixas,
+                               Dinheiro despesasParceladas,
+                               Dinheiro despesasEssenciais,
+                               Dinheiro despesasNaoEssenciais,
+                               List<TotalCategoria> despesasPorCategoria,
+                               LocalDateTime dataGeracao) {
+        this.id = Objects.requireNonNull(id, "id não pode ser nulo");
+        this.usuarioId = Objects.requireNonNull(usuarioId, "usuarioId não pode ser nulo");
+        this.mesFinanceiroId = Objects.requireNonNull(mesFinanceiroId, "mesFinanceiroId não pode ser nulo");
+        this.periodo = Objects.requireNonNull(periodo, "periodo não pode ser nulo");
+        this.saldoInicial = Objects.requireNonNull(saldoInicial, "saldoInicial não pode ser nulo");
+        this.saldoFinal = Objects.requireNonNull(saldoFinal, "saldoFinal não pode ser nulo");
+        this.totalReceitas = Objects.requireNonNull(totalReceitas, "totalReceitas não pode ser nulo");
+        this.totalDespesas = Objects.requireNonNull(totalDespesas, "totalDespesas não pode ser nulo");
+        this.totalParcelas = Objects.requireNonNull(totalParcelas, "totalParcelas não pode ser nulo");
+        this.receitasFixas = Objects.requireNonNull(receitasFixas, "receitasFixas não pode ser nulo");
+        this.receitasVariaveis = Objects.requireNonNull(receitasVariaveis, "receitasVariaveis não pode ser nulo");
+        this.despesasPontuais = Objects.requireNonNull(despesasPontuais, "despesasPontuais não pode ser nulo");
+        this.despesasFixas = Objects.requireNonNull(despesasFixas, "despesasFixas não pode ser nulo");
+        this.despesasParceladas = Objects.requireNonNull(despesasParceladas, "despesasParceladas não pode ser nulo");
+        this.despesasEssenciais = Objects.requireNonNull(despesasEssenciais, "despesasEssenciais não pode ser nulo");
+        this.despesasNaoEssenciais = Objects.requireNonNull(despesasNaoEssenciais, "despesasNaoEssenciais não pode ser nulo");
+        this.despesasPorCategoria = List.copyOf(Objects.requireNonNull(despesasPorCategoria, "despesasPorCategoria não pode ser nulo"));
+        this.dataGeracao = Objects.requireNonNull(dataGeracao, "dataGeracao não pode ser nula");
+    }
+
+    /**
+     * Consolida um mês FECHADO. Os totais gerais vêm dos acumuladores do
+     * agregado; os detalhamentos exigem uma única passagem pelos lançamentos.
+     */
+    public static HistoricoFinanceiro consolidar(MesFinanceiro mes) {
+        Objects.requireNonNull(mes, "mes não pode ser nulo");
+        if (mes.getStatus() != MesFinanceiroStatus.FECHADO) {
+            throw new DomainException("Somente meses FECHADOS podem ser consolidados.");
+        }
+
+        long receitasFixas = 0L;
+        long receitasVariaveis = 0L;
+        for (Receita receita : mes.getReceitas()) {
+            long valor = receita.getValor().getCentavos();
+            if (receita.getTipo() == TipoReceita.FIXA) {
+                receitasFixas = Math.addExact(receitasFixas, valor);
+            } else {
+                receitasVariaveis = Math.addExact(receitasVariaveis, valor);
+            }
+        }
+
+        long[] porTipo = new long[TipoDespesa.values().length];
+        for (Despesa despesa : mes.getDespesas()) {
+            int tipo = despesa.getTipo().ordinal();
+            porTipo[tipo] = Math.addExact(porTipo[tipo], despesa.getValor().getCentavos());
+        }
+
+        return new HistoricoFinanceiro(
+                UUID.randomUUID(),
+                mes.getUsuarioId(),
+                mes.getId(),
+                Periodo.de(mes.getMes(), mes.getAno()),
+                mes.getSaldoInicial(),
+                mes.getSaldoFinal(),
+                mes.getTotalReceitas(),
+                mes.getTotalDespesas(),
+                mes.getTotalParcelas(),
+                Dinheiro.deCentavos(receitasFixas),
+                Dinheiro.deCentavos(receitasVariaveis),
+                Dinheiro.deCentavos(porTipo[TipoDespesa.PONTUAL.ordinal()]),
+                Dinheiro.deCentavos(porTipo[TipoDespesa.FIXA.ordinal()]),
+                Dinheiro.deCentavos(porTipo[TipoDespesa.PARCELADA.ordinal()]),
+                mes.getDespesasEssenciais(),
+                mes.getDespesasNaoEssenciais(),
+                mes.getDespesasPorCategoria(),
+                LocalDateTime.now()
+        );
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getUsuarioId() {
+        return usuarioId;
+    }
+
+    public UUID getMesFinanceiroId() {
+        return mesFinanceiroId;
+    }
+
+    public Periodo getPeriodo() {
+        return periodo;
+    }
+
+    public Dinheiro getSaldoInicial() {
+        return saldoInicial;
+    }
+
+    public Dinheiro getSaldoFinal() {
+        return saldoFinal;
+    }
+
+    public Dinheiro getTotalReceitas() {
+        return totalReceitas;
+    }
+
+    public Dinheiro getTotalDespesas() {
+        return totalDespesas;
+    }
+
+    public Dinheiro getTotalParcelas() {
+        return totalParcelas;
+    }
+
+    public Dinheiro getReceitasFixas() {
+        return receitasFixas;
+    }
+
+    public Dinheiro getReceitasVariaveis() {
+        return receitasVariaveis;
+    }
+
+    public Dinheiro getDespesasPontuais() {
+        return despesasPontuais;
+    }
+
+    public Dinheiro getDespesasFixas() {
+        return despesasFixas;
+    }
+
+    public Dinheiro getDespesasParceladas() {
+        return despesasParceladas;
+    }
+
+    public Dinheiro getDespesasEssenciais() {
+        return despesasEssenciais;
+    }
+
+    public Dinheiro getDespesasNaoEssenciais() {
+        return despesasNaoEssenciais;
+    }
+
+    public List<TotalCategoria> getDespesasPorCategoria() {
+        return Collections.unmodifiableList(despesasPorCategoria);
+    }
+
+    public LocalDateTime getDataGeracao() {
+        return dataGeracao;
+    }
+
+    /**
+     * Total de despesas de uma categoria no mês consolidado.
+     */
+    public record TotalCategoria(UUID categoriaId, String nome, boolean essencial, Dinheiro total) {
+
+        public TotalCategoria {
+            Objects.requireNonNull(categoriaId, "categoriaId não pode ser nulo");
+            Objects.requireNonNull(nome, "nome não pode ser nulo");
+            Objects.requireNonNull(total, "total não pode ser nulo");
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.financecore.domain.model.entity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+import com.financecore.domain.model.valueobject.Periodo;
+
+/**
+ * Índice dos meses financeiros de um usuário, ordenado pelo índice do período
+ * (ano * 12 + mes - 1) em arrays paralelos.
+ *
+ * Meses são criados em ordem cronológica na maior parte dos casos, então a
+ * inserção é um append; buscas por período e por intervalo usam busca binária.
+ * Para um mesmo período prevalece o mês registrado por último.
+ */
+final class IndiceMesesPorPeriodo {
+
+    private static final int CAPACIDADE_INICIAL = 16;
+
+    private int[] chaves;
+    private MesFinanceiro[] meses;
+    private int tamanho;
+
+    IndiceMesesPorPeriodo(List<MesFinanceiro> mesesFinanceiros) {
+        MesFinanceiro[] ordenados = mesesFinanceiros.toArray(new MesFinanceiro[0]);
+        // Ordenação estável: entre meses do mesmo período, o último da lista prevalece
+        Arrays.sort(ordenados, Comparator.comparingInt(IndiceMesesPorPeriodo::chave));
+
+        int capacidade = Math.max(CAPACIDADE_INICIAL, ordenados.length);
+        this.chaves = new int[capacidade];
+        this.meses = new MesFinanceiro[capacidade];
+        for (MesFinanceiro mesFinanceiro : ordenados) {
+            int chave = chave(mesFinanceiro);
+            if (tamanho > 0 && chaves[tamanho - 1] == chave) {
+                meses[tamanho - 1] = mesFinanceiro;
+            } else {
+                chaves[tamanho] = chave;
+                meses[tamanho] = mesFinanceiro;
+                tamanho++;
+            }
+        }
+    }
+
+    private static int chave(MesFinanceiro mesFinanceiro) {
+        return Periodo.indice(mesFinanceiro.getMes(), mesFinanceiro.getAno());
+    }
+
+    void registrar(MesFinanceiro mesFinanceiro) {
+        Objects.requireNonNull(mesFinanceiro, "mesFinanceiro não pode ser nulo");
+        int chave = chave(mesFinanceiro);
+        int posicao = Arrays.binarySearch(chaves, 0, tamanho, chave);
+        if (posicao >= 0) {
+            meses[posicao] = mesFinanceiro;
+            return;
+        }
+        int insercao = -posicao - 1;
+        if (tamanho == chaves.length) {
+            int novaCapacidade = chaves.length + (chaves.length >> 1);
+            chaves = Arrays.copyOf(chaves, novaCapacidade);
+            meses = Arrays.copyOf(meses, novaCapacidade);
+        }
+        if (insercao < tamanho) {
+            System.arraycopy(chaves, insercao, chaves, insercao + 1, tamanho - insercao);
+            System.arraycopy(meses, insercao, meses, insercao + 1, tamanho - insercao);
+        }
+        chaves[insercao] = chave;
+        meses[insercao] = mesFinanceiro;
+        tamanho++;
+    }
+
+    MesFinanceiro buscar(int chave) {
+        int posicao = Arrays.binarySearch(chaves, 0, tamanho, chave);
+        return posicao >= 0 ? meses[posicao] : null;
+    }
+
+    /**
+     * Mês de maior período estritamente anterior à chave, ou null.
+     */
+    MesFinanceiro buscarAnterior(int chave) {
+        int posicao = primeiraPosicaoMaiorOuIgual(chave);
+        return posicao > 0 ? meses[posicao - 1] : null;
+    }
+
+    /**
+     * Mês de período mais recente, ou null se o índice estiver vazio.
+     */
+    MesFinanceiro buscarMaisRecente() {
+        return tamanho > 0 ? meses[tamanho - 1] : null;
+    }
+
+    /**
+     * Mês ABERTO de período mais recente. A busca parte do fim do índice,
+     * onde normalmente está o mês corrente.
+     */
+    MesFinanceiro buscarAbertoMaisRecente() {
+        for (int i = tamanho - 1; i >= 0; i--) {
+            if (meses[i].getStatus() == MesFinanceiroStatus.ABERTO) {
+                return meses[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Meses com chave entre inicio e fim (inclusive), em ordem de período.
+     */
+    List<MesFinanceiro> intervalo(int inicio, int fim) {
+        if (fim < inicio) {
+            return List.of();
+        }
+        int de = primeiraPosicaoMaiorOuIgual(inicio);
+        int ate = primeiraPosicaoMaiorOuIgual(fim + 1);
+        List<MesFinanceiro> resultado = new ArrayList<>(ate - de);
+        for (int i = de; i < ate; i++) {
+            resultado.add(meses[i]);
+        }
+        return resultado;
+    }
+
+    private int primeiraPosicaoMaiorOuIgual(int chave) {
+        int posicao = Arrays.binarySearch(chaves, 0, tamanho, chave);
+        return posicao >= 0 ? posicao : -posicao - 1;
+    }
+
+    int tamanho() {
+        return tamanho;
+    }
+}
@@ -1,12 +1,28 @@
 package com.financecore.domain.model.entity;
 
-import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
+import com.financecore.domain.model.entity.HistoricoFinanceiro.TotalCategoria;
+import com.financecore.domain.model.event.EventoMesFinanceiro;
+import com.financecore.domain.model.event.EventoMesFinanceiro.DespesaReclassificada;
+import com.financecore.domain.model.event.EventoMesFinanceiro.DespesaRegistrada;
+import com.financecore.domain.model.event.EventoMesFinanceiro.MesAberto;
+import com.financecore.domain.model.event.EventoMesFinanceiro.MesFechado;
+import com.financecore.domain.model.event.EventoMesFinanceiro.ParcelaPaga;
+import com.financecore.domain.model.event.EventoMesFinanceiro.ParcelaRegistrada;
+import com.financecore.domain.model.event.EventoMesFinanceiro.ReceitaRegistrada;
 import com.financecore.domain.model.exception.DomainException;
+import com.financecore.domain.model.valueobject.Dinheiro;
+import com.financecore.domain.model.valueobject.Periodo;
 
 /**
  * Aggregate Root: MêsFinanceiro.
@@ -16,7 +32,8 @@ import com.financecore.domain.model.exception.DomainException;
  * - controlar estado (ABERTO/FECHADO);
  * - garantir cálculo determinístico de saldo (RN-07);
  * - impedir alterações após fechamento (RN-02);
- * - associação obrigatória de dados financeiros ao mês (RN-03).
+ * - associação obrigatória de dados financeiros ao mês (RN-03);
+ * - registrar, em ordem, os eventos de cada alteração ({@link EventoMesFinanceiro}).
  */
 public class MesFinanceiro {
 
@@ -25,20 +42,36 @@ public class MesFinanceiro {
     private final int mes;
     private final int ano;
     private MesFinanceiroStatus status;
-    private final BigDecimal saldoInicial;
-    private BigDecimal saldoFinal;
+    private final Dinheiro saldoInicial;
+    private Dinheiro saldoFinal;
 
     private final List<Receita> receitas;
     private final List<Despesa> despesas;
     private final List<Parcela> parcelas;
 
+    // Visões somente leitura expostas pelos getters, sem cópia
+    private final List<Receita> receitasView;
+    private final List<Despesa> despesasView;
+    private final List<Parcela> parcelasView;
+
+    // Totais em centavos mantidos a cada lançamento, evitando varrer as coleções no fechamento (RN-07)
+    private long totalReceitas;
+    private long totalDespesas;
+    private long totalParcelas;
+    // Despesas por categoria e por essencialidade, mantidas junto com os totais
+    private final TotaisPorCategoria despesasPorCategoria = new TotaisPorCategoria();
+
+    // Eventos ainda não confirmados como persistidos, em ordem de registro
+    private final List<EventoMesFinanceiro> eventos = new ArrayList<>();
+    private final List<EventoMesFinanceiro> eventosView = Collections.unmodifiableList(eventos);
+
     private MesFinanceiro(UUID id,
                           UUID usuarioId,
                           int mes,
                           int ano,
                           MesFinanceiroStatus status,
-                          BigDecimal saldoInicial,
-                          BigDecimal saldoFinal,
+                          Dinheiro saldoInicial,
+                          Dinheiro saldoFinal,
                           List<Receita> receitas,
                           List<Despesa> despesas,
                           List<Parcela> parcelas) {
@@ -47,16 +80,30 @@ public class MesFinanceiro {
         this.mes = validarMes(mes);
         this.ano = validarAno(ano);
         this.status = Objects.requireNonNull(status, "status não pode ser nulo");
-        this.saldoInicial = validarValorPositivo(saldoInicial, "saldoInicial");
+        // Pode ser negativo quando herda o déficit do mês anterior (RN-07)
+        this.saldoInicial = Objects.requireNonNull(saldoInicial, "saldoInicial não pode ser nulo");
         this.saldoFinal = saldoFinal;
         this.receitas = new ArrayList<>(Objects.requireNonNullElseGet(receitas, ArrayList::new));
         this.despesas = new ArrayList<>(Objects.requireNonNullElseGet(despesas, ArrayList::new));
         this.parcelas = new ArrayList<>(Objects.requireNonNullElseGet(parcelas, ArrayList::new));
+        this.receitasView = Collections.unmodifiableList(this.receitas);
+        this.despesasView = Collections.unmodifiableList(this.despesas);
+        this.parcelasView = Collections.unmodifiableList(this.parcelas);
+        this.totalReceitas = somarReceitas(this.receitas);
+        this.totalDespesas = somarDespesas(this.despesas);
+        this.totalParcelas = somarParcelas(this.parcelas);
+        this.despesasPorCategoria.somarTodas(this.despesas);
+    }
+
+    public static MesFinanceiro novo(UUID usuarioId, int mes, int ano, Dinheiro saldoInicial) {
+        MesFinanceiro mesFinanceiro = aberto(UUID.randomUUID(), usuarioId, mes, ano, saldoInicial);
+        mesFinanceiro.eventos.add(new MesAberto(mesFinanceiro.id, usuarioId, mes, ano, saldoInicial));
+        return mesFinanceiro;
     }
 
-    public static MesFinanceiro novo(UUID usuarioId, int mes, int ano, BigDecimal saldoInicial) {
+    private static MesFinanceiro aberto(UUID id, UUID usuarioId, int mes, int ano, Dinheiro saldoInicial) {
         return new MesFinanceiro(
-                UUID.randomUUID(),
+                id,
                 usuarioId,
                 mes,
                 ano,
@@ -69,6 +116,93 @@ public class MesFinanceiro {
         );
     }
 
+    /**
+     * Reconstitui um mês reaplicando eventos já persistidos, a partir de um
+     * snapshot (base) ou, com base nula, da abertura do mês (primeiro evento).
+     *
+     * A base é alterada e devolvida. Os eventos reaplicados não são
+     * registrados de novo: {@link #getEventos()} começa vazio.
+     */
+    public static MesFinanceiro reproduzir(MesFinanceiro base, List<? extends EventoMesFinanceiro> eventos) {
+        Objects.requireNonNull(eventos, "eventos não pode ser nulo");
+        MesFinanceiro mesFinanceiro = base;
+        int inicio = 0;
+        if (mesFinanceiro == null) {
+            if (eventos.isEmpty() || !(eventos.get(0) instanceof MesAberto abertura)) {
+                throw new IllegalArgumentException("eventos devem começar pela abertura do mês");
+            }
+            mesFinanceiro = aberto(abertura.mesFinanceiroId(), abertura.usuarioId(),
+                    abertura.mes(), abertura.ano(), abertura.saldoInicial());
+            inicio = 1;
+        }
+        for (int i = inicio; i < eventos.size(); i++) {
+            mesFinanceiro.aplicar(eventos.get(i));
+        }
+        return mesFinanceiro;
+    }
+
+    /**
+     * Reconstitui um mês financeiro já persistido.
+     *
+     * Os totais são calculados uma única vez a partir dos lançamentos carregados.
+     */
+    public static MesFinanceiro reconstituir(UUID id,
+                                             UUID usuarioId,
+                                             int mes,
+                                             int ano,
+                                             MesFinanceiroStatus status,
+                                             Dinheiro saldoInicial,
+                                             Dinheiro saldoFinal,
+                                             List<Receita> receitas,
+                                             List<Despesa> despesas,
+                                             List<Parcela> parcelas) {
+        return new MesFinanceiro(
+                id,
+                usuarioId,
+                mes,
+                ano,
+                status,
+                saldoInicial,
+                saldoFinal,
+                receitas,
+                despesas,
+                parcelas
+        );
+    }
+
+    private static long somarReceitas(List<Receita> receitas) {
+        long total = 0L;
+        for (Receita receita : receitas) {
+            total = Math.addExact(total, receita.getValor().getCentavos());
+        }
+        return total;
+    }
+
+    private static long somarDespesas(List<Despesa> despesas) {
+        long total = 0L;
+        for (Despesa despesa : despesas) {
+            total = Math.addExact(total, valorNoSaldo(despesa));
+        }
+        return total;
+    }
+
+    /**
+     * Valor com que a despesa entra nos totais e no saldo do mês. Uma despesa
+     * PARCELADA só registra a compra: seu valor é pago pelas parcelas do
+     * parcelamento, nos meses seguintes (RN-06), e não entra aqui.
+     */
+    static long valorNoSaldo(Despesa despesa) {
+        return despesa.getTipo() == TipoDespesa.PARCELADA ? 0L : despesa.getValor().getCentavos();
+    }
+
+    private static long somarParcelas(List<Parcela> parcelas) {
+        long total = 0L;
+        for (Parcela parcela : parcelas) {
+            total = Math.addExact(total, parcela.getValor().getCentavos());
+        }
+        return total;
+    }
+
     private static int validarMes(int mes) {
         if (mes < 1 || mes > 12) {
             throw new IllegalArgumentException("mes deve estar entre 1 e 12");
@@ -83,14 +217,6 @@ public class MesFinanceiro {
         return ano;
     }
 
-    private static BigDecimal validarValorPositivo(BigDecimal valor, String campo) {
-        Objects.requireNonNull(valor, campo + " não pode ser nulo");
-        if (valor.signum() < 0) {
-            throw new IllegalArgumentException(campo + " não pode ser negativo");
-        }
-        return valor;
-    }
-
     private void garantirAberto() {
         if (this.status == MesFinanceiroStatus.FECHADO) {
             throw new DomainException("Mês financeiro está FECHADO e não pode ser alterado.");
@@ -100,19 +226,175 @@ public class MesFinanceiro {
     public void registrarReceita(Receita receita) {
         Objects.requireNonNull(receita, "receita não pode ser nula");
         garantirAberto();
-        this.receitas.add(receita);
+        registrar(new ReceitaRegistrada(receita));
     }
 
     public void registrarDespesa(Despesa despesa) {
         Objects.requireNonNull(despesa, "despesa não pode ser nula");
         garantirAberto();
-        this.despesas.add(despesa);
+        registrar(new DespesaRegistrada(despesa));
     }
 
     public void registrarParcela(Parcela parcela) {
         Objects.requireNonNull(parcela, "parcela não pode ser nula");
         garantirAberto();
-        this.parcelas.add(parcela);
+        registrar(new ParcelaRegistrada(parcela));
+    }
+
+    /**
+     * Aplica RN-04 a uma despesa do mês, trocando sua categoria.
+     */
+    public void reclassificarDespesa(UUID despesaId, Categoria categoria) {
+        Objects.requireNonNull(categoria, "categoria não pode ser nula");
+        garantirAberto();
+        if (buscarDespesa(despesaId).isEmpty()) {
+            throw new DomainException("Despesa não pertence ao mês financeiro.");
+        }
+        registrar(new DespesaReclassificada(id, despesaId, categoria));
+    }
+
+    public void marcarParcelaPaga(UUID parcelaId) {
+        Objects.requireNonNull(parcelaId, "parcelaId não pode ser nulo");
+        garantirAberto();
+        if (buscarParcela(parcelaId) == null) {
+            throw new DomainException("Parcela não pertence ao mês financeiro.");
+        }
+        registrar(new ParcelaPaga(id, parcelaId));
+    }
+
+    /**
+     * Registra um lote de receitas pelo mesmo evento do registro individual.
+     * Estado do mês, pertencimento e total são verificados antes de qualquer
+     * alteração: se algum falhar, nada é registrado.
+     */
+    public void registrarReceitas(Collection<Receita> novasReceitas) {
+        Objects.requireNonNull(novasReceitas, "receitas não pode ser nula");
+        garantirAberto();
+        List<ReceitaRegistrada> lote = new ArrayList<>(novasReceitas.size());
+        long soma = 0L;
+        for (Receita receita : novasReceitas) {
+            Objects.requireNonNull(receita, "receita não pode ser nula");
+            ReceitaRegistrada evento = new ReceitaRegistrada(receita);
+            garantirDesteMes(evento);
+            soma = Math.addExact(soma, receita.getValor().getCentavos());
+            lote.add(evento);
+        }
+        Math.addExact(this.totalReceitas, soma);
+        for (ReceitaRegistrada evento : lote) {
+            registrar(evento);
+        }
+    }
+
+    /**
+     * Registra um lote de despesas pelo mesmo evento do registro individual.
+     * Estado do mês, pertencimento e total são verificados antes de qualquer
+     * alteração: se algum falhar, nada é registrado.
+     */
+    public void registrarDespesas(Collection<Despesa> novasDespesas) {
+        Objects.requireNonNull(novasDespesas, "despesas não pode ser nula");
+        garantirAberto();
+        List<DespesaRegistrada> lote = new ArrayList<>(novasDespesas.size());
+        long soma = 0L;
+        for (Despesa despesa : novasDespesas) {
+            Objects.requireNonNull(despesa, "despesa não pode ser nula");
+            DespesaRegistrada evento = new DespesaRegistrada(despesa);
+            garantirDesteMes(evento);
+            soma = Math.addExact(soma, valorNoSaldo(despesa));
+            lote.add(evento);
+        }
+        Math.addExact(this.totalDespesas, soma);
+        for (DespesaRegistrada evento : lote) {
+            registrar(evento);
+        }
+    }
+
+    /**
+     * Aplica RN-05: repete neste mês, em um único lote, as receitas e despesas
+     * FIXA de um mês anterior. Recorrências que já têm ocorrência aqui são
+     * ignoradas, então repetir a chamada não duplica lançamentos.
+     *
+     * @return quantidade de lançamentos criados
+     */
+    public int propagarRecorrencias(MesFinanceiro anterior) {
+        Objects.requireNonNull(anterior, "anterior não pode ser nulo");
+        garantirAberto();
+        Periodo periodo = Periodo.de(mes, ano);
+        if (Periodo.indice(anterior.mes, anterior.ano) >= periodo.indice()) {
+            throw new DomainException("Recorrências só se propagam para meses posteriores.");
+        }
+
+        Set<UUID> presentes = new HashSet<>();
+        for (Receita receita : receitas) {
+            if (receita.getRecorrenciaId() != null) {
+                presentes.add(receita.getRecorrenciaId());
+            }
+        }
+        for (Despesa despesa : despesas) {
+            if (despesa.getRecorrenciaId() != null) {
+                presentes.add(despesa.getRecorrenciaId());
+            }
+        }
+
+        List<Receita> novasReceitas = new ArrayList<>();
+        anterior.forEachReceita(TipoReceita.FIXA, receita -> {
+            if (presentes.add(receita.getRecorrenciaId())) {
+                novasReceitas.add(receita.repetirEm(id, periodo));
+            }
+        });
+        List<Despesa> novasDespesas = new ArrayList<>();
+        anterior.forEachDespesa(TipoDespesa.FIXA, despesa -> {
+            if (presentes.add(despesa.getRecorrenciaId())) {
+                novasDespesas.add(despesa.repetirEm(id, periodo));
+            }
+        });
+
+        registrarReceitas(novasReceitas);
+        registrarDespesas(novasDespesas);
+        return novasReceitas.size() + novasDespesas.size();
+    }
+
+    public Optional<Despesa> buscarDespesa(UUID despesaId) {
+        Objects.requireNonNull(despesaId, "despesaId não pode ser nulo");
+        for (Despesa despesa : despesas) {
+            if (despesa.getId().equals(despesaId)) {
+                return Optional.of(despesa);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Parcela buscarParcela(UUID parcelaId) {
+        for (Parcela parcela : parcelas) {
+            if (parcela.getId().equals(parcelaId)) {
+                return parcela;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Saldo parcial do mês (RF08), calculado a partir dos totais correntes.
+     *
+     * SaldoParcial = SaldoInicial + TotalReceitas − TotalDespesas − TotalParcelas
+     *
+     * TotalDespesas não inclui despesas PARCELADA, pagas pelas parcelas (RN-06).
+     */
+    public Dinheiro saldoParcial() {
+        return Dinheiro.deCentavos(saldoParcialEmCentavos());
+    }
+
+    /**
+     * Saldo com que o mês encerra ou encerraria: o final, se FECHADO; senão o
+     * parcial. É o saldo inicial do mês seguinte (RN-07).
+     */
+    public Dinheiro saldoEncerramento() {
+        return status == MesFinanceiroStatus.FECHADO ? saldoFinal : saldoParcial();
+    }
+
+    private long saldoParcialEmCentavos() {
+        long saldo = Math.addExact(saldoInicial.getCentavos(), totalReceitas);
+        saldo = Math.subtractExact(saldo, totalDespesas);
+        return Math.subtractExact(saldo, totalParcelas);
     }
 
     /**
@@ -124,24 +406,54 @@ public class MesFinanceiro {
     public void fechar() {
         garantirAberto();
 
-        BigDecimal totalReceitas = receitas.stream()
-                .map(Receita::getValor)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal totalDespesas = despesas.stream()
-                .map(Despesa::getValor)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        registrar(new MesFechado(id, saldoParcial()));
+    }
 
-        BigDecimal totalParcelas = parcelas.stream()
-                .map(Parcela::getValor)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    private void garantirDesteMes(EventoMesFinanceiro evento) {
+        if (!id.equals(evento.mesFinanceiroId())) {
+            throw new IllegalArgumentException("evento pertence a outro mês financeiro");
+        }
+    }
 
-        this.saldoFinal = saldoInicial
-                .add(totalReceitas)
-                .subtract(totalDespesas)
-                .subtract(totalParcelas);
+    private void registrar(EventoMesFinanceiro evento) {
+        aplicar(evento);
+        this.eventos.add(evento);
+    }
 
-        this.status = MesFinanceiroStatus.FECHADO;
+    /**
+     * Efeito de um evento sobre o estado. As regras já foram verificadas
+     * quando o evento foi registrado; aqui só se garante que ele é deste mês.
+     */
+    private void aplicar(EventoMesFinanceiro evento) {
+        garantirDesteMes(evento);
+        if (evento instanceof ReceitaRegistrada e) {
+            this.receitas.add(e.receita());
+            this.totalReceitas = Math.addExact(this.totalReceitas, e.receita().getValor().getCentavos());
+        } else if (evento instanceof DespesaRegistrada e) {
+            this.despesas.add(e.despesa());
+            this.totalDespesas = Math.addExact(this.totalDespesas, valorNoSaldo(e.despesa()));
+            this.despesasPorCategoria.somar(e.despesa().getCategoria(), valorNoSaldo(e.despesa()));
+        } else if (evento instanceof ParcelaRegistrada e) {
+            this.parcelas.add(e.parcela());
+            this.totalParcelas = Math.addExact(this.totalParcelas, e.parcela().getValor().getCentavos());
+        } else if (evento instanceof DespesaReclassificada e) {
+            Despesa despesa = buscarDespesa(e.despesaId())
+                    .orElseThrow(() -> new IllegalArgumentException("despesa do evento não encontrada"));
+            Categoria anterior = despesa.getCategoria();
+            despesa.classificar(e.categoria());
+            this.despesasPorCategoria.mover(anterior, e.categoria(), valorNoSaldo(despesa));
+        } else if (evento instanceof ParcelaPaga e) {
+            Parcela parcela = buscarParcela(e.parcelaId());
+            if (parcela == null) {
+                throw new IllegalArgumentException("parcela do evento não encontrada");
+            }
+            parcela.marcarPaga();
+        } else if (evento instanceof MesFechado e) {
+            this.saldoFinal = e.saldoFinal();
+            this.status = MesFinanceiroStatus.FECHADO;
+        } else {
+            throw new IllegalArgumentException("mês financeiro já foi aberto");
+        }
     }
 
     public UUID getId() {
@@ -164,24 +476,123 @@ public class MesFinanceiro {
         return status;
     }
 
-    public BigDecimal getSaldoInicial() {
+    public Dinheiro getSaldoInicial() {
         return saldoInicial;
     }
 
-    public BigDecimal getSaldoFinal() {
+    public Dinheiro getSaldoFinal() {
         return saldoFinal;
     }
 
+    public Dinheiro getTotalReceitas() {
+        return Dinheiro.deCentavos(totalReceitas);
+    }
+
+    public Dinheiro getTotalDespesas() {
+        return Dinheiro.deCentavos(totalDespesas);
+    }
+
+    public Dinheiro getTotalParcelas() {
+        return Dinheiro.deCentavos(totalParcelas);
+    }
+
+    /**
+     * Total das despesas de cada categoria com despesas no mês, sem percorrer
+     * as despesas: o total é mantido a cada registro e reclassificação.
+     */
+    public List<TotalCategoria> getDespesasPorCategoria() {
+        return despesasPorCategoria.listar();
+    }
+
+    public Dinheiro getDespesasEssenciais() {
+        return Dinheiro.deCentavos(despesasPorCategoria.essenciais());
+    }
+
+    public Dinheiro getDespesasNaoEssenciais() {
+        return Dinheiro.deCentavos(despesasPorCategoria.naoEssenciais());
+    }
+
+    /**
+     * Visão somente leitura das receitas; reflete lançamentos posteriores.
+     */
     public List<Receita> getReceitas() {
-        return List.copyOf(receitas);
+        return receitasView;
     }
 
+    /**
+     * Visão somente leitura das despesas; reflete lançamentos posteriores.
+     */
     public List<Despesa> getDespesas() {
-        return List.copyOf(despesas);
+        return despesasView;
     }
 
+    /**
+     * Visão somente leitura das parcelas; reflete lançamentos posteriores.
+     */
     public List<Parcela> getParcelas() {
-        return List.copyOf(parcelas);
+        return parcelasView;
+    }
+
+    /**
+     * Eventos pendentes: registrados desde a criação, a carga ou a última
+     * confirmação, em ordem. É deles que o repositório deriva o que gravar.
+     */
+    public List<EventoMesFinanceiro> getEventos() {
+        return eventosView;
+    }
+
+    /**
+     * Descarta os primeiros eventos pendentes, já persistidos. Chamado pelo
+     * repositório após o commit; eventos registrados depois da gravação
+     * continuam pendentes.
+     */
+    public void confirmarEventos(int quantidade) {
+        if (quantidade < 0 || quantidade > eventos.size()) {
+            throw new IllegalArgumentException("quantidade de eventos confirmados inválida");
+        }
+        eventos.subList(0, quantidade).clear();
+    }
+
+    /**
+     * Percorre as receitas do tipo informado sem criar listas intermediárias.
+     */
+    public void forEachReceita(TipoReceita tipo, Consumer<? super Receita> acao) {
+        Objects.requireNonNull(tipo, "tipo não pode ser nulo");
+        Objects.requireNonNull(acao, "acao não pode ser nula");
+        for (int i = 0, n = receitas.size(); i < n; i++) {
+            Receita receita = receitas.get(i);
+            if (receita.getTipo() == tipo) {
+                acao.accept(receita);
+            }
+        }
+    }
+
+    /**
+     * Percorre as despesas do tipo informado sem criar listas intermediárias.
+     */
+    public void forEachDespesa(TipoDespesa tipo, Consumer<? super Despesa> acao) {
+        Objects.requireNonNull(tipo, "tipo não pode ser nulo");
+        Objects.requireNonNull(acao, "acao não pode ser nula");
+        for (int i = 0, n = despesas.size(); i < n; i++) {
+            Despesa despesa = despesas.get(i);
+            if (despesa.getTipo() == tipo) {
+                acao.accept(despesa);
+            }
+        }
+    }
+
+    /**
+     * Percorre as parcelas com o status informado sem criar listas intermediárias.
+     */
+    public void forEachParcela(ParcelaStatus status, Consumer<? super Parcela> acao) {
+        Objects.requireNonNull(status, "status não pode ser nulo");
+        Objects.requireNonNull(acao, "acao não pode ser nula");
+        for (int i = 0, n = parcelas.size(); i < n; i++) {
+            Parcela parcela = parcelas.get(i);
+            if (parcela.getStatus() == status) {
+                acao.accept(parcela);
+            }
+        }
     }
 }
 
@@ -1,9 +1,10 @@
 package com.financecore.domain.model.entity;
 
-import java.math.BigDecimal;
 import java.util.Objects;
 import java.util.UUID;
 
+import com.financecore.domain.model.valueobject.Dinheiro;
+
 /**
  * Entidade de domínio que representa uma parcela individual de um parcelamento.
  */
@@ -13,14 +14,14 @@ public class Parcela {
     private final UUID parcelamentoId;
     private final UUID mesFinanceiroId;
     private final int numero;
-    private final BigDecimal valor;
+    private final Dinheiro valor;
     private ParcelaStatus status;
 
     public Parcela(UUID id,
                    UUID parcelamentoId,
                    UUID mesFinanceiroId,
                    int numero,
-                   BigDecimal valor,
+                   Dinheiro valor,
                    ParcelaStatus status) {
         this.id = Objects.requireNonNull(id, "id não pode ser nulo");
         this.parcelamentoId = Objects.requireNonNull(parcelamentoId, "parcelamentoId não pode ser nulo");
@@ -33,7 +34,7 @@ public class Parcela {
     public static Parcela nova(UUID parcelamentoId,
                                UUID mesFinanceiroId,
                                int numero,
-                               BigDecimal valor) {
+                               Dinheiro valor) {
         return new Parcela(
                 UUID.randomUUID(),
                 parcelamentoId,
@@ -51,9 +52,9 @@ public class Parcela {
         return numero;
     }
 
-    private static BigDecimal validarValorPositivo(BigDecimal valor) {
+    private static Dinheiro validarValorPositivo(Dinheiro valor) {
         Objects.requireNonNull(valor, "valor não pode ser nulo");
-        if (valor.signum() <= 0) {
+        if (!valor.isPositivo()) {
             throw new IllegalArgumentException("valor deve ser maior que zero");
         }
         return valor;
@@ -79,7 +80,7 @@ public class Parcela {
         return numero;
     }
 
-    public BigDecimal getValor() {
+    public Dinheiro getValor() {
         return valor;
     }
 
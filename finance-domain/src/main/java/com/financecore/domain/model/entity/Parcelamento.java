@@ -1,13 +1,15 @@
 // Arquivo: finance-domain/src/main/java/com/financecore/domain/model/entity/Parcelamento.java
 package com.financecore.domain.model.entity;
 
-import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
 import com.financecore.domain.model.exception.DomainException;
+import com.financecore.domain.model.valueobject.Dinheiro;
+import com.financecore.domain.model.valueobject.Periodo;
 
 /**
  * Aggregate Root: Parcelamento.
@@ -18,13 +20,14 @@ public class Parcelamento {
 
     private final UUID id;
     private final UUID despesaId;
-    private final BigDecimal valorTotal;
+    private final Dinheiro valorTotal;
     private final int numeroParcelas;
     private final List<Parcela> parcelas;
+    private final List<Parcela> parcelasView;
 
     public Parcelamento(UUID id,
                         UUID despesaId,
-                        BigDecimal valorTotal,
+                        Dinheiro valorTotal,
                         int numeroParcelas,
                         List<Parcela> parcelas) {
         this.id = Objects.requireNonNull(id, "id não pode ser nulo");
@@ -32,23 +35,31 @@ public class Parcelamento {
         this.valorTotal = validarValorPositivo(valorTotal);
         this.numeroParcelas = validarNumeroParcelas(numeroParcelas);
         this.parcelas = new ArrayList<>(Objects.requireNonNullElseGet(parcelas, ArrayList::new));
+        this.parcelasView = Collections.unmodifiableList(this.parcelas);
     }
 
-    public static Parcelamento novo(UUID despesaId,
-                                    BigDecimal valorTotal,
-                                    int numeroParcelas) {
+    /**
+     * Cria o parcelamento de uma despesa PARCELADA (RN-06). O valor total é o
+     * da própria despesa: as parcelas pagam a compra que ela registra, e a
+     * despesa não entra no saldo do mês de origem.
+     */
+    public static Parcelamento novo(Despesa despesa, int numeroParcelas) {
+        Objects.requireNonNull(despesa, "despesa não pode ser nula");
+        if (despesa.getTipo() != TipoDespesa.PARCELADA) {
+            throw new DomainException("Somente despesas PARCELADA podem originar parcelamento.");
+        }
         return new Parcelamento(
                 UUID.randomUUID(),
-                despesaId,
-                valorTotal,
+                despesa.getId(),
+                despesa.getValor(),
                 numeroParcelas,
                 new ArrayList<>()
         );
     }
 
-    private static BigDecimal validarValorPositivo(BigDecimal valor) {
+    private static Dinheiro validarValorPositivo(Dinheiro valor) {
         Objects.requireNonNull(valor, "valor não pode ser nulo");
-        if (valor.signum() <= 0) {
+        if (!valor.isPositivo()) {
             throw new IllegalArgumentException("valor deve ser maior que zero");
         }
         return valor;
@@ -61,6 +72,58 @@ public class Parcelamento {
         return numeroParcelas;
     }
 
+    /**
+     * Gera as parcelas do parcelamento (RF07, RN-06) nos meses seguintes ao mês
+     * de origem da despesa, uma por mês, e as registra nos respectivos meses.
+     * Meses que o usuário ainda não tem são criados.
+     *
+     * Os meses são criados um a um, depois que o anterior recebeu sua parcela,
+     * para que cada mês novo herde um saldo inicial que já desconta a parcela
+     * do anterior (RN-07).
+     *
+     * O valor total é dividido de forma exata; os centavos restantes
+     * ficam com as primeiras parcelas.
+     *
+     * @return meses que receberam as parcelas, na ordem das parcelas
+     */
+    public List<MesFinanceiro> gerarParcelas(Usuario usuario, MesFinanceiro mesOrigem) {
+        Objects.requireNonNull(usuario, "usuario não pode ser nulo");
+        Objects.requireNonNull(mesOrigem, "mesOrigem não pode ser nulo");
+        if (!parcelas.isEmpty()) {
+            throw new DomainException("Parcelamento já possui parcelas geradas.");
+        }
+        if (!usuario.getId().equals(mesOrigem.getUsuarioId())) {
+            // RN-10: a despesa e as parcelas pertencem ao mesmo usuário
+            throw new DomainException("Mês de origem não pertence ao usuário " + usuario.getId());
+        }
+        if (mesOrigem.buscarDespesa(despesaId).isEmpty()) {
+            throw new DomainException("Despesa do parcelamento não pertence ao mês de origem.");
+        }
+        if (valorTotal.getCentavos() < numeroParcelas) {
+            throw new DomainException("Valor total insuficiente para o número de parcelas.");
+        }
+        Periodo primeiro = Periodo.de(mesOrigem.getMes(), mesOrigem.getAno()).proximo();
+        // Valida os meses já existentes antes de alterar ou criar qualquer um (RN-02)
+        for (MesFinanceiro mes : usuario.buscarMesesFinanceiros(primeiro, primeiro.somarMeses(numeroParcelas - 1))) {
+            if (mes.getStatus() == MesFinanceiroStatus.FECHADO) {
+                throw new DomainException("Mês financeiro " + mes.getMes() + "/" + mes.getAno()
+                        + " está FECHADO e não pode receber parcelas.");
+            }
+        }
+
+        List<Dinheiro> valores = valorTotal.distribuir(numeroParcelas);
+        List<MesFinanceiro> meses = new ArrayList<>(numeroParcelas);
+        for (int i = 0; i < numeroParcelas; i++) {
+            MesFinanceiro mes = usuario.obterOuCriarMesesFinanceiros(primeiro.somarMeses(i), 1).get(0);
+            Parcela parcela = Parcela.nova(this.id, mes.getId(), i + 1, valores.get(i));
+            mes.registrarParcela(parcela);
+            this.parcelas.add(parcela);
+            meses.add(mes);
+        }
+        validarConsistencia();
+        return meses;
+    }
+
     /**
      * Garante invariantes do parcelamento:
      * - soma das parcelas deve ser igual ao valorTotal;
@@ -70,10 +133,11 @@ public class Parcelamento {
         if (parcelas.size() != numeroParcelas) {
             throw new DomainException("Quantidade de parcelas inválida para o parcelamento.");
         }
-        BigDecimal soma = parcelas.stream()
-                .map(Parcela::getValor)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        if (soma.compareTo(valorTotal) != 0) {
+        long soma = 0L;
+        for (Parcela parcela : parcelas) {
+            soma = Math.addExact(soma, parcela.getValor().getCentavos());
+        }
+        if (soma != valorTotal.getCentavos()) {
             throw new DomainException("Soma das parcelas diferente do valor total do parcelamento.");
         }
     }
@@ -86,7 +150,7 @@ public class Parcelamento {
         return despesaId;
     }
 
-    public BigDecimal getValorTotal() {
+    public Dinheiro getValorTotal() {
         return valorTotal;
     }
 
@@ -94,7 +158,10 @@ public class Parcelamento {
         return numeroParcelas;
     }
 
+    /**
+     * Visão somente leitura das parcelas.
+     */
     public List<Parcela> getParcelas() {
-        return List.copyOf(parcelas);
+        return parcelasView;
     }
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.financecore.domain.model.entity;
+
+import java.util.Objects;
+import java.util.UUID;
+
+import com.financecore.domain.model.valueobject.Periodo;
+
+/**
+ * Progresso do fechamento em lote dos meses de um período (UC-08).
+ *
+ * Os meses são percorridos em ordem de id; ultimoMesId é o ponto de retomada
+ * após uma interrupção. Meses que falharam antes dele não são repetidos na
+ * retomada, apenas em uma nova execução desde o início.
+ */
+public record ProgressoFechamentoLote(
+        Periodo periodo,
+        UUID ultimoMesId,
+        long fechados,
+        long falhas,
+        boolean concluido
+) {
+
+    public ProgressoFechamentoLote {
+        Objects.requireNonNull(periodo, "periodo não pode ser nulo");
+        if (fechados < 0 || falhas < 0) {
+            throw new IllegalArgumentException("contadores não podem ser negativos");
+        }
+    }
+
+    public static ProgressoFechamentoLote iniciar(Periodo periodo) {
+        return new ProgressoFechamentoLote(periodo, null, 0L, 0L, false);
+    }
+
+    /**
+     * Avança o ponto de retomada após um conjunto de lotes processados.
+     */
+    public ProgressoFechamentoLote avancar(UUID ultimoProcessado, long novosFechados, long novasFalhas) {
+        Objects.requireNonNull(ultimoProcessado, "ultimoProcessado não pode ser nulo");
+        return new ProgressoFechamentoLote(periodo, ultimoProcessado,
+                Math.addExact(fechados, novosFechados), Math.addExact(falhas, novasFalhas), false);
+    }
+
+    public ProgressoFechamentoLote concluir() {
+        return new ProgressoFechamentoLote(periodo, ultimoMesId, fechados, falhas, true);
+    }
+}
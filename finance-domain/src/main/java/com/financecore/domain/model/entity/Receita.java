@@ -1,10 +1,13 @@
 package com.financecore.domain.model.entity;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.Objects;
 import java.util.UUID;
 
+import com.financecore.domain.model.valueobject.Dinheiro;
+import com.financecore.domain.model.valueobject.Periodo;
+
 /**
  * Entidade de domínio que representa uma Receita.
  *
@@ -15,27 +18,62 @@ public class Receita {
     private final UUID id;
     private final UUID mesFinanceiroId;
     private final String descricao;
-    private final BigDecimal valor;
+    private final Dinheiro valor;
     private final TipoReceita tipo;
     private final LocalDate dataReferencia;
+    private final UUID recorrenciaId; // RN-05: comum a todas as ocorrências de uma receita FIXA
+    private final Integer diaRecorrencia; // RN-05: dia do mês da primeira ocorrência
 
+    /**
+     * Receitas FIXA criadas por aqui iniciam uma nova recorrência, identificada
+     * pelo próprio id.
+     */
     public Receita(UUID id,
                    UUID mesFinanceiroId,
                    String descricao,
-                   BigDecimal valor,
+                   Dinheiro valor,
                    TipoReceita tipo,
                    LocalDate dataReferencia) {
+        this(id, mesFinanceiroId, descricao, valor, tipo, dataReferencia,
+                tipo == TipoReceita.FIXA ? id : null);
+    }
+
+    /**
+     * Ocorrências carregadas sem o dia da recorrência (dados anteriores a ele)
+     * assumem o dia da própria data.
+     */
+    public Receita(UUID id,
+                   UUID mesFinanceiroId,
+                   String descricao,
+                   Dinheiro valor,
+                   TipoReceita tipo,
+                   LocalDate dataReferencia,
+                   UUID recorrenciaId) {
+        this(id, mesFinanceiroId, descricao, valor, tipo, dataReferencia, recorrenciaId,
+                recorrenciaId == null ? null : dataReferencia.getDayOfMonth());
+    }
+
+    public Receita(UUID id,
+                   UUID mesFinanceiroId,
+                   String descricao,
+                   Dinheiro valor,
+                   TipoReceita tipo,
+                   LocalDate dataReferencia,
+                   UUID recorrenciaId,
+                   Integer diaRecorrencia) {
         this.id = Objects.requireNonNull(id, "id não pode ser nulo");
         this.mesFinanceiroId = Objects.requireNonNull(mesFinanceiroId, "mesFinanceiroId não pode ser nulo");
         this.descricao = validarDescricao(descricao);
         this.valor = validarValorPositivo(valor);
         this.tipo = Objects.requireNonNull(tipo, "tipo não pode ser nulo");
         this.dataReferencia = Objects.requireNonNull(dataReferencia, "dataReferencia não pode ser nula");
+        this.recorrenciaId = validarRecorrencia(tipo, recorrenciaId);
+        this.diaRecorrencia = validarDiaRecorrencia(this.recorrenciaId, diaRecorrencia);
     }
 
     public static Receita nova(UUID mesFinanceiroId,
                                String descricao,
-                               BigDecimal valor,
+                               Dinheiro valor,
                                TipoReceita tipo,
                                LocalDate dataReferencia) {
         return new Receita(
@@ -56,14 +94,55 @@ public class Receita {
         return descricao;
     }
 
-    private static BigDecimal validarValorPositivo(BigDecimal valor) {
+    private static UUID validarRecorrencia(TipoReceita tipo, UUID recorrenciaId) {
+        if (tipo == TipoReceita.FIXA) {
+            return Objects.requireNonNull(recorrenciaId, "recorrenciaId não pode ser nulo para receita FIXA");
+        }
+        if (recorrenciaId != null) {
+            throw new IllegalArgumentException("somente receitas FIXA possuem recorrência");
+        }
+        return null;
+    }
+
+    private static Integer validarDiaRecorrencia(UUID recorrenciaId, Integer diaRecorrencia) {
+        if (recorrenciaId == null) {
+            if (diaRecorrencia != null) {
+                throw new IllegalArgumentException("somente receitas FIXA possuem dia de recorrência");
+            }
+            return null;
+        }
+        Objects.requireNonNull(diaRecorrencia, "diaRecorrencia não pode ser nulo para receita FIXA");
+        if (diaRecorrencia < 1 || diaRecorrencia > 31) {
+            throw new IllegalArgumentException("diaRecorrencia deve estar entre 1 e 31");
+        }
+        return diaRecorrencia;
+    }
+
+    private static Dinheiro validarValorPositivo(Dinheiro valor) {
         Objects.requireNonNull(valor, "valor não pode ser nulo");
-        if (valor.signum() <= 0) {
+        if (!valor.isPositivo()) {
             throw new IllegalArgumentException("valor deve ser maior que zero");
         }
         return valor;
     }
 
+    /**
+     * Aplica RN-05: nova ocorrência desta receita FIXA em outro mês, na mesma
+     * recorrência e no dia da primeira ocorrência, limitado ao último dia do
+     * mês. Uma ocorrência no dia 31 cai em 28/29 de fevereiro e volta ao dia
+     * 31 em março.
+     */
+    public Receita repetirEm(UUID outroMesFinanceiroId, Periodo periodo) {
+        Objects.requireNonNull(periodo, "periodo não pode ser nulo");
+        if (recorrenciaId == null) {
+            throw new IllegalStateException("somente receitas FIXA podem ser repetidas");
+        }
+        YearMonth mes = YearMonth.of(periodo.ano(), periodo.mes());
+        LocalDate dataNoPeriodo = mes.atDay(Math.min(diaRecorrencia, mes.lengthOfMonth()));
+        return new Receita(UUID.randomUUID(), outroMesFinanceiroId, descricao, valor, tipo,
+                dataNoPeriodo, recorrenciaId, diaRecorrencia);
+    }
+
     public UUID getId() {
         return id;
     }
@@ -76,7 +155,7 @@ public class Receita {
         return descricao;
     }
 
-    public BigDecimal getValor() {
+    public Dinheiro getValor() {
         return valor;
     }
 
@@ -87,5 +166,16 @@ public class Receita {
     public LocalDate getDataReferencia() {
         return dataReferencia;
     }
+
+    /**
+     * Recorrência à qual a receita pertence; nula se não for FIXA.
+     */
+    public UUID getRecorrenciaId() {
+        return recorrenciaId;
+    }
+
+    public Integer getDiaRecorrencia() {
+        return diaRecorrencia;
+    }
 }
 
@@ -0,0 +1,88 @@
+package com.financecore.domain.model.entity;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Regra de classificação automática de despesas (RF06).
+ *
+ * Associa uma palavra-chave da descrição e/ou um método de pagamento a uma
+ * Categoria. Regras pertencem a um usuário (RN-10). Entre regras que se
+ * aplicam à mesma despesa, prevalece a de maior prioridade.
+ */
+public class RegraClassificacao {
+
+    private final UUID id;
+    private final UUID usuarioId;
+    private final String palavraChave;
+    private final String metodoPagamento;
+    private final Categoria categoria;
+    private final int prioridade;
+
+    public RegraClassificacao(UUID id,
+                              UUID usuarioId,
+                              String palavraChave,
+                              String metodoPagamento,
+                              Categoria categoria,
+                              int prioridade) {
+        this.id = Objects.requireNonNull(id, "id não pode ser nulo");
+        this.usuarioId = Objects.requireNonNull(usuarioId, "usuarioId não pode ser nulo");
+        this.palavraChave = vazioParaNulo(palavraChave);
+        this.metodoPagamento = vazioParaNulo(metodoPagamento);
+        this.categoria = Objects.requireNonNull(categoria, "categoria não pode ser nula");
+        this.prioridade = prioridade;
+        if (this.palavraChave == null && this.metodoPagamento == null) {
+            throw new IllegalArgumentException("regra deve ter palavra-chave ou método de pagamento");
+        }
+    }
+
+    public static RegraClassificacao nova(UUID usuarioId,
+                                          String palavraChave,
+                                          String metodoPagamento,
+                                          Categoria categoria,
+                                          int prioridade) {
+        return new RegraClassificacao(
+                UUID.randomUUID(),
+                usuarioId,
+                palavraChave,
+                metodoPagamento,
+                categoria,
+                prioridade
+        );
+    }
+
+    private static String vazioParaNulo(String valor) {
+        return valor == null || valor.isBlank() ? null : valor.strip();
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getUsuarioId() {
+        return usuarioId;
+    }
+
+    /**
+     * Palavra ou expressão procurada na descrição; nula se a regra usa apenas
+     * o método de pagamento.
+     */
+    public String getPalavraChave() {
+        return palavraChave;
+    }
+
+    /**
+     * Método de pagamento exigido; nulo se a regra vale para qualquer método.
+     */
+    public String getMetodoPagamento() {
+        return metodoPagamento;
+    }
+
+    public Categoria getCategoria() {
+        return categoria;
+    }
+
+    public int getPrioridade() {
+        return prioridade;
+    }
+}
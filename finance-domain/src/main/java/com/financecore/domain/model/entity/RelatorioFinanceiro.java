@@ -2,47 +2,81 @@ package com.financecore.domain.model.entity;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
+import com.financecore.domain.model.entity.HistoricoFinanceiro.TotalCategoria;
+import com.financecore.domain.model.valueobject.Dinheiro;
+
 /**
  * Entidade de domínio que representa um relatório financeiro consolidado.
  *
  * Não altera estado do domínio; apenas consolida dados.
+ * Instâncias são produzidas por {@link ConsolidadorRelatorio}.
  */
 public class RelatorioFinanceiro {
 
     private final UUID id;
+    private final UUID usuarioId;
     private final LocalDate periodoInicio;
     private final LocalDate periodoFim;
     private final LocalDateTime dataGeracao;
+    private final int quantidadeMeses;
+    private final Dinheiro saldoInicial;
+    private final Dinheiro saldoFinal;
+    private final Dinheiro totalReceitas;
+    private final Dinheiro totalDespesas;
+    private final Dinheiro totalParcelas;
+    private final Dinheiro despesasEssenciais;
+    private final Dinheiro despesasNaoEssenciais;
+    private final List<TotalCategoria> despesasPorCategoria;
 
     public RelatorioFinanceiro(UUID id,
+                               UUID usuarioId,
                                LocalDate periodoInicio,
                                LocalDate periodoFim,
-                               LocalDateTime dataGeracao) {
+                               LocalDateTime dataGeracao,
+                               int quantidadeMeses,
+                               Dinheiro saldoInicial,
+                               Dinheiro saldoFinal,
+                               Dinheiro totalReceitas,
+                               Dinheiro totalDespesas,
+                               Dinheiro totalParcelas,
+                               Dinheiro despesasEssenciais,
+                               Dinheiro despesasNaoEssenciais,
+                               List<TotalCategoria> despesasPorCategoria) {
         this.id = Objects.requireNonNull(id, "id não pode ser nulo");
+        this.usuarioId = Objects.requireNonNull(usuarioId, "usuarioId não pode ser nulo");
         this.periodoInicio = Objects.requireNonNull(periodoInicio, "periodoInicio não pode ser nulo");
         this.periodoFim = Objects.requireNonNull(periodoFim, "periodoFim não pode ser nulo");
         this.dataGeracao = Objects.requireNonNull(dataGeracao, "dataGeracao não pode ser nula");
         if (this.periodoFim.isBefore(this.periodoInicio)) {
             throw new IllegalArgumentException("periodoFim não pode ser anterior a periodoInicio");
         }
-    }
-
-    public static RelatorioFinanceiro novo(LocalDate periodoInicio, LocalDate periodoFim) {
-        return new RelatorioFinanceiro(
-                UUID.randomUUID(),
-                periodoInicio,
-                periodoFim,
-                LocalDateTime.now()
-        );
+        if (quantidadeMeses < 0) {
+            throw new IllegalArgumentException("quantidadeMeses não pode ser negativa");
+        }
+        this.quantidadeMeses = quantidadeMeses;
+        this.saldoInicial = Objects.requireNonNull(saldoInicial, "saldoInicial não pode ser nulo");
+        this.saldoFinal = Objects.requireNonNull(saldoFinal, "saldoFinal não pode ser nulo");
+        this.totalReceitas = Objects.requireNonNull(totalReceitas, "totalReceitas não pode ser nulo");
+        this.totalDespesas = Objects.requireNonNull(totalDespesas, "totalDespesas não pode ser nulo");
+        this.totalParcelas = Objects.requireNonNull(totalParcelas, "totalParcelas não pode ser nulo");
+        this.despesasEssenciais = Objects.requireNonNull(despesasEssenciais, "despesasEssenciais não pode ser nulo");
+        this.despesasNaoEssenciais = Objects.requireNonNull(despesasNaoEssenciais, "despesasNaoEssenciais não pode ser nulo");
+        this.despesasPorCategoria = List.copyOf(Objects.requireNonNull(despesasPorCategoria, "despesasPorCategoria não pode ser nulo"));
     }
 
     public UUID getId() {
         return id;
     }
 
+    public UUID getUsuarioId() {
+        return usuarioId;
+    }
+
     public LocalDate getPeriodoInicio() {
         return periodoInicio;
     }
@@ -54,5 +88,50 @@ public class RelatorioFinanceiro {
     public LocalDateTime getDataGeracao() {
         return dataGeracao;
     }
-}
 
+    /**
+     * Quantidade de meses do intervalo que possuíam dados.
+     */
+    public int getQuantidadeMeses() {
+        return quantidadeMeses;
+    }
+
+    /**
+     * Saldo inicial do primeiro mês com dados no intervalo.
+     */
+    public Dinheiro getSaldoInicial() {
+        return saldoInicial;
+    }
+
+    /**
+     * Saldo final do último mês com dados no intervalo
+     * (saldo parcial, se o mês ainda estiver ABERTO).
+     */
+    public Dinheiro getSaldoFinal() {
+        return saldoFinal;
+    }
+
+    public Dinheiro getTotalReceitas() {
+        return totalReceitas;
+    }
+
+    public Dinheiro getTotalDespesas() {
+        return totalDespesas;
+    }
+
+    public Dinheiro getTotalParcelas() {
+        return totalParcelas;
+    }
+
+    public Dinheiro getDespesasEssenciais() {
+        return despesasEssenciais;
+    }
+
+    public Dinheiro getDespesasNaoEssenciais() {
+        return despesasNaoEssenciais;
+    }
+
+    public List<TotalCategoria> getDespesasPorCategoria() {
+        return Collections.unmodifiableList(despesasPorCategoria);
+    }
+}
@@ -0,0 +1,15 @@
+package com.financecore.domain.model.entity;
+
+/**
+ * Tipo de divergência de saldo detectada na auditoria (RN-08):
+ * - SALDO_INICIAL: saldo inicial difere do saldo final do mês anterior fechado
+ * - SALDO_FINAL: saldo final gravado difere do recalculado a partir dos lançamentos
+ * - LANCAMENTO_INCONSISTENTE: lançamento com data fora do período ou de outro mês
+ * - SALDO_INFORMADO: saldo calculado difere do saldo informado pelo usuário
+ */
+public enum TipoDivergencia {
+    SALDO_INICIAL,
+    SALDO_FINAL,
+    LANCAMENTO_INCONSISTENTE,
+    SALDO_INFORMADO
+}
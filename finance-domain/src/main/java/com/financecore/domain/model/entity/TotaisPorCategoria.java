@@ -0,0 +1,87 @@
+package com.financecore.domain.model.entity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.financecore.domain.model.entity.HistoricoFinanceiro.TotalCategoria;
+import com.financecore.domain.model.valueobject.Dinheiro;
+
+/**
+ * Total de despesas por categoria de um mês, em arrays paralelos na ordem em
+ * que cada categoria apareceu. Somam o valor de cada despesa no saldo do mês
+ * (despesas PARCELADA contam zero).
+ *
+ * Um mês tem poucas categorias, então a busca é linear. Uma categoria que
+ * deixa de ter despesas (por reclassificação) mantém sua posição com total
+ * zero e não é listada.
+ */
+final class TotaisPorCategoria {
+
+    private static final int CAPACIDADE_INICIAL = 8;
+
+    private Categoria[] categorias = new Categoria[CAPACIDADE_INICIAL];
+    private long[] totais = new long[CAPACIDADE_INICIAL];
+    private int tamanho;
+    private long essenciais;
+    private long naoEssenciais;
+
+    void somar(Categoria categoria, long valor) {
+        int posicao = posicao(categoria);
+        totais[posicao] = Math.addExact(totais[posicao], valor);
+        if (categoria.isEssencial()) {
+            essenciais = Math.addExact(essenciais, valor);
+        } else {
+            naoEssenciais = Math.addExact(naoEssenciais, valor);
+        }
+    }
+
+    void somarTodas(List<Despesa> despesas) {
+        for (Despesa despesa : despesas) {
+            somar(despesa.getCategoria(), MesFinanceiro.valorNoSaldo(despesa));
+        }
+    }
+
+    /**
+     * Move o valor de uma despesa reclassificada entre categorias.
+     */
+    void mover(Categoria origem, Categoria destino, long valor) {
+        somar(origem, Math.negateExact(valor));
+        somar(destino, valor);
+    }
+
+    long essenciais() {
+        return essenciais;
+    }
+
+    long naoEssenciais() {
+        return naoEssenciais;
+    }
+
+    List<TotalCategoria> listar() {
+        List<TotalCategoria> lista = new ArrayList<>(tamanho);
+        for (int i = 0; i < tamanho; i++) {
+            if (totais[i] != 0L) {
+                Categoria categoria = categorias[i];
+                lista.add(new TotalCategoria(categoria.getId(), categoria.getNome(), categoria.isEssencial(),
+                        Dinheiro.deCentavos(totais[i])));
+            }
+        }
+        return lista;
+    }
+
+    private int posicao(Categoria categoria) {
+        for (int i = 0; i < tamanho; i++) {
+            if (categorias[i].getId().equals(categoria.getId())) {
+                return i;
+            }
+        }
+        if (tamanho == categorias.length) {
+            int novaCapacidade = tamanho * 2;
+            categorias = Arrays.copyOf(categorias, novaCapacidade);
+            totais = Arrays.copyOf(totais, novaCapacidade);
+        }
+        categorias[tamanho] = categoria;
+        return tamanho++;
+    }
+}
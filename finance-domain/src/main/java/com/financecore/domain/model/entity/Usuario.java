@@ -1,13 +1,17 @@
 package com.financecore.domain.model.entity;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 import com.financecore.domain.model.exception.DomainException;
+import com.financecore.domain.model.valueobject.Dinheiro;
+import com.financecore.domain.model.valueobject.Periodo;
 
 /**
  * Aggregate Root: Usuário.
@@ -26,6 +30,8 @@ public class Usuario {
     private final LocalDateTime dataCriacao;
     private final PreferenciasSistema preferencias;
     private final List<MesFinanceiro> mesesFinanceiros;
+    private final List<MesFinanceiro> mesesFinanceirosView;
+    private final IndiceMesesPorPeriodo indicePeriodos;
 
     public Usuario(UUID id,
                    String nome,
@@ -39,6 +45,8 @@ public class Usuario {
         this.mesesFinanceiros = new ArrayList<>(
                 Objects.requireNonNullElseGet(mesesFinanceiros, ArrayList::new)
         );
+        this.mesesFinanceirosView = Collections.unmodifiableList(this.mesesFinanceiros);
+        this.indicePeriodos = new IndiceMesesPorPeriodo(this.mesesFinanceiros);
     }
 
     public static Usuario novo(String nome, PreferenciasSistema preferencias) {
@@ -61,25 +69,138 @@ public class Usuario {
 
     /**
      * Cria um novo Mês Financeiro para este usuário, garantindo RN-01:
-     * no máximo um mês ABERTO por usuário para um mesmo mês/ano.
+     * no máximo um mês por usuário para um mesmo mês/ano. Um mês FECHADO
+     * também ocupa o período; correções seguem RN-02.
+     *
+     * Aplica RN-05: receitas e despesas FIXA do mês de período anterior mais
+     * próximo são repetidas no novo mês.
      */
-    public MesFinanceiro criarMesFinanceiro(int mes, int ano, java.math.BigDecimal saldoInicial) {
+    public MesFinanceiro criarMesFinanceiro(int mes, int ano, Dinheiro saldoInicial) {
         Objects.requireNonNull(saldoInicial, "saldoInicial não pode ser nulo");
+        if (saldoInicial.isNegativo()) {
+            throw new IllegalArgumentException("saldoInicial não pode ser negativo");
+        }
+        return novoMesFinanceiro(mes, ano, saldoInicial);
+    }
 
-        boolean existeAbertoMesmoPeriodo = mesesFinanceiros.stream()
-                .anyMatch(m -> m.getMes() == mes
-                        && m.getAno() == ano
-                        && m.getStatus() == MesFinanceiroStatus.ABERTO);
-
-        if (existeAbertoMesmoPeriodo) {
-            throw new DomainException("Já existe mês financeiro ABERTO para " + mes + "/" + ano);
+    private MesFinanceiro novoMesFinanceiro(int mes, int ano, Dinheiro saldoInicial) {
+        MesFinanceiro mesmoPeriodo = indicePeriodos.buscar(Periodo.indice(mes, ano));
+        if (mesmoPeriodo != null) {
+            throw new DomainException("Já existe mês financeiro " + mesmoPeriodo.getStatus()
+                    + " para " + mes + "/" + ano);
         }
 
         MesFinanceiro mesFinanceiro = MesFinanceiro.novo(this.id, mes, ano, saldoInicial);
+        MesFinanceiro anterior = indicePeriodos.buscarAnterior(Periodo.indice(mes, ano));
+        if (anterior != null) {
+            mesFinanceiro.propagarRecorrencias(anterior);
+        }
         this.mesesFinanceiros.add(mesFinanceiro);
+        this.indicePeriodos.registrar(mesFinanceiro);
         return mesFinanceiro;
     }
 
+    /**
+     * Retorna os meses financeiros de uma sequência de períodos consecutivos,
+     * criando de uma só vez os que ainda não existem.
+     *
+     * Cada mês criado aqui inicia com o saldo de encerramento do mês anterior
+     * mais próximo (RN-07): o final, se este já foi FECHADO, ou o parcial no
+     * momento da criação. Sem mês anterior, inicia com saldo zero.
+     */
+    public List<MesFinanceiro> obterOuCriarMesesFinanceiros(Periodo inicio, int quantidade) {
+        Objects.requireNonNull(inicio, "inicio não pode ser nulo");
+        if (quantidade <= 0) {
+            throw new IllegalArgumentException("quantidade deve ser > 0");
+        }
+        List<MesFinanceiro> resultado = new ArrayList<>(quantidade);
+        int primeiro = inicio.indice();
+        for (int indice = primeiro; indice < primeiro + quantidade; indice++) {
+            MesFinanceiro existente = indicePeriodos.buscar(indice);
+            if (existente != null) {
+                resultado.add(existente);
+            } else {
+                Periodo periodo = Periodo.deIndice(indice);
+                MesFinanceiro anterior = indicePeriodos.buscarAnterior(indice);
+                Dinheiro saldoInicial = anterior == null ? Dinheiro.ZERO : anterior.saldoEncerramento();
+                resultado.add(novoMesFinanceiro(periodo.mes(), periodo.ano(), saldoInicial));
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Cria, em ordem cronológica, os meses que faltam entre o mês mais recente
+     * do usuário e o período informado (inclusive). Cada mês criado recebe as
+     * recorrências do anterior (RN-05), então meses pulados são preenchidos de
+     * uma só vez.
+     *
+     * Sem meses anteriores, cria apenas o mês do período informado.
+     *
+     * @return meses criados, em ordem de período; vazio se nada faltava
+     */
+    public List<MesFinanceiro> preencherMesesAte(Periodo fim) {
+        Objects.requireNonNull(fim, "fim não pode ser nulo");
+        MesFinanceiro maisRecente = indicePeriodos.buscarMaisRecente();
+        Periodo inicio = maisRecente == null
+                ? fim
+                : Periodo.de(maisRecente.getMes(), maisRecente.getAno()).proximo();
+        if (inicio.compareTo(fim) > 0) {
+            return List.of();
+        }
+        return obterOuCriarMesesFinanceiros(inicio, inicio.mesesAte(fim) + 1);
+    }
+
+    /**
+     * Registra meses já persistidos deste usuário, carregados à parte. As
+     * operações de ciclo de vida só consideram os meses conhecidos, então
+     * basta carregar os que a operação usa (por exemplo, o anterior ao mês a
+     * abrir). Meses já conhecidos são ignorados.
+     */
+    public void conhecerMeses(Collection<MesFinanceiro> meses) {
+        Objects.requireNonNull(meses, "meses não pode ser nulo");
+        for (MesFinanceiro mes : meses) {
+            if (!id.equals(mes.getUsuarioId())) {
+                // RN-10: um usuário só conhece os próprios meses
+                throw new DomainException("Mês financeiro " + mes.getId() + " não pertence ao usuário " + id);
+            }
+            MesFinanceiro conhecido = indicePeriodos.buscar(Periodo.indice(mes.getMes(), mes.getAno()));
+            if (conhecido == null || !conhecido.getId().equals(mes.getId())) {
+                mesesFinanceiros.add(mes);
+                indicePeriodos.registrar(mes);
+            }
+        }
+    }
+
+    /**
+     * Busca o mês financeiro de um período. Havendo mais de um registro para o
+     * mesmo mês/ano, retorna o criado por último.
+     */
+    public Optional<MesFinanceiro> buscarMesFinanceiro(int mes, int ano) {
+        return Optional.ofNullable(indicePeriodos.buscar(Periodo.indice(mes, ano)));
+    }
+
+    public Optional<MesFinanceiro> buscarMesFinanceiro(Periodo periodo) {
+        Objects.requireNonNull(periodo, "periodo não pode ser nulo");
+        return buscarMesFinanceiro(periodo.mes(), periodo.ano());
+    }
+
+    /**
+     * Busca o mês financeiro ABERTO de período mais recente.
+     */
+    public Optional<MesFinanceiro> buscarMesAberto() {
+        return Optional.ofNullable(indicePeriodos.buscarAbertoMaisRecente());
+    }
+
+    /**
+     * Lista os meses financeiros entre dois períodos (inclusive), em ordem cronológica.
+     */
+    public List<MesFinanceiro> buscarMesesFinanceiros(Periodo inicio, Periodo fim) {
+        Objects.requireNonNull(inicio, "inicio não pode ser nulo");
+        Objects.requireNonNull(fim, "fim não pode ser nulo");
+        return indicePeriodos.intervalo(inicio.indice(), fim.indice());
+    }
+
     public UUID getId() {
         return id;
     }
@@ -96,8 +217,11 @@ public class Usuario {
         return preferencias;
     }
 
+    /**
+     * Visão somente leitura dos meses financeiros, na ordem de criação.
+     */
     public List<MesFinanceiro> getMesesFinanceiros() {
-        return List.copyOf(mesesFinanceiros);
+        return mesesFinanceirosView;
     }
 }
 
@@ -0,0 +1,87 @@
+package com.financecore.domain.model.event;
+
+import java.util.Objects;
+import java.util.UUID;
+
+import com.financecore.domain.model.entity.Categoria;
+import com.financecore.domain.model.entity.Despesa;
+import com.financecore.domain.model.entity.Parcela;
+import com.financecore.domain.model.entity.Receita;
+import com.financecore.domain.model.valueobject.Dinheiro;
+
+/**
+ * Fato ocorrido em um MêsFinanceiro, na ordem em que foi registrado.
+ *
+ * Reaplicar os eventos de um mês, a partir da abertura ou de um snapshot,
+ * reconstrói exatamente o seu estado. A sequência também serve de trilha de
+ * auditoria (RN-08).
+ */
+public sealed interface EventoMesFinanceiro {
+
+    UUID mesFinanceiroId();
+
+    record MesAberto(UUID mesFinanceiroId, UUID usuarioId, int mes, int ano, Dinheiro saldoInicial)
+            implements EventoMesFinanceiro {
+        public MesAberto {
+            Objects.requireNonNull(mesFinanceiroId, "mesFinanceiroId não pode ser nulo");
+            Objects.requireNonNull(usuarioId, "usuarioId não pode ser nulo");
+            Objects.requireNonNull(saldoInicial, "saldoInicial não pode ser nulo");
+        }
+    }
+
+    record ReceitaRegistrada(Receita receita) implements EventoMesFinanceiro {
+        public ReceitaRegistrada {
+            Objects.requireNonNull(receita, "receita não pode ser nula");
+        }
+
+        @Override
+        public UUID mesFinanceiroId() {
+            return receita.getMesFinanceiroId();
+        }
+    }
+
+    record DespesaRegistrada(Despesa despesa) implements EventoMesFinanceiro {
+        public DespesaRegistrada {
+            Objects.requireNonNull(despesa, "despesa não pode ser nula");
+        }
+
+        @Override
+        public UUID mesFinanceiroId() {
+            return despesa.getMesFinanceiroId();
+        }
+    }
+
+    record ParcelaRegistrada(Parcela parcela) implements EventoMesFinanceiro {
+        public ParcelaRegistrada {
+            Objects.requireNonNull(parcela, "parcela não pode ser nula");
+        }
+
+        @Override
+        public UUID mesFinanceiroId() {
+            return parcela.getMesFinanceiroId();
+        }
+    }
+
+    record DespesaReclassificada(UUID mesFinanceiroId, UUID despesaId, Categoria categoria)
+            implements EventoMesFinanceiro {
+        public DespesaReclassificada {
+            Objects.requireNonNull(mesFinanceiroId, "mesFinanceiroId não pode ser nulo");
+            Objects.requireNonNull(despesaId, "despesaId não pode ser nulo");
+            Objects.requireNonNull(categoria, "categoria não pode ser nula");
+        }
+    }
+
+    record ParcelaPaga(UUID mesFinanceiroId, UUID parcelaId) implements EventoMesFinanceiro {
+        public ParcelaPaga {
+            Objects.requireNonNull(mesFinanceiroId, "mesFinanceiroId não pode ser nulo");
+            Objects.requireNonNull(parcelaId, "parcelaId não pode ser nulo");
+        }
+    }
+
+    record MesFechado(UUID mesFinanceiroId, Dinheiro saldoFinal) implements EventoMesFinanceiro {
+        public MesFechado {
+            Objects.requireNonNull(mesFinanceiroId, "mesFinanceiroId não pode ser nulo");
+            Objects.requireNonNull(saldoFinal, "saldoFinal não pode ser nulo");
+        }
+    }
+}
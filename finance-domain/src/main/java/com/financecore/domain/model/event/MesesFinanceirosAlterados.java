@@ -0,0 +1,45 @@
+package com.financecore.domain.model.event;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import com.financecore.domain.model.entity.MesFinanceiro;
+
+/**
+ * Meses financeiros gravados por uma operação, com os eventos que cada um
+ * registrou nela.
+ *
+ * Os eventos são copiados no momento da criação: o repositório descarta os
+ * eventos pendentes do agregado depois do commit, e quem trata este evento
+ * só o recebe depois disso. Meses sem eventos pendentes ficam de fora.
+ */
+public record MesesFinanceirosAlterados(List<MesAlterado> meses) {
+
+    public MesesFinanceirosAlterados {
+        meses = List.copyOf(Objects.requireNonNull(meses, "meses não pode ser nulo"));
+    }
+
+    public static MesesFinanceirosAlterados de(Collection<MesFinanceiro> meses) {
+        Objects.requireNonNull(meses, "meses não pode ser nulo");
+        List<MesAlterado> alterados = new ArrayList<>(meses.size());
+        for (MesFinanceiro mes : meses) {
+            if (!mes.getEventos().isEmpty()) {
+                alterados.add(new MesAlterado(mes, mes.getEventos()));
+            }
+        }
+        return new MesesFinanceirosAlterados(alterados);
+    }
+
+    public boolean isVazio() {
+        return meses.isEmpty();
+    }
+
+    public record MesAlterado(MesFinanceiro mes, List<EventoMesFinanceiro> eventos) {
+        public MesAlterado {
+            Objects.requireNonNull(mes, "mes não pode ser nulo");
+            eventos = List.copyOf(Objects.requireNonNull(eventos, "eventos não pode ser nulo"));
+        }
+    }
+}
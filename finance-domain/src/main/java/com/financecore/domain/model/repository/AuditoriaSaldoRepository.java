@@ -0,0 +1,39 @@
+package com.financecore.domain.model.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.financecore.domain.model.entity.DivergenciaSaldo;
+
+/**
+ * Contrato de repositório do domínio para a auditoria de saldos (RF10, RN-08).
+ *
+ * Guarda, por usuário, o instante da última auditoria (ponto de retomada da
+ * auditoria incremental) e registra as divergências encontradas.
+ */
+public interface AuditoriaSaldoRepository {
+
+    /**
+     * Instante de início da última auditoria concluída do usuário.
+     */
+    Optional<LocalDateTime> buscarUltimaAuditoria(UUID usuarioId);
+
+    /**
+     * Registra uma auditoria concluída: avança o ponto de retomada do usuário
+     * e grava as divergências encontradas.
+     */
+    void registrarAuditoria(UUID usuarioId, LocalDateTime iniciadaEm, List<DivergenciaSaldo> divergencias);
+
+    /**
+     * Registra divergências encontradas fora de uma auditoria (UC-15),
+     * sem alterar o ponto de retomada.
+     */
+    void registrarDivergencias(List<DivergenciaSaldo> divergencias);
+
+    /**
+     * Usuários com meses gravados após a última auditoria, ou nunca auditados.
+     */
+    List<UUID> listarUsuariosPendentes();
+}
@@ -25,7 +25,8 @@ public interface CategoriaRepository {
     Optional<Categoria> buscarPorId(UUID id);
 
     /**
-     * Busca uma categoria pelo nome (exato).
+     * Busca uma categoria pelo nome, ignorando maiúsculas/minúsculas e
+     * espaços nas extremidades.
      * Útil para evitar duplicações e para busca durante classificação.
      */
     Optional<Categoria> buscarPorNome(String nome);
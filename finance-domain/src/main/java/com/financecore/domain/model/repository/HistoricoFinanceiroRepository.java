@@ -0,0 +1,43 @@
+package com.financecore.domain.model.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.financecore.domain.model.entity.HistoricoFinanceiro;
+import com.financecore.domain.model.valueobject.Periodo;
+
+/**
+ * Contrato de repositório do domínio para HistoricoFinanceiro.
+ *
+ * Consolidações são gravadas uma única vez, no fechamento do mês (RN-09),
+ * e a partir daí apenas lidas.
+ */
+public interface HistoricoFinanceiroRepository {
+
+    /**
+     * Grava a consolidação de um mês fechado.
+     * Uma segunda gravação para o mesmo mês é ignorada.
+     */
+    HistoricoFinanceiro salvar(HistoricoFinanceiro historico);
+
+    /**
+     * Grava várias consolidações em uma única operação. Meses já consolidados
+     * são ignorados. Implementações devem agrupar as escritas em lote.
+     */
+    default void salvarTodos(Collection<HistoricoFinanceiro> historicos) {
+        historicos.forEach(this::salvar);
+    }
+
+    /**
+     * Busca a consolidação de um mês financeiro específico.
+     */
+    Optional<HistoricoFinanceiro> buscarPorMesFinanceiroId(UUID mesFinanceiroId);
+
+    /**
+     * Lista as consolidações de um usuário entre dois períodos (inclusive),
+     * em ordem de período.
+     */
+    List<HistoricoFinanceiro> listarPorUsuarioEPeriodo(UUID usuarioId, Periodo inicio, Periodo fim);
+}
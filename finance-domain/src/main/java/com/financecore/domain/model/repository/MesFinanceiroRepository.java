@@ -1,10 +1,14 @@
 package com.financecore.domain.model.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import com.financecore.domain.model.entity.MesFinanceiro;
+import com.financecore.domain.model.valueobject.Periodo;
 
 /**
  * Contrato de repositório do domínio para MêsFinanceiro.
@@ -13,8 +17,59 @@ public interface MesFinanceiroRepository {
 
     MesFinanceiro salvar(MesFinanceiro mesFinanceiro);
 
+    /**
+     * Salva vários meses em uma única operação.
+     * Implementações devem agrupar as escritas em lote.
+     */
+    default List<MesFinanceiro> salvarTodos(Collection<MesFinanceiro> mesesFinanceiros) {
+        return mesesFinanceiros.stream()
+                .map(this::salvar)
+                .toList();
+    }
+
     Optional<MesFinanceiro> buscarPorId(UUID id);
 
     List<MesFinanceiro> buscarPorUsuarioEStatus(UUID usuarioId, String status);
-}
 
+    /**
+     * Busca vários meses, com seus lançamentos, em uma única carga.
+     * Ids inexistentes são ignorados.
+     */
+    List<MesFinanceiro> buscarPorIds(Collection<UUID> ids);
+
+    /**
+     * Ids dos meses ABERTOS de um período, de todos os usuários, em ordem de
+     * id e posteriores a aposId (nulo: desde o primeiro). Base do fechamento
+     * em lote, paginado por id.
+     */
+    List<UUID> listarIdsAbertosPorPeriodo(Periodo periodo, UUID aposId, int limite);
+
+    /**
+     * Mês do usuário de período mais recente até o informado (inclusive), com
+     * seus lançamentos. Basta para criar meses a partir do anterior (RN-05,
+     * RN-07) sem carregar os demais.
+     */
+    Optional<MesFinanceiro> buscarMaisRecenteAte(UUID usuarioId, Periodo periodo);
+
+    /**
+     * Percorre, em ordem de período, todos os meses do usuário entre inicio e
+     * fim (inclusive), carregando-os sob demanda. O chamador deve fechar o Stream.
+     */
+    Stream<MesFinanceiro> percorrerPorUsuarioEPeriodo(UUID usuarioId, Periodo inicio, Periodo fim);
+
+    /**
+     * Percorre, em ordem de período, os meses do usuário entre inicio e fim
+     * (inclusive) que ainda não possuem consolidação em HistoricoFinanceiro.
+     *
+     * Os meses são carregados sob demanda, com seus lançamentos, à medida que
+     * o Stream é consumido. O chamador deve fechar o Stream.
+     */
+    Stream<MesFinanceiro> percorrerNaoConsolidados(UUID usuarioId, Periodo inicio, Periodo fim);
+
+    /**
+     * Períodos dos meses do usuário gravados após o instante informado, em
+     * ordem. Com desde nulo, retorna os períodos de todos os meses.
+     * Base da auditoria incremental de saldos (RF10).
+     */
+    List<Periodo> listarPeriodosAlteradosDesde(UUID usuarioId, LocalDateTime desde);
+}
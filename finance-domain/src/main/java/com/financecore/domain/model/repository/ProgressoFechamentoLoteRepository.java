@@ -0,0 +1,20 @@
+package com.financecore.domain.model.repository;
+
+import java.util.Optional;
+
+import com.financecore.domain.model.entity.ProgressoFechamentoLote;
+import com.financecore.domain.model.valueobject.Periodo;
+
+/**
+ * Contrato de repositório do domínio para o progresso do fechamento em lote.
+ * Há no máximo um progresso por período.
+ */
+public interface ProgressoFechamentoLoteRepository {
+
+    Optional<ProgressoFechamentoLote> buscar(Periodo periodo);
+
+    /**
+     * Salva ou substitui o progresso do período.
+     */
+    void salvar(ProgressoFechamentoLote progresso);
+}
@@ -0,0 +1,25 @@
+package com.financecore.domain.model.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.financecore.domain.model.entity.RegraClassificacao;
+
+/**
+ * Contrato de repositório do domínio para RegraClassificacao.
+ *
+ * Regras pertencem a um usuário (RN-10) e são lidas em conjunto para
+ * compilar o classificador automático de despesas.
+ */
+public interface RegraClassificacaoRepository {
+
+    /**
+     * Salva ou atualiza uma regra.
+     */
+    RegraClassificacao salvar(RegraClassificacao regra);
+
+    /**
+     * Lista as regras de um usuário na ordem em que foram cadastradas.
+     */
+    List<RegraClassificacao> listarPorUsuario(UUID usuarioId);
+}
@@ -1,5 +1,7 @@
 package com.financecore.domain.model.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -14,6 +16,23 @@ public interface UsuarioRepository {
 
     Usuario salvar(Usuario usuario);
 
+    /**
+     * Salva vários usuários, com suas preferências, em uma única operação.
+     * Implementações devem agrupar as escritas em lote.
+     */
+    default List<Usuario> salvarTodos(Collection<Usuario> usuarios) {
+        return usuarios.stream()
+                .map(this::salvar)
+                .toList();
+    }
+
+    /**
+     * Cadastro e preferências do usuário, sem meses financeiros: cada caso de
+     * uso carrega pelo MesFinanceiroRepository só os meses de que precisa e
+     * os registra com {@link Usuario#conhecerMeses}.
+     */
     Optional<Usuario> buscarPorId(UUID id);
+
+    boolean existePorId(UUID id);
 }
 
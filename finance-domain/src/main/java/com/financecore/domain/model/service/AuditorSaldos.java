@@ -0,0 +1,239 @@
+package com.financecore.domain.model.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.financecore.domain.model.entity.Despesa;
+import com.financecore.domain.model.entity.DivergenciaSaldo;
+import com.financecore.domain.model.entity.MesFinanceiro;
+import com.financecore.domain.model.entity.MesFinanceiroStatus;
+import com.financecore.domain.model.entity.Parcela;
+import com.financecore.domain.model.entity.Receita;
+import com.financecore.domain.model.entity.TipoDivergencia;
+import com.financecore.domain.model.exception.DomainException;
+import com.financecore.domain.model.valueobject.Dinheiro;
+import com.financecore.domain.model.valueobject.Periodo;
+
+/**
+ * Auditoria incremental dos saldos de um usuário (RF10, RN-08).
+ *
+ * Recebe os meses em ordem de período e verifica:
+ * - o encadeamento: saldo inicial igual ao saldo final do mês anterior fechado;
+ * - o saldo: saldo final gravado (ou parcial, se ABERTO) igual ao recalculado
+ *   a partir dos lançamentos;
+ * - a consistência dos lançamentos com o mês (mês de origem e data no período).
+ *
+ * Só os meses alterados desde a última auditoria são recalculados; os demais
+ * servem de elo para o encadeamento e entram no saldo esperado pelos totais
+ * já mantidos no agregado. Meses não consecutivos interrompem o encadeamento.
+ * Meses de outro usuário são rejeitados (RN-10).
+ */
+public final class AuditorSaldos {
+
+    private final UUID usuarioId;
+    private final BitSet periodosAlterados; // null: todos os meses são auditados
+    private final List<DivergenciaSaldo> divergencias = new ArrayList<>();
+
+    private MesFinanceiro anterior;
+    private boolean anteriorAlterado;
+    private long saldoEsperado;
+    private int mesesAuditados;
+
+    /**
+     * Auditoria completa: todos os meses recebidos são recalculados.
+     */
+    public AuditorSaldos(UUID usuarioId) {
+        this.usuarioId = Objects.requireNonNull(usuarioId, "usuarioId não pode ser nulo");
+        this.periodosAlterados = null;
+    }
+
+    /**
+     * Auditoria incremental: apenas os meses dos períodos alterados (e o
+     * encadeamento do mês seguinte a cada um) são verificados.
+     */
+    public AuditorSaldos(UUID usuarioId, Collection<Periodo> alterados) {
+        this.usuarioId = Objects.requireNonNull(usuarioId, "usuarioId não pode ser nulo");
+        Objects.requireNonNull(alterados, "alterados não pode ser nulo");
+        this.periodosAlterados = new BitSet();
+        for (Periodo periodo : alterados) {
+            periodosAlterados.set(periodo.indice());
+        }
+    }
+
+    public void auditar(MesFinanceiro mes) {
+        Objects.requireNonNull(mes, "mes não pode ser nulo");
+        if (!mes.getUsuarioId().equals(usuarioId)) {
+            throw new DomainException("Mês financeiro não pertence ao usuário auditado.");
+        }
+        int indice = Periodo.indice(mes.getMes(), mes.getAno());
+        int indiceAnterior = anterior == null ? Integer.MIN_VALUE : Periodo.indice(anterior.getMes(), anterior.getAno());
+        // RN-01: um único mês por período
+        if (indice <= indiceAnterior) {
+            throw new IllegalArgumentException("meses devem ser auditados em ordem de período, um por período");
+        }
+
+        boolean consecutivo = indice == indiceAnterior + 1;
+        boolean alterado = periodosAlterados == null || periodosAlterados.get(indice);
+        long movimento = movimento(mes);
+
+        if (alterado || (consecutivo && anteriorAlterado)) {
+            mesesAuditados++;
+            if (consecutivo) {
+                verificarEncadeamento(anterior, mes);
+            }
+            if (alterado) {
+                movimento = verificarLancamentos(mes);
+            }
+        }
+
+        // O saldo esperado segue o último saldo final fechado; sem elo, parte do saldo inicial gravado
+        long inicioEsperado;
+        if (consecutivo && anterior.getStatus() == MesFinanceiroStatus.FECHADO) {
+            inicioEsperado = anterior.getSaldoFinal().getCentavos();
+        } else if (consecutivo) {
+            inicioEsperado = saldoEsperado;
+        } else {
+            inicioEsperado = mes.getSaldoInicial().getCentavos();
+        }
+        saldoEsperado = Math.addExact(inicioEsperado, movimento);
+        anterior = mes;
+        anteriorAlterado = alterado;
+    }
+
+    public Resultado concluir() {
+        return new Resultado(usuarioId, mesesAuditados,
+                anterior == null ? null : Dinheiro.deCentavos(saldoEsperado), List.copyOf(divergencias));
+    }
+
+    /**
+     * Compara o saldo calculado de um mês com o saldo informado pelo usuário
+     * (UC-15): o saldo final se FECHADO, o parcial se ABERTO.
+     */
+    public static Optional<DivergenciaSaldo> conferirSaldoInformado(MesFinanceiro mes, Dinheiro informado) {
+        Objects.requireNonNull(mes, "mes não pode ser nulo");
+        Objects.requireNonNull(informado, "informado não pode ser nulo");
+        Dinheiro calculado = mes.getStatus() == MesFinanceiroStatus.FECHADO ? mes.getSaldoFinal() : mes.saldoParcial();
+        if (calculado.equals(informado)) {
+            return Optional.empty();
+        }
+        List<UUID> suspeitos = new ArrayList<>();
+        adicionarPorValor(mes, Math.abs(informado.getCentavos() - calculado.getCentavos()), suspeitos);
+        return Optional.of(new DivergenciaSaldo(mes.getUsuarioId(), mes.getId(), periodo(mes),
+                TipoDivergencia.SALDO_INFORMADO, calculado, informado, suspeitos));
+    }
+
+    private void verificarEncadeamento(MesFinanceiro anterior, MesFinanceiro mes) {
+        if (anterior.getStatus() != MesFinanceiroStatus.FECHADO) {
+            return;
+        }
+        if (!mes.getSaldoInicial().equals(anterior.getSaldoFinal())) {
+            divergencias.add(new DivergenciaSaldo(usuarioId, mes.getId(), periodo(mes),
+                    TipoDivergencia.SALDO_INICIAL, anterior.getSaldoFinal(), mes.getSaldoInicial(), List.of()));
+        }
+    }
+
+    /**
+     * Recalcula o movimento do mês a partir dos lançamentos, registrando
+     * lançamentos inconsistentes e divergência de saldo.
+     */
+    private long verificarLancamentos(MesFinanceiro mes) {
+        UUID mesId = mes.getId();
+        Periodo periodo = periodo(mes);
+        LocalDate primeiroDia = periodo.primeiroDia();
+        LocalDate ultimoDia = periodo.ultimoDia();
+
+        long movimento = 0L;
+        long valorInconsistente = 0L;
+        List<UUID> inconsistentes = new ArrayList<>();
+        for (Receita receita : mes.getReceitas()) {
+            long valor = receita.getValor().getCentavos();
+            movimento = Math.addExact(movimento, valor);
+            if (!mesId.equals(receita.getMesFinanceiroId()) || foraDoPeriodo(receita.getDataReferencia(), primeiroDia, ultimoDia)) {
+                inconsistentes.add(receita.getId());
+                valorInconsistente = Math.addExact(valorInconsistente, valor);
+            }
+        }
+        for (Despesa despesa : mes.getDespesas()) {
+            long valor = despesa.getValor().getCentavos();
+            movimento = Math.subtractExact(movimento, valor);
+            if (!mesId.equals(despesa.getMesFinanceiroId()) || foraDoPeriodo(despesa.getData(), primeiroDia, ultimoDia)) {
+                inconsistentes.add(despesa.getId());
+                valorInconsistente = Math.subtractExact(valorInconsistente, valor);
+            }
+        }
+        for (Parcela parcela : mes.getParcelas()) {
+            long valor = parcela.getValor().getCentavos();
+            movimento = Math.subtractExact(movimento, valor);
+            if (!mesId.equals(parcela.getMesFinanceiroId())) {
+                inconsistentes.add(parcela.getId());
+                valorInconsistente = Math.subtractExact(valorInconsistente, valor);
+            }
+        }
+        if (!inconsistentes.isEmpty()) {
+            divergencias.add(new DivergenciaSaldo(usuarioId, mesId, periodo, TipoDivergencia.LANCAMENTO_INCONSISTENTE,
+                    Dinheiro.ZERO, Dinheiro.deCentavos(valorInconsistente), inconsistentes));
+        }
+
+        long calculado = Math.addExact(mes.getSaldoInicial().getCentavos(), movimento);
+        Dinheiro gravado = mes.getStatus() == MesFinanceiroStatus.FECHADO ? mes.getSaldoFinal() : mes.saldoParcial();
+        if (gravado.getCentavos() != calculado) {
+            List<UUID> suspeitos = new ArrayList<>(inconsistentes);
+            adicionarPorValor(mes, Math.abs(gravado.getCentavos() - calculado), suspeitos);
+            divergencias.add(new DivergenciaSaldo(usuarioId, mesId, periodo, TipoDivergencia.SALDO_FINAL,
+                    Dinheiro.deCentavos(calculado), gravado, suspeitos));
+        }
+        return movimento;
+    }
+
+    private static long movimento(MesFinanceiro mes) {
+        long movimento = Math.subtractExact(mes.getTotalReceitas().getCentavos(), mes.getTotalDespesas().getCentavos());
+        return Math.subtractExact(movimento, mes.getTotalParcelas().getCentavos());
+    }
+
+    /**
+     * Lançamentos cujo valor é exatamente a diferença: candidatos a lançamento
+     * esquecido, duplicado ou com sinal trocado.
+     */
+    private static void adicionarPorValor(MesFinanceiro mes, long diferenca, List<UUID> suspeitos) {
+        for (Receita receita : mes.getReceitas()) {
+            if (receita.getValor().getCentavos() == diferenca && !suspeitos.contains(receita.getId())) {
+                suspeitos.add(receita.getId());
+            }
+        }
+        for (Despesa despesa : mes.getDespesas()) {
+            if (despesa.getValor().getCentavos() == diferenca && !suspeitos.contains(despesa.getId())) {
+                suspeitos.add(despesa.getId());
+            }
+        }
+        for (Parcela parcela : mes.getParcelas()) {
+            if (parcela.getValor().getCentavos() == diferenca && !suspeitos.contains(parcela.getId())) {
+                suspeitos.add(parcela.getId());
+            }
+        }
+    }
+
+    private static boolean foraDoPeriodo(LocalDate data, LocalDate primeiroDia, LocalDate ultimoDia) {
+        return data.isBefore(primeiroDia) || data.isAfter(ultimoDia);
+    }
+
+    private static Periodo periodo(MesFinanceiro mes) {
+        return Periodo.de(mes.getMes(), mes.getAno());
+    }
+
+    /**
+     * Resultado da auditoria de um usuário. saldoEsperado é o saldo esperado
+     * ao fim do último mês recebido, ou nulo se nenhum mês foi recebido.
+     */
+    public record Resultado(
+            UUID usuarioId,
+            int mesesAuditados,
+            Dinheiro saldoEsperado,
+            List<DivergenciaSaldo> divergencias
+    ) {}
+}
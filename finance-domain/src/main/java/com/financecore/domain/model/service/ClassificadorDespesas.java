@@ -0,0 +1,270 @@
+package com.financecore.domain.model.service;
+
+import java.text.Normalizer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import com.financecore.domain.model.entity.Despesa;
+import com.financecore.domain.model.entity.RegraClassificacao;
+
+/**
+ * Classificador automático de despesas (RF06, UC-06) compilado a partir de
+ * um conjunto de {@link RegraClassificacao}.
+ *
+ * As palavras-chave são compiladas em um autômato Aho-Corasick: a descrição é
+ * percorrida uma única vez, com custo proporcional ao seu tamanho e não à
+ * quantidade de regras. A comparação ignora maiúsculas/minúsculas e acentos
+ * e exige que a palavra-chave comece e termine em limite de palavra.
+ *
+ * Entre as regras aplicáveis prevalece, nesta ordem: a que exige o método de
+ * pagamento da despesa, a de maior prioridade, a de palavra-chave mais longa
+ * e a que veio primeiro. Regras sem palavra-chave só se aplicam quando
+ * nenhuma palavra-chave é encontrada.
+ *
+ * O classificador guarda só o id da categoria de cada regra, não a
+ * entidade: quem o mantém em cache não retém categorias que podem mudar.
+ *
+ * Instâncias são imutáveis e podem ser usadas por várias threads.
+ */
+public final class ClassificadorDespesas {
+
+    private static final int FAIXA_NORMALIZADA = 0x180;
+    private static final char[] NORMALIZACAO = new char[FAIXA_NORMALIZADA];
+
+    static {
+        for (char c = 0; c < FAIXA_NORMALIZADA; c++) {
+            char base = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD).charAt(0);
+            NORMALIZACAO[c] = Character.isWhitespace(base) ? ' ' : Character.toLowerCase(base);
+        }
+    }
+
+    private static final ClassificadorDespesas VAZIO = compilar(List.of());
+
+    private final UUID[] categorias;
+    private final int[] prioridades;
+    // Comprimento da palavra-chave de cada regra, para o desempate
+    private final int[] comprimentos;
+    private final String[] metodosNormalizados;
+
+    // Transições de cada estado, ordenadas por caractere: [inicio[e], inicio[e + 1])
+    private final int[] inicioTransicoes;
+    private final char[] rotulos;
+    private final int[] destinos;
+    private final int[] falha;
+    private final int[] profundidade;
+    // Próximo estado na cadeia de falhas que termina alguma palavra-chave (0 = nenhum)
+    private final int[] proximaSaida;
+    private final int[][] regrasPorEstado;
+
+    // Regras sem palavra-chave, por método normalizado (null = qualquer método)
+    private final Map<String, Integer> regrasSomenteMetodo;
+    private final int regraQualquerMetodo;
+
+    private ClassificadorDespesas(RegraClassificacao[] regras) {
+        this.categorias = new UUID[regras.length];
+        this.prioridades = new int[regras.length];
+        this.comprimentos = new int[regras.length];
+        this.metodosNormalizados = new String[regras.length];
+
+        List<Map<Character, Integer>> filhos = new ArrayList<>();
+        List<List<Integer>> saidas = new ArrayList<>();
+        List<Integer> profundidades = new ArrayList<>();
+        filhos.add(new TreeMap<>());
+        saidas.add(new ArrayList<>());
+        profundidades.add(0);
+        Map<String, Integer> somenteMetodo = new HashMap<>();
+
+        for (int r = 0; r < regras.length; r++) {
+            RegraClassificacao regra = regras[r];
+            categorias[r] = regra.getCategoria().getId();
+            prioridades[r] = regra.getPrioridade();
+            comprimentos[r] = regra.getPalavraChave() == null ? 0 : regra.getPalavraChave().length();
+            metodosNormalizados[r] = regra.getMetodoPagamento() == null ? null : normalizar(regra.getMetodoPagamento());
+            if (regra.getPalavraChave() == null) {
+                somenteMetodo.merge(metodosNormalizados[r], r, this::melhorSemPalavra);
+                continue;
+            }
+            String palavra = normalizar(regra.getPalavraChave());
+            int estado = 0;
+            for (int i = 0; i < palavra.length(); i++) {
+                Integer proximo = filhos.get(estado).get(palavra.charAt(i));
+                if (proximo == null) {
+                    proximo = filhos.size();
+                    filhos.get(estado).put(palavra.charAt(i), proximo);
+                    filhos.add(new TreeMap<>());
+                    saidas.add(new ArrayList<>());
+                    profundidades.add(i + 1);
+                }
+                estado = proximo;
+            }
+            saidas.get(estado).add(r);
+        }
+
+        int estados = filhos.size();
+        this.inicioTransicoes = new int[estados + 1];
+        int totalTransicoes = 0;
+        for (int e = 0; e < estados; e++) {
+            inicioTransicoes[e] = totalTransicoes;
+            totalTransicoes += filhos.get(e).size();
+        }
+        inicioTransicoes[estados] = totalTransicoes;
+        this.rotulos = new char[totalTransicoes];
+        this.destinos = new int[totalTransicoes];
+        for (int e = 0; e < estados; e++) {
+            int posicao = inicioTransicoes[e];
+            for (Map.Entry<Character, Integer> transicao : filhos.get(e).entrySet()) {
+                rotulos[posicao] = transicao.getKey();
+                destinos[posicao] = transicao.getValue();
+                posicao++;
+            }
+        }
+
+        this.profundidade = new int[estados];
+        this.regrasPorEstado = new int[estados][];
+        for (int e = 0; e < estados; e++) {
+            profundidade[e] = profundidades.get(e);
+            regrasPorEstado[e] = saidas.get(e).stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        // Links de falha em largura: cada estado aponta para o maior sufixo próprio presente no trie
+        this.falha = new int[estados];
+        this.proximaSaida = new int[estados];
+        ArrayDeque<Integer> fila = new ArrayDeque<>();
+        for (int t = inicioTransicoes[0]; t < inicioTransicoes[1]; t++) {
+            fila.add(destinos[t]);
+        }
+        while (!fila.isEmpty()) {
+            int estado = fila.poll();
+            for (int t = inicioTransicoes[estado]; t < inicioTransicoes[estado + 1]; t++) {
+                int filho = destinos[t];
+                int destinoFalha = transicao(falha[estado], rotulos[t]);
+                falha[filho] = destinoFalha;
+                proximaSaida[filho] = regrasPorEstado[destinoFalha].length > 0 ? destinoFalha : proximaSaida[destinoFalha];
+                fila.add(filho);
+            }
+        }
+
+        Integer qualquerMetodo = somenteMetodo.remove(null);
+        this.regraQualquerMetodo = qualquerMetodo == null ? -1 : qualquerMetodo;
+        this.regrasSomenteMetodo = Map.copyOf(somenteMetodo);
+    }
+
+    public static ClassificadorDespesas compilar(Collection<RegraClassificacao> regras) {
+        Objects.requireNonNull(regras, "regras não pode ser nula");
+        return new ClassificadorDespesas(regras.toArray(new RegraClassificacao[0]));
+    }
+
+    /**
+     * Classificador sem regras: nunca sugere categoria.
+     */
+    public static ClassificadorDespesas vazio() {
+        return VAZIO;
+    }
+
+    /**
+     * Id da categoria sugerida para uma descrição e método de pagamento.
+     */
+    public Optional<UUID> classificar(String descricao, String metodoPagamento) {
+        Objects.requireNonNull(descricao, "descricao não pode ser nula");
+        String metodo = metodoPagamento == null ? null : normalizar(metodoPagamento);
+
+        int melhor = -1;
+        int estado = 0;
+        for (int i = 0; i < descricao.length(); i++) {
+            estado = transicao(estado, normalizar(descricao.charAt(i)));
+            int saida = regrasPorEstado[estado].length > 0 ? estado : proximaSaida[estado];
+            for (; saida != 0; saida = proximaSaida[saida]) {
+                if (!emLimiteDePalavra(descricao, i - profundidade[saida] + 1, i)) {
+                    continue;
+                }
+                for (int r : regrasPorEstado[saida]) {
+                    if (metodosNormalizados[r] == null || metodosNormalizados[r].equals(metodo)) {
+                        melhor = melhorComPalavra(melhor, r);
+                    }
+                }
+            }
+        }
+
+        if (melhor < 0 && metodo != null) {
+            melhor = regrasSomenteMetodo.getOrDefault(metodo, -1);
+        }
+        if (melhor < 0) {
+            melhor = regraQualquerMetodo;
+        }
+        return melhor < 0 ? Optional.empty() : Optional.of(categorias[melhor]);
+    }
+
+    /**
+     * Id da categoria sugerida para uma despesa, a partir da descrição e do método de pagamento.
+     */
+    public Optional<UUID> classificar(Despesa despesa) {
+        Objects.requireNonNull(despesa, "despesa não pode ser nula");
+        return classificar(despesa.getDescricao(), despesa.getMetodoPagamento());
+    }
+
+    public int quantidadeRegras() {
+        return categorias.length;
+    }
+
+    private int transicao(int estado, char c) {
+        while (true) {
+            int posicao = Arrays.binarySearch(rotulos, inicioTransicoes[estado], inicioTransicoes[estado + 1], c);
+            if (posicao >= 0) {
+                return destinos[posicao];
+            }
+            if (estado == 0) {
+                return 0;
+            }
+            estado = falha[estado];
+        }
+    }
+
+    private int melhorComPalavra(int atual, int candidata) {
+        if (atual < 0) {
+            return candidata;
+        }
+        int comparacao = Boolean.compare(metodosNormalizados[candidata] != null, metodosNormalizados[atual] != null);
+        if (comparacao == 0) {
+            comparacao = Integer.compare(prioridades[candidata], prioridades[atual]);
+        }
+        if (comparacao == 0) {
+            comparacao = Integer.compare(comprimentos[candidata], comprimentos[atual]);
+        }
+        if (comparacao == 0) {
+            comparacao = Integer.compare(atual, candidata);
+        }
+        return comparacao > 0 ? candidata : atual;
+    }
+
+    private int melhorSemPalavra(int atual, int candidata) {
+        int comparacao = Integer.compare(prioridades[candidata], prioridades[atual]);
+        return comparacao > 0 ? candidata : atual;
+    }
+
+    private static boolean emLimiteDePalavra(String texto, int inicio, int fim) {
+        return (inicio == 0 || !Character.isLetterOrDigit(texto.charAt(inicio - 1)))
+                && (fim + 1 == texto.length() || !Character.isLetterOrDigit(texto.charAt(fim + 1)));
+    }
+
+    private static char normalizar(char c) {
+        return c < FAIXA_NORMALIZADA ? NORMALIZACAO[c] : Character.toLowerCase(c);
+    }
+
+    private static String normalizar(String texto) {
+        String semEspacos = texto.strip();
+        char[] normalizado = new char[semEspacos.length()];
+        for (int i = 0; i < normalizado.length; i++) {
+            normalizado[i] = normalizar(semEspacos.charAt(i));
+        }
+        return new String(normalizado);
+    }
+}
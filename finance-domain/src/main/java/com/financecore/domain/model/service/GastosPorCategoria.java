@@ -0,0 +1,232 @@
+package com.financecore.domain.model.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+import com.financecore.domain.model.entity.HistoricoFinanceiro;
+import com.financecore.domain.model.entity.HistoricoFinanceiro.TotalCategoria;
+import com.financecore.domain.model.entity.MesFinanceiro;
+import com.financecore.domain.model.exception.DomainException;
+import com.financecore.domain.model.valueobject.Dinheiro;
+import com.financecore.domain.model.valueobject.Periodo;
+
+/**
+ * Despesas de um usuário por categoria e por mês em um intervalo de
+ * períodos, para painéis e gráficos.
+ *
+ * Cada categoria tem uma série de totais mensais em um long[] do tamanho do
+ * intervalo; essenciais, não essenciais e parcelas têm uma série cada. Um
+ * mês é alimentado pelos totais já mantidos no agregado ou gravados no
+ * fechamento (RN-09), em O(categorias do mês), e substitui o que havia para
+ * aquele período, então atualizar o mesmo mês de novo não duplica valores.
+ * Consultas somam fatias contíguas das séries, sem passar por despesas.
+ *
+ * Parcelas não têm categoria: entram só na série própria, como na
+ * consolidação do mês.
+ *
+ * Instâncias não são seguras para uso concorrente.
+ */
+public final class GastosPorCategoria {
+
+    private final UUID usuarioId;
+    private final Periodo inicio;
+    private final int quantidadeMeses;
+
+    private final Map<UUID, Integer> posicoes = new HashMap<>();
+    private UUID[] categorias = new UUID[8];
+    private String[] nomes = new String[8];
+    private boolean[] essenciais = new boolean[8];
+    private long[][] series = new long[8][];
+    private int quantidadeCategorias;
+
+    private final long[] serieEssenciais;
+    private final long[] serieNaoEssenciais;
+    private final long[] serieParcelas;
+
+    public GastosPorCategoria(UUID usuarioId, Periodo inicio, Periodo fim) {
+        this.usuarioId = Objects.requireNonNull(usuarioId, "usuarioId não pode ser nulo");
+        this.inicio = Objects.requireNonNull(inicio, "inicio não pode ser nulo");
+        Objects.requireNonNull(fim, "fim não pode ser nulo");
+        if (fim.compareTo(inicio) < 0) {
+            throw new IllegalArgumentException("fim não pode ser anterior a inicio");
+        }
+        this.quantidadeMeses = inicio.mesesAte(fim) + 1;
+        this.serieEssenciais = new long[quantidadeMeses];
+        this.serieNaoEssenciais = new long[quantidadeMeses];
+        this.serieParcelas = new long[quantidadeMeses];
+    }
+
+    /**
+     * Atualiza um mês a partir da consolidação gravada no fechamento.
+     */
+    public void atualizar(HistoricoFinanceiro historico) {
+        Objects.requireNonNull(historico, "historico não pode ser nulo");
+        garantirUsuario(historico.getUsuarioId());
+        atualizar(historico.getPeriodo(), historico.getDespesasPorCategoria(),
+                historico.getDespesasEssenciais(), historico.getDespesasNaoEssenciais(), historico.getTotalParcelas());
+    }
+
+    /**
+     * Atualiza um mês a partir dos totais mantidos pelo agregado.
+     */
+    public void atualizar(MesFinanceiro mes) {
+        Objects.requireNonNull(mes, "mes não pode ser nulo");
+        garantirUsuario(mes.getUsuarioId());
+        atualizar(Periodo.de(mes.getMes(), mes.getAno()), mes.getDespesasPorCategoria(),
+                mes.getDespesasEssenciais(), mes.getDespesasNaoEssenciais(), mes.getTotalParcelas());
+    }
+
+    public boolean cobre(Periodo de, Periodo ate) {
+        return de.compareTo(inicio) >= 0 && ate.compareTo(getFim()) <= 0;
+    }
+
+    /**
+     * Total de cada categoria no intervalo, do maior para o menor.
+     */
+    public List<TotalCategoria> totalPorCategoria(Periodo de, Periodo ate) {
+        int primeiro = deslocamento(de);
+        int ultimo = deslocamento(ate);
+        if (ultimo < primeiro) {
+            throw new IllegalArgumentException("fim não pode ser anterior a inicio");
+        }
+        List<TotalCategoria> totais = new ArrayList<>();
+        for (int c = 0; c < quantidadeCategorias; c++) {
+            long total = somar(series[c], primeiro, ultimo);
+            if (total != 0L) {
+                totais.add(new TotalCategoria(categorias[c], nomes[c], essenciais[c], Dinheiro.deCentavos(total)));
+            }
+        }
+        totais.sort(Comparator.comparing(TotalCategoria::total).reversed());
+        return totais;
+    }
+
+    /**
+     * Meses do intervalo, em ordem, com o total de cada categoria.
+     */
+    public List<GastoMensal> meses(Periodo de, Periodo ate) {
+        int primeiro = deslocamento(de);
+        int ultimo = deslocamento(ate);
+        if (ultimo < primeiro) {
+            throw new IllegalArgumentException("fim não pode ser anterior a inicio");
+        }
+        List<GastoMensal> meses = new ArrayList<>(ultimo - primeiro + 1);
+        for (int k = primeiro; k <= ultimo; k++) {
+            List<TotalCategoria> porCategoria = new ArrayList<>();
+            for (int c = 0; c < quantidadeCategorias; c++) {
+                if (series[c][k] != 0L) {
+                    porCategoria.add(new TotalCategoria(categorias[c], nomes[c], essenciais[c],
+                            Dinheiro.deCentavos(series[c][k])));
+                }
+            }
+            meses.add(new GastoMensal(
+                    inicio.somarMeses(k),
+                    Dinheiro.deCentavos(serieEssenciais[k]),
+                    Dinheiro.deCentavos(serieNaoEssenciais[k]),
+                    Dinheiro.deCentavos(serieParcelas[k]),
+                    porCategoria));
+        }
+        return meses;
+    }
+
+    public Dinheiro totalEssenciais(Periodo de, Periodo ate) {
+        return Dinheiro.deCentavos(somar(serieEssenciais, deslocamento(de), deslocamento(ate)));
+    }
+
+    public Dinheiro totalNaoEssenciais(Periodo de, Periodo ate) {
+        return Dinheiro.deCentavos(somar(serieNaoEssenciais, deslocamento(de), deslocamento(ate)));
+    }
+
+    public Dinheiro totalParcelas(Periodo de, Periodo ate) {
+        return Dinheiro.deCentavos(somar(serieParcelas, deslocamento(de), deslocamento(ate)));
+    }
+
+    public UUID getUsuarioId() {
+        return usuarioId;
+    }
+
+    public Periodo getInicio() {
+        return inicio;
+    }
+
+    public Periodo getFim() {
+        return inicio.somarMeses(quantidadeMeses - 1);
+    }
+
+    /**
+     * Despesas de um mês: por essencialidade, parcelas e por categoria.
+     */
+    public record GastoMensal(Periodo periodo,
+                              Dinheiro essenciais,
+                              Dinheiro naoEssenciais,
+                              Dinheiro parcelas,
+                              List<TotalCategoria> porCategoria) {
+    }
+
+    private void atualizar(Periodo periodo, List<TotalCategoria> totais,
+                           Dinheiro essenciaisMes, Dinheiro naoEssenciaisMes, Dinheiro parcelasMes) {
+        int k = inicio.mesesAte(periodo);
+        if (k < 0 || k >= quantidadeMeses) {
+            return;
+        }
+        for (int c = 0; c < quantidadeCategorias; c++) {
+            series[c][k] = 0L;
+        }
+        for (TotalCategoria total : totais) {
+            series[posicao(total)][k] = total.total().getCentavos();
+        }
+        serieEssenciais[k] = essenciaisMes.getCentavos();
+        serieNaoEssenciais[k] = naoEssenciaisMes.getCentavos();
+        serieParcelas[k] = parcelasMes.getCentavos();
+    }
+
+    private int posicao(TotalCategoria total) {
+        Integer posicao = posicoes.get(total.categoriaId());
+        if (posicao != null) {
+            return posicao;
+        }
+        if (quantidadeCategorias == categorias.length) {
+            int novaCapacidade = quantidadeCategorias * 2;
+            categorias = Arrays.copyOf(categorias, novaCapacidade);
+            nomes = Arrays.copyOf(nomes, novaCapacidade);
+            essenciais = Arrays.copyOf(essenciais, novaCapacidade);
+            series = Arrays.copyOf(series, novaCapacidade);
+        }
+        int nova = quantidadeCategorias++;
+        categorias[nova] = total.categoriaId();
+        nomes[nova] = total.nome();
+        essenciais[nova] = total.essencial();
+        series[nova] = new long[quantidadeMeses];
+        posicoes.put(total.categoriaId(), nova);
+        return nova;
+    }
+
+    private static long somar(long[] serie, int primeiro, int ultimo) {
+        long soma = 0L;
+        for (int k = primeiro; k <= ultimo; k++) {
+            soma = Math.addExact(soma, serie[k]);
+        }
+        return soma;
+    }
+
+    private int deslocamento(Periodo periodo) {
+        Objects.requireNonNull(periodo, "periodo não pode ser nulo");
+        int deslocamento = inicio.mesesAte(periodo);
+        if (deslocamento < 0 || deslocamento >= quantidadeMeses) {
+            throw new IllegalArgumentException("período " + periodo + " fora do intervalo dos gastos");
+        }
+        return deslocamento;
+    }
+
+    private void garantirUsuario(UUID usuarioDoMes) {
+        if (!usuarioId.equals(usuarioDoMes)) {
+            // RN-10: os gastos nunca misturam dados de usuários
+            throw new DomainException("Mês financeiro não pertence ao usuário dos gastos.");
+        }
+    }
+}
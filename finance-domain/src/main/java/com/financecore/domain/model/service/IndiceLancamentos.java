@@ -0,0 +1,380 @@
+package com.financecore.domain.model.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import com.financecore.domain.model.entity.Despesa;
+import com.financecore.domain.model.entity.MesFinanceiro;
+import com.financecore.domain.model.entity.Receita;
+import com.financecore.domain.model.event.EventoMesFinanceiro;
+import com.financecore.domain.model.event.EventoMesFinanceiro.DespesaRegistrada;
+import com.financecore.domain.model.event.EventoMesFinanceiro.ReceitaRegistrada;
+import com.financecore.domain.model.exception.DomainException;
+import com.financecore.domain.model.valueobject.Dinheiro;
+
+/**
+ * Índice das receitas e despesas de um usuário por data e valor, sobre todo
+ * o histórico, para buscas por intervalo de datas e pelos maiores valores
+ * sem reler os meses.
+ *
+ * Cada natureza de lançamento fica em arrays paralelos ordenados pela data
+ * (dia epoch em int[], valor em centavos em long[]), apontando para o id do
+ * lançamento e do mês. O intervalo de datas sai de duas buscas binárias; para
+ * o valor, cada bloco de 64 posições guarda seu maior valor, e
+ * blocos que não podem atender ao valor mínimo, ou entrar entre os maiores já
+ * encontrados, são pulados sem ler os lançamentos.
+ *
+ * A montagem ordena tudo de uma vez; depois, lançamentos registrados entram
+ * por inserção ordenada, quase sempre no fim, já que os meses avançam no
+ * tempo. Lançamentos já indexados são ignorados, então reaplicar os mesmos
+ * eventos não altera o índice.
+ *
+ * Instâncias não são seguras para uso concorrente.
+ */
+public final class IndiceLancamentos {
+
+    private static final int BLOCO = 64;
+    private static final int BITS_BLOCO = 6;
+
+    private final UUID usuarioId;
+    private final Coluna receitas = new Coluna();
+    private final Coluna despesas = new Coluna();
+    private final Set<UUID> indexados = new HashSet<>();
+
+    private IndiceLancamentos(UUID usuarioId) {
+        this.usuarioId = usuarioId;
+    }
+
+    /**
+     * Monta o índice a partir dos meses do usuário, consumidos uma única vez.
+     * O Stream não é fechado.
+     */
+    public static IndiceLancamentos indexar(UUID usuarioId, Stream<MesFinanceiro> meses) {
+        Objects.requireNonNull(usuarioId, "usuarioId não pode ser nulo");
+        Objects.requireNonNull(meses, "meses não pode ser nulo");
+        IndiceLancamentos indice = new IndiceLancamentos(usuarioId);
+        meses.forEach(mes -> {
+            indice.garantirUsuario(mes);
+            for (Receita receita : mes.getReceitas()) {
+                if (indice.indexados.add(receita.getId())) {
+                    indice.receitas.anexar(receita.getId(), receita.getMesFinanceiroId(),
+                            dia(receita.getDataReferencia()), receita.getValor().getCentavos());
+                }
+            }
+            for (Despesa despesa : mes.getDespesas()) {
+                if (indice.indexados.add(despesa.getId())) {
+                    indice.despesas.anexar(despesa.getId(), despesa.getMesFinanceiroId(),
+                            dia(despesa.getData()), despesa.getValor().getCentavos());
+                }
+            }
+        });
+        indice.receitas.ordenar();
+        indice.despesas.ordenar();
+        return indice;
+    }
+
+    /**
+     * Aplica ao índice um evento registrado em um mês do usuário. Só o
+     * registro de receitas e despesas altera o índice: reclassificação não
+     * muda data nem valor.
+     */
+    public void aplicar(MesFinanceiro mes, EventoMesFinanceiro evento) {
+        Objects.requireNonNull(mes, "mes não pode ser nulo");
+        Objects.requireNonNull(evento, "evento não pode ser nulo");
+        garantirUsuario(mes);
+        if (evento instanceof ReceitaRegistrada e) {
+            Receita receita = e.receita();
+            if (indexados.add(receita.getId())) {
+                receitas.inserir(receita.getId(), receita.getMesFinanceiroId(),
+                        dia(receita.getDataReferencia()), receita.getValor().getCentavos());
+            }
+        } else if (evento instanceof DespesaRegistrada e) {
+            Despesa despesa = e.despesa();
+            if (indexados.add(despesa.getId())) {
+                despesas.inserir(despesa.getId(), despesa.getMesFinanceiroId(),
+                        dia(despesa.getData()), despesa.getValor().getCentavos());
+            }
+        }
+    }
+
+    /**
+     * Lançamentos entre as datas (inclusive) com valor maior ou igual ao
+     * mínimo, em ordem de data.
+     */
+    public List<LancamentoIndexado> buscar(Natureza natureza, LocalDate de, LocalDate ate, Dinheiro valorMinimo) {
+        Objects.requireNonNull(valorMinimo, "valorMinimo não pode ser nulo");
+        Coluna coluna = coluna(natureza);
+        int primeiro = coluna.primeiraPosicao(dia(de));
+        int fim = coluna.primeiraPosicao(Math.addExact(dia(ate), 1));
+        long minimo = valorMinimo.getCentavos();
+
+        List<LancamentoIndexado> encontrados = new ArrayList<>();
+        int i = primeiro;
+        while (i < fim) {
+            int fimBloco = Math.min(fim, ((i >> BITS_BLOCO) + 1) << BITS_BLOCO);
+            if (coluna.maximos[i >> BITS_BLOCO] < minimo) {
+                i = fimBloco;
+                continue;
+            }
+            for (; i < fimBloco; i++) {
+                if (coluna.valores[i] >= minimo) {
+                    encontrados.add(coluna.lancamento(natureza, i));
+                }
+            }
+        }
+        return encontrados;
+    }
+
+    /**
+     * Os maiores lançamentos entre as datas (inclusive), do maior para o
+     * menor valor; empates em ordem de data.
+     */
+    public List<LancamentoIndexado> maiores(Natureza natureza, LocalDate de, LocalDate ate, int quantidade) {
+        if (quantidade <= 0) {
+            throw new IllegalArgumentException("quantidade deve ser maior que zero");
+        }
+        Coluna coluna = coluna(natureza);
+        int primeiro = coluna.primeiraPosicao(dia(de));
+        int fim = coluna.primeiraPosicao(Math.addExact(dia(ate), 1));
+        long[] valores = coluna.valores;
+
+        // Heap de mínimo com as posições dos maiores até aqui; a raiz é o menor deles
+        int[] heap = new int[Math.min(quantidade, Math.max(fim - primeiro, 0))];
+        int tamanho = 0;
+        int i = primeiro;
+        while (i < fim) {
+            int fimBloco = Math.min(fim, ((i >> BITS_BLOCO) + 1) << BITS_BLOCO);
+            if (tamanho == heap.length && coluna.maximos[i >> BITS_BLOCO] <= valores[heap[0]]) {
+                i = fimBloco;
+                continue;
+            }
+            for (; i < fimBloco; i++) {
+                if (tamanho < heap.length) {
+                    heap[tamanho] = i;
+                    subir(heap, tamanho++, valores);
+                } else if (valores[i] > valores[heap[0]]) {
+                    heap[0] = i;
+                    descer(heap, tamanho, valores);
+                }
+            }
+        }
+
+        int[] posicoes = Arrays.copyOf(heap, tamanho);
+        Arrays.sort(posicoes);
+        List<LancamentoIndexado> maiores = new ArrayList<>(tamanho);
+        for (int posicao : posicoes) {
+            maiores.add(coluna.lancamento(natureza, posicao));
+        }
+        // Estável: posições em ordem de data, então empates seguem a data
+        maiores.sort(Comparator.comparing(LancamentoIndexado::valor).reversed());
+        return maiores;
+    }
+
+    public int getQuantidade(Natureza natureza) {
+        return coluna(natureza).tamanho;
+    }
+
+    public UUID getUsuarioId() {
+        return usuarioId;
+    }
+
+    public enum Natureza {
+        RECEITA,
+        DESPESA
+    }
+
+    /**
+     * Lançamento encontrado no índice, com os ids para buscá-lo no mês.
+     */
+    public record LancamentoIndexado(Natureza natureza,
+                                     UUID id,
+                                     UUID mesFinanceiroId,
+                                     LocalDate data,
+                                     Dinheiro valor) {
+    }
+
+    private Coluna coluna(Natureza natureza) {
+        Objects.requireNonNull(natureza, "natureza não pode ser nula");
+        return natureza == Natureza.RECEITA ? receitas : despesas;
+    }
+
+    private static int dia(LocalDate data) {
+        Objects.requireNonNull(data, "data não pode ser nula");
+        return Math.toIntExact(data.toEpochDay());
+    }
+
+    private static void subir(int[] heap, int posicao, long[] valores) {
+        int atual = heap[posicao];
+        while (posicao > 0) {
+            int pai = (posicao - 1) >>> 1;
+            if (!menor(atual, heap[pai], valores)) {
+                break;
+            }
+            heap[posicao] = heap[pai];
+            posicao = pai;
+        }
+        heap[posicao] = atual;
+    }
+
+    private static void descer(int[] heap, int tamanho, long[] valores) {
+        int atual = heap[0];
+        int posicao = 0;
+        while (true) {
+            int filho = 2 * posicao + 1;
+            if (filho >= tamanho) {
+                break;
+            }
+            if (filho + 1 < tamanho && menor(heap[filho + 1], heap[filho], valores)) {
+                filho++;
+            }
+            if (!menor(heap[filho], atual, valores)) {
+                break;
+            }
+            heap[posicao] = heap[filho];
+            posicao = filho;
+        }
+        heap[posicao] = atual;
+    }
+
+    /**
+     * Ordem do heap: menor valor primeiro e, no empate, a data mais recente,
+     * para que entre valores iguais permaneçam os mais antigos.
+     */
+    private static boolean menor(int a, int b, long[] valores) {
+        return valores[a] < valores[b] || (valores[a] == valores[b] && a > b);
+    }
+
+    private void garantirUsuario(MesFinanceiro mes) {
+        if (!usuarioId.equals(mes.getUsuarioId())) {
+            // RN-10: o índice nunca mistura dados de usuários
+            throw new DomainException("Mês financeiro não pertence ao usuário do índice.");
+        }
+    }
+
+    /**
+     * Lançamentos de uma natureza em arrays paralelos ordenados por data,
+     * com o maior valor de cada bloco.
+     */
+    private static final class Coluna {
+
+        private static final int CAPACIDADE_INICIAL = BLOCO;
+
+        private int[] dias = new int[CAPACIDADE_INICIAL];
+        private long[] valores = new long[CAPACIDADE_INICIAL];
+        private UUID[] ids = new UUID[CAPACIDADE_INICIAL];
+        private UUID[] meses = new UUID[CAPACIDADE_INICIAL];
+        private long[] maximos = new long[1];
+        private int tamanho;
+
+        /**
+         * Acrescenta fora de ordem; {@link #ordenar()} deve ser chamado antes
+         * de qualquer consulta.
+         */
+        void anexar(UUID id, UUID mesFinanceiroId, int dia, long valor) {
+            garantirCapacidade();
+            dias[tamanho] = dia;
+            valores[tamanho] = valor;
+            ids[tamanho] = id;
+            meses[tamanho] = mesFinanceiroId;
+            tamanho++;
+        }
+
+        void ordenar() {
+            // Dia nos 32 bits altos, posição de chegada nos baixos: mesma data mantém a ordem de chegada
+            long[] chaves = new long[tamanho];
+            for (int i = 0; i < tamanho; i++) {
+                chaves[i] = ((long) dias[i] << 32) | i;
+            }
+            Arrays.sort(chaves);
+            int[] novosDias = new int[dias.length];
+            long[] novosValores = new long[valores.length];
+            UUID[] novosIds = new UUID[ids.length];
+            UUID[] novosMeses = new UUID[meses.length];
+            for (int i = 0; i < tamanho; i++) {
+                int origem = (int) chaves[i];
+                novosDias[i] = dias[origem];
+                novosValores[i] = valores[origem];
+                novosIds[i] = ids[origem];
+                novosMeses[i] = meses[origem];
+            }
+            dias = novosDias;
+            valores = novosValores;
+            ids = novosIds;
+            meses = novosMeses;
+            recalcularMaximos(0);
+        }
+
+        /**
+         * Insere após os lançamentos da mesma data.
+         */
+        void inserir(UUID id, UUID mesFinanceiroId, int dia, long valor) {
+            garantirCapacidade();
+            int posicao = primeiraPosicao(Math.addExact(dia, 1));
+            int deslocados = tamanho - posicao;
+            System.arraycopy(dias, posicao, dias, posicao + 1, deslocados);
+            System.arraycopy(valores, posicao, valores, posicao + 1, deslocados);
+            System.arraycopy(ids, posicao, ids, posicao + 1, deslocados);
+            System.arraycopy(meses, posicao, meses, posicao + 1, deslocados);
+            dias[posicao] = dia;
+            valores[posicao] = valor;
+            ids[posicao] = id;
+            meses[posicao] = mesFinanceiroId;
+            tamanho++;
+            recalcularMaximos(posicao >> BITS_BLOCO);
+        }
+
+        /**
+         * Primeira posição com dia maior ou igual ao informado.
+         */
+        int primeiraPosicao(int dia) {
+            int baixo = 0;
+            int alto = tamanho;
+            while (baixo < alto) {
+                int meio = (baixo + alto) >>> 1;
+                if (dias[meio] < dia) {
+                    baixo = meio + 1;
+                } else {
+                    alto = meio;
+                }
+            }
+            return baixo;
+        }
+
+        LancamentoIndexado lancamento(Natureza natureza, int posicao) {
+            return new LancamentoIndexado(natureza, ids[posicao], meses[posicao],
+                    LocalDate.ofEpochDay(dias[posicao]), Dinheiro.deCentavos(valores[posicao]));
+        }
+
+        private void recalcularMaximos(int blocoInicial) {
+            int blocos = (tamanho + BLOCO - 1) >> BITS_BLOCO;
+            for (int b = blocoInicial; b < blocos; b++) {
+                int fim = Math.min(tamanho, (b + 1) << BITS_BLOCO);
+                long maximo = Long.MIN_VALUE;
+                for (int i = b << BITS_BLOCO; i < fim; i++) {
+                    maximo = Math.max(maximo, valores[i]);
+                }
+                maximos[b] = maximo;
+            }
+        }
+
+        private void garantirCapacidade() {
+            if (tamanho < dias.length) {
+                return;
+            }
+            int novaCapacidade = dias.length * 2;
+            dias = Arrays.copyOf(dias, novaCapacidade);
+            valores = Arrays.copyOf(valores, novaCapacidade);
+            ids = Arrays.copyOf(ids, novaCapacidade);
+            meses = Arrays.copyOf(meses, novaCapacidade);
+            maximos = Arrays.copyOf(maximos, novaCapacidade >> BITS_BLOCO);
+        }
+    }
+}
@@ -0,0 +1,323 @@
+package com.financecore.domain.model.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+import com.financecore.domain.model.entity.Despesa;
+import com.financecore.domain.model.entity.MesFinanceiro;
+import com.financecore.domain.model.entity.MesFinanceiroStatus;
+import com.financecore.domain.model.entity.Parcela;
+import com.financecore.domain.model.entity.Receita;
+import com.financecore.domain.model.entity.TipoDespesa;
+import com.financecore.domain.model.entity.TipoReceita;
+import com.financecore.domain.model.event.EventoMesFinanceiro;
+import com.financecore.domain.model.event.EventoMesFinanceiro.DespesaRegistrada;
+import com.financecore.domain.model.event.EventoMesFinanceiro.ParcelaRegistrada;
+import com.financecore.domain.model.event.EventoMesFinanceiro.ReceitaRegistrada;
+import com.financecore.domain.model.exception.DomainException;
+import com.financecore.domain.model.valueobject.Dinheiro;
+import com.financecore.domain.model.valueobject.Periodo;
+
+/**
+ * Projeção do saldo final de um usuário, mês a mês, a partir do mês ABERTO
+ * corrente e por um horizonte de N meses.
+ *
+ * O fluxo de cada mês segue RN-07 (receitas − despesas − parcelas) e soma:
+ * - os lançamentos já registrados nos meses existentes do horizonte,
+ *   inclusive as parcelas geradas nos meses futuros (RN-06);
+ * - as receitas e despesas FIXA, repetidas nos meses seguintes ao de origem
+ *   enquanto ainda não tiverem ocorrência neles (RN-05).
+ *
+ * Os fluxos ficam em duas árvores de Fenwick (atualização e soma por
+ * intervalo): um lançamento pontual altera um mês e um FIXA altera todos os
+ * meses a partir da origem, ambos em O(log N), e o saldo de qualquer mês sai
+ * de uma soma de prefixo, também em O(log N). Lançamentos já contados são
+ * ignorados, então reaplicar os mesmos eventos não altera a projeção.
+ *
+ * Instâncias não são seguras para uso concorrente.
+ */
+public final class ProjecaoSaldos {
+
+    private final UUID usuarioId;
+    private final Periodo inicio;
+    private final int horizonte;
+    private final long saldoInicial;
+    // Diferenças do fluxo mensal (d) e d[i] * (i - 1), índices a partir de 1
+    private final long[] diferencas;
+    private final long[] diferencasPonderadas;
+    private final Set<UUID> lancamentosContados = new HashSet<>();
+    // Recorrência FIXA -> deslocamento do mês de origem no horizonte
+    private final Map<UUID, Integer> origemRecorrencias = new HashMap<>();
+
+    private ProjecaoSaldos(UUID usuarioId, Periodo inicio, int horizonte, long saldoInicial) {
+        this.usuarioId = usuarioId;
+        this.inicio = inicio;
+        this.horizonte = horizonte;
+        this.saldoInicial = saldoInicial;
+        this.diferencas = new long[horizonte + 1];
+        this.diferencasPonderadas = new long[horizonte + 1];
+    }
+
+    /**
+     * Projeta o saldo a partir do mês corrente.
+     *
+     * @param corrente mês ABERTO que ancora a projeção; seu saldo inicial é o ponto de partida
+     * @param seguintes meses já existentes do usuário após o corrente (os de fora do horizonte são ignorados)
+     * @param horizonte quantidade de meses projetados, contando o corrente
+     */
+    public static ProjecaoSaldos projetar(MesFinanceiro corrente, Collection<MesFinanceiro> seguintes, int horizonte) {
+        Objects.requireNonNull(corrente, "corrente não pode ser nulo");
+        Objects.requireNonNull(seguintes, "seguintes não pode ser nulo");
+        if (horizonte <= 0) {
+            throw new IllegalArgumentException("horizonte deve ser maior que zero");
+        }
+        if (corrente.getStatus() != MesFinanceiroStatus.ABERTO) {
+            throw new DomainException("A projeção parte de um mês ABERTO.");
+        }
+        Periodo inicio = Periodo.de(corrente.getMes(), corrente.getAno());
+        ProjecaoSaldos projecao = new ProjecaoSaldos(
+                corrente.getUsuarioId(), inicio, horizonte, corrente.getSaldoInicial().getCentavos());
+
+        MesFinanceiro[] meses = new MesFinanceiro[horizonte];
+        meses[0] = corrente;
+        for (MesFinanceiro mes : seguintes) {
+            projecao.garantirUsuario(mes);
+            int deslocamento = inicio.mesesAte(Periodo.de(mes.getMes(), mes.getAno()));
+            if (deslocamento > 0 && deslocamento < horizonte) {
+                meses[deslocamento] = mes;
+            }
+        }
+
+        // Fluxo de cada mês em diferenças: um FIXA soma do mês seguinte à origem até o fim
+        long[] diferencas = new long[horizonte + 1];
+        for (int k = 0; k < horizonte; k++) {
+            MesFinanceiro mes = meses[k];
+            if (mes == null) {
+                continue;
+            }
+            long fluxo = Math.subtractExact(mes.getTotalReceitas().getCentavos(), mes.getTotalDespesas().getCentavos());
+            fluxo = Math.subtractExact(fluxo, mes.getTotalParcelas().getCentavos());
+            diferencas[k] = Math.addExact(diferencas[k], fluxo);
+            diferencas[k + 1] = Math.subtractExact(diferencas[k + 1], fluxo);
+
+            for (Receita receita : mes.getReceitas()) {
+                projecao.lancamentosContados.add(receita.getId());
+                if (receita.getTipo() == TipoReceita.FIXA) {
+                    projecao.contarRecorrencia(diferencas, k, receita.getRecorrenciaId(),
+                            receita.getValor().getCentavos());
+                }
+            }
+            for (Despesa despesa : mes.getDespesas()) {
+                projecao.lancamentosContados.add(despesa.getId());
+                if (despesa.getTipo() == TipoDespesa.FIXA) {
+                    projecao.contarRecorrencia(diferencas, k, despesa.getRecorrenciaId(),
+                            Math.negateExact(despesa.getValor().getCentavos()));
+                }
+            }
+            for (Parcela parcela : mes.getParcelas()) {
+                projecao.lancamentosContados.add(parcela.getId());
+            }
+        }
+        projecao.construir(diferencas);
+        return projecao;
+    }
+
+    /**
+     * Aplica à projeção um evento registrado em um mês do usuário. Só os
+     * lançamentos alteram saldo; eventos de meses fora do horizonte e
+     * lançamentos já contados são ignorados.
+     *
+     * O fechamento do mês corrente desloca o ponto de partida: nesse caso a
+     * projeção deve ser refeita, não atualizada.
+     */
+    public void aplicar(MesFinanceiro mes, EventoMesFinanceiro evento) {
+        Objects.requireNonNull(mes, "mes não pode ser nulo");
+        Objects.requireNonNull(evento, "evento não pode ser nulo");
+        garantirUsuario(mes);
+        int deslocamento = inicio.mesesAte(Periodo.de(mes.getMes(), mes.getAno()));
+        if (deslocamento < 0 || deslocamento >= horizonte) {
+            return;
+        }
+        if (evento instanceof ReceitaRegistrada e) {
+            Receita receita = e.receita();
+            registrarLancamento(deslocamento, receita.getId(), receita.getValor().getCentavos(),
+                    receita.getTipo() == TipoReceita.FIXA ? receita.getRecorrenciaId() : null);
+        } else if (evento instanceof DespesaRegistrada e) {
+            Despesa despesa = e.despesa();
+            registrarLancamento(deslocamento, despesa.getId(), Math.negateExact(despesa.getValor().getCentavos()),
+                    despesa.getTipo() == TipoDespesa.FIXA ? despesa.getRecorrenciaId() : null);
+        } else if (evento instanceof ParcelaRegistrada e) {
+            Parcela parcela = e.parcela();
+            registrarLancamento(deslocamento, parcela.getId(), Math.negateExact(parcela.getValor().getCentavos()), null);
+        }
+    }
+
+    /**
+     * Saldo final projetado de um mês do horizonte.
+     */
+    public Dinheiro saldoFinal(Periodo periodo) {
+        return Dinheiro.deCentavos(saldoFinalEmCentavos(deslocamento(periodo)));
+    }
+
+    /**
+     * Fluxo projetado de um mês do horizonte (receitas − despesas − parcelas).
+     */
+    public Dinheiro fluxo(Periodo periodo) {
+        int k = deslocamento(periodo);
+        return Dinheiro.deCentavos(Math.subtractExact(somaPrefixo(k + 1), somaPrefixo(k)));
+    }
+
+    /**
+     * Todos os meses do horizonte, em ordem de período.
+     */
+    public List<MesProjetado> meses() {
+        List<MesProjetado> resultado = new ArrayList<>(horizonte);
+        long anterior = 0L;
+        for (int k = 0; k < horizonte; k++) {
+            long acumulado = somaPrefixo(k + 1);
+            resultado.add(new MesProjetado(
+                    inicio.somarMeses(k),
+                    Dinheiro.deCentavos(Math.subtractExact(acumulado, anterior)),
+                    Dinheiro.deCentavos(Math.addExact(saldoInicial, acumulado))));
+            anterior = acumulado;
+        }
+        return resultado;
+    }
+
+    public UUID getUsuarioId() {
+        return usuarioId;
+    }
+
+    public Periodo getInicio() {
+        return inicio;
+    }
+
+    public Periodo getFim() {
+        return inicio.somarMeses(horizonte - 1);
+    }
+
+    public int getHorizonte() {
+        return horizonte;
+    }
+
+    public Dinheiro getSaldoInicial() {
+        return Dinheiro.deCentavos(saldoInicial);
+    }
+
+    /**
+     * Mês do horizonte com o fluxo e o saldo final projetados.
+     */
+    public record MesProjetado(Periodo periodo, Dinheiro fluxo, Dinheiro saldoFinal) {
+    }
+
+    private void registrarLancamento(int deslocamento, UUID lancamentoId, long valor, UUID recorrenciaId) {
+        if (!lancamentosContados.add(lancamentoId)) {
+            return;
+        }
+        if (recorrenciaId != null) {
+            Integer origem = origemRecorrencias.get(recorrenciaId);
+            if (origem != null && origem < deslocamento) {
+                // Ocorrência de uma recorrência que já estava projetada neste mês (RN-05)
+                return;
+            }
+            if (origem == null) {
+                origemRecorrencias.put(recorrenciaId, deslocamento);
+                somarIntervalo(deslocamento + 1, horizonte - 1, valor);
+            }
+        }
+        somarIntervalo(deslocamento, deslocamento, valor);
+    }
+
+    /**
+     * Na construção: a primeira ocorrência de uma recorrência a projeta até o
+     * fim do horizonte; as seguintes já estão nos totais do mês e anulam a
+     * projeção daquele mês.
+     */
+    private void contarRecorrencia(long[] diferencas, int deslocamento, UUID recorrenciaId, long valor) {
+        if (recorrenciaId == null) {
+            return;
+        }
+        Integer origem = origemRecorrencias.putIfAbsent(recorrenciaId, deslocamento);
+        if (origem == null) {
+            diferencas[deslocamento + 1] = Math.addExact(diferencas[deslocamento + 1], valor);
+        } else if (origem < deslocamento) {
+            diferencas[deslocamento] = Math.subtractExact(diferencas[deslocamento], valor);
+            diferencas[deslocamento + 1] = Math.addExact(diferencas[deslocamento + 1], valor);
+        }
+    }
+
+    /**
+     * Monta as duas árvores em O(N) a partir das diferenças do fluxo.
+     */
+    private void construir(long[] diferencasFluxo) {
+        for (int i = 1; i <= horizonte; i++) {
+            long d = diferencasFluxo[i - 1];
+            diferencas[i] = Math.addExact(diferencas[i], d);
+            diferencasPonderadas[i] = Math.addExact(diferencasPonderadas[i], Math.multiplyExact(d, i - 1));
+            int pai = i + (i & -i);
+            if (pai <= horizonte) {
+                diferencas[pai] = Math.addExact(diferencas[pai], diferencas[i]);
+                diferencasPonderadas[pai] = Math.addExact(diferencasPonderadas[pai], diferencasPonderadas[i]);
+            }
+        }
+    }
+
+    /**
+     * Soma valor ao fluxo dos meses com deslocamento entre de e ate (inclusive).
+     */
+    private void somarIntervalo(int de, int ate, long valor) {
+        if (de > ate) {
+            return;
+        }
+        somarDiferenca(de + 1, valor);
+        somarDiferenca(ate + 2, Math.negateExact(valor));
+    }
+
+    private void somarDiferenca(int i, long valor) {
+        long ponderado = Math.multiplyExact(valor, i - 1);
+        for (; i <= horizonte; i += i & -i) {
+            diferencas[i] = Math.addExact(diferencas[i], valor);
+            diferencasPonderadas[i] = Math.addExact(diferencasPonderadas[i], ponderado);
+        }
+    }
+
+    /**
+     * Soma do fluxo dos n primeiros meses do horizonte.
+     */
+    private long somaPrefixo(int n) {
+        long somaDiferencas = 0L;
+        long somaPonderadas = 0L;
+        for (int i = n; i > 0; i -= i & -i) {
+            somaDiferencas = Math.addExact(somaDiferencas, diferencas[i]);
+            somaPonderadas = Math.addExact(somaPonderadas, diferencasPonderadas[i]);
+        }
+        return Math.subtractExact(Math.multiplyExact(somaDiferencas, n), somaPonderadas);
+    }
+
+    private long saldoFinalEmCentavos(int deslocamento) {
+        return Math.addExact(saldoInicial, somaPrefixo(deslocamento + 1));
+    }
+
+    private int deslocamento(Periodo periodo) {
+        Objects.requireNonNull(periodo, "periodo não pode ser nulo");
+        int deslocamento = inicio.mesesAte(periodo);
+        if (deslocamento < 0 || deslocamento >= horizonte) {
+            throw new IllegalArgumentException("período " + periodo + " fora do horizonte da projeção");
+        }
+        return deslocamento;
+    }
+
+    private void garantirUsuario(MesFinanceiro mes) {
+        if (!usuarioId.equals(mes.getUsuarioId())) {
+            // RN-10: a projeção nunca mistura dados de usuários
+            throw new DomainException("Mês financeiro não pertence ao usuário da projeção.");
+        }
+    }
+}
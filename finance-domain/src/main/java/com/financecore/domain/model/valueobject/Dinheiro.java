@@ -0,0 +1,151 @@
+package com.financecore.domain.model.valueobject;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Value Object que representa um valor monetário.
+ *
+ * Armazenado como quantidade inteira de centavos, equivalente ao
+ * NUMERIC(14,2) do modelo físico. A aritmética é exata e toda operação
+ * que ultrapassar a capacidade de um long lança {@link ArithmeticException}.
+ *
+ * A conversão para BigDecimal ocorre apenas nas bordas (DTOs, persistência).
+ */
+public final class Dinheiro implements Comparable<Dinheiro> {
+
+    public static final int ESCALA = 2;
+
+    public static final Dinheiro ZERO = new Dinheiro(0L);
+
+    private final long centavos;
+
+    private Dinheiro(long centavos) {
+        this.centavos = centavos;
+    }
+
+    public static Dinheiro deCentavos(long centavos) {
+        return centavos == 0L ? ZERO : new Dinheiro(centavos);
+    }
+
+    /**
+     * Converte um BigDecimal sem arredondamento.
+     * Valores com mais de duas casas decimais significativas são rejeitados.
+     */
+    public static Dinheiro de(BigDecimal valor) {
+        Objects.requireNonNull(valor, "valor não pode ser nulo");
+        try {
+            return deCentavos(valor.setScale(ESCALA, RoundingMode.UNNECESSARY).unscaledValue().longValueExact());
+        } catch (ArithmeticException e) {
+            throw new ArithmeticException("valor monetário inválido: " + valor.toPlainString());
+        }
+    }
+
+    /**
+     * Converte um BigDecimal aplicando explicitamente o arredondamento informado.
+     */
+    public static Dinheiro de(BigDecimal valor, RoundingMode arredondamento) {
+        Objects.requireNonNull(valor, "valor não pode ser nulo");
+        Objects.requireNonNull(arredondamento, "arredondamento não pode ser nulo");
+        try {
+            return deCentavos(valor.setScale(ESCALA, arredondamento).unscaledValue().longValueExact());
+        } catch (ArithmeticException e) {
+            throw new ArithmeticException("valor monetário inválido: " + valor.toPlainString());
+        }
+    }
+
+    public static Dinheiro de(String valor) {
+        Objects.requireNonNull(valor, "valor não pode ser nulo");
+        return de(new BigDecimal(valor));
+    }
+
+    public Dinheiro somar(Dinheiro outro) {
+        Objects.requireNonNull(outro, "valor não pode ser nulo");
+        return deCentavos(Math.addExact(centavos, outro.centavos));
+    }
+
+    public Dinheiro subtrair(Dinheiro outro) {
+        Objects.requireNonNull(outro, "valor não pode ser nulo");
+        return deCentavos(Math.subtractExact(centavos, outro.centavos));
+    }
+
+    public Dinheiro multiplicar(long fator) {
+        return deCentavos(Math.multiplyExact(centavos, fator));
+    }
+
+    public Dinheiro negar() {
+        return deCentavos(Math.negateExact(centavos));
+    }
+
+    /**
+     * Divide o valor em partes que somam exatamente o original.
+     *
+     * O resto da divisão é distribuído de forma determinística, um centavo
+     * para cada uma das primeiras partes.
+     */
+    public List<Dinheiro> distribuir(int partes) {
+        if (partes <= 0) {
+            throw new IllegalArgumentException("partes deve ser > 0");
+        }
+        long base = Math.floorDiv(centavos, partes);
+        long resto = Math.floorMod(centavos, partes);
+        List<Dinheiro> resultado = new ArrayList<>(partes);
+        for (int i = 0; i < partes; i++) {
+            resultado.add(deCentavos(i < resto ? base + 1 : base));
+        }
+        return resultado;
+    }
+
+    public boolean isPositivo() {
+        return centavos > 0L;
+    }
+
+    public boolean isNegativo() {
+        return centavos < 0L;
+    }
+
+    public boolean isZero() {
+        return centavos == 0L;
+    }
+
+    public int signum() {
+        return Long.signum(centavos);
+    }
+
+    public long getCentavos() {
+        return centavos;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(centavos, ESCALA);
+    }
+
+    @Override
+    public int compareTo(Dinheiro outro) {
+        return Long.compare(centavos, outro.centavos);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Dinheiro outro)) {
+            return false;
+        }
+        return centavos == outro.centavos;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(centavos);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
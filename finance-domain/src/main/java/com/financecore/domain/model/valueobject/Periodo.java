@@ -0,0 +1,84 @@
+package com.financecore.domain.model.valueobject;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Value Object que representa um período mensal (mês/ano).
+ *
+ * Cada período possui um índice inteiro sequencial (ano * 12 + mes - 1),
+ * usado como chave compacta em índices e para aritmética de meses.
+ */
+public record Periodo(int mes, int ano) implements Comparable<Periodo> {
+
+    public Periodo {
+        if (mes < 1 || mes > 12) {
+            throw new IllegalArgumentException("mes deve estar entre 1 e 12");
+        }
+        if (ano < 2000) {
+            throw new IllegalArgumentException("ano deve ser >= 2000");
+        }
+    }
+
+    public static Periodo de(int mes, int ano) {
+        return new Periodo(mes, ano);
+    }
+
+    public static Periodo de(LocalDate data) {
+        Objects.requireNonNull(data, "data não pode ser nula");
+        return new Periodo(data.getMonthValue(), data.getYear());
+    }
+
+    public static Periodo deIndice(int indice) {
+        return new Periodo(Math.floorMod(indice, 12) + 1, Math.floorDiv(indice, 12));
+    }
+
+    /**
+     * Índice sequencial do período, sem criar instâncias.
+     */
+    public static int indice(int mes, int ano) {
+        return ano * 12 + (mes - 1);
+    }
+
+    public int indice() {
+        return indice(mes, ano);
+    }
+
+    public Periodo somarMeses(int quantidade) {
+        return deIndice(Math.addExact(indice(), quantidade));
+    }
+
+    public Periodo proximo() {
+        return somarMeses(1);
+    }
+
+    public Periodo anterior() {
+        return somarMeses(-1);
+    }
+
+    /**
+     * Quantidade de meses entre este período e o informado (positivo se posterior).
+     */
+    public int mesesAte(Periodo outro) {
+        Objects.requireNonNull(outro, "periodo não pode ser nulo");
+        return outro.indice() - indice();
+    }
+
+    public LocalDate primeiroDia() {
+        return LocalDate.of(ano, mes, 1);
+    }
+
+    public LocalDate ultimoDia() {
+        return primeiroDia().plusMonths(1).minusDays(1);
+    }
+
+    @Override
+    public int compareTo(Periodo outro) {
+        return Integer.compare(indice(), outro.indice());
+    }
+
+    @Override
+    public String toString() {
+        return mes + "/" + ano;
+    }
+}
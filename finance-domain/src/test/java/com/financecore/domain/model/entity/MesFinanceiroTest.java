@@ -0,0 +1,198 @@
+package com.financecore.domain.model.entity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.financecore.domain.model.entity.HistoricoFinanceiro.TotalCategoria;
+import com.financecore.domain.model.event.EventoMesFinanceiro;
+import com.financecore.domain.model.event.EventoMesFinanceiro.DespesaRegistrada;
+import com.financecore.domain.model.event.EventoMesFinanceiro.MesFechado;
+import com.financecore.domain.model.event.EventoMesFinanceiro.ReceitaRegistrada;
+import com.financecore.domain.model.exception.DomainException;
+import com.financecore.domain.model.valueobject.Dinheiro;
+
+/**
+ * RN-07: totais mantidos a cada lançamento, saldo parcial e fechamento.
+ */
+class MesFinanceiroTest {
+
+    private final Categoria moradia = Categoria.nova("Moradia", true);
+    private final Categoria lazer = Categoria.nova("Lazer", false);
+
+    @Test
+    void totaisAcompanhamCadaLancamento() {
+        MesFinanceiro mes = MesFinanceiro.novo(UUID.randomUUID(), 3, 2024, Dinheiro.deCentavos(10_000));
+
+        mes.registrarReceita(receita(mes, 500_000));
+        mes.registrarReceita(receita(mes, 25_050));
+        mes.registrarDespesa(despesa(mes, moradia, 150_000));
+        mes.registrarDespesa(despesa(mes, lazer, 4_990));
+        mes.registrarParcela(parcela(mes, 30_000));
+
+        assertEquals(Dinheiro.deCentavos(525_050), mes.getTotalReceitas());
+        assertEquals(Dinheiro.deCentavos(154_990), mes.getTotalDespesas());
+        assertEquals(Dinheiro.deCentavos(30_000), mes.getTotalParcelas());
+        assertEquals(Dinheiro.deCentavos(150_000), mes.getDespesasEssenciais());
+        assertEquals(Dinheiro.deCentavos(4_990), mes.getDespesasNaoEssenciais());
+        assertEquals(Dinheiro.deCentavos(10_000 + 525_050 - 154_990 - 30_000), mes.saldoParcial());
+    }
+
+    @Test
+    void reclassificarMoveOTotalEntreCategoriasSemAlterarOSaldo() {
+        MesFinanceiro mes = MesFinanceiro.novo(UUID.randomUUID(), 3, 2024, Dinheiro.ZERO);
+        Despesa cinema = despesa(mes, moradia, 4_000);
+        mes.registrarDespesa(cinema);
+        mes.registrarDespesa(despesa(mes, moradia, 100_000));
+        Dinheiro saldoAntes = mes.saldoParcial();
+
+        mes.reclassificarDespesa(cinema.getId(), lazer);
+
+        assertEquals(saldoAntes, mes.saldoParcial());
+        assertEquals(Dinheiro.deCentavos(104_000), mes.getTotalDespesas());
+        assertEquals(Dinheiro.deCentavos(100_000), mes.getDespesasEssenciais());
+        assertEquals(Dinheiro.deCentavos(4_000), mes.getDespesasNaoEssenciais());
+        assertEquals(Dinheiro.deCentavos(4_000), totalDa(mes, lazer));
+        assertEquals(Dinheiro.deCentavos(100_000), totalDa(mes, moradia));
+    }
+
+    @Test
+    void saldoParcialPodeFicarNegativo() {
+        MesFinanceiro mes = MesFinanceiro.novo(UUID.randomUUID(), 3, 2024, Dinheiro.deCentavos(-5_000));
+        mes.registrarDespesa(despesa(mes, moradia, 1_000));
+
+        assertEquals(Dinheiro.deCentavos(-6_000), mes.saldoParcial());
+        assertEquals(mes.saldoParcial(), mes.saldoEncerramento());
+    }
+
+    @Test
+    void despesaParceladaNaoEntraNosTotaisNemNoSaldo() {
+        MesFinanceiro mes = MesFinanceiro.novo(UUID.randomUUID(), 3, 2024, Dinheiro.deCentavos(1_000));
+        Despesa geladeira = Despesa.nova(mes.getId(), moradia, "Geladeira", Dinheiro.deCentavos(300_000),
+                LocalDate.of(2024, 3, 12), TipoDespesa.PARCELADA, "Cartão");
+        mes.registrarDespesa(despesa(mes, lazer, 2_000));
+        mes.registrarDespesa(geladeira);
+        mes.reclassificarDespesa(geladeira.getId(), lazer);
+
+        assertEquals(List.of(geladeira), mes.getDespesas().subList(1, 2));
+        assertEquals(Dinheiro.deCentavos(2_000), mes.getTotalDespesas());
+        assertEquals(Dinheiro.ZERO, mes.getDespesasEssenciais());
+        assertEquals(Dinheiro.deCentavos(2_000), totalDa(mes, lazer));
+        assertEquals(Dinheiro.deCentavos(1_000 - 2_000), mes.saldoParcial());
+    }
+
+    @Test
+    void fecharRegistraOSaldoFinalEBloqueiaAlteracoes() {
+        MesFinanceiro mes = MesFinanceiro.novo(UUID.randomUUID(), 3, 2024, Dinheiro.deCentavos(1_000));
+        mes.registrarReceita(receita(mes, 20_000));
+        mes.registrarDespesa(despesa(mes, moradia, 7_500));
+        mes.registrarParcela(parcela(mes, 2_500));
+
+        mes.fechar();
+
+        Dinheiro esperado = Dinheiro.deCentavos(1_000 + 20_000 - 7_500 - 2_500);
+        assertEquals(MesFinanceiroStatus.FECHADO, mes.getStatus());
+        assertEquals(esperado, mes.getSaldoFinal());
+        assertEquals(esperado, mes.saldoEncerramento());
+        List<EventoMesFinanceiro> eventos = mes.getEventos();
+        assertEquals(new MesFechado(mes.getId(), esperado), eventos.get(eventos.size() - 1));
+        assertThrows(DomainException.class, () -> mes.registrarReceita(receita(mes, 1)));
+        assertThrows(DomainException.class, mes::fechar);
+    }
+
+    @Test
+    void reconstituirCalculaOsTotaisAPartirDosLancamentos() {
+        UUID id = UUID.randomUUID();
+        MesFinanceiro referencia = MesFinanceiro.novo(UUID.randomUUID(), 5, 2024, Dinheiro.deCentavos(3_000));
+        List<Receita> receitas = List.of(receita(referencia, 40_000), receita(referencia, 1_234));
+        List<Despesa> despesas = List.of(despesa(referencia, moradia, 9_000), despesa(referencia, lazer, 766));
+        List<Parcela> parcelas = List.of(parcela(referencia, 5_000));
+
+        MesFinanceiro mes = MesFinanceiro.reconstituir(id, referencia.getUsuarioId(), 5, 2024,
+                MesFinanceiroStatus.ABERTO, Dinheiro.deCentavos(3_000), null, receitas, despesas, parcelas);
+
+        assertEquals(Dinheiro.deCentavos(41_234), mes.getTotalReceitas());
+        assertEquals(Dinheiro.deCentavos(9_766), mes.getTotalDespesas());
+        assertEquals(Dinheiro.deCentavos(5_000), mes.getTotalParcelas());
+        assertEquals(Dinheiro.deCentavos(9_000), mes.getDespesasEssenciais());
+        assertEquals(Dinheiro.deCentavos(3_000 + 41_234 - 9_766 - 5_000), mes.saldoParcial());
+        assertTrue(mes.getEventos().isEmpty());
+    }
+
+    @Test
+    void loteRegistraOsMesmosEventosETotaisDoRegistroIndividual() {
+        MesFinanceiro individual = MesFinanceiro.novo(UUID.randomUUID(), 3, 2024, Dinheiro.ZERO);
+        MesFinanceiro emLote = MesFinanceiro.novo(UUID.randomUUID(), 3, 2024, Dinheiro.ZERO);
+        List<Receita> receitas = List.of(receita(emLote, 1_000), receita(emLote, 2_000));
+        List<Despesa> despesas = List.of(despesa(emLote, moradia, 300), despesa(emLote, lazer, 400));
+        individual.registrarReceita(receita(individual, 1_000));
+        individual.registrarReceita(receita(individual, 2_000));
+        individual.registrarDespesa(despesa(individual, moradia, 300));
+        individual.registrarDespesa(despesa(individual, lazer, 400));
+
+        emLote.registrarReceitas(receitas);
+        emLote.registrarDespesas(despesas);
+
+        assertEquals(individual.saldoParcial(), emLote.saldoParcial());
+        assertEquals(individual.getDespesasEssenciais(), emLote.getDespesasEssenciais());
+        assertEquals(individual.getDespesasNaoEssenciais(), emLote.getDespesasNaoEssenciais());
+        assertEquals(receitas, emLote.getReceitas());
+        assertEquals(5, emLote.getEventos().size());
+        assertEquals(new ReceitaRegistrada(receitas.get(0)), emLote.getEventos().get(1));
+        assertEquals(new DespesaRegistrada(despesas.get(1)), emLote.getEventos().get(4));
+    }
+
+    @Test
+    void loteComLancamentoDeOutroMesNaoRegistraNada() {
+        MesFinanceiro mes = MesFinanceiro.novo(UUID.randomUUID(), 3, 2024, Dinheiro.ZERO);
+        MesFinanceiro outro = MesFinanceiro.novo(mes.getUsuarioId(), 4, 2024, Dinheiro.ZERO);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> mes.registrarReceitas(List.of(receita(mes, 1_000), receita(outro, 2_000))));
+        assertThrows(IllegalArgumentException.class,
+                () -> mes.registrarDespesas(List.of(despesa(mes, moradia, 300), despesa(outro, lazer, 400))));
+
+        assertTrue(mes.getReceitas().isEmpty());
+        assertTrue(mes.getDespesas().isEmpty());
+        assertEquals(Dinheiro.ZERO, mes.saldoParcial());
+        assertEquals(1, mes.getEventos().size());
+    }
+
+    @Test
+    void loteEmMesFechadoEhRejeitado() {
+        MesFinanceiro mes = MesFinanceiro.novo(UUID.randomUUID(), 3, 2024, Dinheiro.ZERO);
+        mes.fechar();
+
+        assertThrows(DomainException.class, () -> mes.registrarReceitas(List.of(receita(mes, 1_000))));
+        assertThrows(DomainException.class, () -> mes.registrarDespesas(List.of(despesa(mes, moradia, 300))));
+        assertTrue(mes.getReceitas().isEmpty());
+    }
+
+    private static Dinheiro totalDa(MesFinanceiro mes, Categoria categoria) {
+        return mes.getDespesasPorCategoria().stream()
+                .filter(total -> total.categoriaId().equals(categoria.getId()))
+                .map(TotalCategoria::total)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static Receita receita(MesFinanceiro mes, long centavos) {
+        return Receita.nova(mes.getId(), "Receita", Dinheiro.deCentavos(centavos), TipoReceita.VARIAVEL,
+                LocalDate.of(mes.getAno(), mes.getMes(), 5));
+    }
+
+    private static Despesa despesa(MesFinanceiro mes, Categoria categoria, long centavos) {
+        return Despesa.nova(mes.getId(), categoria, "Despesa", Dinheiro.deCentavos(centavos),
+                LocalDate.of(mes.getAno(), mes.getMes(), 10), TipoDespesa.PONTUAL, "PIX");
+    }
+
+    private static Parcela parcela(MesFinanceiro mes, long centavos) {
+        return Parcela.nova(UUID.randomUUID(), mes.getId(), 1, Dinheiro.deCentavos(centavos));
+    }
+}
@@ -0,0 +1,144 @@
+package com.financecore.domain.model.entity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.financecore.domain.model.exception.DomainException;
+import com.financecore.domain.model.valueobject.Dinheiro;
+
+/**
+ * RN-06: parcelamento de uma despesa PARCELADA.
+ */
+class ParcelamentoTest {
+
+    private final Categoria moradia = Categoria.nova("Moradia", true);
+
+    @Test
+    void valorTotalEhODaDespesa() {
+        Despesa geladeira = despesa(TipoDespesa.PARCELADA, 300_001);
+
+        Parcelamento parcelamento = Parcelamento.novo(geladeira, 3);
+
+        assertEquals(geladeira.getId(), parcelamento.getDespesaId());
+        assertEquals(Dinheiro.deCentavos(300_001), parcelamento.getValorTotal());
+        assertEquals(3, parcelamento.getNumeroParcelas());
+    }
+
+    @Test
+    void somenteDespesaParceladaOriginaParcelamento() {
+        assertThrows(DomainException.class, () -> Parcelamento.novo(despesa(TipoDespesa.PONTUAL, 300_000), 3));
+        assertThrows(DomainException.class, () -> Parcelamento.novo(despesa(TipoDespesa.FIXA, 300_000), 3));
+    }
+
+    @Test
+    void mesesCriadosHerdamOSaldoJaDescontadoDaParcelaAnterior() {
+        Usuario usuario = novoUsuario();
+        MesFinanceiro marco = usuario.criarMesFinanceiro(3, 2024, Dinheiro.deCentavos(500_000));
+        Despesa geladeira = despesa(marco, TipoDespesa.PARCELADA, 300_001);
+        marco.registrarDespesa(geladeira);
+
+        List<MesFinanceiro> meses = Parcelamento.novo(geladeira, 3).gerarParcelas(usuario, marco);
+
+        assertEquals(3, meses.size());
+        assertEquals(marco.saldoEncerramento(), meses.get(0).getSaldoInicial());
+        for (int k = 0; k < meses.size() - 1; k++) {
+            assertEquals(meses.get(k).saldoEncerramento(), meses.get(k + 1).getSaldoInicial());
+        }
+        assertEquals(Dinheiro.deCentavos(500_000 - 300_001), meses.get(2).saldoEncerramento());
+    }
+
+    @Test
+    void centavosRestantesFicamComAsPrimeirasParcelas() {
+        Usuario usuario = novoUsuario();
+        MesFinanceiro marco = usuario.criarMesFinanceiro(3, 2024, Dinheiro.ZERO);
+        Despesa geladeira = despesa(marco, TipoDespesa.PARCELADA, 1_000);
+        marco.registrarDespesa(geladeira);
+        Parcelamento parcelamento = Parcelamento.novo(geladeira, 3);
+
+        parcelamento.gerarParcelas(usuario, marco);
+
+        assertEquals(List.of(Dinheiro.deCentavos(334), Dinheiro.deCentavos(333), Dinheiro.deCentavos(333)),
+                parcelamento.getParcelas().stream().map(Parcela::getValor).toList());
+        assertEquals(List.of(1, 2, 3), parcelamento.getParcelas().stream().map(Parcela::getNumero).toList());
+    }
+
+    @Test
+    void parcelasSomamExatamenteOValorTotal() {
+        for (long centavos : new long[] {12, 99_999, 300_001, 1_234_567}) {
+            for (int numero = 2; numero <= 12; numero++) {
+                Usuario usuario = novoUsuario();
+                MesFinanceiro marco = usuario.criarMesFinanceiro(3, 2024, Dinheiro.ZERO);
+                Despesa compra = despesa(marco, TipoDespesa.PARCELADA, centavos);
+                marco.registrarDespesa(compra);
+                Parcelamento parcelamento = Parcelamento.novo(compra, numero);
+
+                List<MesFinanceiro> meses = parcelamento.gerarParcelas(usuario, marco);
+
+                long soma = 0L;
+                for (MesFinanceiro mes : meses) {
+                    soma += mes.getTotalParcelas().getCentavos();
+                }
+                assertEquals(centavos, soma);
+                assertEquals(numero, parcelamento.getParcelas().size());
+            }
+        }
+    }
+
+    @Test
+    void primeiraParcelaCaiNoMesSeguinteAoDeOrigem() {
+        Usuario usuario = novoUsuario();
+        MesFinanceiro novembro = usuario.criarMesFinanceiro(11, 2024, Dinheiro.ZERO);
+        MesFinanceiro dezembro = usuario.criarMesFinanceiro(12, 2024, Dinheiro.ZERO);
+        Despesa viagem = despesa(novembro, TipoDespesa.PARCELADA, 90_000);
+        novembro.registrarDespesa(viagem);
+        Parcelamento parcelamento = Parcelamento.novo(viagem, 3);
+
+        List<MesFinanceiro> meses = parcelamento.gerarParcelas(usuario, novembro);
+
+        assertSame(dezembro, meses.get(0));
+        assertEquals(List.of(12, 1, 2), meses.stream().map(MesFinanceiro::getMes).toList());
+        assertEquals(List.of(2024, 2025, 2025), meses.stream().map(MesFinanceiro::getAno).toList());
+        assertTrue(novembro.getParcelas().isEmpty());
+        assertEquals(dezembro.getId(), parcelamento.getParcelas().get(0).getMesFinanceiroId());
+    }
+
+    @Test
+    void mesFechadoNoIntervaloRejeitaOParcelamentoSemAlterarNada() {
+        Usuario usuario = novoUsuario();
+        MesFinanceiro marco = usuario.criarMesFinanceiro(3, 2024, Dinheiro.ZERO);
+        MesFinanceiro abril = usuario.criarMesFinanceiro(4, 2024, Dinheiro.ZERO);
+        MesFinanceiro maio = usuario.criarMesFinanceiro(5, 2024, Dinheiro.ZERO);
+        maio.fechar();
+        Despesa geladeira = despesa(marco, TipoDespesa.PARCELADA, 300_000);
+        marco.registrarDespesa(geladeira);
+        Parcelamento parcelamento = Parcelamento.novo(geladeira, 3);
+
+        assertThrows(DomainException.class, () -> parcelamento.gerarParcelas(usuario, marco));
+
+        assertTrue(abril.getParcelas().isEmpty());
+        assertTrue(parcelamento.getParcelas().isEmpty());
+        assertEquals(3, usuario.getMesesFinanceiros().size());
+    }
+
+    private static Usuario novoUsuario() {
+        return Usuario.novo("Ana", new PreferenciasSistema(TemaVisual.CLARO, "pt-BR", true));
+    }
+
+    private Despesa despesa(TipoDespesa tipo, long centavos) {
+        return Despesa.nova(UUID.randomUUID(), moradia, "Geladeira", Dinheiro.deCentavos(centavos),
+                LocalDate.of(2024, 3, 12), tipo, "Cartão");
+    }
+
+    private Despesa despesa(MesFinanceiro mes, TipoDespesa tipo, long centavos) {
+        return Despesa.nova(mes.getId(), moradia, "Geladeira", Dinheiro.deCentavos(centavos),
+                LocalDate.of(2024, 3, 12), tipo, "Cartão");
+    }
+}
@@ -0,0 +1,111 @@
+package com.financecore.domain.model.entity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.financecore.domain.model.exception.DomainException;
+import com.financecore.domain.model.valueobject.Dinheiro;
+import com.financecore.domain.model.valueobject.Periodo;
+
+/**
+ * RN-05: propagação das receitas e despesas FIXA para os meses seguintes.
+ */
+class RecorrenciaFixaTest {
+
+    private final Categoria moradia = Categoria.nova("Moradia", true);
+
+    @Test
+    void ocorrenciaNoDia31CaiNoUltimoDiaDeFevereiroEVoltaAoDia31() {
+        Usuario usuario = novoUsuario();
+        MesFinanceiro janeiro = usuario.criarMesFinanceiro(1, 2024, Dinheiro.ZERO);
+        Despesa aluguel = aluguelEm(janeiro, LocalDate.of(2024, 1, 31));
+        janeiro.registrarDespesa(aluguel);
+
+        MesFinanceiro fevereiro = usuario.criarMesFinanceiro(2, 2024, Dinheiro.ZERO);
+        MesFinanceiro marco = usuario.criarMesFinanceiro(3, 2024, Dinheiro.ZERO);
+        MesFinanceiro abril = usuario.criarMesFinanceiro(4, 2024, Dinheiro.ZERO);
+
+        assertEquals(LocalDate.of(2024, 2, 29), unicaDespesa(fevereiro).getData());
+        assertEquals(LocalDate.of(2024, 3, 31), unicaDespesa(marco).getData());
+        assertEquals(LocalDate.of(2024, 4, 30), unicaDespesa(abril).getData());
+        for (MesFinanceiro mes : List.of(fevereiro, marco, abril)) {
+            Despesa ocorrencia = unicaDespesa(mes);
+            assertEquals(aluguel.getId(), ocorrencia.getRecorrenciaId());
+            assertEquals(31, ocorrencia.getDiaRecorrencia());
+            assertEquals(mes.getId(), ocorrencia.getMesFinanceiroId());
+            assertEquals(aluguel.getValor(), ocorrencia.getValor());
+        }
+    }
+
+    @Test
+    void receitaFixaNoFimDoMesSegueAMesmaRegra() {
+        Usuario usuario = novoUsuario();
+        MesFinanceiro janeiro = usuario.criarMesFinanceiro(1, 2023, Dinheiro.ZERO);
+        janeiro.registrarReceita(new Receita(UUID.randomUUID(), janeiro.getId(), "Salário",
+                Dinheiro.deCentavos(500_000), TipoReceita.FIXA, LocalDate.of(2023, 1, 30)));
+
+        MesFinanceiro fevereiro = usuario.criarMesFinanceiro(2, 2023, Dinheiro.ZERO);
+        MesFinanceiro marco = usuario.criarMesFinanceiro(3, 2023, Dinheiro.ZERO);
+
+        assertEquals(LocalDate.of(2023, 2, 28), fevereiro.getReceitas().get(0).getDataReferencia());
+        assertEquals(LocalDate.of(2023, 3, 30), marco.getReceitas().get(0).getDataReferencia());
+    }
+
+    @Test
+    void propagarDeNovoNaoDuplicaLancamentos() {
+        Usuario usuario = novoUsuario();
+        MesFinanceiro janeiro = usuario.criarMesFinanceiro(1, 2024, Dinheiro.ZERO);
+        janeiro.registrarDespesa(aluguelEm(janeiro, LocalDate.of(2024, 1, 10)));
+        janeiro.registrarDespesa(Despesa.nova(janeiro.getId(), moradia, "Reparo",
+                Dinheiro.deCentavos(9_000), LocalDate.of(2024, 1, 12), TipoDespesa.PONTUAL, "PIX"));
+        MesFinanceiro fevereiro = usuario.criarMesFinanceiro(2, 2024, Dinheiro.ZERO);
+
+        assertEquals(0, fevereiro.propagarRecorrencias(janeiro));
+        assertEquals(1, fevereiro.getDespesas().size());
+        assertEquals(Dinheiro.deCentavos(150_000), fevereiro.getTotalDespesas());
+    }
+
+    @Test
+    void mesesPuladosSaoPreenchidosDeUmaVez() {
+        Usuario usuario = novoUsuario();
+        MesFinanceiro janeiro = usuario.criarMesFinanceiro(1, 2024, Dinheiro.ZERO);
+        janeiro.registrarDespesa(aluguelEm(janeiro, LocalDate.of(2024, 1, 31)));
+
+        List<MesFinanceiro> criados = usuario.preencherMesesAte(Periodo.de(5, 2024));
+
+        assertEquals(4, criados.size());
+        assertEquals(List.of(LocalDate.of(2024, 2, 29), LocalDate.of(2024, 3, 31),
+                        LocalDate.of(2024, 4, 30), LocalDate.of(2024, 5, 31)),
+                criados.stream().map(mes -> unicaDespesa(mes).getData()).toList());
+        assertEquals(List.of(), usuario.preencherMesesAte(Periodo.de(5, 2024)));
+    }
+
+    @Test
+    void recorrenciasSoSePropagamParaMesesPosteriores() {
+        Usuario usuario = novoUsuario();
+        MesFinanceiro marco = usuario.criarMesFinanceiro(3, 2024, Dinheiro.ZERO);
+        MesFinanceiro fevereiro = usuario.criarMesFinanceiro(2, 2024, Dinheiro.ZERO);
+
+        assertThrows(DomainException.class, () -> fevereiro.propagarRecorrencias(marco));
+    }
+
+    private Despesa aluguelEm(MesFinanceiro mes, LocalDate data) {
+        return new Despesa(UUID.randomUUID(), mes.getId(), moradia, "Aluguel",
+                Dinheiro.deCentavos(150_000), data, TipoDespesa.FIXA, "Boleto");
+    }
+
+    private static Despesa unicaDespesa(MesFinanceiro mes) {
+        assertEquals(1, mes.getDespesas().size());
+        return mes.getDespesas().get(0);
+    }
+
+    private static Usuario novoUsuario() {
+        return Usuario.novo("Ana", new PreferenciasSistema(TemaVisual.CLARO, "pt-BR", true));
+    }
+}
@@ -0,0 +1,55 @@
+package com.financecore.domain.model.entity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.financecore.domain.model.exception.DomainException;
+import com.financecore.domain.model.valueobject.Dinheiro;
+import com.financecore.domain.model.valueobject.Periodo;
+
+/**
+ * RN-01: um único mês financeiro por usuário e período.
+ */
+class UsuarioTest {
+
+    @Test
+    void periodoComMesAbertoNaoRecebeOutroMes() {
+        Usuario usuario = novoUsuario();
+        usuario.criarMesFinanceiro(3, 2024, Dinheiro.ZERO);
+
+        assertThrows(DomainException.class, () -> usuario.criarMesFinanceiro(3, 2024, Dinheiro.ZERO));
+        assertEquals(1, usuario.getMesesFinanceiros().size());
+    }
+
+    @Test
+    void periodoComMesFechadoNaoRecebeOutroMes() {
+        Usuario usuario = novoUsuario();
+        MesFinanceiro marco = usuario.criarMesFinanceiro(3, 2024, Dinheiro.ZERO);
+        marco.fechar();
+
+        assertThrows(DomainException.class, () -> usuario.criarMesFinanceiro(3, 2024, Dinheiro.ZERO));
+        assertEquals(List.of(marco), usuario.getMesesFinanceiros());
+    }
+
+    @Test
+    void obterOuCriarReaproveitaOMesFechadoDoPeriodo() {
+        Usuario usuario = novoUsuario();
+        MesFinanceiro marco = usuario.criarMesFinanceiro(3, 2024, Dinheiro.ZERO);
+        marco.fechar();
+
+        List<MesFinanceiro> meses = usuario.obterOuCriarMesesFinanceiros(Periodo.de(3, 2024), 2);
+
+        assertSame(marco, meses.get(0));
+        assertEquals(4, meses.get(1).getMes());
+        assertEquals(2, usuario.getMesesFinanceiros().size());
+    }
+
+    private static Usuario novoUsuario() {
+        return Usuario.novo("Ana", new PreferenciasSistema(TemaVisual.CLARO, "pt-BR", true));
+    }
+}
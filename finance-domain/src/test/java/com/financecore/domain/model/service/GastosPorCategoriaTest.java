@@ -0,0 +1,127 @@
+package com.financecore.domain.model.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.financecore.domain.model.entity.Categoria;
+import com.financecore.domain.model.entity.Despesa;
+import com.financecore.domain.model.entity.HistoricoFinanceiro;
+import com.financecore.domain.model.entity.HistoricoFinanceiro.TotalCategoria;
+import com.financecore.domain.model.entity.MesFinanceiro;
+import com.financecore.domain.model.entity.Parcela;
+import com.financecore.domain.model.entity.TipoDespesa;
+import com.financecore.domain.model.exception.DomainException;
+import com.financecore.domain.model.service.GastosPorCategoria.GastoMensal;
+import com.financecore.domain.model.valueobject.Dinheiro;
+import com.financecore.domain.model.valueobject.Periodo;
+
+class GastosPorCategoriaTest {
+
+    private static final Periodo JANEIRO = Periodo.de(1, 2024);
+    private static final Periodo FEVEREIRO = Periodo.de(2, 2024);
+    private static final Periodo MARCO = Periodo.de(3, 2024);
+    private static final Periodo JUNHO = Periodo.de(6, 2024);
+
+    private final UUID usuarioId = UUID.randomUUID();
+    private final Categoria mercado = Categoria.nova("Mercado", true);
+    private final Categoria lazer = Categoria.nova("Lazer", false);
+
+    @Test
+    void somaCategoriasEssencialidadeEParcelasPorIntervalo() {
+        MesFinanceiro janeiro = mes(1);
+        despesa(janeiro, mercado, 400);
+        despesa(janeiro, lazer, 150);
+        MesFinanceiro marco = mes(3);
+        despesa(marco, mercado, 250);
+        marco.registrarParcela(Parcela.nova(UUID.randomUUID(), marco.getId(), 1, reais(80)));
+        GastosPorCategoria gastos = new GastosPorCategoria(usuarioId, JANEIRO, JUNHO);
+
+        gastos.atualizar(janeiro);
+        gastos.atualizar(marco);
+
+        assertEquals(List.of(total(mercado, 650), total(lazer, 150)), gastos.totalPorCategoria(JANEIRO, JUNHO));
+        assertEquals(List.of(total(mercado, 250)), gastos.totalPorCategoria(FEVEREIRO, MARCO));
+        assertEquals(List.of(), gastos.totalPorCategoria(FEVEREIRO, FEVEREIRO));
+        assertEquals(reais(650), gastos.totalEssenciais(JANEIRO, JUNHO));
+        assertEquals(reais(150), gastos.totalNaoEssenciais(JANEIRO, JUNHO));
+        assertEquals(reais(80), gastos.totalParcelas(JANEIRO, JUNHO));
+        assertEquals(List.of(
+                new GastoMensal(JANEIRO, reais(400), reais(150), Dinheiro.ZERO,
+                        List.of(total(mercado, 400), total(lazer, 150))),
+                new GastoMensal(FEVEREIRO, Dinheiro.ZERO, Dinheiro.ZERO, Dinheiro.ZERO, List.of()),
+                new GastoMensal(MARCO, reais(250), Dinheiro.ZERO, reais(80), List.of(total(mercado, 250)))
+        ), gastos.meses(JANEIRO, MARCO));
+    }
+
+    @Test
+    void atualizarOMesmoMesSubstituiOsTotaisEAcompanhaAReclassificacao() {
+        MesFinanceiro janeiro = mes(1);
+        despesa(janeiro, mercado, 400);
+        Despesa cinema = despesa(janeiro, lazer, 150);
+        GastosPorCategoria gastos = new GastosPorCategoria(usuarioId, JANEIRO, JUNHO);
+        gastos.atualizar(janeiro);
+
+        janeiro.reclassificarDespesa(cinema.getId(), mercado);
+        gastos.atualizar(janeiro);
+        gastos.atualizar(janeiro);
+
+        assertEquals(List.of(total(mercado, 550)), gastos.totalPorCategoria(JANEIRO, JUNHO));
+        assertEquals(reais(550), gastos.totalEssenciais(JANEIRO, JANEIRO));
+        assertEquals(Dinheiro.ZERO, gastos.totalNaoEssenciais(JANEIRO, JANEIRO));
+    }
+
+    @Test
+    void consolidacaoDoFechamentoAlimentaOMesComOsMesmosTotais() {
+        MesFinanceiro marco = mes(3);
+        despesa(marco, mercado, 250);
+        despesa(marco, lazer, 90);
+        GastosPorCategoria peloMes = new GastosPorCategoria(usuarioId, JANEIRO, JUNHO);
+        peloMes.atualizar(marco);
+
+        marco.fechar();
+        GastosPorCategoria peloHistorico = new GastosPorCategoria(usuarioId, JANEIRO, JUNHO);
+        peloHistorico.atualizar(HistoricoFinanceiro.consolidar(marco));
+
+        assertEquals(peloMes.meses(JANEIRO, JUNHO), peloHistorico.meses(JANEIRO, JUNHO));
+    }
+
+    @Test
+    void mesesForaDoIntervaloSaoIgnoradosEConsultasForaDeleRejeitadas() {
+        MesFinanceiro julho = mes(7);
+        despesa(julho, mercado, 100);
+        GastosPorCategoria gastos = new GastosPorCategoria(usuarioId, JANEIRO, JUNHO);
+
+        gastos.atualizar(julho);
+
+        assertEquals(List.of(), gastos.totalPorCategoria(JANEIRO, JUNHO));
+        assertThrows(IllegalArgumentException.class, () -> gastos.totalPorCategoria(JANEIRO, Periodo.de(7, 2024)));
+        assertThrows(IllegalArgumentException.class, () -> gastos.meses(MARCO, JANEIRO));
+        assertThrows(DomainException.class,
+                () -> gastos.atualizar(MesFinanceiro.novo(UUID.randomUUID(), 1, 2024, Dinheiro.ZERO)));
+    }
+
+    private MesFinanceiro mes(int mes) {
+        return MesFinanceiro.novo(usuarioId, mes, 2024, Dinheiro.ZERO);
+    }
+
+    private static Despesa despesa(MesFinanceiro mes, Categoria categoria, long valor) {
+        Despesa despesa = Despesa.nova(mes.getId(), categoria, "Compra", reais(valor),
+                LocalDate.of(mes.getAno(), mes.getMes(), 10), TipoDespesa.PONTUAL, "Cartão");
+        mes.registrarDespesa(despesa);
+        return despesa;
+    }
+
+    private static TotalCategoria total(Categoria categoria, long valor) {
+        return new TotalCategoria(categoria.getId(), categoria.getNome(), categoria.isEssencial(), reais(valor));
+    }
+
+    private static Dinheiro reais(long valor) {
+        return Dinheiro.deCentavos(valor * 100);
+    }
+}
@@ -0,0 +1,178 @@
+package com.financecore.domain.model.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.financecore.domain.model.entity.Categoria;
+import com.financecore.domain.model.entity.Despesa;
+import com.financecore.domain.model.entity.MesFinanceiro;
+import com.financecore.domain.model.entity.Receita;
+import com.financecore.domain.model.entity.TipoDespesa;
+import com.financecore.domain.model.entity.TipoReceita;
+import com.financecore.domain.model.event.EventoMesFinanceiro;
+import com.financecore.domain.model.exception.DomainException;
+import com.financecore.domain.model.service.IndiceLancamentos.LancamentoIndexado;
+import com.financecore.domain.model.service.IndiceLancamentos.Natureza;
+import com.financecore.domain.model.valueobject.Dinheiro;
+
+/**
+ * Confere as buscas do índice com a filtragem direta dos lançamentos. Datas e
+ * valores são distintos, então a ordem esperada é única; são mais de 64
+ * despesas, então as buscas atravessam vários blocos.
+ */
+class IndiceLancamentosTest {
+
+    private static final int DESPESAS_POR_MES = 20;
+    private static final int RECEITAS_POR_MES = 5;
+
+    private final UUID usuarioId = UUID.randomUUID();
+    private final Categoria mercado = Categoria.nova("Mercado", true);
+    private final Random aleatorio = new Random(42);
+    private final List<MesFinanceiro> meses = new ArrayList<>();
+
+    @BeforeEach
+    void criarMeses() {
+        List<Long> valoresDespesas = embaralhados(12 * DESPESAS_POR_MES);
+        List<Long> valoresReceitas = embaralhados(12 * RECEITAS_POR_MES);
+        for (int m = 1; m <= 12; m++) {
+            MesFinanceiro mes = MesFinanceiro.novo(usuarioId, m, 2024, Dinheiro.ZERO);
+            List<Integer> dias = new ArrayList<>();
+            for (int dia = 1; dia <= 28; dia++) {
+                dias.add(dia);
+            }
+            Collections.shuffle(dias, aleatorio);
+            for (int i = 0; i < DESPESAS_POR_MES; i++) {
+                mes.registrarDespesa(Despesa.nova(mes.getId(), mercado, "Compra " + m + "-" + i,
+                        Dinheiro.deCentavos(valoresDespesas.remove(0)), LocalDate.of(2024, m, dias.get(i)),
+                        TipoDespesa.PONTUAL, "Cartão"));
+            }
+            Collections.shuffle(dias, aleatorio);
+            for (int i = 0; i < RECEITAS_POR_MES; i++) {
+                mes.registrarReceita(Receita.nova(mes.getId(), "Venda " + m + "-" + i,
+                        Dinheiro.deCentavos(valoresReceitas.remove(0)), TipoReceita.VARIAVEL,
+                        LocalDate.of(2024, m, dias.get(i))));
+            }
+            meses.add(mes);
+        }
+    }
+
+    @Test
+    void buscaPorIntervaloEValorMinimoIgualaAFiltragemDireta() {
+        IndiceLancamentos indice = IndiceLancamentos.indexar(usuarioId, meses.stream());
+
+        assertEquals(12 * DESPESAS_POR_MES, indice.getQuantidade(Natureza.DESPESA));
+        assertEquals(12 * RECEITAS_POR_MES, indice.getQuantidade(Natureza.RECEITA));
+        for (Natureza natureza : Natureza.values()) {
+            conferirBusca(indice, natureza, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), Dinheiro.ZERO);
+            conferirBusca(indice, natureza, LocalDate.of(2024, 3, 10), LocalDate.of(2024, 9, 20),
+                    Dinheiro.deCentavos(15_000));
+            conferirBusca(indice, natureza, LocalDate.of(2024, 6, 1), LocalDate.of(2024, 6, 30),
+                    Dinheiro.deCentavos(1_000_000));
+            conferirBusca(indice, natureza, LocalDate.of(2023, 1, 1), LocalDate.of(2023, 12, 31), Dinheiro.ZERO);
+        }
+    }
+
+    @Test
+    void maioresIgualaAOrdenacaoDireta() {
+        IndiceLancamentos indice = IndiceLancamentos.indexar(usuarioId, meses.stream());
+
+        for (Natureza natureza : Natureza.values()) {
+            conferirMaiores(indice, natureza, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), 5);
+            conferirMaiores(indice, natureza, LocalDate.of(2024, 2, 14), LocalDate.of(2024, 11, 2), 1);
+            conferirMaiores(indice, natureza, LocalDate.of(2024, 4, 1), LocalDate.of(2024, 5, 31), 1_000);
+        }
+        assertThrows(IllegalArgumentException.class, () -> indice.maiores(Natureza.DESPESA,
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), 0));
+    }
+
+    @Test
+    void lancamentosRegistradosDepoisDaMontagemEntramNaOrdem() {
+        IndiceLancamentos indice = IndiceLancamentos.indexar(usuarioId, meses.subList(0, 6).stream());
+        MesFinanceiro fevereiro = meses.get(1);
+        fevereiro.registrarDespesa(Despesa.nova(fevereiro.getId(), mercado, "Atrasada",
+                Dinheiro.deCentavos(999_999), LocalDate.of(2024, 2, 29), TipoDespesa.PONTUAL, "PIX"));
+
+        for (MesFinanceiro mes : meses) {
+            aplicar(indice, mes);
+        }
+        // Reaplicar os mesmos eventos não duplica lançamentos
+        aplicar(indice, fevereiro);
+
+        assertEquals(12 * DESPESAS_POR_MES + 1, indice.getQuantidade(Natureza.DESPESA));
+        conferirBusca(indice, Natureza.DESPESA, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), Dinheiro.ZERO);
+        conferirBusca(indice, Natureza.RECEITA, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), Dinheiro.ZERO);
+        conferirMaiores(indice, Natureza.DESPESA, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), 3);
+    }
+
+    @Test
+    void naoIndexaMesesDeOutroUsuario() {
+        MesFinanceiro alheio = MesFinanceiro.novo(UUID.randomUUID(), 1, 2024, Dinheiro.ZERO);
+
+        assertThrows(DomainException.class, () -> IndiceLancamentos.indexar(usuarioId, Stream.of(alheio)));
+    }
+
+    private void conferirBusca(IndiceLancamentos indice, Natureza natureza,
+                               LocalDate de, LocalDate ate, Dinheiro valorMinimo) {
+        List<LancamentoIndexado> esperados = todos(natureza).stream()
+                .filter(l -> !l.data().isBefore(de) && !l.data().isAfter(ate))
+                .filter(l -> l.valor().compareTo(valorMinimo) >= 0)
+                .sorted(Comparator.comparing(LancamentoIndexado::data))
+                .toList();
+        assertEquals(esperados, indice.buscar(natureza, de, ate, valorMinimo));
+    }
+
+    private void conferirMaiores(IndiceLancamentos indice, Natureza natureza,
+                                 LocalDate de, LocalDate ate, int quantidade) {
+        List<LancamentoIndexado> esperados = todos(natureza).stream()
+                .filter(l -> !l.data().isBefore(de) && !l.data().isAfter(ate))
+                .sorted(Comparator.comparing(LancamentoIndexado::valor).reversed())
+                .limit(quantidade)
+                .toList();
+        assertEquals(esperados, indice.maiores(natureza, de, ate, quantidade));
+    }
+
+    private List<LancamentoIndexado> todos(Natureza natureza) {
+        List<LancamentoIndexado> todos = new ArrayList<>();
+        for (MesFinanceiro mes : meses) {
+            if (natureza == Natureza.RECEITA) {
+                for (Receita receita : mes.getReceitas()) {
+                    todos.add(new LancamentoIndexado(natureza, receita.getId(), mes.getId(),
+                            receita.getDataReferencia(), receita.getValor()));
+                }
+            } else {
+                for (Despesa despesa : mes.getDespesas()) {
+                    todos.add(new LancamentoIndexado(natureza, despesa.getId(), mes.getId(),
+                            despesa.getData(), despesa.getValor()));
+                }
+            }
+        }
+        return todos;
+    }
+
+    private static void aplicar(IndiceLancamentos indice, MesFinanceiro mes) {
+        for (EventoMesFinanceiro evento : mes.getEventos()) {
+            indice.aplicar(mes, evento);
+        }
+    }
+
+    private List<Long> embaralhados(int quantidade) {
+        List<Long> valores = new ArrayList<>(quantidade);
+        for (int i = 1; i <= quantidade; i++) {
+            valores.add(i * 4_321L);
+        }
+        Collections.shuffle(valores, aleatorio);
+        return valores;
+    }
+}
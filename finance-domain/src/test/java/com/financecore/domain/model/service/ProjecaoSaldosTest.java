@@ -0,0 +1,135 @@
+package com.financecore.domain.model.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.financecore.domain.model.entity.Categoria;
+import com.financecore.domain.model.entity.Despesa;
+import com.financecore.domain.model.entity.MesFinanceiro;
+import com.financecore.domain.model.entity.Parcela;
+import com.financecore.domain.model.entity.Receita;
+import com.financecore.domain.model.entity.TipoDespesa;
+import com.financecore.domain.model.entity.TipoReceita;
+import com.financecore.domain.model.event.EventoMesFinanceiro;
+import com.financecore.domain.model.exception.DomainException;
+import com.financecore.domain.model.service.ProjecaoSaldos.MesProjetado;
+import com.financecore.domain.model.valueobject.Dinheiro;
+import com.financecore.domain.model.valueobject.Periodo;
+
+class ProjecaoSaldosTest {
+
+    private final UUID usuarioId = UUID.randomUUID();
+    private final Categoria moradia = Categoria.nova("Moradia", true);
+
+    @Test
+    void projetaLancamentosExistentesEFixaAteOFimDoHorizonte() {
+        MesFinanceiro janeiro = janeiroComFixas();
+        MesFinanceiro marco = MesFinanceiro.novo(usuarioId, 3, 2024, Dinheiro.ZERO);
+        marco.registrarParcela(Parcela.nova(UUID.randomUUID(), marco.getId(), 1, Dinheiro.deCentavos(10_000)));
+
+        ProjecaoSaldos projecao = ProjecaoSaldos.projetar(janeiro, List.of(marco), 4);
+
+        // Janeiro: 200 − 50 + 3000 − 1500; fevereiro e abril só as FIXA; março desconta a parcela
+        assertEquals(List.of(
+                new MesProjetado(Periodo.de(1, 2024), reais(1_650), reais(2_650)),
+                new MesProjetado(Periodo.de(2, 2024), reais(1_500), reais(4_150)),
+                new MesProjetado(Periodo.de(3, 2024), reais(1_400), reais(5_550)),
+                new MesProjetado(Periodo.de(4, 2024), reais(1_500), reais(7_050))
+        ), projecao.meses());
+        assertEquals(reais(5_550), projecao.saldoFinal(Periodo.de(3, 2024)));
+        assertEquals(reais(1_400), projecao.fluxo(Periodo.de(3, 2024)));
+        assertEquals(Periodo.de(4, 2024), projecao.getFim());
+    }
+
+    @Test
+    void ocorrenciasJaRegistradasNaoSomamDuasVezesAProjecaoDaRecorrencia() {
+        MesFinanceiro janeiro = janeiroComFixas();
+        MesFinanceiro fevereiro = MesFinanceiro.novo(usuarioId, 2, 2024, Dinheiro.ZERO);
+        fevereiro.propagarRecorrencias(janeiro);
+
+        ProjecaoSaldos comFevereiro = ProjecaoSaldos.projetar(janeiro, List.of(fevereiro), 3);
+        ProjecaoSaldos semFevereiro = ProjecaoSaldos.projetar(janeiro, List.of(), 3);
+
+        assertEquals(semFevereiro.meses(), comFevereiro.meses());
+    }
+
+    @Test
+    void atualizacaoIncrementalIgualaARecomposicaoCompleta() {
+        MesFinanceiro janeiro = janeiroComFixas();
+        MesFinanceiro fevereiro = MesFinanceiro.novo(usuarioId, 2, 2024, Dinheiro.ZERO);
+        MesFinanceiro marco = MesFinanceiro.novo(usuarioId, 3, 2024, Dinheiro.ZERO);
+        ProjecaoSaldos projecao = ProjecaoSaldos.projetar(janeiro, List.of(fevereiro, marco), 6);
+
+        fevereiro.propagarRecorrencias(janeiro);
+        fevereiro.registrarDespesa(Despesa.nova(fevereiro.getId(), moradia, "Conserto",
+                reais(300), LocalDate.of(2024, 2, 5), TipoDespesa.PONTUAL, "PIX"));
+        marco.registrarDespesa(Despesa.nova(marco.getId(), moradia, "Internet",
+                reais(100), LocalDate.of(2024, 3, 8), TipoDespesa.FIXA, "Cartão"));
+        marco.registrarParcela(Parcela.nova(UUID.randomUUID(), marco.getId(), 2, reais(250)));
+        janeiro.registrarReceita(Receita.nova(janeiro.getId(), "Reembolso",
+                reais(40), TipoReceita.VARIAVEL, LocalDate.of(2024, 1, 20)));
+        for (MesFinanceiro mes : List.of(fevereiro, marco, janeiro)) {
+            aplicar(projecao, mes);
+        }
+
+        ProjecaoSaldos recomposta = ProjecaoSaldos.projetar(janeiro, List.of(fevereiro, marco), 6);
+        assertEquals(recomposta.meses(), projecao.meses());
+        // Abril em diante: 3000 − 1500 − 100 por mês
+        assertEquals(reais(1_400), projecao.fluxo(Periodo.de(4, 2024)));
+    }
+
+    @Test
+    void reaplicarEventosEIgnorarMesesForaDoHorizonteNaoAlteramAProjecao() {
+        MesFinanceiro janeiro = janeiroComFixas();
+        ProjecaoSaldos projecao = ProjecaoSaldos.projetar(janeiro, List.of(), 3);
+        List<MesProjetado> antes = projecao.meses();
+
+        aplicar(projecao, janeiro);
+        MesFinanceiro junho = MesFinanceiro.novo(usuarioId, 6, 2024, Dinheiro.ZERO);
+        junho.registrarReceita(Receita.nova(junho.getId(), "Bônus",
+                reais(900), TipoReceita.VARIAVEL, LocalDate.of(2024, 6, 1)));
+        aplicar(projecao, junho);
+
+        assertEquals(antes, projecao.meses());
+    }
+
+    @Test
+    void naoMisturaMesesDeOutroUsuario() {
+        MesFinanceiro janeiro = janeiroComFixas();
+        MesFinanceiro alheio = MesFinanceiro.novo(UUID.randomUUID(), 2, 2024, Dinheiro.ZERO);
+
+        assertThrows(DomainException.class, () -> ProjecaoSaldos.projetar(janeiro, List.of(alheio), 3));
+        ProjecaoSaldos projecao = ProjecaoSaldos.projetar(janeiro, List.of(), 3);
+        assertThrows(DomainException.class, () -> aplicar(projecao, alheio));
+        assertThrows(IllegalArgumentException.class, () -> projecao.saldoFinal(Periodo.de(4, 2024)));
+    }
+
+    private MesFinanceiro janeiroComFixas() {
+        MesFinanceiro janeiro = MesFinanceiro.novo(usuarioId, 1, 2024, reais(1_000));
+        janeiro.registrarReceita(Receita.nova(janeiro.getId(), "Salário",
+                reais(3_000), TipoReceita.FIXA, LocalDate.of(2024, 1, 5)));
+        janeiro.registrarReceita(Receita.nova(janeiro.getId(), "Venda",
+                reais(200), TipoReceita.VARIAVEL, LocalDate.of(2024, 1, 15)));
+        janeiro.registrarDespesa(Despesa.nova(janeiro.getId(), moradia, "Aluguel",
+                reais(1_500), LocalDate.of(2024, 1, 10), TipoDespesa.FIXA, "Boleto"));
+        janeiro.registrarDespesa(Despesa.nova(janeiro.getId(), moradia, "Lâmpadas",
+                reais(50), LocalDate.of(2024, 1, 12), TipoDespesa.PONTUAL, "PIX"));
+        return janeiro;
+    }
+
+    private static void aplicar(ProjecaoSaldos projecao, MesFinanceiro mes) {
+        for (EventoMesFinanceiro evento : mes.getEventos()) {
+            projecao.aplicar(mes, evento);
+        }
+    }
+
+    private static Dinheiro reais(long valor) {
+        return Dinheiro.deCentavos(valor * 100);
+    }
+}
@@ -0,0 +1,109 @@
+package com.financecore.domain.model.valueobject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class DinheiroTest {
+
+    @Test
+    void conversaoDeBigDecimalNaoArredonda() {
+        assertEquals(123_456L, Dinheiro.de(new BigDecimal("1234.56")).getCentavos());
+        assertEquals(1_000L, Dinheiro.de(new BigDecimal("10.0000")).getCentavos());
+        assertEquals(-5L, Dinheiro.de("-0.05").getCentavos());
+        assertThrows(ArithmeticException.class, () -> Dinheiro.de(new BigDecimal("0.001")));
+        assertThrows(ArithmeticException.class, () -> Dinheiro.de("12.345"));
+    }
+
+    @Test
+    void conversaoComArredondamentoExplicito() {
+        assertEquals(1_234L, Dinheiro.de(new BigDecimal("12.345"), RoundingMode.HALF_EVEN).getCentavos());
+        assertEquals(1_235L, Dinheiro.de(new BigDecimal("12.345"), RoundingMode.HALF_UP).getCentavos());
+        assertEquals(-1_235L, Dinheiro.de(new BigDecimal("-12.345"), RoundingMode.HALF_UP).getCentavos());
+    }
+
+    @Test
+    void valorForaDaCapacidadeEhRejeitado() {
+        BigDecimal grande = new BigDecimal(Long.MAX_VALUE).add(BigDecimal.ONE);
+
+        assertThrows(ArithmeticException.class, () -> Dinheiro.de(grande));
+        assertThrows(ArithmeticException.class, () -> Dinheiro.de(grande, RoundingMode.DOWN));
+    }
+
+    @Test
+    void aritmeticaQueEstouraLancaArithmeticException() {
+        Dinheiro maximo = Dinheiro.deCentavos(Long.MAX_VALUE);
+        Dinheiro minimo = Dinheiro.deCentavos(Long.MIN_VALUE);
+
+        assertThrows(ArithmeticException.class, () -> maximo.somar(Dinheiro.deCentavos(1)));
+        assertThrows(ArithmeticException.class, () -> minimo.subtrair(Dinheiro.deCentavos(1)));
+        assertThrows(ArithmeticException.class, () -> maximo.multiplicar(2));
+        assertThrows(ArithmeticException.class, minimo::negar);
+    }
+
+    @Test
+    void valoresNegativos() {
+        Dinheiro saldo = Dinheiro.deCentavos(1_000).subtrair(Dinheiro.deCentavos(2_550));
+
+        assertEquals(-1_550L, saldo.getCentavos());
+        assertTrue(saldo.isNegativo());
+        assertEquals(-1, saldo.signum());
+        assertEquals(new BigDecimal("-15.50"), saldo.toBigDecimal());
+        assertEquals("-15.50", saldo.toString());
+        assertEquals(Dinheiro.deCentavos(1_550), saldo.negar());
+        assertTrue(saldo.compareTo(Dinheiro.ZERO) < 0);
+    }
+
+    @Test
+    void distribuirDaOsCentavosRestantesAsPrimeirasPartes() {
+        assertEquals(centavos(34, 33, 33), Dinheiro.deCentavos(100).distribuir(3));
+        assertEquals(centavos(25, 25, 25, 25), Dinheiro.deCentavos(100).distribuir(4));
+        assertEquals(centavos(-33, -33, -34), Dinheiro.deCentavos(-100).distribuir(3));
+        assertEquals(centavos(100), Dinheiro.deCentavos(100).distribuir(1));
+    }
+
+    @Test
+    void distribuirEmMaisPartesQueCentavos() {
+        List<Dinheiro> partes = Dinheiro.deCentavos(2).distribuir(5);
+
+        assertEquals(centavos(1, 1, 0, 0, 0), partes);
+        assertSame(Dinheiro.ZERO, partes.get(4));
+    }
+
+    @Test
+    void distribuirSempreSomaOValorOriginal() {
+        for (long valor : new long[] {0, 1, 7, 99_999, -12_345, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            for (int partes = 1; partes <= 13; partes++) {
+                long soma = 0L;
+                for (Dinheiro parte : Dinheiro.deCentavos(valor).distribuir(partes)) {
+                    soma = Math.addExact(soma, parte.getCentavos());
+                }
+                assertEquals(valor, soma);
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> Dinheiro.deCentavos(100).distribuir(0));
+    }
+
+    @Test
+    void idaEVoltaPorBigDecimal() {
+        for (long valor : new long[] {0, 1, -1, 99, 100, 123_456_789, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            Dinheiro dinheiro = Dinheiro.deCentavos(valor);
+
+            assertEquals(2, dinheiro.toBigDecimal().scale());
+            assertEquals(dinheiro, Dinheiro.de(dinheiro.toBigDecimal()));
+            assertEquals(dinheiro, Dinheiro.de(dinheiro.toString()));
+        }
+    }
+
+    private static List<Dinheiro> centavos(long... valores) {
+        return Arrays.stream(valores).mapToObj(Dinheiro::deCentavos).toList();
+    }
+}
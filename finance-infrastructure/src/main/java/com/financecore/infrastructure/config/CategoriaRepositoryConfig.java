@@ -0,0 +1,54 @@
+package com.financecore.infrastructure.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.financecore.infrastructure.persistence.cache.CategoriaRepositoryEmCache;
+import com.financecore.infrastructure.persistence.jdbc.JdbcCategoriaRepository;
+
+/**
+ * Expõe o repositório de Categoria com cache de leitura à frente do JDBC.
+ * No perfil local, vale LocalRepositoryConfig.
+ *
+ * Os contadores do cache são publicados no MeterRegistry (RNF03) como
+ * financecore.cache.categorias.*.
+ */
+@Configuration
+@Profile("!local")
+public class CategoriaRepositoryConfig {
+
+    @Bean
+    public CategoriaRepositoryEmCache categoriaRepository(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry registry,
+            @Value("${financecore.cache.categorias.capacidade:1000}") int capacidade) {
+        CategoriaRepositoryEmCache cache =
+                new CategoriaRepositoryEmCache(new JdbcCategoriaRepository(jdbcTemplate), capacidade);
+        registrarMetricas(cache, registry);
+        return cache;
+    }
+
+    private static void registrarMetricas(CategoriaRepositoryEmCache cache, MeterRegistry registry) {
+        FunctionCounter.builder("financecore.cache.categorias.consultas", cache, c -> c.estatisticas().acertos())
+                .description("Consultas ao cache de categorias")
+                .tag("resultado", "acerto")
+                .register(registry);
+        FunctionCounter.builder("financecore.cache.categorias.consultas", cache, c -> c.estatisticas().falhas())
+                .description("Consultas ao cache de categorias")
+                .tag("resultado", "falha")
+                .register(registry);
+        FunctionCounter.builder("financecore.cache.categorias.remocoes", cache, c -> c.estatisticas().remocoes())
+                .description("Entradas removidas por capacidade")
+                .register(registry);
+        Gauge.builder("financecore.cache.categorias.tamanho", cache, c -> c.estatisticas().tamanho())
+                .description("Categorias em cache")
+                .register(registry);
+    }
+}
@@ -0,0 +1,49 @@
+package com.financecore.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.financecore.infrastructure.criptografia.ChavesCriptografia;
+import com.financecore.infrastructure.criptografia.CifradorArquivos;
+import com.financecore.infrastructure.criptografia.CifradorColunas;
+import com.financecore.infrastructure.persistence.jdbc.JdbcRecifragemLancamentos;
+
+/**
+ * Criptografia AES de dados armazenados (RNF02).
+ *
+ * Sem financecore.criptografia.chaves, a criptografia fica desativada e os
+ * lançamentos são gravados em texto claro. Para trocar a chave: acrescentar a
+ * nova versão às chaves, apontar versao-atual para ela e executar a
+ * recifragem; a versão anterior só pode sair da configuração depois disso.
+ * No modo local, quem recifra é a compactação do armazenamento embutido
+ * (LocalRecifragem, em LocalRepositoryConfig).
+ */
+@Configuration
+public class CriptografiaConfig {
+
+    @Bean
+    public ChavesCriptografia chavesCriptografia(
+            @Value("${financecore.criptografia.chaves:}") String chaves,
+            @Value("${financecore.criptografia.versao-atual:1}") int versaoAtual) {
+        return ChavesCriptografia.de(chaves, versaoAtual);
+    }
+
+    @Bean
+    public CifradorColunas cifradorColunas(ChavesCriptografia chavesCriptografia) {
+        return new CifradorColunas(chavesCriptografia);
+    }
+
+    @Bean
+    public CifradorArquivos cifradorArquivos(ChavesCriptografia chavesCriptografia) {
+        return new CifradorArquivos(chavesCriptografia);
+    }
+
+    @Bean
+    @Profile("!local")
+    public JdbcRecifragemLancamentos recifragemLancamentos(JdbcTemplate jdbcTemplate, CifradorColunas cifradorColunas) {
+        return new JdbcRecifragemLancamentos(jdbcTemplate, cifradorColunas);
+    }
+}
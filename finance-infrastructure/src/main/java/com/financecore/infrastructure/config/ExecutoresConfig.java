@@ -0,0 +1,59 @@
+package com.financecore.infrastructure.config;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Executores compartilhados pelos casos de uso em lote.
+ *
+ * A auditoria em lote (RF10) e o fechamento em lote (UC-08) usam cada um
+ * um único pool, com número fixo de trabalhadores e fila limitada, em vez de
+ * criar threads a cada chamada: execuções simultâneas disputam os mesmos
+ * trabalhadores, e o pool é encerrado com a aplicação. No fechamento, cada
+ * trabalhador ocupa uma conexão durante o lote, por isso o padrão fica
+ * abaixo do pool de conexões.
+ */
+@Configuration
+public class ExecutoresConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService executorAuditoria(
+            @Value("${financecore.auditoria.trabalhadores:4}") int trabalhadores,
+            @Value("${financecore.auditoria.capacidade-fila:1000}") int capacidadeFila) {
+        if (trabalhadores <= 0 || capacidadeFila <= 0) {
+            throw new IllegalArgumentException("Configuração do executor de auditoria deve ser maior que zero");
+        }
+        return new ThreadPoolExecutor(trabalhadores, trabalhadores, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacidadeFila), fabricaThreads("auditoria-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService executorFechamento(
+            @Value("${financecore.fechamento.trabalhadores:4}") int trabalhadores,
+            @Value("${financecore.fechamento.capacidade-fila:100}") int capacidadeFila) {
+        if (trabalhadores <= 0 || capacidadeFila <= 0) {
+            throw new IllegalArgumentException("Configuração do executor de fechamento deve ser maior que zero");
+        }
+        return new ThreadPoolExecutor(trabalhadores, trabalhadores, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacidadeFila), fabricaThreads("fechamento-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    private static ThreadFactory fabricaThreads(String prefixo) {
+        AtomicInteger contador = new AtomicInteger();
+        return tarefa -> {
+            Thread thread = new Thread(tarefa, prefixo + contador.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,102 @@
+package com.financecore.infrastructure.config;
+
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import com.financecore.domain.model.repository.HistoricoFinanceiroRepository;
+import com.financecore.infrastructure.criptografia.CifradorColunas;
+import com.financecore.infrastructure.persistence.local.ArmazemLocal;
+import com.financecore.infrastructure.persistence.local.GerenciadorTransacoesLocal;
+import com.financecore.infrastructure.persistence.local.LocalAuditoriaSaldoRepository;
+import com.financecore.infrastructure.persistence.local.LocalCategoriaRepository;
+import com.financecore.infrastructure.persistence.local.LocalHistoricoFinanceiroRepository;
+import com.financecore.infrastructure.persistence.local.LocalMesFinanceiroRepository;
+import com.financecore.infrastructure.persistence.local.LocalParcelamentoRepository;
+import com.financecore.infrastructure.persistence.local.LocalProgressoFechamentoLoteRepository;
+import com.financecore.infrastructure.persistence.local.LocalRecifragem;
+import com.financecore.infrastructure.persistence.local.LocalRegraClassificacaoRepository;
+import com.financecore.infrastructure.persistence.local.LocalUsuarioRepository;
+
+/**
+ * Modo local (RNF01), ativado pelo perfil "local": todos os repositórios
+ * ficam no armazenamento embutido em financecore.local.diretorio, cifrados
+ * com as mesmas chaves de CriptografiaConfig, e as transações são as do
+ * GerenciadorTransacoesLocal. Nenhum servidor de banco de dados é usado; o
+ * application-local.properties desliga DataSource, JPA e Flyway.
+ *
+ * Fora desse perfil valem MesFinanceiroRepositoryConfig,
+ * CategoriaRepositoryConfig e os adaptadores JDBC.
+ */
+@Configuration
+@Profile("local")
+public class LocalRepositoryConfig {
+
+    @Bean
+    public ArmazemLocal armazemLocal(
+            @Value("${financecore.local.diretorio:${user.home}/.financecore/dados}") String diretorio,
+            CifradorColunas cifradorColunas) {
+        return ArmazemLocal.abrir(Path.of(diretorio), cifradorColunas);
+    }
+
+    @Bean
+    public GerenciadorTransacoesLocal transactionManager(ArmazemLocal armazemLocal) {
+        return new GerenciadorTransacoesLocal(armazemLocal);
+    }
+
+    @Bean
+    public LocalHistoricoFinanceiroRepository historicoFinanceiroRepository(ArmazemLocal armazemLocal) {
+        return new LocalHistoricoFinanceiroRepository(armazemLocal);
+    }
+
+    @Bean
+    public LocalMesFinanceiroRepository mesFinanceiroRepository(
+            ArmazemLocal armazemLocal,
+            HistoricoFinanceiroRepository historicoFinanceiroRepository) {
+        return new LocalMesFinanceiroRepository(armazemLocal, historicoFinanceiroRepository);
+    }
+
+    @Bean
+    public LocalCategoriaRepository categoriaRepository(
+            ArmazemLocal armazemLocal,
+            LocalMesFinanceiroRepository mesFinanceiroRepository) {
+        return new LocalCategoriaRepository(armazemLocal, mesFinanceiroRepository);
+    }
+
+    @Bean
+    public LocalUsuarioRepository usuarioRepository(ArmazemLocal armazemLocal) {
+        return new LocalUsuarioRepository(armazemLocal);
+    }
+
+    @Bean
+    public LocalParcelamentoRepository parcelamentoRepository(ArmazemLocal armazemLocal) {
+        return new LocalParcelamentoRepository(armazemLocal);
+    }
+
+    @Bean
+    public LocalAuditoriaSaldoRepository auditoriaSaldoRepository(
+            ArmazemLocal armazemLocal,
+            LocalMesFinanceiroRepository mesFinanceiroRepository) {
+        return new LocalAuditoriaSaldoRepository(armazemLocal, mesFinanceiroRepository);
+    }
+
+    @Bean
+    public LocalProgressoFechamentoLoteRepository progressoFechamentoLoteRepository(ArmazemLocal armazemLocal) {
+        return new LocalProgressoFechamentoLoteRepository(armazemLocal);
+    }
+
+    @Bean
+    public LocalRegraClassificacaoRepository regraClassificacaoRepository(
+            ArmazemLocal armazemLocal,
+            LocalCategoriaRepository categoriaRepository) {
+        return new LocalRegraClassificacaoRepository(armazemLocal, categoriaRepository);
+    }
+
+    @Bean
+    public LocalRecifragem recifragemLocal(ArmazemLocal armazemLocal, CifradorColunas cifradorColunas) {
+        return new LocalRecifragem(armazemLocal, cifradorColunas);
+    }
+}
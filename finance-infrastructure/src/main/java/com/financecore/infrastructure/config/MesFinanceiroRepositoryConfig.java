@@ -0,0 +1,42 @@
+package com.financecore.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.financecore.domain.model.repository.CategoriaRepository;
+import com.financecore.domain.model.repository.MesFinanceiroRepository;
+import com.financecore.infrastructure.criptografia.CifradorColunas;
+import com.financecore.infrastructure.persistence.jdbc.JdbcDiarioMesFinanceiroRepository;
+import com.financecore.infrastructure.persistence.jdbc.JdbcMesFinanceiroRepository;
+
+/**
+ * Escolhe a persistência de MêsFinanceiro:
+ * - relacional (padrão): lançamentos em receita, despesa e parcela;
+ * - diario: eventos acrescentados a um diário, com snapshots periódicos.
+ *
+ * Em ambos, receitas e despesas das tabelas relacionais usam o cifrador de
+ * colunas (RNF02). No perfil local, vale LocalRepositoryConfig.
+ */
+@Configuration
+@Profile("!local")
+public class MesFinanceiroRepositoryConfig {
+
+    @Bean
+    public MesFinanceiroRepository mesFinanceiroRepository(
+            JdbcTemplate jdbcTemplate,
+            CategoriaRepository categoriaRepository,
+            CifradorColunas cifradorColunas,
+            @Value("${financecore.persistencia.mes-financeiro:relacional}") String modo,
+            @Value("${financecore.persistencia.diario.intervalo-snapshot:64}") int intervaloSnapshot) {
+        return switch (modo) {
+            case "relacional" -> new JdbcMesFinanceiroRepository(jdbcTemplate, cifradorColunas);
+            case "diario" -> new JdbcDiarioMesFinanceiroRepository(
+                    jdbcTemplate, categoriaRepository, intervaloSnapshot, cifradorColunas);
+            default -> throw new IllegalArgumentException(
+                    "financecore.persistencia.mes-financeiro inválido: " + modo + " (use relacional ou diario)");
+        };
+    }
+}
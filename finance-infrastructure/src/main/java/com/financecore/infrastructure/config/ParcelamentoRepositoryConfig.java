@@ -0,0 +1,26 @@
+package com.financecore.infrastructure.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.financecore.domain.model.repository.ParcelamentoRepository;
+import com.financecore.infrastructure.criptografia.CifradorColunas;
+import com.financecore.infrastructure.persistence.jdbc.JdbcParcelamentoRepository;
+
+/**
+ * Persistência relacional de Parcelamento, com o valor total sob o cifrador
+ * de colunas (RNF02). As parcelas são gravadas pelo repositório de
+ * MêsFinanceiro, em qualquer dos seus modos. No perfil local, vale
+ * LocalRepositoryConfig.
+ */
+@Configuration
+@Profile("!local")
+public class ParcelamentoRepositoryConfig {
+
+    @Bean
+    public ParcelamentoRepository parcelamentoRepository(JdbcTemplate jdbcTemplate, CifradorColunas cifradorColunas) {
+        return new JdbcParcelamentoRepository(jdbcTemplate, cifradorColunas);
+    }
+}
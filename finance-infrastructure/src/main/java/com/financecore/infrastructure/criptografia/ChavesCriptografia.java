@@ -0,0 +1,144 @@
+package com.financecore.infrastructure.criptografia;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Objects;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Chaves AES da aplicação, por versão (RNF02).
+ *
+ * Cada versão tem uma chave mestra configurada, da qual são derivadas (HKDF
+ * com HMAC-SHA256) uma chave para colunas e outra para arquivos. Todas as
+ * derivações são feitas de uma vez, na criação, com um único Mac: nenhuma
+ * operação de cifragem deriva chave. Dados são sempre cifrados com a versão
+ * atual; as anteriores continuam disponíveis para leitura até a recifragem
+ * terminar.
+ *
+ * Formato da configuração: "versao:chaveBase64,versao:chaveBase64", com
+ * versões de 1 a 255 e chaves mestras de pelo menos 32 bytes.
+ */
+public final class ChavesCriptografia {
+
+    private static final int VERSAO_MAXIMA = 255;
+    private static final int TAMANHO_MINIMO_MESTRA = 32;
+    private static final int TAMANHO_CHAVE = 32;
+    private static final byte[] INFO_COLUNAS = "financecore/colunas".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] INFO_ARQUIVOS = "financecore/arquivos".getBytes(StandardCharsets.US_ASCII);
+
+    private static final ChavesCriptografia NENHUMA =
+            new ChavesCriptografia(0, new SecretKey[1], new SecretKey[1]);
+
+    private final int versaoAtual;
+    private final SecretKey[] colunas;
+    private final SecretKey[] arquivos;
+
+    private ChavesCriptografia(int versaoAtual, SecretKey[] colunas, SecretKey[] arquivos) {
+        this.versaoAtual = versaoAtual;
+        this.colunas = colunas;
+        this.arquivos = arquivos;
+    }
+
+    /**
+     * Sem chaves: a criptografia fica desativada e os dados são gravados em
+     * texto claro.
+     */
+    public static ChavesCriptografia nenhuma() {
+        return NENHUMA;
+    }
+
+    public static ChavesCriptografia de(String configuracao, int versaoAtual) {
+        Objects.requireNonNull(configuracao, "configuracao não pode ser nula");
+        if (configuracao.isBlank()) {
+            return NENHUMA;
+        }
+        if (versaoAtual < 1 || versaoAtual > VERSAO_MAXIMA) {
+            throw new IllegalArgumentException("versaoAtual deve estar entre 1 e " + VERSAO_MAXIMA);
+        }
+        SecretKey[] colunas = new SecretKey[VERSAO_MAXIMA + 1];
+        SecretKey[] arquivos = new SecretKey[VERSAO_MAXIMA + 1];
+        try {
+            Mac hmac = Mac.getInstance("HmacSHA256");
+            for (String entrada : configuracao.split(",")) {
+                String[] partes = entrada.trim().split(":", 2);
+                if (partes.length != 2) {
+                    throw new IllegalArgumentException("chave inválida, use versao:chaveBase64");
+                }
+                int versao = Integer.parseInt(partes[0].trim());
+                if (versao < 1 || versao > VERSAO_MAXIMA) {
+                    throw new IllegalArgumentException("versão de chave deve estar entre 1 e " + VERSAO_MAXIMA);
+                }
+                if (colunas[versao] != null) {
+                    throw new IllegalArgumentException("versão de chave repetida: " + versao);
+                }
+                byte[] mestra = Base64.getDecoder().decode(partes[1].trim());
+                try {
+                    if (mestra.length < TAMANHO_MINIMO_MESTRA) {
+                        throw new IllegalArgumentException(
+                                "chave da versão " + versao + " deve ter ao menos " + TAMANHO_MINIMO_MESTRA + " bytes");
+                    }
+                    byte[] pseudoaleatoria = extrair(hmac, mestra);
+                    colunas[versao] = expandir(hmac, pseudoaleatoria, INFO_COLUNAS);
+                    arquivos[versao] = expandir(hmac, pseudoaleatoria, INFO_ARQUIVOS);
+                    Arrays.fill(pseudoaleatoria, (byte) 0);
+                } finally {
+                    Arrays.fill(mestra, (byte) 0);
+                }
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Não foi possível derivar as chaves de criptografia", e);
+        }
+        if (colunas[versaoAtual] == null) {
+            throw new IllegalArgumentException("versão atual " + versaoAtual + " não possui chave configurada");
+        }
+        return new ChavesCriptografia(versaoAtual, colunas, arquivos);
+    }
+
+    public boolean isAtiva() {
+        return versaoAtual != 0;
+    }
+
+    /**
+     * Versão usada para cifrar; 0 quando a criptografia está desativada.
+     */
+    public int getVersaoAtual() {
+        return versaoAtual;
+    }
+
+    SecretKey chaveColunas(int versao) {
+        return chave(colunas, versao);
+    }
+
+    SecretKey chaveArquivos(int versao) {
+        return chave(arquivos, versao);
+    }
+
+    private static SecretKey chave(SecretKey[] chaves, int versao) {
+        SecretKey chave = versao > 0 && versao < chaves.length ? chaves[versao] : null;
+        if (chave == null) {
+            throw new IllegalStateException("Versão de chave desconhecida: " + versao);
+        }
+        return chave;
+    }
+
+    // HKDF (RFC 5869) com salt vazio: extração seguida de um único bloco de expansão
+    private static byte[] extrair(Mac hmac, byte[] mestra) throws GeneralSecurityException {
+        hmac.init(new SecretKeySpec(new byte[TAMANHO_CHAVE], "HmacSHA256"));
+        return hmac.doFinal(mestra);
+    }
+
+    private static SecretKey expandir(Mac hmac, byte[] pseudoaleatoria, byte[] info) throws GeneralSecurityException {
+        hmac.init(new SecretKeySpec(pseudoaleatoria, "HmacSHA256"));
+        hmac.update(info);
+        hmac.update((byte) 1);
+        byte[] bloco = hmac.doFinal();
+        SecretKey chave = new SecretKeySpec(bloco, 0, TAMANHO_CHAVE, "AES");
+        Arrays.fill(bloco, (byte) 0);
+        return chave;
+    }
+}
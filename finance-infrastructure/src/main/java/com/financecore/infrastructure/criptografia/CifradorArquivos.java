@@ -0,0 +1,268 @@
+package com.financecore.infrastructure.criptografia;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Objects;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+
+import com.financecore.application.usecase.exportacao.CifragemExportacao;
+
+/**
+ * Cifragem em fluxo de arquivos de exportação e backup com AES-GCM (RNF02).
+ *
+ * O arquivo começa com um cabeçalho (assinatura, versão da chave e prefixo
+ * aleatório do IV) e segue em segmentos de 64 KiB de texto claro, cada um
+ * cifrado com sua tag. O IV de cada segmento é o prefixo, o número do
+ * segmento e um marcador de último segmento, e o cabeçalho entra como dado
+ * associado: segmentos trocados de ordem, removidos ou um arquivo truncado
+ * não decifram. O último segmento tem sempre menos de 64 KiB, possivelmente
+ * zero.
+ *
+ * Cada canal usa um único Cipher e buffers fixos, então o tamanho do arquivo
+ * não altera a memória usada; segmentos grandes mantêm os intrínsecos AES-NI
+ * da JVM ocupados em trechos longos.
+ */
+public final class CifradorArquivos implements CifragemExportacao {
+
+    private static final String TRANSFORMACAO = "AES/GCM/NoPadding";
+    private static final byte[] ASSINATURA = {'F', 'C', 'C', '1'};
+    private static final int TAMANHO_PREFIXO = 7;
+    private static final int TAMANHO_CABECALHO = ASSINATURA.length + 1 + TAMANHO_PREFIXO;
+    private static final int TAMANHO_SEGMENTO = 64 * 1024;
+    private static final int TAMANHO_TAG = CifradorColunas.TAMANHO_TAG;
+
+    private final ChavesCriptografia chaves;
+    private final SecureRandom aleatorio = new SecureRandom();
+
+    public CifradorArquivos(ChavesCriptografia chaves) {
+        this.chaves = Objects.requireNonNull(chaves, "chaves não pode ser nulo");
+    }
+
+    @Override
+    public boolean isAtiva() {
+        return chaves.isAtiva();
+    }
+
+    /**
+     * Canal que cifra o que recebe e grava no destino. Fechar o canal grava o
+     * último segmento, sem fechar o destino; sem o fechamento o arquivo fica
+     * incompleto e não decifra.
+     */
+    @Override
+    public WritableByteChannel cifrar(WritableByteChannel destino) throws IOException {
+        Objects.requireNonNull(destino, "destino não pode ser nulo");
+        if (!chaves.isAtiva()) {
+            throw new IllegalStateException("Criptografia desativada: nenhuma chave configurada");
+        }
+        byte[] cabecalho = new byte[TAMANHO_CABECALHO];
+        System.arraycopy(ASSINATURA, 0, cabecalho, 0, ASSINATURA.length);
+        cabecalho[ASSINATURA.length] = (byte) chaves.getVersaoAtual();
+        byte[] prefixo = new byte[TAMANHO_PREFIXO];
+        aleatorio.nextBytes(prefixo);
+        System.arraycopy(prefixo, 0, cabecalho, ASSINATURA.length + 1, TAMANHO_PREFIXO);
+        gravarTudo(destino, ByteBuffer.wrap(cabecalho));
+        return new CanalCifrado(destino, chaves.chaveArquivos(chaves.getVersaoAtual()), cabecalho);
+    }
+
+    /**
+     * Canal que lê do origem e entrega o conteúdo decifrado, com qualquer
+     * versão de chave ainda configurada. Fechar o canal fecha a origem.
+     */
+    public ReadableByteChannel decifrar(ReadableByteChannel origem) throws IOException {
+        Objects.requireNonNull(origem, "origem não pode ser nulo");
+        ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO);
+        lerTudo(origem, cabecalho);
+        if (cabecalho.hasRemaining()) {
+            throw new IOException("Arquivo cifrado truncado no cabeçalho");
+        }
+        byte[] bytes = cabecalho.array();
+        for (int i = 0; i < ASSINATURA.length; i++) {
+            if (bytes[i] != ASSINATURA[i]) {
+                throw new IOException("Arquivo não está no formato cifrado esperado");
+            }
+        }
+        return new CanalDecifrado(origem, chaves.chaveArquivos(bytes[ASSINATURA.length] & 0xFF), bytes);
+    }
+
+    private static GCMParameterSpec iv(byte[] cabecalho, int segmento, boolean ultimo) {
+        byte[] iv = new byte[CifradorColunas.TAMANHO_IV];
+        System.arraycopy(cabecalho, ASSINATURA.length + 1, iv, 0, TAMANHO_PREFIXO);
+        iv[7] = (byte) (segmento >>> 24);
+        iv[8] = (byte) (segmento >>> 16);
+        iv[9] = (byte) (segmento >>> 8);
+        iv[10] = (byte) segmento;
+        iv[11] = (byte) (ultimo ? 1 : 0);
+        return new GCMParameterSpec(TAMANHO_TAG * 8, iv);
+    }
+
+    private static Cipher novoCipher() {
+        try {
+            return Cipher.getInstance(TRANSFORMACAO);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(TRANSFORMACAO + " indisponível", e);
+        }
+    }
+
+    private static void gravarTudo(WritableByteChannel destino, ByteBuffer dados) throws IOException {
+        while (dados.hasRemaining()) {
+            destino.write(dados);
+        }
+    }
+
+    private static void lerTudo(ReadableByteChannel origem, ByteBuffer destino) throws IOException {
+        while (destino.hasRemaining() && origem.read(destino) >= 0) {
+            // lê até encher o buffer ou chegar ao fim
+        }
+    }
+
+    private static final class CanalCifrado implements WritableByteChannel {
+
+        private final WritableByteChannel destino;
+        private final SecretKey chave;
+        private final byte[] cabecalho;
+        private final Cipher cipher = novoCipher();
+        private final ByteBuffer claro = ByteBuffer.allocate(TAMANHO_SEGMENTO);
+        private final ByteBuffer cifrado = ByteBuffer.allocate(TAMANHO_SEGMENTO + TAMANHO_TAG);
+        private int segmento;
+        private boolean aberto = true;
+
+        CanalCifrado(WritableByteChannel destino, SecretKey chave, byte[] cabecalho) {
+            this.destino = destino;
+            this.chave = chave;
+            this.cabecalho = cabecalho;
+        }
+
+        @Override
+        public int write(ByteBuffer origem) throws IOException {
+            if (!aberto) {
+                throw new ClosedChannelException();
+            }
+            int escritos = origem.remaining();
+            while (origem.hasRemaining()) {
+                if (!claro.hasRemaining()) {
+                    gravarSegmento(false);
+                }
+                int quantidade = Math.min(claro.remaining(), origem.remaining());
+                ByteBuffer parte = origem.slice();
+                parte.limit(quantidade);
+                claro.put(parte);
+                origem.position(origem.position() + quantidade);
+            }
+            return escritos;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return aberto;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!aberto) {
+                return;
+            }
+            aberto = false;
+            if (!claro.hasRemaining()) {
+                gravarSegmento(false);
+            }
+            gravarSegmento(true);
+        }
+
+        private void gravarSegmento(boolean ultimo) throws IOException {
+            if (segmento == Integer.MAX_VALUE) {
+                throw new IOException("Arquivo excede o número máximo de segmentos");
+            }
+            claro.flip();
+            cifrado.clear();
+            try {
+                cipher.init(Cipher.ENCRYPT_MODE, chave, iv(cabecalho, segmento++, ultimo));
+                cipher.updateAAD(cabecalho);
+                cipher.doFinal(claro, cifrado);
+            } catch (GeneralSecurityException e) {
+                throw new IOException("Falha ao cifrar segmento do arquivo", e);
+            }
+            claro.clear();
+            cifrado.flip();
+            gravarTudo(destino, cifrado);
+        }
+    }
+
+    private static final class CanalDecifrado implements ReadableByteChannel {
+
+        private final ReadableByteChannel origem;
+        private final SecretKey chave;
+        private final byte[] cabecalho;
+        private final Cipher cipher = novoCipher();
+        private final ByteBuffer cifrado = ByteBuffer.allocate(TAMANHO_SEGMENTO + TAMANHO_TAG);
+        private final ByteBuffer claro = ByteBuffer.allocate(TAMANHO_SEGMENTO + TAMANHO_TAG);
+        private int segmento;
+        private boolean fim;
+        private boolean aberto = true;
+
+        CanalDecifrado(ReadableByteChannel origem, SecretKey chave, byte[] cabecalho) {
+            this.origem = origem;
+            this.chave = chave;
+            this.cabecalho = cabecalho;
+            this.claro.limit(0);
+        }
+
+        @Override
+        public int read(ByteBuffer destino) throws IOException {
+            if (!aberto) {
+                throw new ClosedChannelException();
+            }
+            while (!claro.hasRemaining()) {
+                if (fim) {
+                    return -1;
+                }
+                lerSegmento();
+            }
+            int quantidade = Math.min(claro.remaining(), destino.remaining());
+            ByteBuffer parte = claro.slice();
+            parte.limit(quantidade);
+            destino.put(parte);
+            claro.position(claro.position() + quantidade);
+            return quantidade;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return aberto;
+        }
+
+        @Override
+        public void close() throws IOException {
+            aberto = false;
+            origem.close();
+        }
+
+        private void lerSegmento() throws IOException {
+            cifrado.clear();
+            lerTudo(origem, cifrado);
+            // Só o último segmento é menor que um segmento completo
+            boolean ultimo = cifrado.hasRemaining();
+            cifrado.flip();
+            if (cifrado.remaining() < TAMANHO_TAG) {
+                throw new IOException("Arquivo cifrado truncado");
+            }
+            claro.clear();
+            try {
+                cipher.init(Cipher.DECRYPT_MODE, chave, iv(cabecalho, segmento++, ultimo));
+                cipher.updateAAD(cabecalho);
+                cipher.doFinal(cifrado, claro);
+            } catch (GeneralSecurityException e) {
+                throw new IOException("Arquivo cifrado inválido, truncado ou adulterado", e);
+            }
+            claro.flip();
+            fim = ultimo;
+        }
+    }
+}
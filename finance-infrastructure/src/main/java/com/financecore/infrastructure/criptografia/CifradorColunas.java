@@ -0,0 +1,217 @@
+package com.financecore.infrastructure.criptografia;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Objects;
+import java.util.UUID;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+
+/**
+ * Cifra e decifra valores de colunas com AES-GCM (RNF02).
+ *
+ * Formato: versão da chave (1 byte), IV aleatório (12 bytes), texto cifrado
+ * e tag (16 bytes). O id da linha e a coluna entram como dados associados,
+ * então um valor copiado para outra linha ou coluna não decifra. Conteúdos
+ * gravados em sequência (eventos e snapshots do diário, registros do modo
+ * local) levam também a posição, que impede trocá-los de lugar.
+ *
+ * Cada thread reutiliza seu próprio Cipher e gerador de IV, e a saída é
+ * gravada direto no array final, sem cópias intermediárias. A implementação
+ * AES/GCM padrão do JDK usa as instruções AES-NI e de multiplicação sem
+ * carry por intrínsecos da JVM; nada aqui depende de provedor específico.
+ *
+ * Instâncias são seguras para uso concorrente.
+ */
+public final class CifradorColunas {
+
+    private static final String TRANSFORMACAO = "AES/GCM/NoPadding";
+    static final int TAMANHO_IV = 12;
+    static final int TAMANHO_TAG = 16;
+    private static final int CABECALHO = 1 + TAMANHO_IV;
+
+    /**
+     * Bytes que a cifragem acrescenta ao conteúdo: versão, IV e tag.
+     */
+    public static final int ACRESCIMO = CABECALHO + TAMANHO_TAG;
+
+    private final ChavesCriptografia chaves;
+    private final ThreadLocal<EstadoThread> estados = ThreadLocal.withInitial(EstadoThread::new);
+
+    public CifradorColunas(ChavesCriptografia chaves) {
+        this.chaves = Objects.requireNonNull(chaves, "chaves não pode ser nulo");
+    }
+
+    /**
+     * Colunas cifradas; o código entra nos dados associados e não deve mudar.
+     */
+    public enum Coluna {
+        DESCRICAO(1),
+        VALOR(2),
+        METODO_PAGAMENTO(3),
+        EVENTO(4),
+        SNAPSHOT(5),
+        REGISTRO_LOCAL(6);
+
+        private final byte codigo;
+
+        Coluna(int codigo) {
+            this.codigo = (byte) codigo;
+        }
+    }
+
+    /**
+     * Falso quando não há chaves configuradas: os dados ficam em texto claro.
+     */
+    public boolean isAtivo() {
+        return chaves.isAtiva();
+    }
+
+    public int getVersaoAtual() {
+        return chaves.getVersaoAtual();
+    }
+
+    public byte[] cifrarTexto(UUID id, Coluna coluna, String texto) {
+        Objects.requireNonNull(texto, "texto não pode ser nulo");
+        return cifrar(id, coluna, texto.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String decifrarTexto(UUID id, Coluna coluna, byte[] cifrado) {
+        return new String(decifrar(id, coluna, cifrado), StandardCharsets.UTF_8);
+    }
+
+    public byte[] cifrarCentavos(UUID id, Coluna coluna, long centavos) {
+        byte[] bytes = new byte[Long.BYTES];
+        for (int i = Long.BYTES - 1; i >= 0; i--) {
+            bytes[i] = (byte) centavos;
+            centavos >>>= 8;
+        }
+        return cifrar(id, coluna, bytes);
+    }
+
+    public long decifrarCentavos(UUID id, Coluna coluna, byte[] cifrado) {
+        byte[] bytes = decifrar(id, coluna, cifrado);
+        if (bytes.length != Long.BYTES) {
+            throw new IllegalStateException("Valor cifrado com tamanho inválido: " + bytes.length);
+        }
+        long centavos = 0L;
+        for (byte b : bytes) {
+            centavos = (centavos << 8) | (b & 0xFF);
+        }
+        return centavos;
+    }
+
+    /**
+     * Cifra um conteúdo gravado na posição indicada do id (sequência do
+     * evento, do snapshot ou tipo do registro); só decifra na mesma posição.
+     */
+    public byte[] cifrarConteudo(UUID id, Coluna coluna, long posicao, byte[] dados) {
+        Objects.requireNonNull(dados, "dados não pode ser nulo");
+        EstadoThread estado = estados.get();
+        return cifrar(estado, estado.associados(id, coluna, posicao), coluna, dados);
+    }
+
+    public byte[] decifrarConteudo(UUID id, Coluna coluna, long posicao, byte[] cifrado) {
+        EstadoThread estado = estados.get();
+        return decifrar(estado, estado.associados(id, coluna, posicao), coluna, cifrado);
+    }
+
+    /**
+     * Versão da chave que cifrou o valor.
+     */
+    public static int versao(byte[] cifrado) {
+        Objects.requireNonNull(cifrado, "cifrado não pode ser nulo");
+        if (cifrado.length < CABECALHO + TAMANHO_TAG) {
+            throw new IllegalStateException("Valor cifrado truncado");
+        }
+        return cifrado[0] & 0xFF;
+    }
+
+    byte[] cifrar(UUID id, Coluna coluna, byte[] dados) {
+        EstadoThread estado = estados.get();
+        return cifrar(estado, estado.associados(id, coluna), coluna, dados);
+    }
+
+    byte[] decifrar(UUID id, Coluna coluna, byte[] cifrado) {
+        EstadoThread estado = estados.get();
+        return decifrar(estado, estado.associados(id, coluna), coluna, cifrado);
+    }
+
+    private byte[] cifrar(EstadoThread estado, byte[] associados, Coluna coluna, byte[] dados) {
+        if (!isAtivo()) {
+            throw new IllegalStateException("Criptografia desativada: nenhuma chave configurada");
+        }
+        int versao = chaves.getVersaoAtual();
+        byte[] saida = new byte[CABECALHO + dados.length + TAMANHO_TAG];
+        saida[0] = (byte) versao;
+        estado.aleatorio.nextBytes(estado.iv);
+        System.arraycopy(estado.iv, 0, saida, 1, TAMANHO_IV);
+        try {
+            Cipher cipher = estado.cipher;
+            cipher.init(Cipher.ENCRYPT_MODE, chaves.chaveColunas(versao),
+                    new GCMParameterSpec(TAMANHO_TAG * 8, estado.iv));
+            cipher.updateAAD(associados);
+            cipher.doFinal(dados, 0, dados.length, saida, CABECALHO);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Falha ao cifrar coluna " + coluna, e);
+        }
+        return saida;
+    }
+
+    private byte[] decifrar(EstadoThread estado, byte[] associados, Coluna coluna, byte[] cifrado) {
+        int versao = versao(cifrado);
+        try {
+            Cipher cipher = estado.cipher;
+            cipher.init(Cipher.DECRYPT_MODE, chaves.chaveColunas(versao),
+                    new GCMParameterSpec(TAMANHO_TAG * 8, cifrado, 1, TAMANHO_IV));
+            cipher.updateAAD(associados);
+            return cipher.doFinal(cifrado, CABECALHO, cifrado.length - CABECALHO);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Coluna " + coluna + " cifrada inválida ou adulterada", e);
+        }
+    }
+
+    /**
+     * Cipher, gerador de IV e buffers de uma thread.
+     */
+    private static final class EstadoThread {
+
+        private final Cipher cipher;
+        private final SecureRandom aleatorio = new SecureRandom();
+        private final byte[] iv = new byte[TAMANHO_IV];
+        private final byte[] associados = new byte[2 * Long.BYTES + 1];
+        private final byte[] associadosComPosicao = new byte[3 * Long.BYTES + 1];
+
+        EstadoThread() {
+            try {
+                this.cipher = Cipher.getInstance(TRANSFORMACAO);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(TRANSFORMACAO + " indisponível", e);
+            }
+        }
+
+        byte[] associados(UUID id, Coluna coluna) {
+            Objects.requireNonNull(id, "id não pode ser nulo");
+            Objects.requireNonNull(coluna, "coluna não pode ser nula");
+            escreverLong(associados, 0, id.getMostSignificantBits());
+            escreverLong(associados, Long.BYTES, id.getLeastSignificantBits());
+            associados[2 * Long.BYTES] = coluna.codigo;
+            return associados;
+        }
+
+        byte[] associados(UUID id, Coluna coluna, long posicao) {
+            System.arraycopy(associados(id, coluna), 0, associadosComPosicao, 0, associados.length);
+            escreverLong(associadosComPosicao, associados.length, posicao);
+            return associadosComPosicao;
+        }
+
+        private static void escreverLong(byte[] destino, int posicao, long valor) {
+            for (int i = Long.BYTES - 1; i >= 0; i--) {
+                destino[posicao + i] = (byte) valor;
+                valor >>>= 8;
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.financecore.infrastructure.observabilidade;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Observa casos de uso, serviços de aplicação e portas de repositório do
+ * domínio (RNF03).
+ *
+ * Cada chamada vira uma Observation: com o actuator, um timer por classe e
+ * método (com a exceção, se houver); com tracing, um span. Chamadas internas
+ * a um mesmo bean não passam pelo proxy e não são observadas. Métodos que
+ * devolvem Stream medem só a abertura do Stream.
+ */
+@Aspect
+@Component
+public class ObservabilidadeAspect {
+
+    private static final String CASO_DE_USO = "financecore.caso.uso";
+    private static final String REPOSITORIO = "financecore.repositorio";
+
+    private static final String PACOTE_PORTAS = "com.financecore.domain.model.repository";
+
+    // Porta do domínio implementada por cada classe de repositório
+    private static final ClassValue<String> PORTAS = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> tipo) {
+            for (Class<?> atual = tipo; atual != null; atual = atual.getSuperclass()) {
+                for (Class<?> interfaceImplementada : atual.getInterfaces()) {
+                    if (interfaceImplementada.getPackageName().equals(PACOTE_PORTAS)) {
+                        return interfaceImplementada.getSimpleName();
+                    }
+                }
+            }
+            return tipo.getSimpleName();
+        }
+    };
+
+    private final ObservationRegistry observationRegistry;
+
+    public ObservabilidadeAspect(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Around("execution(public * com.financecore.application.usecase..*UseCase.*(..))"
+            + " || execution(public * com.financecore.application.service..*Service.*(..))")
+    public Object observarCasoDeUso(ProceedingJoinPoint chamada) throws Throwable {
+        String classe = chamada.getTarget().getClass().getSimpleName();
+        return observar(CASO_DE_USO, "caso_de_uso", classe, chamada);
+    }
+
+    @Around("execution(public * com.financecore.domain.model.repository.*Repository+.*(..))")
+    public Object observarRepositorio(ProceedingJoinPoint chamada) throws Throwable {
+        String porta = PORTAS.get(chamada.getTarget().getClass());
+        return observar(REPOSITORIO, "repositorio", porta, chamada);
+    }
+
+    private Object observar(String nome, String chave, String valor, ProceedingJoinPoint chamada) throws Throwable {
+        String metodo = chamada.getSignature().getName();
+        Observation observacao = Observation.createNotStarted(nome, observationRegistry)
+                .contextualName(valor + "." + metodo)
+                .lowCardinalityKeyValue(chave, valor)
+                .lowCardinalityKeyValue("metodo", metodo)
+                .start();
+        try (Observation.Scope escopo = observacao.openScope()) {
+            return chamada.proceed();
+        } catch (Throwable erro) {
+            observacao.error(erro);
+            throw erro;
+        } finally {
+            observacao.stop();
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.financecore.infrastructure.persistence.cache;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.financecore.domain.model.entity.Categoria;
+import com.financecore.domain.model.repository.CategoriaRepository;
+
+/**
+ * Cache de leitura (read-through) para o repositório de Categoria.
+ *
+ * Categorias são imutáveis e raramente alteradas, então as instâncias lidas
+ * são compartilhadas. O cache mantém:
+ * - entradas por id, com remoção LRU acima da capacidade;
+ * - índice pelo nome normalizado ({@link Categoria#normalizarNome});
+ * - a última listagem completa.
+ *
+ * salvar e remover invalidam as entradas afetadas e a listagem, de novo após
+ * o commit. Leituras iniciadas antes de uma invalidação não repovoam o cache.
+ * O cache é local à instância da aplicação.
+ */
+public class CategoriaRepositoryEmCache implements CategoriaRepository {
+
+    private final CategoriaRepository delegado;
+    private final int capacidade;
+
+    private final Object trava = new Object();
+    private final LinkedHashMap<UUID, Categoria> porId;
+    private final Map<String, UUID> porNome = new HashMap<>();
+    private List<Categoria> todas;
+
+    // Incrementada a cada invalidação; leituras anteriores a ela são descartadas
+    private final AtomicLong geracao = new AtomicLong();
+
+    private final LongAdder acertos = new LongAdder();
+    private final LongAdder falhas = new LongAdder();
+    private final LongAdder remocoes = new LongAdder();
+
+    public CategoriaRepositoryEmCache(CategoriaRepository delegado, int capacidade) {
+        this.delegado = Objects.requireNonNull(delegado, "delegado não pode ser nulo");
+        if (capacidade <= 0) {
+            throw new IllegalArgumentException("capacidade deve ser > 0");
+        }
+        this.capacidade = capacidade;
+        this.porId = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Categoria> maisAntiga) {
+                if (size() <= CategoriaRepositoryEmCache.this.capacidade) {
+                    return false;
+                }
+                porNome.remove(Categoria.normalizarNome(maisAntiga.getValue().getNome()), maisAntiga.getKey());
+                remocoes.increment();
+                return true;
+            }
+        };
+    }
+
+    @Override
+    public Categoria salvar(Categoria categoria) {
+        Objects.requireNonNull(categoria, "categoria não pode ser nula");
+        Categoria salva = delegado.salvar(categoria);
+        invalidar(categoria.getId());
+        return salva;
+    }
+
+    @Override
+    public Optional<Categoria> buscarPorId(UUID id) {
+        Objects.requireNonNull(id, "id não pode ser nulo");
+        synchronized (trava) {
+            Categoria categoria = porId.get(id);
+            if (categoria != null) {
+                acertos.increment();
+                return Optional.of(categoria);
+            }
+        }
+        falhas.increment();
+        long geracaoLeitura = geracao.get();
+        Optional<Categoria> encontrada = delegado.buscarPorId(id);
+        encontrada.ifPresent(categoria -> armazenar(categoria, geracaoLeitura));
+        return encontrada;
+    }
+
+    @Override
+    public Optional<Categoria> buscarPorNome(String nome) {
+        String normalizado = Categoria.normalizarNome(nome);
+        synchronized (trava) {
+            UUID id = porNome.get(normalizado);
+            Categoria categoria = id == null ? null : porId.get(id);
+            if (categoria != null) {
+                acertos.increment();
+                return Optional.of(categoria);
+            }
+        }
+        falhas.increment();
+        long geracaoLeitura = geracao.get();
+        Optional<Categoria> encontrada = delegado.buscarPorNome(nome);
+        encontrada.ifPresent(categoria -> armazenar(categoria, geracaoLeitura));
+        return encontrada;
+    }
+
+    @Override
+    public List<Categoria> listarTodas() {
+        synchronized (trava) {
+            if (todas != null) {
+                acertos.increment();
+                return todas;
+            }
+        }
+        falhas.increment();
+        long geracaoLeitura = geracao.get();
+        List<Categoria> lidas = List.copyOf(delegado.listarTodas());
+        synchronized (trava) {
+            if (geracao.get() == geracaoLeitura) {
+                todas = lidas;
+                for (Categoria categoria : lidas) {
+                    indexar(categoria);
+                }
+            }
+        }
+        return lidas;
+    }
+
+    @Override
+    public void remover(Categoria categoria) {
+        Objects.requireNonNull(categoria, "categoria não pode ser nula");
+        delegado.remover(categoria);
+        invalidar(categoria.getId());
+    }
+
+    public EstatisticasCache estatisticas() {
+        synchronized (trava) {
+            return new EstatisticasCache(acertos.sum(), falhas.sum(), remocoes.sum(), porId.size());
+        }
+    }
+
+    private void armazenar(Categoria categoria, long geracaoLeitura) {
+        synchronized (trava) {
+            if (geracao.get() == geracaoLeitura) {
+                indexar(categoria);
+            }
+        }
+    }
+
+    private void indexar(Categoria categoria) {
+        Categoria anterior = porId.put(categoria.getId(), categoria);
+        if (anterior != null) {
+            porNome.remove(Categoria.normalizarNome(anterior.getNome()), anterior.getId());
+        }
+        porNome.put(Categoria.normalizarNome(categoria.getNome()), categoria.getId());
+    }
+
+    /**
+     * Invalida agora e, se houver transação, novamente após o término: leituras
+     * feitas por outras transações antes do commit poderiam ver o valor antigo.
+     */
+    private void invalidar(UUID id) {
+        descartar(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    descartar(id);
+                }
+            });
+        }
+    }
+
+    private void descartar(UUID id) {
+        synchronized (trava) {
+            geracao.incrementAndGet();
+            Categoria removida = porId.remove(id);
+            if (removida != null) {
+                porNome.remove(Categoria.normalizarNome(removida.getNome()), id);
+            }
+            todas = null;
+        }
+    }
+
+    /**
+     * Contadores acumulados desde a criação do cache.
+     */
+    public record EstatisticasCache(long acertos, long falhas, long remocoes, int tamanho) {
+
+        public double taxaAcerto() {
+            long total = acertos + falhas;
+            return total == 0 ? 0.0 : (double) acertos / total;
+        }
+    }
+}
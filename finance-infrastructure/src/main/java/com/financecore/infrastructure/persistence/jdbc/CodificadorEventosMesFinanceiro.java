@@ -0,0 +1,333 @@
+package com.financecore.infrastructure.persistence.jdbc;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import com.financecore.domain.model.entity.Categoria;
+import com.financecore.domain.model.entity.Despesa;
+import com.financecore.domain.model.entity.MesFinanceiro;
+import com.financecore.domain.model.entity.MesFinanceiroStatus;
+import com.financecore.domain.model.entity.Parcela;
+import com.financecore.domain.model.entity.ParcelaStatus;
+import com.financecore.domain.model.entity.Receita;
+import com.financecore.domain.model.entity.TipoDespesa;
+import com.financecore.domain.model.entity.TipoReceita;
+import com.financecore.domain.model.event.EventoMesFinanceiro;
+import com.financecore.domain.model.event.EventoMesFinanceiro.DespesaReclassificada;
+import com.financecore.domain.model.event.EventoMesFinanceiro.DespesaRegistrada;
+import com.financecore.domain.model.event.EventoMesFinanceiro.MesAberto;
+import com.financecore.domain.model.event.EventoMesFinanceiro.MesFechado;
+import com.financecore.domain.model.event.EventoMesFinanceiro.ParcelaPaga;
+import com.financecore.domain.model.event.EventoMesFinanceiro.ParcelaRegistrada;
+import com.financecore.domain.model.event.EventoMesFinanceiro.ReceitaRegistrada;
+import com.financecore.domain.model.valueobject.Dinheiro;
+
+/**
+ * Formato binário dos eventos e snapshots do diário de MêsFinanceiro.
+ *
+ * O id do mês não é gravado (é a chave da linha). Valores vão em centavos,
+ * datas em dias desde a época e enums pelo nome, para que reordenar
+ * constantes não altere o significado de dados antigos. Categorias são
+ * gravadas só pelo id e resolvidas na leitura.
+ *
+ * A recorrência de receitas e despesas FIXA é precedida de uma marca: 0 sem
+ * recorrência, 1 com o id (formato anterior ao dia da recorrência, que é
+ * lido como o dia da própria data) e 2 com o id e o dia.
+ *
+ * Eventos e snapshots também são o formato dos meses no armazenamento local.
+ */
+public final class CodificadorEventosMesFinanceiro {
+
+    static final short MES_ABERTO = 1;
+    static final short RECEITA_REGISTRADA = 2;
+    static final short DESPESA_REGISTRADA = 3;
+    static final short PARCELA_REGISTRADA = 4;
+    static final short DESPESA_RECLASSIFICADA = 5;
+    static final short PARCELA_PAGA = 6;
+    static final short MES_FECHADO = 7;
+
+    private static final byte VERSAO_SNAPSHOT = 1;
+
+    private CodificadorEventosMesFinanceiro() {
+        // Classe utilitária, não instanciável
+    }
+
+    public static short tipo(EventoMesFinanceiro evento) {
+        if (evento instanceof MesAberto) {
+            return MES_ABERTO;
+        } else if (evento instanceof ReceitaRegistrada) {
+            return RECEITA_REGISTRADA;
+        } else if (evento instanceof DespesaRegistrada) {
+            return DESPESA_REGISTRADA;
+        } else if (evento instanceof ParcelaRegistrada) {
+            return PARCELA_REGISTRADA;
+        } else if (evento instanceof DespesaReclassificada) {
+            return DESPESA_RECLASSIFICADA;
+        } else if (evento instanceof ParcelaPaga) {
+            return PARCELA_PAGA;
+        } else if (evento instanceof MesFechado) {
+            return MES_FECHADO;
+        }
+        throw new IllegalArgumentException("Tipo de evento sem codificação: " + evento.getClass().getName());
+    }
+
+    /**
+     * Categoria referenciada pelo evento, gravada também em coluna própria
+     * para que a remoção de categorias em uso possa ser impedida; nula se não houver.
+     */
+    static UUID categoriaId(EventoMesFinanceiro evento) {
+        if (evento instanceof DespesaRegistrada e) {
+            return e.despesa().getCategoria().getId();
+        } else if (evento instanceof DespesaReclassificada e) {
+            return e.categoria().getId();
+        }
+        return null;
+    }
+
+    public static byte[] codificar(EventoMesFinanceiro evento) {
+        return escrever(out -> {
+            if (evento instanceof MesAberto e) {
+                escreverUuid(out, e.usuarioId());
+                out.writeByte(e.mes());
+                out.writeShort(e.ano());
+                out.writeLong(e.saldoInicial().getCentavos());
+            } else if (evento instanceof ReceitaRegistrada e) {
+                escreverReceita(out, e.receita());
+            } else if (evento instanceof DespesaRegistrada e) {
+                escreverDespesa(out, e.despesa());
+            } else if (evento instanceof ParcelaRegistrada e) {
+                escreverParcela(out, e.parcela());
+            } else if (evento instanceof DespesaReclassificada e) {
+                escreverUuid(out, e.despesaId());
+                escreverUuid(out, e.categoria().getId());
+            } else if (evento instanceof ParcelaPaga e) {
+                escreverUuid(out, e.parcelaId());
+            } else if (evento instanceof MesFechado e) {
+                out.writeLong(e.saldoFinal().getCentavos());
+            } else {
+                throw new IllegalArgumentException("Tipo de evento sem codificação: " + evento.getClass().getName());
+            }
+        });
+    }
+
+    public static EventoMesFinanceiro decodificar(UUID mesFinanceiroId,
+                                                  short tipo,
+                                                  byte[] dados,
+                                                  Function<UUID, Categoria> categorias) {
+        return ler(dados, in -> switch (tipo) {
+            case MES_ABERTO -> new MesAberto(mesFinanceiroId, lerUuid(in), in.readByte(), in.readShort(),
+                    Dinheiro.deCentavos(in.readLong()));
+            case RECEITA_REGISTRADA -> new ReceitaRegistrada(lerReceita(in, mesFinanceiroId));
+            case DESPESA_REGISTRADA -> new DespesaRegistrada(lerDespesa(in, mesFinanceiroId, categorias));
+            case PARCELA_REGISTRADA -> new ParcelaRegistrada(lerParcela(in, mesFinanceiroId));
+            case DESPESA_RECLASSIFICADA -> new DespesaReclassificada(mesFinanceiroId, lerUuid(in),
+                    categorias.apply(lerUuid(in)));
+            case PARCELA_PAGA -> new ParcelaPaga(mesFinanceiroId, lerUuid(in));
+            case MES_FECHADO -> new MesFechado(mesFinanceiroId, Dinheiro.deCentavos(in.readLong()));
+            default -> throw new IllegalStateException("Tipo de evento desconhecido: " + tipo);
+        });
+    }
+
+    public static byte[] codificarSnapshot(MesFinanceiro mes) {
+        return escrever(out -> {
+            out.writeByte(VERSAO_SNAPSHOT);
+            escreverUuid(out, mes.getUsuarioId());
+            out.writeByte(mes.getMes());
+            out.writeShort(mes.getAno());
+            out.writeUTF(mes.getStatus().name());
+            out.writeLong(mes.getSaldoInicial().getCentavos());
+            escreverDinheiroOpcional(out, mes.getSaldoFinal());
+            out.writeInt(mes.getReceitas().size());
+            for (Receita receita : mes.getReceitas()) {
+                escreverReceita(out, receita);
+            }
+            out.writeInt(mes.getDespesas().size());
+            for (Despesa despesa : mes.getDespesas()) {
+                escreverDespesa(out, despesa);
+            }
+            out.writeInt(mes.getParcelas().size());
+            for (Parcela parcela : mes.getParcelas()) {
+                escreverParcela(out, parcela);
+            }
+        });
+    }
+
+    public static MesFinanceiro decodificarSnapshot(UUID mesFinanceiroId,
+                                                    byte[] dados,
+                                                    Function<UUID, Categoria> categorias) {
+        return ler(dados, in -> {
+            byte versao = in.readByte();
+            if (versao != VERSAO_SNAPSHOT) {
+                throw new IllegalStateException("Versão de snapshot desconhecida: " + versao);
+            }
+            UUID usuarioId = lerUuid(in);
+            int mes = in.readByte();
+            int ano = in.readShort();
+            MesFinanceiroStatus status = MesFinanceiroStatus.valueOf(in.readUTF());
+            Dinheiro saldoInicial = Dinheiro.deCentavos(in.readLong());
+            Dinheiro saldoFinal = lerDinheiroOpcional(in);
+            int quantidade = in.readInt();
+            List<Receita> receitas = new ArrayList<>(quantidade);
+            for (int i = 0; i < quantidade; i++) {
+                receitas.add(lerReceita(in, mesFinanceiroId));
+            }
+            quantidade = in.readInt();
+            List<Despesa> despesas = new ArrayList<>(quantidade);
+            for (int i = 0; i < quantidade; i++) {
+                despesas.add(lerDespesa(in, mesFinanceiroId, categorias));
+            }
+            quantidade = in.readInt();
+            List<Parcela> parcelas = new ArrayList<>(quantidade);
+            for (int i = 0; i < quantidade; i++) {
+                parcelas.add(lerParcela(in, mesFinanceiroId));
+            }
+            return MesFinanceiro.reconstituir(mesFinanceiroId, usuarioId, mes, ano, status,
+                    saldoInicial, saldoFinal, receitas, despesas, parcelas);
+        });
+    }
+
+    private static void escreverReceita(DataOutputStream out, Receita receita) throws IOException {
+        escreverUuid(out, receita.getId());
+        out.writeUTF(receita.getDescricao());
+        out.writeLong(receita.getValor().getCentavos());
+        out.writeUTF(receita.getTipo().name());
+        out.writeLong(receita.getDataReferencia().toEpochDay());
+        escreverRecorrencia(out, receita.getRecorrenciaId(), receita.getDiaRecorrencia());
+    }
+
+    private static Receita lerReceita(DataInputStream in, UUID mesFinanceiroId) throws IOException {
+        UUID id = lerUuid(in);
+        String descricao = in.readUTF();
+        Dinheiro valor = Dinheiro.deCentavos(in.readLong());
+        TipoReceita tipo = TipoReceita.valueOf(in.readUTF());
+        LocalDate dataReferencia = LocalDate.ofEpochDay(in.readLong());
+        Recorrencia recorrencia = lerRecorrencia(in, dataReferencia);
+        return new Receita(id, mesFinanceiroId, descricao, valor, tipo, dataReferencia,
+                recorrencia.id(), recorrencia.dia());
+    }
+
+    private static void escreverDespesa(DataOutputStream out, Despesa despesa) throws IOException {
+        escreverUuid(out, despesa.getId());
+        escreverUuid(out, despesa.getCategoria().getId());
+        out.writeUTF(despesa.getDescricao());
+        out.writeLong(despesa.getValor().getCentavos());
+        out.writeLong(despesa.getData().toEpochDay());
+        out.writeUTF(despesa.getTipo().name());
+        out.writeUTF(despesa.getMetodoPagamento());
+        escreverRecorrencia(out, despesa.getRecorrenciaId(), despesa.getDiaRecorrencia());
+    }
+
+    private static Despesa lerDespesa(DataInputStream in,
+                                      UUID mesFinanceiroId,
+                                      Function<UUID, Categoria> categorias) throws IOException {
+        UUID id = lerUuid(in);
+        Categoria categoria = categorias.apply(lerUuid(in));
+        String descricao = in.readUTF();
+        Dinheiro valor = Dinheiro.deCentavos(in.readLong());
+        LocalDate data = LocalDate.ofEpochDay(in.readLong());
+        TipoDespesa tipo = TipoDespesa.valueOf(in.readUTF());
+        String metodoPagamento = in.readUTF();
+        Recorrencia recorrencia = lerRecorrencia(in, data);
+        return new Despesa(id, mesFinanceiroId, categoria, descricao, valor, data, tipo, metodoPagamento,
+                recorrencia.id(), recorrencia.dia());
+    }
+
+    private static void escreverParcela(DataOutputStream out, Parcela parcela) throws IOException {
+        escreverUuid(out, parcela.getId());
+        escreverUuid(out, parcela.getParcelamentoId());
+        out.writeInt(parcela.getNumero());
+        out.writeLong(parcela.getValor().getCentavos());
+        out.writeUTF(parcela.getStatus().name());
+    }
+
+    private static Parcela lerParcela(DataInputStream in, UUID mesFinanceiroId) throws IOException {
+        return new Parcela(
+                lerUuid(in),
+                lerUuid(in),
+                mesFinanceiroId,
+                in.readInt(),
+                Dinheiro.deCentavos(in.readLong()),
+                ParcelaStatus.valueOf(in.readUTF())
+        );
+    }
+
+    private static void escreverUuid(DataOutputStream out, UUID uuid) throws IOException {
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID lerUuid(DataInputStream in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+
+    private static void escreverRecorrencia(DataOutputStream out, UUID id, Integer dia) throws IOException {
+        if (id == null) {
+            out.writeByte(0);
+            return;
+        }
+        out.writeByte(2);
+        escreverUuid(out, id);
+        out.writeByte(dia);
+    }
+
+    private static Recorrencia lerRecorrencia(DataInputStream in, LocalDate data) throws IOException {
+        byte marca = in.readByte();
+        return switch (marca) {
+            case 0 -> new Recorrencia(null, null);
+            case 1 -> new Recorrencia(lerUuid(in), data.getDayOfMonth());
+            case 2 -> new Recorrencia(lerUuid(in), (int) in.readByte());
+            default -> throw new IOException("Marca de recorrência desconhecida: " + marca);
+        };
+    }
+
+    private record Recorrencia(UUID id, Integer dia) {
+    }
+
+    private static void escreverDinheiroOpcional(DataOutputStream out, Dinheiro valor) throws IOException {
+        out.writeBoolean(valor != null);
+        if (valor != null) {
+            out.writeLong(valor.getCentavos());
+        }
+    }
+
+    private static Dinheiro lerDinheiroOpcional(DataInputStream in) throws IOException {
+        return in.readBoolean() ? Dinheiro.deCentavos(in.readLong()) : null;
+    }
+
+    private static byte[] escrever(Escrita escrita) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            escrita.escrever(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static <T> T ler(byte[] dados, Leitura<T> leitura) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(dados))) {
+            return leitura.ler(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Registro do diário corrompido", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Escrita {
+        void escrever(DataOutputStream out) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface Leitura<T> {
+        T ler(DataInputStream in) throws IOException;
+    }
+}
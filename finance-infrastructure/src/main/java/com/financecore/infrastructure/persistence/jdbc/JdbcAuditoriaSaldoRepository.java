@@ -0,0 +1,102 @@
+package com.financecore.infrastructure.persistence.jdbc;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.financecore.domain.model.entity.DivergenciaSaldo;
+import com.financecore.domain.model.repository.AuditoriaSaldoRepository;
+
+/**
+ * Implementação JDBC do repositório de auditoria de saldos.
+ *
+ * O ponto de retomada fica em auditoria_saldo (uma linha por usuário) e as
+ * divergências em divergencia_saldo, gravadas em lote.
+ */
+@Repository
+@Profile("!local")
+public class JdbcAuditoriaSaldoRepository implements AuditoriaSaldoRepository {
+
+    private static final int TAMANHO_LOTE = 500;
+
+    private static final String SQL_ULTIMA_AUDITORIA = """
+            SELECT auditado_em FROM auditoria_saldo WHERE usuario_id = ?
+            """;
+
+    private static final String SQL_REGISTRAR_AUDITORIA = """
+            INSERT INTO auditoria_saldo (usuario_id, auditado_em)
+            VALUES (?, ?)
+            ON CONFLICT (usuario_id) DO UPDATE SET auditado_em = EXCLUDED.auditado_em
+            """;
+
+    private static final String SQL_INSERIR_DIVERGENCIA = """
+            INSERT INTO divergencia_saldo (
+                id, usuario_id, mes_financeiro_id, periodo_inicio, tipo, esperado, encontrado, lancamentos_suspeitos)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    // Usa idx_mes_usuario_atualizado: um usuário entra assim que um mês seu é encontrado
+    private static final String SQL_USUARIOS_PENDENTES = """
+            SELECT u.id
+              FROM usuario u
+              LEFT JOIN auditoria_saldo a ON a.usuario_id = u.id
+             WHERE EXISTS (
+                   SELECT 1 FROM mes_financeiro m
+                    WHERE m.usuario_id = u.id
+                      AND (a.auditado_em IS NULL OR m.atualizado_em > a.auditado_em))
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcAuditoriaSaldoRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<LocalDateTime> buscarUltimaAuditoria(UUID usuarioId) {
+        Objects.requireNonNull(usuarioId, "usuarioId não pode ser nulo");
+        return jdbcTemplate.query(SQL_ULTIMA_AUDITORIA,
+                (rs, i) -> rs.getObject("auditado_em", LocalDateTime.class), usuarioId).stream().findFirst();
+    }
+
+    @Override
+    public void registrarAuditoria(UUID usuarioId, LocalDateTime iniciadaEm, List<DivergenciaSaldo> divergencias) {
+        Objects.requireNonNull(usuarioId, "usuarioId não pode ser nulo");
+        Objects.requireNonNull(iniciadaEm, "iniciadaEm não pode ser nulo");
+        registrarDivergencias(divergencias);
+        jdbcTemplate.update(SQL_REGISTRAR_AUDITORIA, usuarioId, iniciadaEm);
+    }
+
+    @Override
+    public void registrarDivergencias(List<DivergenciaSaldo> divergencias) {
+        Objects.requireNonNull(divergencias, "divergencias não pode ser nula");
+        if (!divergencias.isEmpty()) {
+            jdbcTemplate.batchUpdate(SQL_INSERIR_DIVERGENCIA, divergencias, TAMANHO_LOTE,
+                    JdbcAuditoriaSaldoRepository::preencherDivergencia);
+        }
+    }
+
+    @Override
+    public List<UUID> listarUsuariosPendentes() {
+        return jdbcTemplate.query(SQL_USUARIOS_PENDENTES, (rs, i) -> rs.getObject("id", UUID.class));
+    }
+
+    private static void preencherDivergencia(PreparedStatement ps, DivergenciaSaldo divergencia) throws SQLException {
+        ps.setObject(1, UUID.randomUUID());
+        ps.setObject(2, divergencia.usuarioId());
+        ps.setObject(3, divergencia.mesFinanceiroId());
+        ps.setObject(4, divergencia.periodo().primeiroDia());
+        ps.setString(5, divergencia.tipo().name());
+        ps.setBigDecimal(6, divergencia.esperado().toBigDecimal());
+        ps.setBigDecimal(7, divergencia.encontrado().toBigDecimal());
+        ps.setArray(8, ps.getConnection().createArrayOf("uuid", divergencia.lancamentosSuspeitos().toArray()));
+    }
+}
@@ -0,0 +1,100 @@
+package com.financecore.infrastructure.persistence.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.financecore.domain.model.entity.Categoria;
+import com.financecore.domain.model.exception.DomainException;
+import com.financecore.domain.model.repository.CategoriaRepository;
+
+/**
+ * Implementação JDBC do repositório de Categoria.
+ *
+ * Não é registrada diretamente como bean: é exposta envolvida pelo cache
+ * (ver CategoriaRepositoryConfig).
+ */
+public class JdbcCategoriaRepository implements CategoriaRepository {
+
+    private static final String SQL_UPSERT = """
+            INSERT INTO categoria (id, nome, essencial)
+            VALUES (?, ?, ?)
+            ON CONFLICT (id) DO UPDATE SET nome = EXCLUDED.nome, essencial = EXCLUDED.essencial
+            """;
+
+    private static final String SQL_POR_ID = """
+            SELECT id, nome, essencial FROM categoria WHERE id = ?
+            """;
+
+    private static final String SQL_POR_NOME = """
+            SELECT id, nome, essencial FROM categoria WHERE lower(trim(nome)) = ?
+            """;
+
+    private static final String SQL_TODAS = """
+            SELECT id, nome, essencial FROM categoria ORDER BY nome
+            """;
+
+    private static final String SQL_POSSUI_DESPESAS = """
+            SELECT EXISTS (SELECT 1 FROM despesa WHERE categoria_id = ?)
+                OR EXISTS (SELECT 1 FROM mes_financeiro_evento WHERE categoria_id = ?)
+            """;
+
+    private static final String SQL_REMOVER = """
+            DELETE FROM categoria WHERE id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcCategoriaRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Categoria salvar(Categoria categoria) {
+        Objects.requireNonNull(categoria, "categoria não pode ser nula");
+        jdbcTemplate.update(SQL_UPSERT, categoria.getId(), categoria.getNome(), categoria.isEssencial());
+        return categoria;
+    }
+
+    @Override
+    public Optional<Categoria> buscarPorId(UUID id) {
+        Objects.requireNonNull(id, "id não pode ser nulo");
+        return jdbcTemplate.query(SQL_POR_ID, (rs, i) -> mapear(rs), id).stream().findFirst();
+    }
+
+    @Override
+    public Optional<Categoria> buscarPorNome(String nome) {
+        String normalizado = Categoria.normalizarNome(nome);
+        return jdbcTemplate.query(SQL_POR_NOME, (rs, i) -> mapear(rs), normalizado).stream().findFirst();
+    }
+
+    @Override
+    public List<Categoria> listarTodas() {
+        return jdbcTemplate.query(SQL_TODAS, (rs, i) -> mapear(rs));
+    }
+
+    @Override
+    public void remover(Categoria categoria) {
+        Objects.requireNonNull(categoria, "categoria não pode ser nula");
+        Boolean possuiDespesas = jdbcTemplate.queryForObject(SQL_POSSUI_DESPESAS, Boolean.class,
+                categoria.getId(), categoria.getId());
+        if (Boolean.TRUE.equals(possuiDespesas)) {
+            // RN-04: despesas não podem ficar sem categoria
+            throw new DomainException("Categoria possui despesas associadas e não pode ser removida.");
+        }
+        jdbcTemplate.update(SQL_REMOVER, categoria.getId());
+    }
+
+    private static Categoria mapear(ResultSet rs) throws SQLException {
+        return new Categoria(
+                rs.getObject("id", UUID.class),
+                rs.getString("nome"),
+                rs.getBoolean("essencial")
+        );
+    }
+}
@@ -0,0 +1,390 @@
+package com.financecore.infrastructure.persistence.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.financecore.domain.model.entity.Categoria;
+import com.financecore.domain.model.entity.MesFinanceiro;
+import com.financecore.domain.model.entity.MesFinanceiroStatus;
+import com.financecore.domain.model.event.EventoMesFinanceiro;
+import com.financecore.domain.model.event.EventoMesFinanceiro.MesAberto;
+import com.financecore.domain.model.exception.DespesaSemCategoriaException;
+import com.financecore.domain.model.repository.CategoriaRepository;
+import com.financecore.infrastructure.criptografia.ChavesCriptografia;
+import com.financecore.infrastructure.criptografia.CifradorColunas;
+import com.financecore.infrastructure.criptografia.CifradorColunas.Coluna;
+
+/**
+ * Repositório de MêsFinanceiro persistido por eventos (diário).
+ *
+ * Cada alteração do agregado ({@link MesFinanceiro#getEventos()}) é
+ * acrescentada a mes_financeiro_evento com número de sequência por mês; nada
+ * é reescrito. A cada {@code intervaloSnapshot} eventos, e no fechamento,
+ * o estado completo é gravado em mes_financeiro_snapshot, de modo que a
+ * carga lê um snapshot e apenas os eventos posteriores.
+ *
+ * O cabeçalho em mes_financeiro continua sendo mantido (status, saldo final,
+ * atualizado_em), então consultas por período, status e auditoria
+ * incremental são as mesmas do modo relacional.
+ *
+ * Meses ainda sem registros no diário são lidos das tabelas relacionais; na
+ * primeira gravação recebem um snapshot e passam a ser lidos do diário.
+ *
+ * Com o cifrador ativo, os dados de eventos e snapshots são gravados
+ * cifrados (RNF02), presos ao mês e à sequência; chave_versao nula indica
+ * um registro em texto claro, lido como está.
+ *
+ * Duas transações que acrescentem eventos ao mesmo mês disputam a mesma
+ * sequência: a segunda falha na chave primária (concorrência otimista).
+ */
+public class JdbcDiarioMesFinanceiroRepository extends JdbcMesFinanceiroRepository {
+
+    private static final int TAMANHO_LOTE = 500;
+    private static final int LIMITE_IN = 1000;
+    private static final long SEM_SNAPSHOT = -1L;
+
+    private static final String SQL_INSERIR_EVENTO = """
+            INSERT INTO mes_financeiro_evento (mes_financeiro_id, sequencia, tipo, dados, categoria_id, registrado_em,
+                                               chave_versao)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String SQL_UPSERT_SNAPSHOT = """
+            INSERT INTO mes_financeiro_snapshot (mes_financeiro_id, sequencia, dados, gravado_em, chave_versao)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (mes_financeiro_id) DO UPDATE SET
+                sequencia = EXCLUDED.sequencia,
+                dados = EXCLUDED.dados,
+                gravado_em = EXCLUDED.gravado_em,
+                chave_versao = EXCLUDED.chave_versao
+            WHERE mes_financeiro_snapshot.sequencia < EXCLUDED.sequencia
+            """;
+
+    private static final String SQL_SNAPSHOTS_POR_MESES = """
+            SELECT mes_financeiro_id, sequencia, dados, chave_versao
+              FROM mes_financeiro_snapshot
+             WHERE mes_financeiro_id IN (:ids)
+            """;
+
+    // Apenas a cauda: eventos posteriores ao snapshot de cada mês
+    private static final String SQL_EVENTOS_POR_MESES = """
+            SELECT e.mes_financeiro_id, e.sequencia, e.tipo, e.dados, e.chave_versao
+              FROM mes_financeiro_evento e
+              LEFT JOIN mes_financeiro_snapshot s ON s.mes_financeiro_id = e.mes_financeiro_id
+             WHERE e.mes_financeiro_id IN (:ids)
+               AND e.sequencia > COALESCE(s.sequencia, 0)
+             ORDER BY e.mes_financeiro_id, e.sequencia
+            """;
+
+    private static final String SQL_ULTIMA_SEQUENCIA = """
+            SELECT COALESCE(MAX(sequencia), 0) FROM mes_financeiro_evento WHERE mes_financeiro_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final CategoriaRepository categoriaRepository;
+    private final CifradorColunas cifrador;
+    private final int intervaloSnapshot;
+
+    // Identidade do agregado -> posição no diário; entradas somem junto com o agregado
+    private final Map<MesFinanceiro, Posicao> posicoes =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    public JdbcDiarioMesFinanceiroRepository(JdbcTemplate jdbcTemplate,
+                                             CategoriaRepository categoriaRepository,
+                                             int intervaloSnapshot) {
+        this(jdbcTemplate, categoriaRepository, intervaloSnapshot, new CifradorColunas(ChavesCriptografia.nenhuma()));
+    }
+
+    /**
+     * O cifrador vale para os registros do diário e para os meses ainda lidos
+     * das tabelas relacionais.
+     */
+    public JdbcDiarioMesFinanceiroRepository(JdbcTemplate jdbcTemplate,
+                                             CategoriaRepository categoriaRepository,
+                                             int intervaloSnapshot,
+                                             CifradorColunas cifrador) {
+        super(jdbcTemplate, cifrador);
+        if (intervaloSnapshot <= 0) {
+            throw new IllegalArgumentException("intervaloSnapshot deve ser > 0");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.categoriaRepository = Objects.requireNonNull(categoriaRepository, "categoriaRepository não pode ser nulo");
+        this.cifrador = cifrador;
+        this.intervaloSnapshot = intervaloSnapshot;
+    }
+
+    // ---------------------------------------------------------------------
+    // Escrita
+    // ---------------------------------------------------------------------
+
+    @Override
+    public List<MesFinanceiro> salvarTodos(Collection<MesFinanceiro> mesesFinanceiros) {
+        Objects.requireNonNull(mesesFinanceiros, "mesesFinanceiros não pode ser nulo");
+        List<MesFinanceiro> cabecalhos = new ArrayList<>();
+        List<EventoGravado> eventos = new ArrayList<>();
+        List<SnapshotGravado> snapshots = new ArrayList<>();
+
+        for (MesFinanceiro mes : mesesFinanceiros) {
+            List<EventoMesFinanceiro> registrados = mes.getEventos();
+            Posicao anterior = posicoes.get(mes);
+            if (anterior == null && registrados.isEmpty()) {
+                continue;
+            }
+            Posicao posicao = anterior != null ? anterior : posicaoInicial(mes);
+            if (registrados.size() == posicao.eventosGravados()) {
+                continue;
+            }
+
+            for (int i = posicao.eventosGravados(); i < registrados.size(); i++) {
+                EventoMesFinanceiro evento = registrados.get(i);
+                long sequencia = posicao.sequenciaBase() + i + 1;
+                eventos.add(new EventoGravado(
+                        mes.getId(),
+                        sequencia,
+                        CodificadorEventosMesFinanceiro.tipo(evento),
+                        proteger(mes.getId(), Coluna.EVENTO, sequencia, CodificadorEventosMesFinanceiro.codificar(evento)),
+                        chaveVersao(),
+                        CodificadorEventosMesFinanceiro.categoriaId(evento)));
+            }
+            cabecalhos.add(mes);
+
+            long ultimaSequencia = posicao.sequenciaBase() + registrados.size();
+            long sequenciaSnapshot = posicao.sequenciaSnapshot();
+            // Meses fechados não recebem mais eventos: o snapshot passa a ser a carga inteira
+            if (sequenciaSnapshot == SEM_SNAPSHOT
+                    || ultimaSequencia - sequenciaSnapshot >= intervaloSnapshot
+                    || mes.getStatus() == MesFinanceiroStatus.FECHADO) {
+                snapshots.add(new SnapshotGravado(mes.getId(), ultimaSequencia,
+                        proteger(mes.getId(), Coluna.SNAPSHOT, ultimaSequencia,
+                                CodificadorEventosMesFinanceiro.codificarSnapshot(mes)),
+                        chaveVersao()));
+                sequenciaSnapshot = ultimaSequencia;
+            }
+
+            posicoes.put(mes, new Posicao(posicao.sequenciaBase(), registrados.size(),
+                    sequenciaSnapshot, posicao.snapshotConfirmado()));
+        }
+
+        try {
+            executar(cabecalhos, eventos, snapshots);
+        } catch (RuntimeException e) {
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                cabecalhos.forEach(mes -> concluir(mes, false));
+            }
+            throw e;
+        }
+        concluirAposCommit(cabecalhos);
+        return List.copyOf(mesesFinanceiros);
+    }
+
+    /**
+     * Posição de um agregado não carregado por este repositório. Meses novos
+     * começam no evento de abertura; os demais (ex.: lidos antes da troca de
+     * modo) continuam após o último evento e recebem snapshot na gravação.
+     */
+    private Posicao posicaoInicial(MesFinanceiro mes) {
+        List<EventoMesFinanceiro> registrados = mes.getEventos();
+        if (!registrados.isEmpty() && registrados.get(0) instanceof MesAberto) {
+            return new Posicao(0L, 0, 0L, 0L);
+        }
+        Long ultima = jdbcTemplate.queryForObject(SQL_ULTIMA_SEQUENCIA, Long.class, mes.getId());
+        return new Posicao(ultima == null ? 0L : ultima, 0, SEM_SNAPSHOT, SEM_SNAPSHOT);
+    }
+
+    private void executar(List<MesFinanceiro> cabecalhos, List<EventoGravado> eventos, List<SnapshotGravado> snapshots) {
+        if (cabecalhos.isEmpty()) {
+            return;
+        }
+        LocalDateTime agora = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(SQL_UPSERT_CABECALHO, cabecalhos, TAMANHO_LOTE,
+                (ps, mes) -> {
+                    ps.setObject(1, mes.getId());
+                    ps.setObject(2, mes.getUsuarioId());
+                    ps.setInt(3, mes.getMes());
+                    ps.setInt(4, mes.getAno());
+                    ps.setString(5, mes.getStatus().name());
+                    ps.setBigDecimal(6, mes.getSaldoInicial().toBigDecimal());
+                    ps.setBigDecimal(7, mes.getSaldoFinal() == null ? null : mes.getSaldoFinal().toBigDecimal());
+                    ps.setObject(8, agora);
+                });
+        jdbcTemplate.batchUpdate(SQL_INSERIR_EVENTO, eventos, TAMANHO_LOTE,
+                (ps, evento) -> {
+                    ps.setObject(1, evento.mesFinanceiroId());
+                    ps.setLong(2, evento.sequencia());
+                    ps.setShort(3, evento.tipo());
+                    ps.setBytes(4, evento.dados());
+                    ps.setObject(5, evento.categoriaId());
+                    ps.setObject(6, agora);
+                    ps.setObject(7, evento.chaveVersao());
+                });
+        if (!snapshots.isEmpty()) {
+            jdbcTemplate.batchUpdate(SQL_UPSERT_SNAPSHOT, snapshots, TAMANHO_LOTE,
+                    (ps, snapshot) -> {
+                        ps.setObject(1, snapshot.mesFinanceiroId());
+                        ps.setLong(2, snapshot.sequencia());
+                        ps.setBytes(3, snapshot.dados());
+                        ps.setObject(4, agora);
+                        ps.setObject(5, snapshot.chaveVersao());
+                    });
+        }
+    }
+
+    private byte[] proteger(UUID mesId, Coluna coluna, long sequencia, byte[] dados) {
+        return cifrador.isAtivo() ? cifrador.cifrarConteudo(mesId, coluna, sequencia, dados) : dados;
+    }
+
+    private Short chaveVersao() {
+        return cifrador.isAtivo() ? (short) cifrador.getVersaoAtual() : null;
+    }
+
+    /**
+     * Os eventos escritos ficam em eventosGravados até o fim da transação
+     * (uma segunda gravação na mesma transação continua de onde a primeira
+     * parou). No commit, saem dos pendentes do agregado e a sequência base
+     * avança; no rollback, continuam pendentes e a posição volta à última
+     * confirmada. Várias gravações na mesma transação registram uma
+     * sincronização cada: só a primeira a chegar encontra algo a concluir.
+     */
+    private void concluirAposCommit(List<MesFinanceiro> gravados) {
+        if (gravados.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            gravados.forEach(mes -> concluir(mes, true));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                gravados.forEach(mes -> concluir(mes, status == STATUS_COMMITTED));
+            }
+        });
+    }
+
+    private void concluir(MesFinanceiro mes, boolean confirmada) {
+        synchronized (posicoes) {
+            Posicao posicao = posicoes.get(mes);
+            if (posicao == null || posicao.eventosGravados() == 0) {
+                return;
+            }
+            if (confirmada) {
+                mes.confirmarEventos(posicao.eventosGravados());
+                posicoes.put(mes, new Posicao(posicao.sequenciaBase() + posicao.eventosGravados(), 0,
+                        posicao.sequenciaSnapshot(), posicao.sequenciaSnapshot()));
+            } else {
+                posicoes.put(mes, new Posicao(posicao.sequenciaBase(), 0,
+                        posicao.snapshotConfirmado(), posicao.snapshotConfirmado()));
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // Leitura
+    // ---------------------------------------------------------------------
+
+    @Override
+    List<MesFinanceiro> reidratar(List<Cabecalho> cabecalhos) {
+        if (cabecalhos.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> ids = cabecalhos.stream().map(Cabecalho::id).toList();
+        Map<UUID, SnapshotGravado> snapshots = new HashMap<>();
+        Map<UUID, List<EventoGravado>> caudas = new HashMap<>();
+
+        for (int inicio = 0; inicio < ids.size(); inicio += LIMITE_IN) {
+            Map<String, Object> parametros = Map.of("ids", ids.subList(inicio, Math.min(inicio + LIMITE_IN, ids.size())));
+            namedJdbcTemplate.query(SQL_SNAPSHOTS_POR_MESES, parametros, rs -> {
+                UUID mesId = rs.getObject("mes_financeiro_id", UUID.class);
+                long sequencia = rs.getLong("sequencia");
+                snapshots.put(mesId, new SnapshotGravado(mesId, sequencia,
+                        abrir(rs, mesId, Coluna.SNAPSHOT, sequencia), null));
+            });
+            namedJdbcTemplate.query(SQL_EVENTOS_POR_MESES, parametros, rs -> {
+                UUID mesId = rs.getObject("mes_financeiro_id", UUID.class);
+                long sequencia = rs.getLong("sequencia");
+                caudas.computeIfAbsent(mesId, k -> new ArrayList<>()).add(new EventoGravado(
+                        mesId, sequencia, rs.getShort("tipo"), abrir(rs, mesId, Coluna.EVENTO, sequencia), null, null));
+            });
+        }
+
+        Map<UUID, Categoria> categoriasLidas = new HashMap<>();
+        Function<UUID, Categoria> categorias = id -> categoriasLidas.computeIfAbsent(id,
+                k -> categoriaRepository.buscarPorId(k).orElseThrow(DespesaSemCategoriaException::new));
+
+        Map<UUID, MesFinanceiro> porId = new HashMap<>();
+        List<Cabecalho> legados = new ArrayList<>();
+        for (Cabecalho cabecalho : cabecalhos) {
+            SnapshotGravado snapshot = snapshots.get(cabecalho.id());
+            List<EventoGravado> cauda = caudas.getOrDefault(cabecalho.id(), List.of());
+            if (snapshot == null && cauda.isEmpty()) {
+                legados.add(cabecalho);
+                continue;
+            }
+            MesFinanceiro base = snapshot == null
+                    ? null
+                    : CodificadorEventosMesFinanceiro.decodificarSnapshot(cabecalho.id(), snapshot.dados(), categorias);
+            List<EventoMesFinanceiro> eventos = new ArrayList<>(cauda.size());
+            for (EventoGravado evento : cauda) {
+                eventos.add(CodificadorEventosMesFinanceiro.decodificar(
+                        cabecalho.id(), evento.tipo(), evento.dados(), categorias));
+            }
+            MesFinanceiro mes = MesFinanceiro.reproduzir(base, eventos);
+            long sequenciaSnapshot = snapshot == null ? 0L : snapshot.sequencia();
+            long ultimaSequencia = cauda.isEmpty() ? sequenciaSnapshot : cauda.get(cauda.size() - 1).sequencia();
+            posicoes.put(mes, new Posicao(ultimaSequencia, 0, sequenciaSnapshot, sequenciaSnapshot));
+            porId.put(mes.getId(), mes);
+        }
+
+        for (MesFinanceiro mes : super.reidratar(legados)) {
+            posicoes.put(mes, new Posicao(0L, 0, SEM_SNAPSHOT, SEM_SNAPSHOT));
+            porId.put(mes.getId(), mes);
+        }
+
+        List<MesFinanceiro> resultado = new ArrayList<>(cabecalhos.size());
+        for (Cabecalho cabecalho : cabecalhos) {
+            resultado.add(porId.get(cabecalho.id()));
+        }
+        return resultado;
+    }
+
+    /**
+     * Dados da linha em texto claro, decifrados se chave_versao estiver preenchida.
+     */
+    private byte[] abrir(ResultSet rs, UUID mesId, Coluna coluna, long sequencia) throws SQLException {
+        byte[] dados = rs.getBytes("dados");
+        rs.getShort("chave_versao");
+        return rs.wasNull() ? dados : cifrador.decifrarConteudo(mesId, coluna, sequencia, dados);
+    }
+
+    /**
+     * sequenciaBase: último evento confirmado do agregado;
+     * eventosGravados: quantos de {@link MesFinanceiro#getEventos()} já foram
+     * escritos na transação em curso, ainda sem commit; sequenciaSnapshot:
+     * sequência do último snapshot escrito (-1: nenhum reflete o estado
+     * atual); snapshotConfirmado: a mesma, considerando só o que já teve commit.
+     */
+    private record Posicao(long sequenciaBase, int eventosGravados, long sequenciaSnapshot, long snapshotConfirmado) {}
+
+    private record EventoGravado(UUID mesFinanceiroId, long sequencia, short tipo, byte[] dados, Short chaveVersao,
+                                 UUID categoriaId) {}
+
+    private record SnapshotGravado(UUID mesFinanceiroId, long sequencia, byte[] dados, Short chaveVersao) {}
+}
@@ -0,0 +1,301 @@
+package com.financecore.infrastructure.persistence.jdbc;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.financecore.domain.model.entity.HistoricoFinanceiro;
+import com.financecore.domain.model.entity.HistoricoFinanceiro.TotalCategoria;
+import com.financecore.domain.model.repository.HistoricoFinanceiroRepository;
+import com.financecore.domain.model.valueobject.Dinheiro;
+import com.financecore.domain.model.valueobject.Periodo;
+
+/**
+ * Implementação JDBC do repositório de HistoricoFinanceiro.
+ *
+ * Cada consolidação ocupa uma linha em historico_financeiro e uma linha por
+ * categoria em historico_financeiro_categoria. Consultas de intervalo usam o
+ * índice (usuario_id, periodo_inicio) e trazem os totais por categoria na
+ * mesma consulta.
+ */
+@Repository
+@Profile("!local")
+public class JdbcHistoricoFinanceiroRepository implements HistoricoFinanceiroRepository {
+
+    private static final int TAMANHO_LOTE = 500;
+
+    private static final String SQL_INSERIR = """
+            INSERT INTO historico_financeiro (
+                id, usuario_id, mes_financeiro_id, periodo_inicio, periodo_fim, saldo_inicial, saldo_final,
+                total_receitas, total_despesas, total_parcelas, receitas_fixas, receitas_variaveis,
+                despesas_pontuais, despesas_fixas, despesas_parceladas,
+                despesas_essenciais, despesas_nao_essenciais, data_geracao)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (mes_financeiro_id) DO NOTHING
+            """;
+
+    private static final String SQL_INSERIR_CATEGORIA = """
+            INSERT INTO historico_financeiro_categoria (historico_id, categoria_id, nome, essencial, total)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    // Em lote não se sabe quais cabeçalhos foram ignorados pelo ON CONFLICT: só grava se o cabeçalho existe
+    private static final String SQL_INSERIR_CATEGORIA_SE_GRAVADO = """
+            INSERT INTO historico_financeiro_categoria (historico_id, categoria_id, nome, essencial, total)
+            SELECT ?, ?, ?, ?, ?
+             WHERE EXISTS (SELECT 1 FROM historico_financeiro WHERE id = ?)
+            """;
+
+    // Linhas de um mesmo histórico ficam contíguas: o cabeçalho repete por categoria
+    private static final String SQL_SELECT = """
+            SELECT h.id, h.usuario_id, h.mes_financeiro_id, h.periodo_inicio, h.saldo_inicial, h.saldo_final,
+                   h.total_receitas, h.total_despesas, h.total_parcelas, h.receitas_fixas, h.receitas_variaveis,
+                   h.despesas_pontuais, h.despesas_fixas, h.despesas_parceladas,
+                   h.despesas_essenciais, h.despesas_nao_essenciais, h.data_geracao,
+                   c.categoria_id, c.nome AS categoria_nome, c.essencial AS categoria_essencial,
+                   c.total AS categoria_total
+              FROM historico_financeiro h
+              LEFT JOIN historico_financeiro_categoria c ON c.historico_id = h.id
+            """;
+
+    private static final String SQL_POR_MES = SQL_SELECT + """
+             WHERE h.mes_financeiro_id = ?
+             ORDER BY c.total DESC
+            """;
+
+    private static final String SQL_POR_USUARIO_E_PERIODO = SQL_SELECT + """
+             WHERE h.usuario_id = ? AND h.periodo_inicio BETWEEN ? AND ?
+             ORDER BY h.periodo_inicio, h.id, c.total DESC
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcHistoricoFinanceiroRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public HistoricoFinanceiro salvar(HistoricoFinanceiro historico) {
+        Objects.requireNonNull(historico, "historico não pode ser nulo");
+        Periodo periodo = historico.getPeriodo();
+        int inseridos = jdbcTemplate.update(SQL_INSERIR,
+                historico.getId(),
+                historico.getUsuarioId(),
+                historico.getMesFinanceiroId(),
+                periodo.primeiroDia(),
+                periodo.ultimoDia(),
+                historico.getSaldoInicial().toBigDecimal(),
+                historico.getSaldoFinal().toBigDecimal(),
+                historico.getTotalReceitas().toBigDecimal(),
+                historico.getTotalDespesas().toBigDecimal(),
+                historico.getTotalParcelas().toBigDecimal(),
+                historico.getReceitasFixas().toBigDecimal(),
+                historico.getReceitasVariaveis().toBigDecimal(),
+                historico.getDespesasPontuais().toBigDecimal(),
+                historico.getDespesasFixas().toBigDecimal(),
+                historico.getDespesasParceladas().toBigDecimal(),
+                historico.getDespesasEssenciais().toBigDecimal(),
+                historico.getDespesasNaoEssenciais().toBigDecimal(),
+                historico.getDataGeracao());
+        if (inseridos == 0) {
+            // Mês já consolidado: a consolidação existente prevalece
+            return buscarPorMesFinanceiroId(historico.getMesFinanceiroId()).orElse(historico);
+        }
+        List<TotalCategoria> categorias = historico.getDespesasPorCategoria();
+        if (!categorias.isEmpty()) {
+            jdbcTemplate.batchUpdate(SQL_INSERIR_CATEGORIA, categorias, categorias.size(),
+                    (ps, total) -> {
+                        ps.setObject(1, historico.getId());
+                        ps.setObject(2, total.categoriaId());
+                        ps.setString(3, total.nome());
+                        ps.setBoolean(4, total.essencial());
+                        ps.setBigDecimal(5, total.total().toBigDecimal());
+                    });
+        }
+        return historico;
+    }
+
+    @Override
+    public void salvarTodos(Collection<HistoricoFinanceiro> historicos) {
+        Objects.requireNonNull(historicos, "historicos não pode ser nulo");
+        if (historicos.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(SQL_INSERIR, historicos, TAMANHO_LOTE,
+                JdbcHistoricoFinanceiroRepository::preencherCabecalho);
+
+        List<Map.Entry<UUID, TotalCategoria>> categorias = new ArrayList<>();
+        for (HistoricoFinanceiro historico : historicos) {
+            for (TotalCategoria total : historico.getDespesasPorCategoria()) {
+                categorias.add(new SimpleEntry<>(historico.getId(), total));
+            }
+        }
+        if (!categorias.isEmpty()) {
+            jdbcTemplate.batchUpdate(SQL_INSERIR_CATEGORIA_SE_GRAVADO, categorias, TAMANHO_LOTE,
+                    (ps, entrada) -> {
+                        TotalCategoria total = entrada.getValue();
+                        ps.setObject(1, entrada.getKey());
+                        ps.setObject(2, total.categoriaId());
+                        ps.setString(3, total.nome());
+                        ps.setBoolean(4, total.essencial());
+                        ps.setBigDecimal(5, total.total().toBigDecimal());
+                        ps.setObject(6, entrada.getKey());
+                    });
+        }
+    }
+
+    private static void preencherCabecalho(PreparedStatement ps, HistoricoFinanceiro historico) throws SQLException {
+        Periodo periodo = historico.getPeriodo();
+        ps.setObject(1, historico.getId());
+        ps.setObject(2, historico.getUsuarioId());
+        ps.setObject(3, historico.getMesFinanceiroId());
+        ps.setObject(4, periodo.primeiroDia());
+        ps.setObject(5, periodo.ultimoDia());
+        ps.setBigDecimal(6, historico.getSaldoInicial().toBigDecimal());
+        ps.setBigDecimal(7, historico.getSaldoFinal().toBigDecimal());
+        ps.setBigDecimal(8, historico.getTotalReceitas().toBigDecimal());
+        ps.setBigDecimal(9, historico.getTotalDespesas().toBigDecimal());
+        ps.setBigDecimal(10, historico.getTotalParcelas().toBigDecimal());
+        ps.setBigDecimal(11, historico.getReceitasFixas().toBigDecimal());
+        ps.setBigDecimal(12, historico.getReceitasVariaveis().toBigDecimal());
+        ps.setBigDecimal(13, historico.getDespesasPontuais().toBigDecimal());
+        ps.setBigDecimal(14, historico.getDespesasFixas().toBigDecimal());
+        ps.setBigDecimal(15, historico.getDespesasParceladas().toBigDecimal());
+        ps.setBigDecimal(16, historico.getDespesasEssenciais().toBigDecimal());
+        ps.setBigDecimal(17, historico.getDespesasNaoEssenciais().toBigDecimal());
+        ps.setObject(18, historico.getDataGeracao());
+    }
+
+    @Override
+    public Optional<HistoricoFinanceiro> buscarPorMesFinanceiroId(UUID mesFinanceiroId) {
+        Objects.requireNonNull(mesFinanceiroId, "mesFinanceiroId não pode ser nulo");
+        Montagem montagem = new Montagem();
+        jdbcTemplate.query(SQL_POR_MES, montagem::processar, mesFinanceiroId);
+        return montagem.concluir().stream().findFirst();
+    }
+
+    @Override
+    public List<HistoricoFinanceiro> listarPorUsuarioEPeriodo(UUID usuarioId, Periodo inicio, Periodo fim) {
+        Objects.requireNonNull(usuarioId, "usuarioId não pode ser nulo");
+        Objects.requireNonNull(inicio, "inicio não pode ser nulo");
+        Objects.requireNonNull(fim, "fim não pode ser nulo");
+        if (fim.compareTo(inicio) < 0) {
+            return List.of();
+        }
+        Montagem montagem = new Montagem();
+        jdbcTemplate.query(SQL_POR_USUARIO_E_PERIODO, montagem::processar,
+                usuarioId, inicio.primeiroDia(), fim.primeiroDia());
+        return montagem.concluir();
+    }
+
+    private static Dinheiro dinheiro(ResultSet rs, String coluna) throws SQLException {
+        BigDecimal valor = rs.getBigDecimal(coluna);
+        return valor == null ? Dinheiro.ZERO : Dinheiro.de(valor);
+    }
+
+    /**
+     * Agrupa as linhas do LEFT JOIN em consolidações, na ordem de leitura.
+     */
+    private static final class Montagem {
+
+        private final List<HistoricoFinanceiro> resultado = new ArrayList<>();
+        private Linha atual;
+        private List<TotalCategoria> categorias;
+
+        void processar(ResultSet rs) throws SQLException {
+            UUID id = rs.getObject("id", UUID.class);
+            if (atual == null || !atual.id().equals(id)) {
+                fecharAtual();
+                atual = Linha.de(rs);
+                categorias = new ArrayList<>();
+            }
+            UUID categoriaId = rs.getObject("categoria_id", UUID.class);
+            if (categoriaId != null) {
+                categorias.add(new TotalCategoria(
+                        categoriaId,
+                        rs.getString("categoria_nome"),
+                        rs.getBoolean("categoria_essencial"),
+                        dinheiro(rs, "categoria_total")));
+            }
+        }
+
+        List<HistoricoFinanceiro> concluir() {
+            fecharAtual();
+            return resultado;
+        }
+
+        private void fecharAtual() {
+            if (atual != null) {
+                resultado.add(atual.paraHistorico(categorias));
+                atual = null;
+            }
+        }
+    }
+
+    /**
+     * Colunas de cabeçalho de uma linha de historico_financeiro.
+     */
+    private record Linha(
+            UUID id,
+            UUID usuarioId,
+            UUID mesFinanceiroId,
+            Periodo periodo,
+            Dinheiro saldoInicial,
+            Dinheiro saldoFinal,
+            Dinheiro totalReceitas,
+            Dinheiro totalDespesas,
+            Dinheiro totalParcelas,
+            Dinheiro receitasFixas,
+            Dinheiro receitasVariaveis,
+            Dinheiro despesasPontuais,
+            Dinheiro despesasFixas,
+            Dinheiro despesasParceladas,
+            Dinheiro despesasEssenciais,
+            Dinheiro despesasNaoEssenciais,
+            LocalDateTime dataGeracao
+    ) {
+        static Linha de(ResultSet rs) throws SQLException {
+            return new Linha(
+                    rs.getObject("id", UUID.class),
+                    rs.getObject("usuario_id", UUID.class),
+                    rs.getObject("mes_financeiro_id", UUID.class),
+                    Periodo.de(rs.getObject("periodo_inicio", LocalDate.class)),
+                    dinheiro(rs, "saldo_inicial"),
+                    dinheiro(rs, "saldo_final"),
+                    dinheiro(rs, "total_receitas"),
+                    dinheiro(rs, "total_despesas"),
+                    dinheiro(rs, "total_parcelas"),
+                    dinheiro(rs, "receitas_fixas"),
+                    dinheiro(rs, "receitas_variaveis"),
+                    dinheiro(rs, "despesas_pontuais"),
+                    dinheiro(rs, "despesas_fixas"),
+                    dinheiro(rs, "despesas_parceladas"),
+                    dinheiro(rs, "despesas_essenciais"),
+                    dinheiro(rs, "despesas_nao_essenciais"),
+                    rs.getObject("data_geracao", LocalDateTime.class)
+            );
+        }
+
+        HistoricoFinanceiro paraHistorico(List<TotalCategoria> categorias) {
+            return new HistoricoFinanceiro(id, usuarioId, mesFinanceiroId, periodo,
+                    saldoInicial, saldoFinal, totalReceitas, totalDespesas, totalParcelas,
+                    receitasFixas, receitasVariaveis, despesasPontuais, despesasFixas, despesasParceladas,
+                    despesasEssenciais, despesasNaoEssenciais, categorias, dataGeracao);
+        }
+    }
+}
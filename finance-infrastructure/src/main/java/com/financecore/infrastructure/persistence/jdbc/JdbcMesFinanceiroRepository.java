@@ -0,0 +1,757 @@
+package com.financecore.infrastructure.persistence.jdbc;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.UUID;
+import java.util.WeakHashMap;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.financecore.domain.model.entity.Categoria;
+import com.financecore.domain.model.entity.Despesa;
+import com.financecore.domain.model.entity.MesFinanceiro;
+import com.financecore.domain.model.entity.MesFinanceiroStatus;
+import com.financecore.domain.model.entity.Parcela;
+import com.financecore.domain.model.entity.ParcelaStatus;
+import com.financecore.domain.model.entity.Receita;
+import com.financecore.domain.model.entity.TipoDespesa;
+import com.financecore.domain.model.entity.TipoReceita;
+import com.financecore.domain.model.event.EventoMesFinanceiro;
+import com.financecore.domain.model.event.EventoMesFinanceiro.DespesaReclassificada;
+import com.financecore.domain.model.event.EventoMesFinanceiro.DespesaRegistrada;
+import com.financecore.domain.model.event.EventoMesFinanceiro.MesAberto;
+import com.financecore.domain.model.event.EventoMesFinanceiro.MesFechado;
+import com.financecore.domain.model.event.EventoMesFinanceiro.ParcelaPaga;
+import com.financecore.domain.model.event.EventoMesFinanceiro.ParcelaRegistrada;
+import com.financecore.domain.model.event.EventoMesFinanceiro.ReceitaRegistrada;
+import com.financecore.domain.model.exception.DespesaSemCategoriaException;
+import com.financecore.domain.model.repository.MesFinanceiroRepository;
+import com.financecore.domain.model.valueobject.Dinheiro;
+import com.financecore.domain.model.valueobject.Periodo;
+import com.financecore.infrastructure.criptografia.ChavesCriptografia;
+import com.financecore.infrastructure.criptografia.CifradorColunas;
+import com.financecore.infrastructure.criptografia.CifradorColunas.Coluna;
+
+/**
+ * Implementação JDBC do repositório de MêsFinanceiro.
+ *
+ * O que gravar vem dos eventos pendentes do agregado ({@link MesFinanceiro#getEventos()}),
+ * sem percorrer seus lançamentos. Ao salvar:
+ * - insere o cabeçalho dos meses abertos desde a última escrita;
+ * - insere em lote apenas receitas, despesas e parcelas registradas;
+ * - atualiza o cabeçalho apenas no fechamento;
+ * - atualiza apenas despesas reclassificadas e parcelas pagas;
+ * - marca atualizado_em de todo mês com alguma escrita (auditoria incremental).
+ *
+ * Os eventos gravados só são confirmados no agregado após o commit; em caso
+ * de rollback continuam pendentes e a próxima gravação os repete (as
+ * inserções são idempotentes). Uma segunda gravação na mesma transação
+ * continua de onde a primeira parou.
+ *
+ * A carga dos lançamentos é feita por conjunto de meses (uma consulta por
+ * tabela), sem N+1. Percursos longos são paginados por período (keyset),
+ * mantendo em memória apenas uma página de meses por vez.
+ *
+ * Não é registrada diretamente como bean: o modo de persistência é escolhido
+ * em MesFinanceiroRepositoryConfig.
+ */
+public class JdbcMesFinanceiroRepository implements MesFinanceiroRepository {
+
+    private static final int TAMANHO_LOTE = 500;
+    private static final int LIMITE_IN = 1000;
+    private static final int TAMANHO_PAGINA = 24;
+
+    private static final String SQL_CABECALHO_POR_ID = """
+            SELECT id, usuario_id, mes, ano, status, saldo_inicial, saldo_final
+              FROM mes_financeiro
+             WHERE id = ?
+            """;
+
+    private static final String SQL_CABECALHOS_POR_IDS = """
+            SELECT id, usuario_id, mes, ano, status, saldo_inicial, saldo_final
+              FROM mes_financeiro
+             WHERE id IN (:ids)
+            """;
+
+    private static final String SQL_IDS_ABERTOS_POR_PERIODO = """
+            SELECT id FROM mes_financeiro
+             WHERE ano = ? AND mes = ? AND status = 'ABERTO'
+             ORDER BY id
+             LIMIT ?
+            """;
+
+    private static final String SQL_IDS_ABERTOS_POR_PERIODO_APOS = """
+            SELECT id FROM mes_financeiro
+             WHERE ano = ? AND mes = ? AND status = 'ABERTO' AND id > ?
+             ORDER BY id
+             LIMIT ?
+            """;
+
+    private static final String SQL_CABECALHOS_POR_USUARIO_E_STATUS = """
+            SELECT id, usuario_id, mes, ano, status, saldo_inicial, saldo_final
+              FROM mes_financeiro
+             WHERE usuario_id = ? AND status = ?
+             ORDER BY ano, mes
+            """;
+
+    private static final String SQL_CABECALHO_MAIS_RECENTE_ATE = """
+            SELECT m.id, m.usuario_id, m.mes, m.ano, m.status, m.saldo_inicial, m.saldo_final
+              FROM mes_financeiro m
+             WHERE m.usuario_id = ?
+               AND (m.ano, m.mes) <= (?, ?)
+             ORDER BY m.ano DESC, m.mes DESC
+             LIMIT 1
+            """;
+
+    private static final String SQL_CABECALHOS_POR_INTERVALO = """
+            SELECT m.id, m.usuario_id, m.mes, m.ano, m.status, m.saldo_inicial, m.saldo_final
+              FROM mes_financeiro m
+             WHERE m.usuario_id = ?
+               AND (m.ano, m.mes) > (?, ?)
+               AND (m.ano, m.mes) <= (?, ?)
+             ORDER BY m.ano, m.mes
+             LIMIT ?
+            """;
+
+    private static final String SQL_CABECALHOS_NAO_CONSOLIDADOS = """
+            SELECT m.id, m.usuario_id, m.mes, m.ano, m.status, m.saldo_inicial, m.saldo_final
+              FROM mes_financeiro m
+             WHERE m.usuario_id = ?
+               AND (m.ano, m.mes) > (?, ?)
+               AND (m.ano, m.mes) <= (?, ?)
+               AND NOT EXISTS (SELECT 1 FROM historico_financeiro h WHERE h.mes_financeiro_id = m.id)
+             ORDER BY m.ano, m.mes
+             LIMIT ?
+            """;
+
+    private static final String SQL_RECEITAS_POR_MESES = """
+            SELECT id, mes_financeiro_id, descricao, valor, tipo, data_referencia, recorrencia_id,
+                   dia_recorrencia, descricao_cifrada, valor_cifrado
+              FROM receita
+             WHERE mes_financeiro_id IN (:ids)
+            """;
+
+    private static final String SQL_DESPESAS_POR_MESES = """
+            SELECT d.id, d.mes_financeiro_id, d.categoria_id, d.descricao, d.valor, d.data,
+                   d.tipo, d.metodo_pagamento, d.recorrencia_id, d.dia_recorrencia, d.descricao_cifrada, d.valor_cifrado,
+                   d.metodo_pagamento_cifrado, c.nome AS categoria_nome, c.essencial AS categoria_essencial
+              FROM despesa d
+              LEFT JOIN categoria c ON c.id = d.categoria_id
+             WHERE d.mes_financeiro_id IN (:ids)
+            """;
+
+    private static final String SQL_PARCELAS_POR_MESES = """
+            SELECT id, parcelamento_id, mes_financeiro_id, numero, valor, status, valor_cifrado
+              FROM parcela
+             WHERE mes_financeiro_id IN (:ids)
+             ORDER BY numero
+            """;
+
+    static final String SQL_UPSERT_CABECALHO = """
+            INSERT INTO mes_financeiro (id, usuario_id, mes, ano, status, saldo_inicial, saldo_final, atualizado_em)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (id) DO UPDATE SET
+                status = EXCLUDED.status,
+                saldo_final = EXCLUDED.saldo_final,
+                atualizado_em = EXCLUDED.atualizado_em
+            """;
+
+    private static final String SQL_ATUALIZAR_CABECALHO = """
+            UPDATE mes_financeiro SET status = ?, saldo_final = ?, atualizado_em = ? WHERE id = ?
+            """;
+
+    private static final String SQL_MARCAR_ATUALIZADO = """
+            UPDATE mes_financeiro SET atualizado_em = ? WHERE id = ?
+            """;
+
+    private static final String SQL_PERIODOS_POR_USUARIO = """
+            SELECT mes, ano FROM mes_financeiro WHERE usuario_id = ? ORDER BY ano, mes
+            """;
+
+    private static final String SQL_PERIODOS_ALTERADOS_DESDE = """
+            SELECT mes, ano FROM mes_financeiro WHERE usuario_id = ? AND atualizado_em > ? ORDER BY ano, mes
+            """;
+
+    private static final String SQL_INSERIR_RECEITA = """
+            INSERT INTO receita (id, mes_financeiro_id, descricao, valor, tipo, data_referencia, recorrencia_id,
+                                 descricao_cifrada, valor_cifrado, chave_versao, dia_recorrencia)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (id) DO NOTHING
+            """;
+
+    private static final String SQL_INSERIR_DESPESA = """
+            INSERT INTO despesa (id, mes_financeiro_id, categoria_id, descricao, valor, data, tipo, metodo_pagamento,
+                                 recorrencia_id, descricao_cifrada, valor_cifrado, metodo_pagamento_cifrado,
+                                 chave_versao, dia_recorrencia)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (id) DO NOTHING
+            """;
+
+    private static final String SQL_INSERIR_PARCELA = """
+            INSERT INTO parcela (id, parcelamento_id, mes_financeiro_id, numero, valor, status,
+                                 valor_cifrado, chave_versao)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (id) DO NOTHING
+            """;
+
+    private static final String SQL_RECLASSIFICAR_DESPESA = """
+            UPDATE despesa SET categoria_id = ? WHERE id = ?
+            """;
+
+    private static final String SQL_ATUALIZAR_STATUS_PARCELA = """
+            UPDATE parcela SET status = ? WHERE id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final CifradorColunas cifrador;
+
+    // Agregado -> eventos pendentes já gravados na transação corrente, ainda não confirmados
+    private final Map<MesFinanceiro, Integer> gravadosNaTransacao =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    public JdbcMesFinanceiroRepository(JdbcTemplate jdbcTemplate) {
+        this(jdbcTemplate, new CifradorColunas(ChavesCriptografia.nenhuma()));
+    }
+
+    /**
+     * Com o cifrador ativo, descrição, valor e método de pagamento de receitas
+     * e despesas novas, e o valor das parcelas, são gravados cifrados (RNF02). Linhas em texto claro
+     * continuam legíveis até serem migradas pela recifragem.
+     */
+    public JdbcMesFinanceiroRepository(JdbcTemplate jdbcTemplate, CifradorColunas cifrador) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.cifrador = Objects.requireNonNull(cifrador, "cifrador não pode ser nulo");
+    }
+
+    @Override
+    public MesFinanceiro salvar(MesFinanceiro mesFinanceiro) {
+        Objects.requireNonNull(mesFinanceiro, "mesFinanceiro não pode ser nulo");
+        salvarTodos(List.of(mesFinanceiro));
+        return mesFinanceiro;
+    }
+
+    @Override
+    public List<MesFinanceiro> salvarTodos(Collection<MesFinanceiro> mesesFinanceiros) {
+        Objects.requireNonNull(mesesFinanceiros, "mesesFinanceiros não pode ser nulo");
+        Alteracoes alteracoes = new Alteracoes();
+        Map<MesFinanceiro, Integer> gravados = new IdentityHashMap<>();
+
+        for (MesFinanceiro mes : mesesFinanceiros) {
+            List<EventoMesFinanceiro> pendentes = mes.getEventos();
+            int jaGravados = gravadosNaTransacao.getOrDefault(mes, 0);
+            if (pendentes.size() > jaGravados) {
+                alteracoes.coletar(mes, pendentes.subList(jaGravados, pendentes.size()));
+                gravados.put(mes, pendentes.size());
+            }
+        }
+
+        executar(alteracoes);
+        confirmarAposCommit(gravados);
+        return List.copyOf(mesesFinanceiros);
+    }
+
+    @Override
+    public Optional<MesFinanceiro> buscarPorId(UUID id) {
+        Objects.requireNonNull(id, "id não pode ser nulo");
+        List<Cabecalho> cabecalhos = jdbcTemplate.query(SQL_CABECALHO_POR_ID, (rs, i) -> mapearCabecalho(rs), id);
+        return reidratar(cabecalhos).stream().findFirst();
+    }
+
+    @Override
+    public List<MesFinanceiro> buscarPorUsuarioEStatus(UUID usuarioId, String status) {
+        Objects.requireNonNull(usuarioId, "usuarioId não pode ser nulo");
+        Objects.requireNonNull(status, "status não pode ser nulo");
+        List<Cabecalho> cabecalhos = jdbcTemplate.query(
+                SQL_CABECALHOS_POR_USUARIO_E_STATUS, (rs, i) -> mapearCabecalho(rs), usuarioId, status);
+        return reidratar(cabecalhos);
+    }
+
+    @Override
+    public List<MesFinanceiro> buscarPorIds(Collection<UUID> ids) {
+        Objects.requireNonNull(ids, "ids não pode ser nulo");
+        List<UUID> lista = List.copyOf(ids);
+        List<Cabecalho> cabecalhos = new ArrayList<>(lista.size());
+        for (int inicio = 0; inicio < lista.size(); inicio += LIMITE_IN) {
+            Map<String, Object> parametros = Map.of("ids", lista.subList(inicio, Math.min(inicio + LIMITE_IN, lista.size())));
+            cabecalhos.addAll(namedJdbcTemplate.query(SQL_CABECALHOS_POR_IDS, parametros, (rs, i) -> mapearCabecalho(rs)));
+        }
+        return reidratar(cabecalhos);
+    }
+
+    @Override
+    public List<UUID> listarIdsAbertosPorPeriodo(Periodo periodo, UUID aposId, int limite) {
+        Objects.requireNonNull(periodo, "periodo não pode ser nulo");
+        if (aposId == null) {
+            return jdbcTemplate.query(SQL_IDS_ABERTOS_POR_PERIODO,
+                    (rs, i) -> rs.getObject("id", UUID.class), periodo.ano(), periodo.mes(), limite);
+        }
+        return jdbcTemplate.query(SQL_IDS_ABERTOS_POR_PERIODO_APOS,
+                (rs, i) -> rs.getObject("id", UUID.class), periodo.ano(), periodo.mes(), aposId, limite);
+    }
+
+    @Override
+    public Optional<MesFinanceiro> buscarMaisRecenteAte(UUID usuarioId, Periodo periodo) {
+        Objects.requireNonNull(usuarioId, "usuarioId não pode ser nulo");
+        Objects.requireNonNull(periodo, "periodo não pode ser nulo");
+        List<Cabecalho> cabecalhos = jdbcTemplate.query(SQL_CABECALHO_MAIS_RECENTE_ATE,
+                (rs, i) -> mapearCabecalho(rs), usuarioId, periodo.ano(), periodo.mes());
+        return reidratar(cabecalhos).stream().findFirst();
+    }
+
+    @Override
+    public Stream<MesFinanceiro> percorrerPorUsuarioEPeriodo(UUID usuarioId, Periodo inicio, Periodo fim) {
+        return percorrer(SQL_CABECALHOS_POR_INTERVALO, usuarioId, inicio, fim);
+    }
+
+    @Override
+    public Stream<MesFinanceiro> percorrerNaoConsolidados(UUID usuarioId, Periodo inicio, Periodo fim) {
+        return percorrer(SQL_CABECALHOS_NAO_CONSOLIDADOS, usuarioId, inicio, fim);
+    }
+
+    @Override
+    public List<Periodo> listarPeriodosAlteradosDesde(UUID usuarioId, LocalDateTime desde) {
+        Objects.requireNonNull(usuarioId, "usuarioId não pode ser nulo");
+        if (desde == null) {
+            return jdbcTemplate.query(SQL_PERIODOS_POR_USUARIO,
+                    (rs, i) -> Periodo.de(rs.getInt("mes"), rs.getInt("ano")), usuarioId);
+        }
+        return jdbcTemplate.query(SQL_PERIODOS_ALTERADOS_DESDE,
+                (rs, i) -> Periodo.de(rs.getInt("mes"), rs.getInt("ano")), usuarioId, desde);
+    }
+
+    private Stream<MesFinanceiro> percorrer(String sql, UUID usuarioId, Periodo inicio, Periodo fim) {
+        Objects.requireNonNull(usuarioId, "usuarioId não pode ser nulo");
+        Objects.requireNonNull(inicio, "inicio não pode ser nulo");
+        Objects.requireNonNull(fim, "fim não pode ser nulo");
+        Iterator<MesFinanceiro> paginas = new Paginas(sql, usuarioId, inicio, fim);
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(paginas, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    // ---------------------------------------------------------------------
+    // Escrita
+    // ---------------------------------------------------------------------
+
+    private void executar(Alteracoes alteracoes) {
+        LocalDateTime agora = LocalDateTime.now();
+        emLote(SQL_UPSERT_CABECALHO, alteracoes.cabecalhosNovos,
+                (ps, mes) -> {
+                    ps.setObject(1, mes.getId());
+                    ps.setObject(2, mes.getUsuarioId());
+                    ps.setInt(3, mes.getMes());
+                    ps.setInt(4, mes.getAno());
+                    ps.setString(5, mes.getStatus().name());
+                    ps.setBigDecimal(6, mes.getSaldoInicial().toBigDecimal());
+                    ps.setBigDecimal(7, paraBigDecimal(mes.getSaldoFinal()));
+                    ps.setObject(8, agora);
+                });
+        emLote(SQL_ATUALIZAR_CABECALHO, alteracoes.cabecalhosAlterados,
+                (ps, mes) -> {
+                    ps.setString(1, mes.getStatus().name());
+                    ps.setBigDecimal(2, paraBigDecimal(mes.getSaldoFinal()));
+                    ps.setObject(3, agora);
+                    ps.setObject(4, mes.getId());
+                });
+        emLote(SQL_MARCAR_ATUALIZADO, alteracoes.lancamentosAlterados,
+                (ps, mes) -> {
+                    ps.setObject(1, agora);
+                    ps.setObject(2, mes.getId());
+                });
+        emLote(SQL_INSERIR_RECEITA, alteracoes.receitasNovas, this::preencherReceita);
+        emLote(SQL_INSERIR_DESPESA, alteracoes.despesasNovas, this::preencherDespesa);
+        emLote(SQL_INSERIR_PARCELA, alteracoes.parcelasNovas, this::preencherParcela);
+        emLote(SQL_RECLASSIFICAR_DESPESA, alteracoes.despesasReclassificadas,
+                (ps, reclassificacao) -> {
+                    ps.setObject(1, reclassificacao.categoria().getId());
+                    ps.setObject(2, reclassificacao.despesaId());
+                });
+        emLote(SQL_ATUALIZAR_STATUS_PARCELA, alteracoes.parcelasPagas,
+                (ps, parcelaId) -> {
+                    ps.setString(1, ParcelaStatus.PAGA.name());
+                    ps.setObject(2, parcelaId);
+                });
+    }
+
+    private <T> void emLote(String sql, List<T> itens, ParameterizedPreparedStatementSetter<T> preenchimento) {
+        if (!itens.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, itens, TAMANHO_LOTE, preenchimento);
+        }
+    }
+
+    // Com o cifrador ativo, as colunas em texto claro ficam nulas e as cifradas são preenchidas
+    private void preencherReceita(PreparedStatement ps, Receita receita) throws SQLException {
+        ps.setObject(1, receita.getId());
+        ps.setObject(2, receita.getMesFinanceiroId());
+        ps.setString(5, receita.getTipo().name());
+        ps.setObject(6, receita.getDataReferencia());
+        ps.setObject(7, receita.getRecorrenciaId());
+        ps.setObject(11, receita.getDiaRecorrencia(), Types.SMALLINT);
+        if (cifrador.isAtivo()) {
+            ps.setNull(3, Types.VARCHAR);
+            ps.setNull(4, Types.NUMERIC);
+            ps.setBytes(8, cifrador.cifrarTexto(receita.getId(), Coluna.DESCRICAO, receita.getDescricao()));
+            ps.setBytes(9, cifrador.cifrarCentavos(receita.getId(), Coluna.VALOR, receita.getValor().getCentavos()));
+            ps.setShort(10, (short) cifrador.getVersaoAtual());
+        } else {
+            ps.setString(3, receita.getDescricao());
+            ps.setBigDecimal(4, receita.getValor().toBigDecimal());
+            ps.setNull(8, Types.BINARY);
+            ps.setNull(9, Types.BINARY);
+            ps.setNull(10, Types.SMALLINT);
+        }
+    }
+
+    private void preencherDespesa(PreparedStatement ps, Despesa despesa) throws SQLException {
+        ps.setObject(1, despesa.getId());
+        ps.setObject(2, despesa.getMesFinanceiroId());
+        ps.setObject(3, despesa.getCategoria().getId());
+        ps.setObject(6, despesa.getData());
+        ps.setString(7, despesa.getTipo().name());
+        ps.setObject(9, despesa.getRecorrenciaId());
+        ps.setObject(14, despesa.getDiaRecorrencia(), Types.SMALLINT);
+        if (cifrador.isAtivo()) {
+            ps.setNull(4, Types.VARCHAR);
+            ps.setNull(5, Types.NUMERIC);
+            ps.setNull(8, Types.VARCHAR);
+            ps.setBytes(10, cifrador.cifrarTexto(despesa.getId(), Coluna.DESCRICAO, despesa.getDescricao()));
+            ps.setBytes(11, cifrador.cifrarCentavos(despesa.getId(), Coluna.VALOR, despesa.getValor().getCentavos()));
+            ps.setBytes(12, cifrador.cifrarTexto(despesa.getId(), Coluna.METODO_PAGAMENTO, despesa.getMetodoPagamento()));
+            ps.setShort(13, (short) cifrador.getVersaoAtual());
+        } else {
+            ps.setString(4, despesa.getDescricao());
+            ps.setBigDecimal(5, despesa.getValor().toBigDecimal());
+            ps.setString(8, despesa.getMetodoPagamento());
+            ps.setNull(10, Types.BINARY);
+            ps.setNull(11, Types.BINARY);
+            ps.setNull(12, Types.BINARY);
+            ps.setNull(13, Types.SMALLINT);
+        }
+    }
+
+    private void preencherParcela(PreparedStatement ps, Parcela parcela) throws SQLException {
+        ps.setObject(1, parcela.getId());
+        ps.setObject(2, parcela.getParcelamentoId());
+        ps.setObject(3, parcela.getMesFinanceiroId());
+        ps.setInt(4, parcela.getNumero());
+        ps.setString(6, parcela.getStatus().name());
+        if (cifrador.isAtivo()) {
+            ps.setNull(5, Types.NUMERIC);
+            ps.setBytes(7, cifrador.cifrarCentavos(parcela.getId(), Coluna.VALOR, parcela.getValor().getCentavos()));
+            ps.setShort(8, (short) cifrador.getVersaoAtual());
+        } else {
+            ps.setBigDecimal(5, parcela.getValor().toBigDecimal());
+            ps.setNull(7, Types.BINARY);
+            ps.setNull(8, Types.SMALLINT);
+        }
+    }
+
+    private static BigDecimal paraBigDecimal(Dinheiro valor) {
+        return valor == null ? null : valor.toBigDecimal();
+    }
+
+    /**
+     * Confirma no agregado os eventos gravados, só se a transação for
+     * confirmada. Em caso de rollback os eventos continuam pendentes e o
+     * agregado fica como estava antes da gravação.
+     */
+    private void confirmarAposCommit(Map<MesFinanceiro, Integer> gravados) {
+        if (gravados.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            gravados.forEach(MesFinanceiro::confirmarEventos);
+            return;
+        }
+        gravadosNaTransacao.putAll(gravados);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                // Várias gravações na mesma transação: a primeira a chegar confirma o total gravado
+                for (MesFinanceiro mes : gravados.keySet()) {
+                    Integer quantidade = gravadosNaTransacao.remove(mes);
+                    if (quantidade != null && status == STATUS_COMMITTED) {
+                        mes.confirmarEventos(quantidade);
+                    }
+                }
+            }
+        });
+    }
+
+    // ---------------------------------------------------------------------
+    // Leitura
+    // ---------------------------------------------------------------------
+
+    /**
+     * Monta os agregados dos cabeçalhos lidos, na mesma ordem.
+     */
+    List<MesFinanceiro> reidratar(List<Cabecalho> cabecalhos) {
+        if (cabecalhos.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> ids = cabecalhos.stream().map(Cabecalho::id).toList();
+        Map<UUID, List<Receita>> receitas = new HashMap<>();
+        Map<UUID, List<Despesa>> despesas = new HashMap<>();
+        Map<UUID, List<Parcela>> parcelas = new HashMap<>();
+        Map<UUID, Categoria> categorias = new HashMap<>();
+
+        for (int inicio = 0; inicio < ids.size(); inicio += LIMITE_IN) {
+            Map<String, Object> parametros = Map.of("ids", ids.subList(inicio, Math.min(inicio + LIMITE_IN, ids.size())));
+            namedJdbcTemplate.query(SQL_RECEITAS_POR_MESES, parametros, rs -> {
+                Receita receita = mapearReceita(rs);
+                receitas.computeIfAbsent(receita.getMesFinanceiroId(), k -> new ArrayList<>()).add(receita);
+            });
+            namedJdbcTemplate.query(SQL_DESPESAS_POR_MESES, parametros, rs -> {
+                Despesa despesa = mapearDespesa(rs, categorias);
+                despesas.computeIfAbsent(despesa.getMesFinanceiroId(), k -> new ArrayList<>()).add(despesa);
+            });
+            namedJdbcTemplate.query(SQL_PARCELAS_POR_MESES, parametros, rs -> {
+                Parcela parcela = mapearParcela(rs);
+                parcelas.computeIfAbsent(parcela.getMesFinanceiroId(), k -> new ArrayList<>()).add(parcela);
+            });
+        }
+
+        List<MesFinanceiro> resultado = new ArrayList<>(cabecalhos.size());
+        for (Cabecalho cabecalho : cabecalhos) {
+            MesFinanceiro mes = MesFinanceiro.reconstituir(
+                    cabecalho.id(),
+                    cabecalho.usuarioId(),
+                    cabecalho.mes(),
+                    cabecalho.ano(),
+                    cabecalho.status(),
+                    cabecalho.saldoInicial(),
+                    cabecalho.saldoFinal(),
+                    receitas.getOrDefault(cabecalho.id(), List.of()),
+                    despesas.getOrDefault(cabecalho.id(), List.of()),
+                    parcelas.getOrDefault(cabecalho.id(), List.of())
+            );
+            resultado.add(mes);
+        }
+        return resultado;
+    }
+
+    private static Cabecalho mapearCabecalho(ResultSet rs) throws SQLException {
+        BigDecimal saldoFinal = rs.getBigDecimal("saldo_final");
+        return new Cabecalho(
+                rs.getObject("id", UUID.class),
+                rs.getObject("usuario_id", UUID.class),
+                rs.getInt("mes"),
+                rs.getInt("ano"),
+                MesFinanceiroStatus.valueOf(rs.getString("status")),
+                Dinheiro.de(rs.getBigDecimal("saldo_inicial")),
+                saldoFinal == null ? null : Dinheiro.de(saldoFinal)
+        );
+    }
+
+    // Lê os dois formatos: cifrado quando presente, senão texto claro (08-migracoes, 9.1)
+    private Receita mapearReceita(ResultSet rs) throws SQLException {
+        UUID id = rs.getObject("id", UUID.class);
+        UUID recorrenciaId = rs.getObject("recorrencia_id", UUID.class);
+        return new Receita(
+                id,
+                rs.getObject("mes_financeiro_id", UUID.class),
+                texto(rs, id, "descricao", "descricao_cifrada", Coluna.DESCRICAO),
+                valor(rs, id),
+                TipoReceita.valueOf(rs.getString("tipo")),
+                rs.getObject("data_referencia", LocalDate.class),
+                recorrenciaId,
+                diaRecorrencia(rs, recorrenciaId)
+        );
+    }
+
+    private Despesa mapearDespesa(ResultSet rs, Map<UUID, Categoria> categorias) throws SQLException {
+        UUID categoriaId = rs.getObject("categoria_id", UUID.class);
+        if (categoriaId == null) {
+            // RN-04: a coluna aceita nulo temporariamente, o domínio não
+            throw new DespesaSemCategoriaException();
+        }
+        Categoria categoria = categorias.get(categoriaId);
+        if (categoria == null) {
+            categoria = new Categoria(categoriaId, rs.getString("categoria_nome"), rs.getBoolean("categoria_essencial"));
+            categorias.put(categoriaId, categoria);
+        }
+        UUID id = rs.getObject("id", UUID.class);
+        UUID recorrenciaId = rs.getObject("recorrencia_id", UUID.class);
+        return new Despesa(
+                id,
+                rs.getObject("mes_financeiro_id", UUID.class),
+                categoria,
+                texto(rs, id, "descricao", "descricao_cifrada", Coluna.DESCRICAO),
+                valor(rs, id),
+                rs.getObject("data", LocalDate.class),
+                TipoDespesa.valueOf(rs.getString("tipo")),
+                texto(rs, id, "metodo_pagamento", "metodo_pagamento_cifrado", Coluna.METODO_PAGAMENTO),
+                recorrenciaId,
+                diaRecorrencia(rs, recorrenciaId)
+        );
+    }
+
+    // ck_*_dia_recorrencia garante o dia sempre que há recorrência (RN-05)
+    private static Integer diaRecorrencia(ResultSet rs, UUID recorrenciaId) throws SQLException {
+        return recorrenciaId == null ? null : rs.getInt("dia_recorrencia");
+    }
+
+    private String texto(ResultSet rs, UUID id, String colunaClara, String colunaCifrada, Coluna coluna)
+            throws SQLException {
+        byte[] cifrado = rs.getBytes(colunaCifrada);
+        return cifrado == null ? rs.getString(colunaClara) : cifrador.decifrarTexto(id, coluna, cifrado);
+    }
+
+    private Dinheiro valor(ResultSet rs, UUID id) throws SQLException {
+        byte[] cifrado = rs.getBytes("valor_cifrado");
+        return cifrado == null
+                ? Dinheiro.de(rs.getBigDecimal("valor"))
+                : Dinheiro.deCentavos(cifrador.decifrarCentavos(id, Coluna.VALOR, cifrado));
+    }
+
+    private Parcela mapearParcela(ResultSet rs) throws SQLException {
+        UUID id = rs.getObject("id", UUID.class);
+        return new Parcela(
+                id,
+                rs.getObject("parcelamento_id", UUID.class),
+                rs.getObject("mes_financeiro_id", UUID.class),
+                rs.getInt("numero"),
+                valor(rs, id),
+                ParcelaStatus.valueOf(rs.getString("status"))
+        );
+    }
+
+    /**
+     * Percorre meses em páginas de {@link #TAMANHO_PAGINA}, usando o último
+     * (ano, mes) lido como ponto de continuação. A comparação por linha usa
+     * o índice (usuario_id, ano, mes).
+     */
+    private final class Paginas implements Iterator<MesFinanceiro> {
+
+        private final String sql;
+        private final UUID usuarioId;
+        private final Periodo fim;
+        // Começa no mês anterior ao início, que pode cair antes de 2000
+        private int ultimoAno;
+        private int ultimoMes;
+        private Iterator<MesFinanceiro> pagina = Collections.emptyIterator();
+        private boolean esgotado;
+
+        Paginas(String sql, UUID usuarioId, Periodo inicio, Periodo fim) {
+            this.sql = sql;
+            this.usuarioId = usuarioId;
+            this.fim = fim;
+            int anterior = inicio.indice() - 1;
+            this.ultimoAno = Math.floorDiv(anterior, 12);
+            this.ultimoMes = Math.floorMod(anterior, 12) + 1;
+            this.esgotado = inicio.compareTo(fim) > 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!pagina.hasNext() && !esgotado) {
+                carregarProximaPagina();
+            }
+            return pagina.hasNext();
+        }
+
+        @Override
+        public MesFinanceiro next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return pagina.next();
+        }
+
+        private void carregarProximaPagina() {
+            List<Cabecalho> cabecalhos = jdbcTemplate.query(sql, (rs, i) -> mapearCabecalho(rs),
+                    usuarioId, ultimoAno, ultimoMes, fim.ano(), fim.mes(), TAMANHO_PAGINA);
+            if (cabecalhos.size() < TAMANHO_PAGINA) {
+                esgotado = true;
+            }
+            if (!cabecalhos.isEmpty()) {
+                Cabecalho ultimo = cabecalhos.get(cabecalhos.size() - 1);
+                ultimoAno = ultimo.ano();
+                ultimoMes = ultimo.mes();
+            }
+            pagina = reidratar(cabecalhos).iterator();
+        }
+    }
+
+    record Cabecalho(
+            UUID id,
+            UUID usuarioId,
+            int mes,
+            int ano,
+            MesFinanceiroStatus status,
+            Dinheiro saldoInicial,
+            Dinheiro saldoFinal
+    ) {}
+
+    /**
+     * Escritas pendentes de um conjunto de agregados, agrupadas por comando
+     * SQL e derivadas apenas dos eventos ainda não gravados de cada um.
+     */
+    private static final class Alteracoes {
+
+        private final List<MesFinanceiro> cabecalhosNovos = new ArrayList<>();
+        private final List<MesFinanceiro> cabecalhosAlterados = new ArrayList<>();
+        // Meses com cabeçalho inalterado, mas com lançamentos novos ou alterados
+        private final List<MesFinanceiro> lancamentosAlterados = new ArrayList<>();
+        private final List<Receita> receitasNovas = new ArrayList<>();
+        private final List<Despesa> despesasNovas = new ArrayList<>();
+        private final List<Parcela> parcelasNovas = new ArrayList<>();
+        private final List<DespesaReclassificada> despesasReclassificadas = new ArrayList<>();
+        private final List<UUID> parcelasPagas = new ArrayList<>();
+
+        void coletar(MesFinanceiro mes, List<EventoMesFinanceiro> eventos) {
+            boolean aberto = false;
+            boolean fechado = false;
+            for (EventoMesFinanceiro evento : eventos) {
+                if (evento instanceof MesAberto) {
+                    aberto = true;
+                } else if (evento instanceof MesFechado) {
+                    fechado = true;
+                } else if (evento instanceof ReceitaRegistrada e) {
+                    receitasNovas.add(e.receita());
+                } else if (evento instanceof DespesaRegistrada e) {
+                    despesasNovas.add(e.despesa());
+                } else if (evento instanceof ParcelaRegistrada e) {
+                    parcelasNovas.add(e.parcela());
+                } else if (evento instanceof DespesaReclassificada e) {
+                    despesasReclassificadas.add(e);
+                } else if (evento instanceof ParcelaPaga e) {
+                    parcelasPagas.add(e.parcelaId());
+                }
+            }
+            // O cabeçalho é gravado com o estado atual do mês, que já reflete o fechamento
+            if (aberto) {
+                cabecalhosNovos.add(mes);
+            } else if (fechado) {
+                cabecalhosAlterados.add(mes);
+            } else {
+                lancamentosAlterados.add(mes);
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.financecore.infrastructure.persistence.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.financecore.domain.model.entity.Parcela;
+import com.financecore.domain.model.entity.ParcelaStatus;
+import com.financecore.domain.model.entity.Parcelamento;
+import com.financecore.domain.model.repository.ParcelamentoRepository;
+import com.financecore.domain.model.valueobject.Dinheiro;
+import com.financecore.infrastructure.criptografia.ChavesCriptografia;
+import com.financecore.infrastructure.criptografia.CifradorColunas;
+import com.financecore.infrastructure.criptografia.CifradorColunas.Coluna;
+
+/**
+ * Implementação JDBC do repositório de Parcelamento.
+ *
+ * Grava só a linha de parcelamento: as parcelas são lançamentos dos meses e
+ * entram na tabela parcela pelo repositório de MêsFinanceiro, na mesma
+ * transação. Por isso o parcelamento deve ser salvo antes dos meses que
+ * recebem suas parcelas. A gravação é idempotente; o parcelamento não muda
+ * depois de criado.
+ *
+ * Na carga, as parcelas vêm em uma consulta pelo parcelamento, em ordem de
+ * número. Com o cifrador ativo, o valor total é gravado cifrado (RNF02), como
+ * o valor das parcelas.
+ *
+ * Não é registrada diretamente como bean: ver ParcelamentoRepositoryConfig.
+ */
+public class JdbcParcelamentoRepository implements ParcelamentoRepository {
+
+    static final String SQL_INSERIR = """
+            INSERT INTO parcelamento (id, despesa_id, valor_total, numero_parcelas,
+                                      valor_total_cifrado, chave_versao)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT (id) DO NOTHING
+            """;
+
+    private static final String SQL_POR_ID = """
+            SELECT id, despesa_id, valor_total, numero_parcelas, valor_total_cifrado
+              FROM parcelamento
+             WHERE id = ?
+            """;
+
+    private static final String SQL_POR_DESPESA = """
+            SELECT id, despesa_id, valor_total, numero_parcelas, valor_total_cifrado
+              FROM parcelamento
+             WHERE despesa_id = ?
+            """;
+
+    private static final String SQL_PARCELAS = """
+            SELECT id, parcelamento_id, mes_financeiro_id, numero, valor, status, valor_cifrado
+              FROM parcela
+             WHERE parcelamento_id = ?
+             ORDER BY numero
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CifradorColunas cifrador;
+
+    public JdbcParcelamentoRepository(JdbcTemplate jdbcTemplate) {
+        this(jdbcTemplate, new CifradorColunas(ChavesCriptografia.nenhuma()));
+    }
+
+    public JdbcParcelamentoRepository(JdbcTemplate jdbcTemplate, CifradorColunas cifrador) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate não pode ser nulo");
+        this.cifrador = Objects.requireNonNull(cifrador, "cifrador não pode ser nulo");
+    }
+
+    @Override
+    public Parcelamento salvar(Parcelamento parcelamento) {
+        Objects.requireNonNull(parcelamento, "parcelamento não pode ser nulo");
+        jdbcTemplate.update(SQL_INSERIR, ps -> {
+            ps.setObject(1, parcelamento.getId());
+            ps.setObject(2, parcelamento.getDespesaId());
+            ps.setInt(4, parcelamento.getNumeroParcelas());
+            if (cifrador.isAtivo()) {
+                ps.setNull(3, Types.NUMERIC);
+                ps.setBytes(5, cifrador.cifrarCentavos(parcelamento.getId(), Coluna.VALOR,
+                        parcelamento.getValorTotal().getCentavos()));
+                ps.setShort(6, (short) cifrador.getVersaoAtual());
+            } else {
+                ps.setBigDecimal(3, parcelamento.getValorTotal().toBigDecimal());
+                ps.setNull(5, Types.BINARY);
+                ps.setNull(6, Types.SMALLINT);
+            }
+        });
+        return parcelamento;
+    }
+
+    @Override
+    public Optional<Parcelamento> buscarPorId(UUID id) {
+        Objects.requireNonNull(id, "id não pode ser nulo");
+        return buscar(SQL_POR_ID, id);
+    }
+
+    @Override
+    public Optional<Parcelamento> buscarPorDespesaId(UUID despesaId) {
+        Objects.requireNonNull(despesaId, "despesaId não pode ser nulo");
+        return buscar(SQL_POR_DESPESA, despesaId);
+    }
+
+    private Optional<Parcelamento> buscar(String sql, UUID chave) {
+        // O cabeçalho primeiro; as parcelas em seguida, sem consulta aninhada
+        return jdbcTemplate.query(sql, (rs, i) -> {
+            UUID id = rs.getObject("id", UUID.class);
+            return new Cabecalho(
+                    id,
+                    rs.getObject("despesa_id", UUID.class),
+                    valor(rs, id, "valor_total", "valor_total_cifrado"),
+                    rs.getInt("numero_parcelas"));
+        }, chave).stream().findFirst().map(cabecalho -> new Parcelamento(
+                cabecalho.id(),
+                cabecalho.despesaId(),
+                cabecalho.valorTotal(),
+                cabecalho.numeroParcelas(),
+                jdbcTemplate.query(SQL_PARCELAS, (rs, i) -> mapearParcela(rs), cabecalho.id())
+        ));
+    }
+
+    private Parcela mapearParcela(ResultSet rs) throws SQLException {
+        UUID id = rs.getObject("id", UUID.class);
+        return new Parcela(
+                id,
+                rs.getObject("parcelamento_id", UUID.class),
+                rs.getObject("mes_financeiro_id", UUID.class),
+                rs.getInt("numero"),
+                valor(rs, id, "valor", "valor_cifrado"),
+                ParcelaStatus.valueOf(rs.getString("status"))
+        );
+    }
+
+    private Dinheiro valor(ResultSet rs, UUID id, String colunaClara, String colunaCifrada) throws SQLException {
+        byte[] cifrado = rs.getBytes(colunaCifrada);
+        return cifrado == null
+                ? Dinheiro.de(rs.getBigDecimal(colunaClara))
+                : Dinheiro.deCentavos(cifrador.decifrarCentavos(id, Coluna.VALOR, cifrado));
+    }
+
+    private record Cabecalho(UUID id, UUID despesaId, Dinheiro valorTotal, int numeroParcelas) {
+    }
+}
@@ -0,0 +1,68 @@
+package com.financecore.infrastructure.persistence.jdbc;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.financecore.domain.model.entity.ProgressoFechamentoLote;
+import com.financecore.domain.model.repository.ProgressoFechamentoLoteRepository;
+import com.financecore.domain.model.valueobject.Periodo;
+
+/**
+ * Implementação JDBC do repositório de progresso do fechamento em lote.
+ */
+@Repository
+@Profile("!local")
+public class JdbcProgressoFechamentoLoteRepository implements ProgressoFechamentoLoteRepository {
+
+    private static final String SQL_BUSCAR = """
+            SELECT periodo_inicio, ultimo_mes_id, fechados, falhas, concluido
+              FROM fechamento_lote
+             WHERE periodo_inicio = ?
+            """;
+
+    private static final String SQL_UPSERT = """
+            INSERT INTO fechamento_lote (periodo_inicio, ultimo_mes_id, fechados, falhas, concluido, atualizado_em)
+            VALUES (?, ?, ?, ?, ?, NOW())
+            ON CONFLICT (periodo_inicio) DO UPDATE SET
+                ultimo_mes_id = EXCLUDED.ultimo_mes_id,
+                fechados = EXCLUDED.fechados,
+                falhas = EXCLUDED.falhas,
+                concluido = EXCLUDED.concluido,
+                atualizado_em = EXCLUDED.atualizado_em
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcProgressoFechamentoLoteRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<ProgressoFechamentoLote> buscar(Periodo periodo) {
+        Objects.requireNonNull(periodo, "periodo não pode ser nulo");
+        return jdbcTemplate.query(SQL_BUSCAR, (rs, i) -> new ProgressoFechamentoLote(
+                Periodo.de(rs.getObject("periodo_inicio", LocalDate.class)),
+                rs.getObject("ultimo_mes_id", UUID.class),
+                rs.getLong("fechados"),
+                rs.getLong("falhas"),
+                rs.getBoolean("concluido")
+        ), periodo.primeiroDia()).stream().findFirst();
+    }
+
+    @Override
+    public void salvar(ProgressoFechamentoLote progresso) {
+        Objects.requireNonNull(progresso, "progresso não pode ser nulo");
+        jdbcTemplate.update(SQL_UPSERT,
+                progresso.periodo().primeiroDia(),
+                progresso.ultimoMesId(),
+                progresso.fechados(),
+                progresso.falhas(),
+                progresso.concluido());
+    }
+}
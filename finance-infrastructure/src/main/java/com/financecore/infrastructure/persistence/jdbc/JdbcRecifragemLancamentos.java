@@ -0,0 +1,380 @@
+package com.financecore.infrastructure.persistence.jdbc;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import com.financecore.application.usecase.criptografia.RecifragemDados;
+import com.financecore.domain.model.valueobject.Dinheiro;
+import com.financecore.infrastructure.criptografia.CifradorColunas;
+import com.financecore.infrastructure.criptografia.CifradorColunas.Coluna;
+
+/**
+ * Recifragem de receitas, despesas, parcelas, parcelamentos e dos eventos e
+ * snapshots do diário com a versão atual da chave (RNF02).
+ *
+ * Migra progressivamente linhas em texto claro e linhas cifradas com versões
+ * anteriores (08-migracoes, 9.1); linhas já na versão atual não são lidas nem
+ * reescritas. Cada tabela é percorrida em lotes pela chave (keyset), com
+ * leitura e atualização em lote, então o custo por chamada é limitado pelo
+ * tamanho do lote e o percurso pode ser retomado a partir do último lote.
+ *
+ * A atualização só vale se a linha ainda estiver na versão lida, o que torna
+ * seguro rodar a recifragem com a aplicação gravando. Fora de transação, cada
+ * lote é confirmado por si.
+ */
+public class JdbcRecifragemLancamentos implements RecifragemDados {
+
+    private static final String SQL_RECEITAS = """
+            SELECT id, descricao, valor, descricao_cifrada, valor_cifrado, chave_versao
+              FROM receita
+             WHERE (chave_versao IS NULL OR chave_versao <> ?)
+             ORDER BY id
+             LIMIT ?
+            """;
+
+    private static final String SQL_RECEITAS_APOS = """
+            SELECT id, descricao, valor, descricao_cifrada, valor_cifrado, chave_versao
+              FROM receita
+             WHERE id > ? AND (chave_versao IS NULL OR chave_versao <> ?)
+             ORDER BY id
+             LIMIT ?
+            """;
+
+    private static final String SQL_DESPESAS = """
+            SELECT id, descricao, valor, metodo_pagamento, descricao_cifrada, valor_cifrado,
+                   metodo_pagamento_cifrado, chave_versao
+              FROM despesa
+             WHERE (chave_versao IS NULL OR chave_versao <> ?)
+             ORDER BY id
+             LIMIT ?
+            """;
+
+    private static final String SQL_DESPESAS_APOS = """
+            SELECT id, descricao, valor, metodo_pagamento, descricao_cifrada, valor_cifrado,
+                   metodo_pagamento_cifrado, chave_versao
+              FROM despesa
+             WHERE id > ? AND (chave_versao IS NULL OR chave_versao <> ?)
+             ORDER BY id
+             LIMIT ?
+            """;
+
+    private static final String SQL_PARCELAS = """
+            SELECT id, valor, valor_cifrado, chave_versao
+              FROM parcela
+             WHERE (chave_versao IS NULL OR chave_versao <> ?)
+             ORDER BY id
+             LIMIT ?
+            """;
+
+    private static final String SQL_PARCELAS_APOS = """
+            SELECT id, valor, valor_cifrado, chave_versao
+              FROM parcela
+             WHERE id > ? AND (chave_versao IS NULL OR chave_versao <> ?)
+             ORDER BY id
+             LIMIT ?
+            """;
+
+    private static final String SQL_PARCELAMENTOS = """
+            SELECT id, valor_total AS valor, valor_total_cifrado AS valor_cifrado, chave_versao
+              FROM parcelamento
+             WHERE (chave_versao IS NULL OR chave_versao <> ?)
+             ORDER BY id
+             LIMIT ?
+            """;
+
+    private static final String SQL_PARCELAMENTOS_APOS = """
+            SELECT id, valor_total AS valor, valor_total_cifrado AS valor_cifrado, chave_versao
+              FROM parcelamento
+             WHERE id > ? AND (chave_versao IS NULL OR chave_versao <> ?)
+             ORDER BY id
+             LIMIT ?
+            """;
+
+    private static final String SQL_ATUALIZAR_RECEITA = """
+            UPDATE receita
+               SET descricao = NULL, valor = NULL,
+                   descricao_cifrada = ?, valor_cifrado = ?, chave_versao = ?
+             WHERE id = ? AND chave_versao IS NOT DISTINCT FROM ?
+            """;
+
+    private static final String SQL_ATUALIZAR_DESPESA = """
+            UPDATE despesa
+               SET descricao = NULL, valor = NULL, metodo_pagamento = NULL,
+                   descricao_cifrada = ?, valor_cifrado = ?, metodo_pagamento_cifrado = ?, chave_versao = ?
+             WHERE id = ? AND chave_versao IS NOT DISTINCT FROM ?
+            """;
+
+    private static final String SQL_ATUALIZAR_PARCELA = """
+            UPDATE parcela
+               SET valor = NULL, valor_cifrado = ?, chave_versao = ?
+             WHERE id = ? AND chave_versao IS NOT DISTINCT FROM ?
+            """;
+
+    private static final String SQL_ATUALIZAR_PARCELAMENTO = """
+            UPDATE parcelamento
+               SET valor_total = NULL, valor_total_cifrado = ?, chave_versao = ?
+             WHERE id = ? AND chave_versao IS NOT DISTINCT FROM ?
+            """;
+
+    private static final String SQL_EVENTOS = """
+            SELECT mes_financeiro_id, sequencia, dados, chave_versao
+              FROM mes_financeiro_evento
+             WHERE (chave_versao IS NULL OR chave_versao <> ?)
+             ORDER BY mes_financeiro_id, sequencia
+             LIMIT ?
+            """;
+
+    private static final String SQL_EVENTOS_APOS = """
+            SELECT mes_financeiro_id, sequencia, dados, chave_versao
+              FROM mes_financeiro_evento
+             WHERE (mes_financeiro_id, sequencia) > (?, ?) AND (chave_versao IS NULL OR chave_versao <> ?)
+             ORDER BY mes_financeiro_id, sequencia
+             LIMIT ?
+            """;
+
+    private static final String SQL_SNAPSHOTS = """
+            SELECT mes_financeiro_id, sequencia, dados, chave_versao
+              FROM mes_financeiro_snapshot
+             WHERE (chave_versao IS NULL OR chave_versao <> ?)
+             ORDER BY mes_financeiro_id
+             LIMIT ?
+            """;
+
+    private static final String SQL_SNAPSHOTS_APOS = """
+            SELECT mes_financeiro_id, sequencia, dados, chave_versao
+              FROM mes_financeiro_snapshot
+             WHERE mes_financeiro_id > ? AND (chave_versao IS NULL OR chave_versao <> ?)
+             ORDER BY mes_financeiro_id
+             LIMIT ?
+            """;
+
+    // Eventos não mudam; a condição só protege de duas recifragens simultâneas
+    private static final String SQL_ATUALIZAR_EVENTO = """
+            UPDATE mes_financeiro_evento
+               SET dados = ?, chave_versao = ?
+             WHERE mes_financeiro_id = ? AND sequencia = ? AND chave_versao IS NOT DISTINCT FROM ?
+            """;
+
+    // Um snapshot substituído depois da leitura já foi gravado com a versão atual
+    private static final String SQL_ATUALIZAR_SNAPSHOT = """
+            UPDATE mes_financeiro_snapshot
+               SET dados = ?, chave_versao = ?
+             WHERE mes_financeiro_id = ? AND sequencia = ? AND chave_versao IS NOT DISTINCT FROM ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CifradorColunas cifrador;
+
+    public JdbcRecifragemLancamentos(JdbcTemplate jdbcTemplate, CifradorColunas cifrador) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate não pode ser nulo");
+        this.cifrador = Objects.requireNonNull(cifrador, "cifrador não pode ser nulo");
+    }
+
+    public enum Tabela {
+        RECEITA,
+        DESPESA,
+        PARCELA,
+        PARCELAMENTO,
+        EVENTO_DIARIO,
+        SNAPSHOT_DIARIO
+    }
+
+    /**
+     * Resultado de um lote: linhas lidas, linhas regravadas e a chave de onde
+     * continuar (ultimoId nulo quando a tabela terminou). ultimaSequencia só
+     * se aplica aos eventos do diário, cuja chave inclui a sequência.
+     */
+    public record Lote(int lidas, int recifradas, UUID ultimoId, long ultimaSequencia) {
+
+        public boolean concluido() {
+            return ultimoId == null;
+        }
+    }
+
+    @Override
+    public boolean isAtiva() {
+        return cifrador.isAtivo();
+    }
+
+    /**
+     * Recifra todas as linhas pendentes das tabelas, lote a lote.
+     *
+     * @return quantidade de linhas regravadas
+     */
+    @Override
+    public long recifrarTudo(int tamanhoLote) {
+        long recifradas = 0L;
+        for (Tabela tabela : Tabela.values()) {
+            UUID aposId = null;
+            long aposSequencia = 0L;
+            Lote lote;
+            do {
+                lote = recifrar(tabela, aposId, aposSequencia, tamanhoLote);
+                recifradas += lote.recifradas();
+                aposId = lote.ultimoId();
+                aposSequencia = lote.ultimaSequencia();
+            } while (!lote.concluido());
+        }
+        return recifradas;
+    }
+
+    /**
+     * Recifra um lote de até {@code limite} linhas pendentes com id posterior
+     * a aposId (nulo: desde o início). Nos eventos do diário, começa depois
+     * de todos os eventos do mês aposId.
+     */
+    public Lote recifrar(Tabela tabela, UUID aposId, int limite) {
+        return recifrar(tabela, aposId, Long.MAX_VALUE, limite);
+    }
+
+    /**
+     * Como {@link #recifrar(Tabela, UUID, int)}, continuando nos eventos do
+     * diário a partir da sequência aposSequencia do mês aposId.
+     */
+    public Lote recifrar(Tabela tabela, UUID aposId, long aposSequencia, int limite) {
+        Objects.requireNonNull(tabela, "tabela não pode ser nula");
+        if (limite <= 0) {
+            throw new IllegalArgumentException("limite deve ser > 0");
+        }
+        if (!cifrador.isAtivo()) {
+            throw new IllegalStateException("Criptografia desativada: nenhuma chave configurada");
+        }
+        short versao = (short) cifrador.getVersaoAtual();
+        return switch (tabela) {
+            case RECEITA, DESPESA, PARCELA, PARCELAMENTO -> recifrarLancamentos(tabela, aposId, versao, limite);
+            case EVENTO_DIARIO, SNAPSHOT_DIARIO -> recifrarDiario(tabela, aposId, aposSequencia, versao, limite);
+        };
+    }
+
+    private Lote recifrarLancamentos(Tabela tabela, UUID aposId, short versao, int limite) {
+        List<Object[]> atualizacoes = new ArrayList<>(limite);
+        String atualizacao = switch (tabela) {
+            case RECEITA -> SQL_ATUALIZAR_RECEITA;
+            case DESPESA -> SQL_ATUALIZAR_DESPESA;
+            case PARCELAMENTO -> SQL_ATUALIZAR_PARCELAMENTO;
+            default -> SQL_ATUALIZAR_PARCELA;
+        };
+        List<UUID> lidas = switch (tabela) {
+            case RECEITA -> ler(SQL_RECEITAS, SQL_RECEITAS_APOS, aposId, versao, limite, (rs, id) -> {
+                String descricao = texto(id, Coluna.DESCRICAO, rs.getBytes("descricao_cifrada"), rs.getString("descricao"));
+                long valor = centavos(id, rs.getBytes("valor_cifrado"), rs.getBigDecimal("valor"));
+                atualizacoes.add(new Object[] {
+                        cifrador.cifrarTexto(id, Coluna.DESCRICAO, descricao),
+                        cifrador.cifrarCentavos(id, Coluna.VALOR, valor),
+                        versao, id, rs.getObject("chave_versao")});
+            });
+            case DESPESA -> ler(SQL_DESPESAS, SQL_DESPESAS_APOS, aposId, versao, limite, (rs, id) -> {
+                String descricao = texto(id, Coluna.DESCRICAO, rs.getBytes("descricao_cifrada"), rs.getString("descricao"));
+                long valor = centavos(id, rs.getBytes("valor_cifrado"), rs.getBigDecimal("valor"));
+                String metodoPagamento = texto(id, Coluna.METODO_PAGAMENTO,
+                        rs.getBytes("metodo_pagamento_cifrado"), rs.getString("metodo_pagamento"));
+                atualizacoes.add(new Object[] {
+                        cifrador.cifrarTexto(id, Coluna.DESCRICAO, descricao),
+                        cifrador.cifrarCentavos(id, Coluna.VALOR, valor),
+                        cifrador.cifrarTexto(id, Coluna.METODO_PAGAMENTO, metodoPagamento),
+                        versao, id, rs.getObject("chave_versao")});
+            });
+            case PARCELAMENTO -> ler(SQL_PARCELAMENTOS, SQL_PARCELAMENTOS_APOS, aposId, versao, limite, (rs, id) -> {
+                long valor = centavos(id, rs.getBytes("valor_cifrado"), rs.getBigDecimal("valor"));
+                atualizacoes.add(new Object[] {
+                        cifrador.cifrarCentavos(id, Coluna.VALOR, valor),
+                        versao, id, rs.getObject("chave_versao")});
+            });
+            default -> ler(SQL_PARCELAS, SQL_PARCELAS_APOS, aposId, versao, limite, (rs, id) -> {
+                long valor = centavos(id, rs.getBytes("valor_cifrado"), rs.getBigDecimal("valor"));
+                atualizacoes.add(new Object[] {
+                        cifrador.cifrarCentavos(id, Coluna.VALOR, valor),
+                        versao, id, rs.getObject("chave_versao")});
+            });
+        };
+
+        int recifradas = atualizar(atualizacao, atualizacoes);
+        UUID ultimoId = lidas.size() < limite ? null : lidas.get(lidas.size() - 1);
+        return new Lote(lidas.size(), recifradas, ultimoId, 0L);
+    }
+
+    private Lote recifrarDiario(Tabela tabela, UUID aposId, long aposSequencia, short versao, int limite) {
+        boolean eventos = tabela == Tabela.EVENTO_DIARIO;
+        Coluna coluna = eventos ? Coluna.EVENTO : Coluna.SNAPSHOT;
+        List<Object[]> atualizacoes = new ArrayList<>(limite);
+        UUID[] ultimoId = new UUID[1];
+        long[] ultimaSequencia = new long[1];
+        RowCallbackHandler linha = rs -> {
+            UUID mesId = rs.getObject("mes_financeiro_id", UUID.class);
+            long sequencia = rs.getLong("sequencia");
+            byte[] dados = rs.getBytes("dados");
+            Object chaveVersao = rs.getObject("chave_versao");
+            byte[] claro = chaveVersao == null ? dados : cifrador.decifrarConteudo(mesId, coluna, sequencia, dados);
+            atualizacoes.add(new Object[] {
+                    cifrador.cifrarConteudo(mesId, coluna, sequencia, claro),
+                    versao, mesId, sequencia, chaveVersao});
+            ultimoId[0] = mesId;
+            ultimaSequencia[0] = sequencia;
+        };
+        if (aposId == null) {
+            jdbcTemplate.query(eventos ? SQL_EVENTOS : SQL_SNAPSHOTS, linha, versao, limite);
+        } else if (eventos) {
+            jdbcTemplate.query(SQL_EVENTOS_APOS, linha, aposId, aposSequencia, versao, limite);
+        } else {
+            jdbcTemplate.query(SQL_SNAPSHOTS_APOS, linha, aposId, versao, limite);
+        }
+
+        int recifradas = atualizar(eventos ? SQL_ATUALIZAR_EVENTO : SQL_ATUALIZAR_SNAPSHOT, atualizacoes);
+        int lidas = atualizacoes.size();
+        return lidas < limite
+                ? new Lote(lidas, recifradas, null, 0L)
+                : new Lote(lidas, recifradas, ultimoId[0], ultimaSequencia[0]);
+    }
+
+    private int atualizar(String sql, List<Object[]> atualizacoes) {
+        int recifradas = 0;
+        if (!atualizacoes.isEmpty()) {
+            for (int linhas : jdbcTemplate.batchUpdate(sql, atualizacoes)) {
+                // Drivers podem não informar a contagem por comando em lote
+                recifradas += linhas > 0 ? linhas : 0;
+            }
+        }
+        return recifradas;
+    }
+
+    private List<UUID> ler(String sql, String sqlApos, UUID aposId, short versao, int limite, Linha linha) {
+        List<UUID> ids = new ArrayList<>(limite);
+        if (aposId == null) {
+            jdbcTemplate.query(sql, rs -> {
+                UUID id = rs.getObject("id", UUID.class);
+                linha.processar(rs, id);
+                ids.add(id);
+            }, versao, limite);
+        } else {
+            jdbcTemplate.query(sqlApos, rs -> {
+                UUID id = rs.getObject("id", UUID.class);
+                linha.processar(rs, id);
+                ids.add(id);
+            }, aposId, versao, limite);
+        }
+        return ids;
+    }
+
+    private String texto(UUID id, Coluna coluna, byte[] cifrado, String claro) {
+        return cifrado == null ? claro : cifrador.decifrarTexto(id, coluna, cifrado);
+    }
+
+    private long centavos(UUID id, byte[] cifrado, BigDecimal claro) {
+        return cifrado == null
+                ? Dinheiro.de(claro).getCentavos()
+                : cifrador.decifrarCentavos(id, Coluna.VALOR, cifrado);
+    }
+
+    @FunctionalInterface
+    private interface Linha {
+        void processar(ResultSet rs, UUID id) throws SQLException;
+    }
+}
@@ -0,0 +1,86 @@
+package com.financecore.infrastructure.persistence.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.financecore.domain.model.entity.Categoria;
+import com.financecore.domain.model.entity.RegraClassificacao;
+import com.financecore.domain.model.repository.RegraClassificacaoRepository;
+
+/**
+ * Implementação JDBC do repositório de RegraClassificacao.
+ *
+ * As regras de um usuário são lidas em uma única consulta, já com a
+ * categoria de destino.
+ */
+@Repository
+@Profile("!local")
+public class JdbcRegraClassificacaoRepository implements RegraClassificacaoRepository {
+
+    private static final String SQL_UPSERT = """
+            INSERT INTO regra_classificacao (id, usuario_id, palavra_chave, metodo_pagamento, categoria_id, prioridade)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT (id) DO UPDATE SET
+                palavra_chave = EXCLUDED.palavra_chave,
+                metodo_pagamento = EXCLUDED.metodo_pagamento,
+                categoria_id = EXCLUDED.categoria_id,
+                prioridade = EXCLUDED.prioridade
+            """;
+
+    private static final String SQL_POR_USUARIO = """
+            SELECT r.id, r.usuario_id, r.palavra_chave, r.metodo_pagamento, r.prioridade,
+                   c.id AS categoria_id, c.nome AS categoria_nome, c.essencial AS categoria_essencial
+              FROM regra_classificacao r
+              JOIN categoria c ON c.id = r.categoria_id
+             WHERE r.usuario_id = ?
+             ORDER BY r.data_criacao, r.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcRegraClassificacaoRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public RegraClassificacao salvar(RegraClassificacao regra) {
+        Objects.requireNonNull(regra, "regra não pode ser nula");
+        jdbcTemplate.update(SQL_UPSERT,
+                regra.getId(),
+                regra.getUsuarioId(),
+                regra.getPalavraChave(),
+                regra.getMetodoPagamento(),
+                regra.getCategoria().getId(),
+                regra.getPrioridade());
+        return regra;
+    }
+
+    @Override
+    public List<RegraClassificacao> listarPorUsuario(UUID usuarioId) {
+        Objects.requireNonNull(usuarioId, "usuarioId não pode ser nulo");
+        return jdbcTemplate.query(SQL_POR_USUARIO, (rs, i) -> mapear(rs), usuarioId);
+    }
+
+    private static RegraClassificacao mapear(ResultSet rs) throws SQLException {
+        Categoria categoria = new Categoria(
+                rs.getObject("categoria_id", UUID.class),
+                rs.getString("categoria_nome"),
+                rs.getBoolean("categoria_essencial")
+        );
+        return new RegraClassificacao(
+                rs.getObject("id", UUID.class),
+                rs.getObject("usuario_id", UUID.class),
+                rs.getString("palavra_chave"),
+                rs.getString("metodo_pagamento"),
+                categoria,
+                rs.getInt("prioridade")
+        );
+    }
+}
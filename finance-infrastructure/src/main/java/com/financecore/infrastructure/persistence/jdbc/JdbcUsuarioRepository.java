@@ -0,0 +1,151 @@
+package com.financecore.infrastructure.persistence.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.financecore.domain.model.entity.PreferenciasSistema;
+import com.financecore.domain.model.entity.TemaVisual;
+import com.financecore.domain.model.entity.Usuario;
+import com.financecore.domain.model.repository.UsuarioRepository;
+
+/**
+ * Implementação JDBC do repositório de Usuário.
+ *
+ * Usuário e preferências são gravados com INSERT de várias linhas, até
+ * {@link #LINHAS_POR_INSERT} por comando: um lote de usuários custa poucos
+ * comandos, e não um por usuário. As preferências são regravadas (upsert);
+ * o usuário, imutável, só é inserido se ainda não existir.
+ *
+ * Meses financeiros são gravados e lidos pelo MesFinanceiroRepository; na
+ * carga, o usuário vem sem meses.
+ */
+@Repository
+@Profile("!local")
+public class JdbcUsuarioRepository implements UsuarioRepository {
+
+    private static final int LINHAS_POR_INSERT = 500;
+
+    private static final String SQL_INSERIR_USUARIOS = """
+            INSERT INTO usuario (id, nome, data_criacao)
+            VALUES %s
+            ON CONFLICT (id) DO NOTHING
+            """;
+
+    private static final String SQL_UPSERT_PREFERENCIAS = """
+            INSERT INTO preferencias_sistema (usuario_id, tema, idioma, notificacoes_ativas)
+            VALUES %s
+            ON CONFLICT (usuario_id) DO UPDATE SET
+                tema = EXCLUDED.tema,
+                idioma = EXCLUDED.idioma,
+                notificacoes_ativas = EXCLUDED.notificacoes_ativas
+            """;
+
+    private static final String SQL_POR_ID = """
+            SELECT u.id, u.nome, u.data_criacao, p.tema, p.idioma, p.notificacoes_ativas
+              FROM usuario u
+              JOIN preferencias_sistema p ON p.usuario_id = u.id
+             WHERE u.id = ?
+            """;
+
+    private static final String SQL_EXISTE = """
+            SELECT EXISTS (SELECT 1 FROM usuario WHERE id = ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcUsuarioRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Usuario salvar(Usuario usuario) {
+        Objects.requireNonNull(usuario, "usuario não pode ser nulo");
+        salvarTodos(List.of(usuario));
+        return usuario;
+    }
+
+    @Override
+    public List<Usuario> salvarTodos(Collection<Usuario> usuarios) {
+        Objects.requireNonNull(usuarios, "usuarios não pode ser nulo");
+        List<Usuario> lista = List.copyOf(usuarios);
+        for (int inicio = 0; inicio < lista.size(); inicio += LINHAS_POR_INSERT) {
+            List<Usuario> lote = lista.subList(inicio, Math.min(inicio + LINHAS_POR_INSERT, lista.size()));
+
+            Object[] usuariosParametros = new Object[lote.size() * 3];
+            Object[] preferenciasParametros = new Object[lote.size() * 4];
+            for (int i = 0; i < lote.size(); i++) {
+                Usuario usuario = lote.get(i);
+                PreferenciasSistema preferencias = usuario.getPreferencias();
+                usuariosParametros[i * 3] = usuario.getId();
+                usuariosParametros[i * 3 + 1] = usuario.getNome();
+                usuariosParametros[i * 3 + 2] = usuario.getDataCriacao();
+                preferenciasParametros[i * 4] = usuario.getId();
+                preferenciasParametros[i * 4 + 1] = preferencias.getTema().name();
+                preferenciasParametros[i * 4 + 2] = preferencias.getIdioma();
+                preferenciasParametros[i * 4 + 3] = preferencias.isNotificacoesAtivas();
+            }
+
+            jdbcTemplate.update(SQL_INSERIR_USUARIOS.formatted(valores(lote.size(), 3)), usuariosParametros);
+            jdbcTemplate.update(SQL_UPSERT_PREFERENCIAS.formatted(valores(lote.size(), 4)), preferenciasParametros);
+        }
+        return lista;
+    }
+
+    @Override
+    public Optional<Usuario> buscarPorId(UUID id) {
+        Objects.requireNonNull(id, "id não pode ser nulo");
+        List<Cadastro> cadastros = jdbcTemplate.query(SQL_POR_ID, (rs, i) -> mapearCadastro(rs), id);
+        if (cadastros.isEmpty()) {
+            return Optional.empty();
+        }
+        Cadastro cadastro = cadastros.get(0);
+        return Optional.of(new Usuario(
+                cadastro.id(), cadastro.nome(), cadastro.dataCriacao(), cadastro.preferencias(), List.of()));
+    }
+
+    @Override
+    public boolean existePorId(UUID id) {
+        Objects.requireNonNull(id, "id não pode ser nulo");
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(SQL_EXISTE, Boolean.class, id));
+    }
+
+    /**
+     * Lista de tuplas "(?, ?, ...)" para um INSERT de várias linhas.
+     */
+    private static String valores(int linhas, int colunas) {
+        String tupla = "(" + "?, ".repeat(colunas - 1) + "?)";
+        StringBuilder sql = new StringBuilder(linhas * (tupla.length() + 2));
+        for (int i = 0; i < linhas; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(tupla);
+        }
+        return sql.toString();
+    }
+
+    private static Cadastro mapearCadastro(ResultSet rs) throws SQLException {
+        return new Cadastro(
+                rs.getObject("id", UUID.class),
+                rs.getString("nome"),
+                rs.getObject("data_criacao", LocalDateTime.class),
+                new PreferenciasSistema(
+                        TemaVisual.valueOf(rs.getString("tema")),
+                        rs.getString("idioma"),
+                        rs.getBoolean("notificacoes_ativas")
+                )
+        );
+    }
+
+    private record Cadastro(UUID id, String nome, LocalDateTime dataCriacao, PreferenciasSistema preferencias) {}
+}
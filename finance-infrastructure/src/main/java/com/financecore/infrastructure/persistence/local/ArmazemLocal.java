@@ -0,0 +1,997 @@
+package com.financecore.infrastructure.persistence.local;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import com.financecore.infrastructure.criptografia.ChavesCriptografia;
+import com.financecore.infrastructure.criptografia.CifradorColunas;
+import com.financecore.infrastructure.criptografia.CifradorColunas.Coluna;
+
+/**
+ * Armazenamento embutido do modo local (RNF01): um arquivo de segmento só de
+ * acréscimos, mapeado em memória, e um índice em memória de (tipo, id) para a
+ * posição do valor mais recente.
+ *
+ * Cada commit é uma moldura [comprimento][CRC32C][registros] acrescentada ao
+ * segmento e forçada ao disco antes de retornar. Na abertura o segmento é
+ * percorrido para remontar o índice; a primeira moldura incompleta ou com CRC
+ * inválido marca o fim dos dados e é descartada, então um commit interrompido
+ * por queda nunca é aplicado pela metade.
+ *
+ * Dentro de uma transação local (GerenciadorTransacoesLocal), as gravações da
+ * thread ficam pendentes, visíveis só para ela, e vão ao segmento juntas em
+ * uma moldura no commit; um rollback as descarta. Fora de transação, cada
+ * gravação é um commit.
+ *
+ * Valores substituídos ou removidos ficam no arquivo até a compactação, feita
+ * em segundo plano quando a maior parte do segmento é de registros mortos: os
+ * registros vivos são copiados para um segmento da geração seguinte, cujo
+ * cabeçalho só é gravado depois dos dados. Na abertura vale o segmento válido
+ * de maior geração; os demais são apagados. Registros de tipos com uma
+ * {@link Consolidacao} (eventos de diário) contam como recuperáveis: antes
+ * da cópia, a consolidação os troca por snapshots.
+ *
+ * Com um cifrador ativo, cada valor é gravado cifrado com a chave das
+ * colunas (RNF02), preso ao tipo e ao id do registro; o bit alto do tipo
+ * marca os valores cifrados, então segmentos gravados antes da ativação
+ * continuam legíveis. A compactação cifra os valores em texto claro e os de
+ * versões de chave anteriores, o que faz dela a recifragem do modo local.
+ *
+ * Leituras não bloqueiam; gravações e compactação são serializadas. Um
+ * diretório só pode ser aberto por um processo por vez.
+ */
+public final class ArmazemLocal implements Closeable {
+
+    static final byte USUARIO = 1;
+    static final byte MES_FINANCEIRO = 2;
+    static final byte CATEGORIA = 3;
+    static final byte PARCELAMENTO = 4;
+    static final byte HISTORICO = 5;
+    static final byte AUDITORIA = 6;
+    static final byte DIVERGENCIA = 7;
+    static final byte PROGRESSO_LOTE = 8;
+    static final byte REGRA_CLASSIFICACAO = 9;
+    static final byte MES_SNAPSHOT = 10;
+    static final byte MES_EVENTO = 11;
+
+    private static final int MAGICO = 0x46434C53; // "FCLS"
+    private static final int VERSAO_FORMATO = 1;
+
+    // Cabeçalho: mágico, versão do formato e geração do segmento
+    private static final int TAMANHO_CABECALHO = 16;
+    // Moldura: comprimento e CRC32C dos registros
+    private static final int TAMANHO_MOLDURA = 8;
+    // Registro: tipo, id e tamanho do valor (REMOVIDO para remoções)
+    private static final int TAMANHO_REGISTRO = 21;
+    private static final int REMOVIDO = -1;
+    // Marca, no tipo do registro, um valor cifrado
+    private static final byte CIFRADO = (byte) 0x80;
+
+    private static final int CAPACIDADE_INICIAL = 4 << 20;
+    private static final int CAPACIDADE_MAXIMA = 1 << 30;
+    private static final int MOLDURA_COMPACTACAO = 1 << 20;
+    private static final long MORTOS_PARA_COMPACTAR = 1 << 20;
+
+    private static final String PREFIXO_SEGMENTO = "segmento-";
+    private static final String EXTENSAO_SEGMENTO = ".fcl";
+
+    private final Path diretorio;
+    private final CifradorColunas cifrador;
+    private final FileChannel canalTrava;
+    private final FileLock trava;
+
+    private final ConcurrentHashMap<Chave, Posicao> indice = new ConcurrentHashMap<>();
+    private final ReentrantLock escrita = new ReentrantLock();
+    private final ExecutorService compactador;
+    private final AtomicBoolean compactacaoAgendada = new AtomicBoolean();
+    private final ThreadLocal<Transacao> transacaoDaThread = new ThreadLocal<>();
+    private final Map<Byte, Consolidacao> consolidacoes = new ConcurrentHashMap<>();
+
+    private volatile Segmento segmento;
+    private volatile boolean fechado;
+    private volatile RuntimeException ultimaFalhaCompactacao;
+
+    // Bytes de registros vivos no segmento atual, e dos que uma consolidação
+    // pode substituir; sob a trava de escrita
+    private long bytesVivos;
+    private long bytesConsolidaveis;
+
+    private ArmazemLocal(Path diretorio, CifradorColunas cifrador) throws IOException {
+        this.diretorio = diretorio;
+        this.cifrador = cifrador;
+        Files.createDirectories(diretorio);
+        this.canalTrava = FileChannel.open(diretorio.resolve(".trava"),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        FileLock obtida;
+        try {
+            obtida = canalTrava.tryLock();
+        } catch (OverlappingFileLockException e) {
+            obtida = null;
+        }
+        if (obtida == null) {
+            canalTrava.close();
+            throw new IllegalStateException("Armazenamento local em uso por outro processo: " + diretorio);
+        }
+        this.trava = obtida;
+        try {
+            this.segmento = recuperar();
+        } catch (IOException | RuntimeException e) {
+            trava.release();
+            canalTrava.close();
+            throw e;
+        }
+        this.compactador = Executors.newSingleThreadExecutor(executavel -> {
+            Thread thread = new Thread(executavel, "armazem-local-compactacao");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Abre o armazenamento no diretório, criando-o se necessário, e remonta o
+     * índice a partir do segmento mais recente.
+     */
+    public static ArmazemLocal abrir(Path diretorio) {
+        return abrir(diretorio, new CifradorColunas(ChavesCriptografia.nenhuma()));
+    }
+
+    /**
+     * Abre o armazenamento cifrando as gravações quando o cifrador estiver ativo.
+     */
+    public static ArmazemLocal abrir(Path diretorio, CifradorColunas cifrador) {
+        Objects.requireNonNull(diretorio, "diretorio não pode ser nulo");
+        Objects.requireNonNull(cifrador, "cifrador não pode ser nulo");
+        try {
+            return new ArmazemLocal(diretorio, cifrador);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao abrir o armazenamento local em " + diretorio, e);
+        }
+    }
+
+    /**
+     * Valor atual do registro, ou nulo se não existir.
+     */
+    byte[] ler(byte tipo, UUID id) {
+        garantirAberto();
+        Chave chave = new Chave(tipo, id);
+        Transacao transacao = transacaoDaThread.get();
+        if (transacao != null && transacao.pendentes.containsKey(chave)) {
+            byte[] pendente = transacao.pendentes.get(chave).valor();
+            return pendente == null ? null : pendente.clone();
+        }
+        Posicao posicao = indice.get(chave);
+        if (posicao == null) {
+            return null;
+        }
+        return valor(tipo, id, posicao);
+    }
+
+    /**
+     * Entrega cada registro vivo do tipo, em ordem indefinida, com uma visão
+     * somente leitura do valor. Usado para montar índices secundários.
+     */
+    void percorrer(byte tipo, BiConsumer<UUID, ByteBuffer> consumidor) {
+        garantirAberto();
+        Map<Chave, Registro> pendentes = transacaoDaThread.get() == null
+                ? Map.of()
+                : transacaoDaThread.get().pendentes;
+        for (Registro pendente : pendentes.values()) {
+            if (pendente.tipo() == tipo && pendente.valor() != null) {
+                consumidor.accept(pendente.id(), ByteBuffer.wrap(pendente.valor()).asReadOnlyBuffer());
+            }
+        }
+        for (Map.Entry<Chave, Posicao> entrada : indice.entrySet()) {
+            if (entrada.getKey().tipo() == tipo && !pendentes.containsKey(entrada.getKey())) {
+                Posicao posicao = entrada.getValue();
+                ByteBuffer valor = posicao.cifrado()
+                        ? ByteBuffer.wrap(valor(tipo, entrada.getKey().id(), posicao))
+                        : posicao.segmento().mapa.slice(posicao.inicio(), posicao.tamanho());
+                consumidor.accept(entrada.getKey().id(), valor.asReadOnlyBuffer());
+            }
+        }
+    }
+
+    /**
+     * Grava os registros. Em uma transação local, eles ficam pendentes até o
+     * commit dela; fora, formam um commit próprio.
+     */
+    void gravar(List<Registro> registros) {
+        Objects.requireNonNull(registros, "registros não pode ser nulo");
+        Transacao transacao = transacaoDaThread.get();
+        if (transacao == null) {
+            commit(registros);
+            return;
+        }
+        for (Registro registro : registros) {
+            transacao.pendentes.put(new Chave(registro.tipo(), registro.id()), registro);
+        }
+    }
+
+    /**
+     * Registra uma ação a executar se a transação local da thread for
+     * desfeita, depois de descartadas as gravações pendentes; os repositórios
+     * a usam para restaurar seus índices em memória. Fora de transação, não
+     * faz nada.
+     */
+    void aoDesfazer(Runnable acao) {
+        Objects.requireNonNull(acao, "acao não pode ser nula");
+        Transacao transacao = transacaoDaThread.get();
+        if (transacao != null) {
+            transacao.desfazimentos.add(acao);
+        }
+    }
+
+    /**
+     * Registra uma ação a executar depois do commit da transação local da
+     * thread; fora de transação, executa-a imediatamente.
+     */
+    void aoConfirmar(Runnable acao) {
+        Objects.requireNonNull(acao, "acao não pode ser nula");
+        Transacao transacao = transacaoDaThread.get();
+        if (transacao == null) {
+            acao.run();
+        } else {
+            transacao.confirmacoes.add(acao);
+        }
+    }
+
+    /**
+     * Registra a consolidação dos registros do tipo, executada no início de
+     * cada compactação. Só pode haver uma por tipo.
+     */
+    void registrarConsolidacao(byte tipo, Consolidacao consolidacao) {
+        Objects.requireNonNull(consolidacao, "consolidacao não pode ser nula");
+        escrita.lock();
+        try {
+            garantirAberto();
+            if (consolidacoes.putIfAbsent(tipo, consolidacao) != null) {
+                throw new IllegalStateException("Consolidação já registrada para o tipo " + tipo);
+            }
+            for (Map.Entry<Chave, Posicao> entrada : indice.entrySet()) {
+                if (entrada.getKey().tipo() == tipo) {
+                    bytesConsolidaveis += TAMANHO_REGISTRO + entrada.getValue().tamanho();
+                }
+            }
+        } finally {
+            escrita.unlock();
+        }
+    }
+
+    /**
+     * Inicia uma transação local na thread chamadora.
+     */
+    Transacao iniciarTransacao() {
+        garantirAberto();
+        if (transacaoDaThread.get() != null) {
+            throw new IllegalStateException("Já existe uma transação local nesta thread");
+        }
+        Transacao transacao = new Transacao();
+        transacaoDaThread.set(transacao);
+        return transacao;
+    }
+
+    /**
+     * Transação local em andamento na thread, ou nulo.
+     */
+    Transacao transacaoAtual() {
+        return transacaoDaThread.get();
+    }
+
+    /**
+     * Grava as gravações pendentes da transação em um único commit. Se o
+     * commit falhar, a transação é desfeita.
+     */
+    void confirmar(Transacao transacao) {
+        encerrar(transacao);
+        try {
+            commit(new ArrayList<>(transacao.pendentes.values()));
+        } catch (RuntimeException e) {
+            transacao.desfazer();
+            throw e;
+        }
+        transacao.pendentes.clear();
+        transacao.desfazimentos.clear();
+        for (Runnable acao : transacao.confirmacoes) {
+            acao.run();
+        }
+        transacao.confirmacoes.clear();
+    }
+
+    /**
+     * Descarta as gravações pendentes da transação e executa as ações
+     * registradas em {@link #aoDesfazer}. Desfazer uma transação já
+     * encerrada não tem efeito.
+     */
+    void desfazer(Transacao transacao) {
+        if (transacaoDaThread.get() == transacao) {
+            transacaoDaThread.remove();
+        }
+        transacao.desfazer();
+    }
+
+    /**
+     * Grava os registros em um único commit: ou todos ficam visíveis, inclusive
+     * após uma queda, ou nenhum. Retorna depois de forçar os dados ao disco.
+     * Registros idênticos ao valor atual são ignorados.
+     */
+    private void commit(List<Registro> registros) {
+        boolean compactar;
+        escrita.lock();
+        try {
+            garantirAberto();
+            List<Registro> alterados = new ArrayList<>(registros.size());
+            for (Registro registro : registros) {
+                if (!inalterado(registro)) {
+                    alterados.add(cifrar(registro));
+                }
+            }
+            if (alterados.isEmpty()) {
+                return;
+            }
+            byte[] corpo = corpo(alterados);
+            Segmento atual = garantirEspaco(TAMANHO_MOLDURA + corpo.length);
+            int inicio = acrescentar(atual, corpo);
+            atual.mapa.force(inicio, TAMANHO_MOLDURA + corpo.length);
+            aplicar(atual, inicio);
+            compactar = precisaCompactar();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao gravar no armazenamento local", e);
+        } finally {
+            escrita.unlock();
+        }
+        if (compactar && compactacaoAgendada.compareAndSet(false, true)) {
+            try {
+                compactador.execute(this::compactarEmSegundoPlano);
+            } catch (RejectedExecutionException e) {
+                compactacaoAgendada.set(false);
+            }
+        }
+    }
+
+    /**
+     * Compacta o segmento imediatamente, na thread chamadora.
+     */
+    public void compactar() {
+        escrita.lock();
+        try {
+            garantirAberto();
+            compactarSobTrava(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao compactar o armazenamento local", e);
+        } finally {
+            escrita.unlock();
+        }
+    }
+
+    /**
+     * Falha da última compactação em segundo plano, se ela não foi concluída.
+     * A compactação é tentada de novo na próxima gravação que a justificar.
+     */
+    public Optional<RuntimeException> getUltimaFalhaCompactacao() {
+        return Optional.ofNullable(ultimaFalhaCompactacao);
+    }
+
+    public int getQuantidadeRegistros() {
+        return indice.size();
+    }
+
+    @Override
+    public void close() {
+        compactador.shutdown();
+        try {
+            compactador.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        escrita.lock();
+        try {
+            if (fechado) {
+                return;
+            }
+            fechado = true;
+            segmento.canal.close();
+            trava.release();
+            canalTrava.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao fechar o armazenamento local", e);
+        } finally {
+            escrita.unlock();
+        }
+    }
+
+    /**
+     * Gravações pendentes de uma transação local e as ações que restauram o
+     * estado em memória dos repositórios se ela for desfeita.
+     */
+    static final class Transacao {
+
+        private final Map<Chave, Registro> pendentes = new LinkedHashMap<>();
+        private final List<Runnable> desfazimentos = new ArrayList<>();
+        private final List<Runnable> confirmacoes = new ArrayList<>();
+        private boolean somenteDesfazer;
+        private boolean encerrada;
+
+        boolean isSomenteDesfazer() {
+            return somenteDesfazer;
+        }
+
+        /**
+         * Marca a transação para ser desfeita no fim, mesmo que se peça o commit.
+         */
+        void marcarSomenteDesfazer() {
+            somenteDesfazer = true;
+        }
+
+        private void desfazer() {
+            encerrada = true;
+            pendentes.clear();
+            confirmacoes.clear();
+            RuntimeException falha = null;
+            // Na ordem inversa do registro, como o estado foi construído
+            for (int i = desfazimentos.size() - 1; i >= 0; i--) {
+                try {
+                    desfazimentos.get(i).run();
+                } catch (RuntimeException e) {
+                    if (falha == null) {
+                        falha = e;
+                    } else {
+                        falha.addSuppressed(e);
+                    }
+                }
+            }
+            desfazimentos.clear();
+            if (falha != null) {
+                throw falha;
+            }
+        }
+    }
+
+    /**
+     * Substituição de registros de um tipo por outros equivalentes e menores,
+     * como eventos de diário por um snapshot. Executada sob a trava de
+     * escrita, no início da compactação: não pode gravar no armazenamento nem
+     * esperar por quem grava.
+     */
+    interface Consolidacao {
+
+        /**
+         * Registros que substituem os consolidados, gravados em um único
+         * commit. Lê apenas o que já foi confirmado.
+         */
+        List<Registro> consolidar();
+
+        /**
+         * Chamado depois de gravados os registros de {@link #consolidar()}.
+         */
+        void consolidada();
+    }
+
+    /**
+     * Registro a gravar; valor nulo remove o registro.
+     */
+    record Registro(byte tipo, UUID id, byte[] valor) {
+
+        Registro {
+            Objects.requireNonNull(id, "id não pode ser nulo");
+        }
+
+        static Registro gravacao(byte tipo, UUID id, byte[] valor) {
+            return new Registro(tipo, id, Objects.requireNonNull(valor, "valor não pode ser nulo"));
+        }
+
+        static Registro remocao(byte tipo, UUID id) {
+            return new Registro(tipo, id, null);
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // Abertura e recuperação
+    // ---------------------------------------------------------------------
+
+    private Segmento recuperar() throws IOException {
+        Segmento ativo = null;
+        for (Path arquivo : listarSegmentos()) {
+            if (ativo == null) {
+                ativo = Segmento.abrir(arquivo, geracao(arquivo));
+                if (ativo != null) {
+                    continue;
+                }
+            }
+            // Segmentos de gerações anteriores já foram compactados; os
+            // posteriores sem cabeçalho válido são compactações interrompidas.
+            // Nenhum deles foi mapeado, então podem ser apagados em qualquer sistema
+            Files.deleteIfExists(arquivo);
+        }
+        if (ativo == null) {
+            ativo = Segmento.criar(arquivoDaGeracao(1), 1, CAPACIDADE_INICIAL);
+            ativo.gravarCabecalho();
+            sincronizarDiretorio();
+            return ativo;
+        }
+        int posicao = TAMANHO_CABECALHO;
+        while (posicao <= ativo.capacidade - TAMANHO_MOLDURA) {
+            int comprimento = ativo.mapa.getInt(posicao);
+            if (comprimento == 0) {
+                break;
+            }
+            if (comprimento < 0 || comprimento > ativo.capacidade - posicao - TAMANHO_MOLDURA
+                    || crc(ativo.mapa, posicao + TAMANHO_MOLDURA, comprimento) != ativo.mapa.getInt(posicao + 4)) {
+                descartarCauda(ativo, posicao);
+                break;
+            }
+            aplicar(ativo, posicao);
+            posicao += TAMANHO_MOLDURA + comprimento;
+        }
+        ativo.fim = posicao;
+        return ativo;
+    }
+
+    /**
+     * Zera o restante do segmento a partir de uma moldura interrompida, para
+     * que restos dela nunca sejam lidos como dados depois das próximas gravações.
+     */
+    private static void descartarCauda(Segmento segmento, int inicio) {
+        byte[] zeros = new byte[64 * 1024];
+        for (int posicao = inicio; posicao < segmento.capacidade; posicao += zeros.length) {
+            segmento.mapa.put(posicao, zeros, 0, Math.min(zeros.length, segmento.capacidade - posicao));
+        }
+        segmento.mapa.force();
+    }
+
+    private List<Path> listarSegmentos() throws IOException {
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            return arquivos
+                    .filter(arquivo -> geracao(arquivo) > 0)
+                    .sorted(Comparator.comparingLong(ArmazemLocal::geracao).reversed())
+                    .toList();
+        }
+    }
+
+    private static long geracao(Path arquivo) {
+        String nome = arquivo.getFileName().toString();
+        if (!nome.startsWith(PREFIXO_SEGMENTO) || !nome.endsWith(EXTENSAO_SEGMENTO)) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(nome.substring(PREFIXO_SEGMENTO.length(), nome.length() - EXTENSAO_SEGMENTO.length()));
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    private Path arquivoDaGeracao(long geracao) {
+        return diretorio.resolve(PREFIXO_SEGMENTO + String.format("%010d", geracao) + EXTENSAO_SEGMENTO);
+    }
+
+    /**
+     * Torna duráveis criação e remoção de arquivos. Nem todo sistema permite
+     * sincronizar diretórios; nesses, vale o que o sistema de arquivos garantir.
+     */
+    private void sincronizarDiretorio() {
+        try (FileChannel canal = FileChannel.open(diretorio, StandardOpenOption.READ)) {
+            canal.force(true);
+        } catch (IOException e) {
+            // Diretório não sincronizável neste sistema
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // Gravação
+    // ---------------------------------------------------------------------
+
+    private boolean inalterado(Registro registro) {
+        Posicao atual = indice.get(new Chave(registro.tipo(), registro.id()));
+        if (registro.valor() == null) {
+            return atual == null;
+        }
+        if (atual == null || atual.cifrado() != cifrador.isAtivo()) {
+            return false;
+        }
+        if (atual.cifrado()) {
+            return CifradorColunas.versao(bruto(atual)) == cifrador.getVersaoAtual()
+                    && Arrays.equals(valor(registro.tipo(), registro.id(), atual), registro.valor());
+        }
+        return atual.tamanho() == registro.valor().length
+                && atual.segmento().mapa.slice(atual.inicio(), atual.tamanho()).equals(ByteBuffer.wrap(registro.valor()));
+    }
+
+    /**
+     * Registro pronto para o segmento: com o cifrador ativo, valor cifrado e
+     * tipo marcado.
+     */
+    private Registro cifrar(Registro registro) {
+        if (registro.valor() == null || !cifrador.isAtivo()) {
+            return registro;
+        }
+        return new Registro((byte) (registro.tipo() | CIFRADO), registro.id(),
+                cifrador.cifrarConteudo(registro.id(), Coluna.REGISTRO_LOCAL, registro.tipo(), registro.valor()));
+    }
+
+    /**
+     * Valor em texto claro do registro na posição.
+     */
+    private byte[] valor(byte tipo, UUID id, Posicao posicao) {
+        byte[] valor = bruto(posicao);
+        return posicao.cifrado() ? cifrador.decifrarConteudo(id, Coluna.REGISTRO_LOCAL, tipo, valor) : valor;
+    }
+
+    private static byte[] bruto(Posicao posicao) {
+        byte[] valor = new byte[posicao.tamanho()];
+        posicao.segmento().mapa.get(posicao.inicio(), valor);
+        return valor;
+    }
+
+    private static byte[] corpo(List<Registro> registros) {
+        long tamanho = 0L;
+        for (Registro registro : registros) {
+            tamanho += TAMANHO_REGISTRO + (registro.valor() == null ? 0 : registro.valor().length);
+        }
+        if (tamanho > CAPACIDADE_MAXIMA - TAMANHO_CABECALHO - TAMANHO_MOLDURA) {
+            throw new IllegalArgumentException("Gravação excede o tamanho máximo do armazenamento local");
+        }
+        ByteBuffer corpo = ByteBuffer.allocate((int) tamanho);
+        for (Registro registro : registros) {
+            corpo.put(registro.tipo());
+            corpo.putLong(registro.id().getMostSignificantBits());
+            corpo.putLong(registro.id().getLeastSignificantBits());
+            if (registro.valor() == null) {
+                corpo.putInt(REMOVIDO);
+            } else {
+                corpo.putInt(registro.valor().length);
+                corpo.put(registro.valor());
+            }
+        }
+        return corpo.array();
+    }
+
+    private Segmento garantirEspaco(int necessario) throws IOException {
+        Segmento atual = segmento;
+        if ((long) atual.fim + necessario > CAPACIDADE_MAXIMA) {
+            compactarSobTrava(false);
+            atual = segmento;
+            if ((long) atual.fim + necessario > CAPACIDADE_MAXIMA) {
+                throw new IllegalStateException("Armazenamento local cheio: " + diretorio);
+            }
+        }
+        if (atual.fim + necessario > atual.capacidade) {
+            atual.redimensionar((int) Math.min(CAPACIDADE_MAXIMA,
+                    Math.max(2L * atual.capacidade, (long) atual.fim + necessario)));
+        }
+        return atual;
+    }
+
+    /**
+     * Escreve a moldura no fim do segmento, sem forçá-la ao disco. O
+     * comprimento vai por último: até ele, a moldura não existe para a leitura.
+     */
+    private static int acrescentar(Segmento segmento, byte[] corpo) {
+        int inicio = segmento.fim;
+        CRC32C crc = new CRC32C();
+        crc.update(corpo);
+        segmento.mapa.put(inicio + TAMANHO_MOLDURA, corpo);
+        segmento.mapa.putInt(inicio + 4, (int) crc.getValue());
+        segmento.mapa.putInt(inicio, corpo.length);
+        segmento.fim = inicio + TAMANHO_MOLDURA + corpo.length;
+        return inicio;
+    }
+
+    /**
+     * Leva ao índice os registros de uma moldura já validada.
+     */
+    private void aplicar(Segmento segmento, int inicioMoldura) {
+        MappedByteBuffer mapa = segmento.mapa;
+        int posicao = inicioMoldura + TAMANHO_MOLDURA;
+        int fim = posicao + mapa.getInt(inicioMoldura);
+        while (posicao < fim) {
+            byte tipo = mapa.get(posicao);
+            Chave chave = new Chave((byte) (tipo & ~CIFRADO), new UUID(mapa.getLong(posicao + 1), mapa.getLong(posicao + 9)));
+            int tamanho = mapa.getInt(posicao + 17);
+            posicao += TAMANHO_REGISTRO;
+            Posicao anterior;
+            if (tamanho == REMOVIDO) {
+                anterior = indice.remove(chave);
+            } else {
+                anterior = indice.put(chave, new Posicao(segmento, posicao, tamanho, (tipo & CIFRADO) != 0));
+                bytesVivos += TAMANHO_REGISTRO + tamanho;
+                if (consolidacoes.containsKey(chave.tipo())) {
+                    bytesConsolidaveis += TAMANHO_REGISTRO + tamanho;
+                }
+                posicao += tamanho;
+            }
+            if (anterior != null) {
+                bytesVivos -= TAMANHO_REGISTRO + anterior.tamanho();
+                if (consolidacoes.containsKey(chave.tipo())) {
+                    bytesConsolidaveis -= TAMANHO_REGISTRO + anterior.tamanho();
+                }
+            }
+        }
+    }
+
+    private static int crc(MappedByteBuffer mapa, int inicio, int comprimento) {
+        CRC32C crc = new CRC32C();
+        crc.update(mapa.slice(inicio, comprimento));
+        return (int) crc.getValue();
+    }
+
+    // ---------------------------------------------------------------------
+    // Compactação
+    // ---------------------------------------------------------------------
+
+    private boolean precisaCompactar() {
+        long recuperaveis = segmento.fim - TAMANHO_CABECALHO - bytesVivos + bytesConsolidaveis;
+        return recuperaveis >= MORTOS_PARA_COMPACTAR && recuperaveis > bytesVivos - bytesConsolidaveis;
+    }
+
+    private void compactarEmSegundoPlano() {
+        escrita.lock();
+        try {
+            if (!fechado && precisaCompactar()) {
+                compactarSobTrava(true);
+            }
+            ultimaFalhaCompactacao = null;
+        } catch (IOException e) {
+            ultimaFalhaCompactacao = new UncheckedIOException("Falha ao compactar o armazenamento local", e);
+        } catch (RuntimeException e) {
+            ultimaFalhaCompactacao = e;
+        } finally {
+            compactacaoAgendada.set(false);
+            escrita.unlock();
+        }
+    }
+
+    /**
+     * Consolida (se pedido) e copia os registros vivos para um segmento novo,
+     * passando a gravar nele. Leituras em andamento continuam válidas sobre o
+     * mapeamento antigo.
+     */
+    private void compactarSobTrava(boolean consolidar) throws IOException {
+        if (consolidar) {
+            consolidar();
+        }
+        Segmento anterior = segmento;
+        long acrescimoCifra = cifrador.isAtivo() ? (long) CifradorColunas.ACRESCIMO * indice.size() : 0L;
+        long necessario = TAMANHO_CABECALHO + bytesVivos + acrescimoCifra
+                + (long) TAMANHO_MOLDURA * ((bytesVivos + acrescimoCifra) / MOLDURA_COMPACTACAO + 1);
+        if (necessario > CAPACIDADE_MAXIMA) {
+            throw new IllegalStateException("Armazenamento local cheio: " + diretorio);
+        }
+        int capacidade = (int) Math.min(CAPACIDADE_MAXIMA, Math.max(CAPACIDADE_INICIAL, 2 * necessario));
+        long geracao = anterior.geracao + 1;
+        Segmento novo = Segmento.criar(arquivoDaGeracao(geracao), geracao, capacidade);
+        List<Integer> molduras = new ArrayList<>();
+        try {
+            List<Registro> lote = new ArrayList<>();
+            long tamanhoLote = 0L;
+            for (Map.Entry<Chave, Posicao> entrada : indice.entrySet()) {
+                Registro copia = copia(entrada.getKey(), entrada.getValue());
+                lote.add(copia);
+                tamanhoLote += TAMANHO_REGISTRO + copia.valor().length;
+                if (tamanhoLote >= MOLDURA_COMPACTACAO) {
+                    molduras.add(acrescentar(novo, corpo(lote)));
+                    lote.clear();
+                    tamanhoLote = 0L;
+                }
+            }
+            if (!lote.isEmpty()) {
+                molduras.add(acrescentar(novo, corpo(lote)));
+            }
+            novo.mapa.force();
+            novo.gravarCabecalho();
+            sincronizarDiretorio();
+        } catch (RuntimeException e) {
+            novo.canal.close();
+            try {
+                Files.deleteIfExists(novo.arquivo);
+            } catch (IOException falhaRemocao) {
+                // Ainda mapeado em alguns sistemas: sem cabeçalho, é removido na próxima abertura
+                e.addSuppressed(falhaRemocao);
+            }
+            throw e;
+        }
+
+        // Nenhuma gravação ocorre sob a trava: cada chave é substituída pela
+        // sua cópia, e aplicar ajusta bytesVivos quando a cifragem muda o tamanho
+        for (int inicio : molduras) {
+            aplicar(novo, inicio);
+        }
+        segmento = novo;
+        anterior.canal.close();
+        try {
+            Files.deleteIfExists(anterior.arquivo);
+            sincronizarDiretorio();
+        } catch (IOException e) {
+            // Ainda mapeado em alguns sistemas: removido na próxima abertura
+        }
+    }
+
+    /**
+     * Grava, em um commit no segmento atual, o que as consolidações
+     * registradas devolverem. As leituras feitas por elas não veem gravações
+     * pendentes da thread, que pode estar compactando dentro de uma transação.
+     */
+    private void consolidar() throws IOException {
+        if (consolidacoes.isEmpty()) {
+            return;
+        }
+        Transacao suspensa = transacaoDaThread.get();
+        transacaoDaThread.remove();
+        try {
+            for (Consolidacao consolidacao : consolidacoes.values()) {
+                List<Registro> registros = consolidacao.consolidar();
+                List<Registro> alterados = new ArrayList<>(registros.size());
+                for (Registro registro : registros) {
+                    if (!inalterado(registro)) {
+                        alterados.add(cifrar(registro));
+                    }
+                }
+                if (!alterados.isEmpty()) {
+                    byte[] corpo = corpo(alterados);
+                    Segmento atual = segmento;
+                    if ((long) atual.fim + TAMANHO_MOLDURA + corpo.length > CAPACIDADE_MAXIMA) {
+                        // Sem espaço para o commit: a cópia segue sem consolidar
+                        continue;
+                    }
+                    atual = garantirEspaco(TAMANHO_MOLDURA + corpo.length);
+                    int inicio = acrescentar(atual, corpo);
+                    atual.mapa.force(inicio, TAMANHO_MOLDURA + corpo.length);
+                    aplicar(atual, inicio);
+                }
+                consolidacao.consolidada();
+            }
+        } finally {
+            if (suspensa != null) {
+                transacaoDaThread.set(suspensa);
+            }
+        }
+    }
+
+    /**
+     * Cópia do registro para o novo segmento: cifrada com a versão atual da
+     * chave se estiver em texto claro ou cifrada com outra versão.
+     */
+    private Registro copia(Chave chave, Posicao posicao) {
+        byte[] valor = bruto(posicao);
+        boolean recifrar = cifrador.isAtivo()
+                && (!posicao.cifrado() || CifradorColunas.versao(valor) != cifrador.getVersaoAtual());
+        if (recifrar) {
+            return cifrar(Registro.gravacao(chave.tipo(), chave.id(), valor(chave.tipo(), chave.id(), posicao)));
+        }
+        byte tipo = posicao.cifrado() ? (byte) (chave.tipo() | CIFRADO) : chave.tipo();
+        return Registro.gravacao(tipo, chave.id(), valor);
+    }
+
+    private void encerrar(Transacao transacao) {
+        if (transacao.encerrada) {
+            throw new IllegalStateException("Transação local já encerrada");
+        }
+        transacao.encerrada = true;
+        if (transacaoDaThread.get() == transacao) {
+            transacaoDaThread.remove();
+        }
+    }
+
+    private void garantirAberto() {
+        if (fechado) {
+            throw new IllegalStateException("Armazenamento local fechado");
+        }
+    }
+
+    private record Chave(byte tipo, UUID id) {
+    }
+
+    private record Posicao(Segmento segmento, int inicio, int tamanho, boolean cifrado) {
+    }
+
+    /**
+     * Arquivo de segmento mapeado. O mapeamento é trocado ao crescer; o
+     * anterior continua válido para leituras em andamento.
+     */
+    private static final class Segmento {
+
+        final Path arquivo;
+        final long geracao;
+        final FileChannel canal;
+        volatile MappedByteBuffer mapa;
+        int capacidade;
+        int fim;
+
+        private Segmento(Path arquivo, long geracao, FileChannel canal, int capacidade) throws IOException {
+            this.arquivo = arquivo;
+            this.geracao = geracao;
+            this.canal = canal;
+            this.capacidade = capacidade;
+            this.mapa = canal.map(FileChannel.MapMode.READ_WRITE, 0, capacidade);
+            this.fim = TAMANHO_CABECALHO;
+        }
+
+        /**
+         * Segmento vazio, ainda sem cabeçalho: só é reconhecido na abertura
+         * depois de {@link #gravarCabecalho()}.
+         */
+        static Segmento criar(Path arquivo, long geracao, int capacidade) throws IOException {
+            FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            try {
+                return new Segmento(arquivo, geracao, canal, capacidade);
+            } catch (IOException | RuntimeException e) {
+                canal.close();
+                throw e;
+            }
+        }
+
+        /**
+         * Segmento existente, ou nulo se o cabeçalho não for válido.
+         */
+        static Segmento abrir(Path arquivo, long geracao) throws IOException {
+            FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            try {
+                long tamanho = canal.size();
+                if (tamanho < TAMANHO_CABECALHO) {
+                    canal.close();
+                    return null;
+                }
+                if (tamanho > CAPACIDADE_MAXIMA) {
+                    throw new IllegalStateException("Segmento local maior que o suportado: " + arquivo);
+                }
+                // O cabeçalho é lido antes de mapear: um segmento inválido é
+                // apagado em seguida, e no Windows um arquivo mapeado não pode sê-lo
+                ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO);
+                while (cabecalho.hasRemaining()) {
+                    if (canal.read(cabecalho, cabecalho.position()) < 0) {
+                        break;
+                    }
+                }
+                if (cabecalho.getInt(0) != MAGICO
+                        || cabecalho.getInt(4) != VERSAO_FORMATO
+                        || cabecalho.getLong(8) != geracao) {
+                    canal.close();
+                    return null;
+                }
+                return new Segmento(arquivo, geracao, canal, (int) tamanho);
+            } catch (IOException | RuntimeException e) {
+                canal.close();
+                throw e;
+            }
+        }
+
+        void gravarCabecalho() {
+            mapa.putLong(8, geracao);
+            mapa.putInt(4, VERSAO_FORMATO);
+            mapa.putInt(0, MAGICO);
+            mapa.force(0, TAMANHO_CABECALHO);
+        }
+
+        void redimensionar(int novaCapacidade) throws IOException {
+            mapa = canal.map(FileChannel.MapMode.READ_WRITE, 0, novaCapacidade);
+            capacidade = novaCapacidade;
+        }
+    }
+}
@@ -0,0 +1,536 @@
+package com.financecore.infrastructure.persistence.local;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import com.financecore.domain.model.entity.Categoria;
+import com.financecore.domain.model.entity.Despesa;
+import com.financecore.domain.model.entity.DivergenciaSaldo;
+import com.financecore.domain.model.entity.HistoricoFinanceiro;
+import com.financecore.domain.model.entity.HistoricoFinanceiro.TotalCategoria;
+import com.financecore.domain.model.entity.MesFinanceiro;
+import com.financecore.domain.model.entity.MesFinanceiroStatus;
+import com.financecore.domain.model.entity.Parcela;
+import com.financecore.domain.model.entity.ParcelaStatus;
+import com.financecore.domain.model.entity.Parcelamento;
+import com.financecore.domain.model.entity.PreferenciasSistema;
+import com.financecore.domain.model.entity.ProgressoFechamentoLote;
+import com.financecore.domain.model.entity.RegraClassificacao;
+import com.financecore.domain.model.entity.TemaVisual;
+import com.financecore.domain.model.entity.TipoDivergencia;
+import com.financecore.domain.model.entity.Usuario;
+import com.financecore.domain.model.valueobject.Dinheiro;
+import com.financecore.domain.model.valueobject.Periodo;
+
+/**
+ * Formato binário dos valores do armazenamento local.
+ *
+ * Cada valor começa pela versão do formato. Valores vão em centavos e enums
+ * pelo nome, como no diário de MêsFinanceiro. O mês é gravado como um resumo
+ * de tamanho conhecido (usuário, período, status, instante da gravação e
+ * categorias das despesas), lido na abertura sem decodificar o mês; o
+ * conteúdo fica em registros próprios, um snapshot e os eventos do diário
+ * posteriores a ele, cada um com a sua sequência. Resumos gravados antes
+ * disso trazem o snapshot logo depois, valendo como sequência zero.
+ */
+final class CodificadorLocal {
+
+    private static final byte VERSAO = 1;
+
+    private static final byte STATUS_ABERTO = 1;
+    private static final byte STATUS_FECHADO = 2;
+
+    // versão, usuário, índice do período, status, instante (segundos e nanos), categorias
+    private static final int TAMANHO_RESUMO = 1 + 16 + 4 + 1 + 8 + 4 + 4;
+
+    // versão, mês, sequência e tipo do evento
+    private static final int TAMANHO_CABECALHO_EVENTO = 1 + 16 + 8 + 2;
+
+    private CodificadorLocal() {
+        // Classe utilitária, não instanciável
+    }
+
+    /**
+     * Dados de um mês mantidos em memória para consultas sem leitura do arquivo.
+     */
+    record ResumoMes(UUID id,
+                     UUID usuarioId,
+                     int indicePeriodo,
+                     MesFinanceiroStatus status,
+                     LocalDateTime gravadoEm,
+                     UUID[] categorias) {
+
+        static ResumoMes de(MesFinanceiro mes, LocalDateTime gravadoEm) {
+            Set<UUID> categorias = new LinkedHashSet<>();
+            for (Despesa despesa : mes.getDespesas()) {
+                categorias.add(despesa.getCategoria().getId());
+            }
+            return new ResumoMes(mes.getId(), mes.getUsuarioId(), Periodo.indice(mes.getMes(), mes.getAno()),
+                    mes.getStatus(), gravadoEm, categorias.toArray(UUID[]::new));
+        }
+    }
+
+    static byte[] codificarMes(ResumoMes resumo, byte[] snapshot) {
+        ByteBuffer valor = ByteBuffer.allocate(TAMANHO_RESUMO + 16 * resumo.categorias().length + snapshot.length);
+        valor.put(VERSAO);
+        valor.putLong(resumo.usuarioId().getMostSignificantBits());
+        valor.putLong(resumo.usuarioId().getLeastSignificantBits());
+        valor.putInt(resumo.indicePeriodo());
+        valor.put(resumo.status() == MesFinanceiroStatus.ABERTO ? STATUS_ABERTO : STATUS_FECHADO);
+        valor.putLong(resumo.gravadoEm().toEpochSecond(ZoneOffset.UTC));
+        valor.putInt(resumo.gravadoEm().getNano());
+        valor.putInt(resumo.categorias().length);
+        for (UUID categoria : resumo.categorias()) {
+            valor.putLong(categoria.getMostSignificantBits());
+            valor.putLong(categoria.getLeastSignificantBits());
+        }
+        valor.put(snapshot);
+        return valor.array();
+    }
+
+    /**
+     * Resumo do mês sem snapshot embutido.
+     */
+    static byte[] codificarMes(ResumoMes resumo) {
+        return codificarMes(resumo, new byte[0]);
+    }
+
+    static ResumoMes lerResumoMes(UUID id, ByteBuffer valor) {
+        verificarVersao(valor.get(0));
+        UUID usuarioId = new UUID(valor.getLong(1), valor.getLong(9));
+        int indicePeriodo = valor.getInt(17);
+        MesFinanceiroStatus status = switch (valor.get(21)) {
+            case STATUS_ABERTO -> MesFinanceiroStatus.ABERTO;
+            case STATUS_FECHADO -> MesFinanceiroStatus.FECHADO;
+            default -> throw new IllegalStateException("Status de mês desconhecido: " + valor.get(21));
+        };
+        LocalDateTime gravadoEm = LocalDateTime.ofEpochSecond(valor.getLong(22), valor.getInt(30), ZoneOffset.UTC);
+        UUID[] categorias = new UUID[valor.getInt(34)];
+        for (int i = 0; i < categorias.length; i++) {
+            int posicao = TAMANHO_RESUMO + 16 * i;
+            categorias[i] = new UUID(valor.getLong(posicao), valor.getLong(posicao + 8));
+        }
+        return new ResumoMes(id, usuarioId, indicePeriodo, status, gravadoEm, categorias);
+    }
+
+    /**
+     * Posição em que começa o snapshot do diário dentro do valor do mês; igual
+     * ao tamanho do valor se não houver snapshot embutido.
+     */
+    static int inicioSnapshot(byte[] valor) {
+        return TAMANHO_RESUMO + 16 * ByteBuffer.wrap(valor).getInt(34);
+    }
+
+    /**
+     * Evento do diário de um mês, com os dados de CodificadorEventosMesFinanceiro.
+     */
+    static byte[] codificarEventoMes(UUID mesId, long sequencia, short tipo, byte[] dados) {
+        ByteBuffer valor = ByteBuffer.allocate(TAMANHO_CABECALHO_EVENTO + dados.length);
+        valor.put(VERSAO);
+        valor.putLong(mesId.getMostSignificantBits());
+        valor.putLong(mesId.getLeastSignificantBits());
+        valor.putLong(sequencia);
+        valor.putShort(tipo);
+        valor.put(dados);
+        return valor.array();
+    }
+
+    static UUID lerMesDoEvento(ByteBuffer valor) {
+        verificarVersao(valor.get(0));
+        return new UUID(valor.getLong(1), valor.getLong(9));
+    }
+
+    static long lerSequenciaDoEvento(ByteBuffer valor) {
+        return valor.getLong(17);
+    }
+
+    static short lerTipoDoEvento(byte[] valor) {
+        return ByteBuffer.wrap(valor).getShort(25);
+    }
+
+    static byte[] lerDadosDoEvento(byte[] valor) {
+        return Arrays.copyOfRange(valor, TAMANHO_CABECALHO_EVENTO, valor.length);
+    }
+
+    /**
+     * Snapshot de um mês, que já inclui os eventos até a sequência.
+     */
+    static byte[] codificarSnapshotMes(long sequencia, byte[] snapshot) {
+        ByteBuffer valor = ByteBuffer.allocate(1 + 8 + snapshot.length);
+        valor.put(VERSAO);
+        valor.putLong(sequencia);
+        valor.put(snapshot);
+        return valor.array();
+    }
+
+    static long lerSequenciaDoSnapshot(ByteBuffer valor) {
+        verificarVersao(valor.get(0));
+        return valor.getLong(1);
+    }
+
+    static byte[] lerDadosDoSnapshot(byte[] valor) {
+        return Arrays.copyOfRange(valor, 1 + 8, valor.length);
+    }
+
+    static byte[] codificarUsuario(Usuario usuario) {
+        return escrever(out -> {
+            out.writeByte(VERSAO);
+            out.writeUTF(usuario.getNome());
+            out.writeLong(usuario.getDataCriacao().toLocalDate().toEpochDay());
+            out.writeLong(usuario.getDataCriacao().toLocalTime().toNanoOfDay());
+            PreferenciasSistema preferencias = usuario.getPreferencias();
+            out.writeUTF(preferencias.getTema().name());
+            out.writeUTF(preferencias.getIdioma());
+            out.writeBoolean(preferencias.isNotificacoesAtivas());
+        });
+    }
+
+    /**
+     * Usuário sem meses; eles vêm do repositório de MêsFinanceiro.
+     */
+    static Usuario lerUsuario(UUID id, byte[] valor, List<MesFinanceiro> meses) {
+        return ler(valor, in -> {
+            verificarVersao(in.readByte());
+            String nome = in.readUTF();
+            LocalDateTime dataCriacao = LocalDateTime.of(
+                    LocalDate.ofEpochDay(in.readLong()), LocalTime.ofNanoOfDay(in.readLong()));
+            PreferenciasSistema preferencias = new PreferenciasSistema(
+                    TemaVisual.valueOf(in.readUTF()), in.readUTF(), in.readBoolean());
+            return new Usuario(id, nome, dataCriacao, preferencias, meses);
+        });
+    }
+
+    static byte[] codificarCategoria(Categoria categoria) {
+        return escrever(out -> {
+            out.writeByte(VERSAO);
+            out.writeUTF(categoria.getNome());
+            out.writeBoolean(categoria.isEssencial());
+        });
+    }
+
+    static Categoria lerCategoria(UUID id, byte[] valor) {
+        return ler(valor, in -> {
+            verificarVersao(in.readByte());
+            return new Categoria(id, in.readUTF(), in.readBoolean());
+        });
+    }
+
+    static byte[] codificarParcelamento(Parcelamento parcelamento) {
+        return escrever(out -> {
+            out.writeByte(VERSAO);
+            escreverUuid(out, parcelamento.getDespesaId());
+            out.writeLong(parcelamento.getValorTotal().getCentavos());
+            out.writeInt(parcelamento.getNumeroParcelas());
+            out.writeInt(parcelamento.getParcelas().size());
+            for (Parcela parcela : parcelamento.getParcelas()) {
+                escreverUuid(out, parcela.getId());
+                escreverUuid(out, parcela.getMesFinanceiroId());
+                out.writeInt(parcela.getNumero());
+                out.writeLong(parcela.getValor().getCentavos());
+                out.writeUTF(parcela.getStatus().name());
+            }
+        });
+    }
+
+    /**
+     * Despesa do parcelamento, lida sem decodificar as parcelas.
+     */
+    static UUID lerDespesaDoParcelamento(ByteBuffer valor) {
+        verificarVersao(valor.get(0));
+        return new UUID(valor.getLong(1), valor.getLong(9));
+    }
+
+    static Parcelamento lerParcelamento(UUID id, byte[] valor) {
+        return ler(valor, in -> {
+            verificarVersao(in.readByte());
+            UUID despesaId = lerUuid(in);
+            Dinheiro valorTotal = Dinheiro.deCentavos(in.readLong());
+            int numeroParcelas = in.readInt();
+            int quantidade = in.readInt();
+            List<Parcela> parcelas = new ArrayList<>(quantidade);
+            for (int i = 0; i < quantidade; i++) {
+                parcelas.add(new Parcela(
+                        lerUuid(in),
+                        id,
+                        lerUuid(in),
+                        in.readInt(),
+                        Dinheiro.deCentavos(in.readLong()),
+                        ParcelaStatus.valueOf(in.readUTF())
+                ));
+            }
+            return new Parcelamento(id, despesaId, valorTotal, numeroParcelas, parcelas);
+        });
+    }
+
+    static byte[] codificarHistorico(HistoricoFinanceiro historico) {
+        return escrever(out -> {
+            out.writeByte(VERSAO);
+            escreverUuid(out, historico.getUsuarioId());
+            out.writeInt(historico.getPeriodo().indice());
+            escreverUuid(out, historico.getId());
+            for (Dinheiro valor : List.of(
+                    historico.getSaldoInicial(), historico.getSaldoFinal(),
+                    historico.getTotalReceitas(), historico.getTotalDespesas(), historico.getTotalParcelas(),
+                    historico.getReceitasFixas(), historico.getReceitasVariaveis(),
+                    historico.getDespesasPontuais(), historico.getDespesasFixas(), historico.getDespesasParceladas(),
+                    historico.getDespesasEssenciais(), historico.getDespesasNaoEssenciais())) {
+                out.writeLong(valor.getCentavos());
+            }
+            escreverInstante(out, historico.getDataGeracao());
+            out.writeInt(historico.getDespesasPorCategoria().size());
+            for (TotalCategoria total : historico.getDespesasPorCategoria()) {
+                escreverUuid(out, total.categoriaId());
+                out.writeUTF(total.nome());
+                out.writeBoolean(total.essencial());
+                out.writeLong(total.total().getCentavos());
+            }
+        });
+    }
+
+    /**
+     * Usuário da consolidação, lido sem decodificar o restante.
+     */
+    static UUID lerUsuarioDoHistorico(ByteBuffer valor) {
+        verificarVersao(valor.get(0));
+        return new UUID(valor.getLong(1), valor.getLong(9));
+    }
+
+    static int lerIndicePeriodoDoHistorico(ByteBuffer valor) {
+        return valor.getInt(17);
+    }
+
+    static HistoricoFinanceiro lerHistorico(UUID mesFinanceiroId, byte[] valor) {
+        return ler(valor, in -> {
+            verificarVersao(in.readByte());
+            UUID usuarioId = lerUuid(in);
+            Periodo periodo = Periodo.deIndice(in.readInt());
+            UUID id = lerUuid(in);
+            Dinheiro[] valores = new Dinheiro[12];
+            for (int i = 0; i < valores.length; i++) {
+                valores[i] = Dinheiro.deCentavos(in.readLong());
+            }
+            LocalDateTime dataGeracao = lerInstante(in);
+            int quantidade = in.readInt();
+            List<TotalCategoria> categorias = new ArrayList<>(quantidade);
+            for (int i = 0; i < quantidade; i++) {
+                categorias.add(new TotalCategoria(lerUuid(in), in.readUTF(), in.readBoolean(),
+                        Dinheiro.deCentavos(in.readLong())));
+            }
+            return new HistoricoFinanceiro(id, usuarioId, mesFinanceiroId, periodo,
+                    valores[0], valores[1], valores[2], valores[3], valores[4], valores[5], valores[6],
+                    valores[7], valores[8], valores[9], valores[10], valores[11], categorias, dataGeracao);
+        });
+    }
+
+    static byte[] codificarInstante(LocalDateTime instante) {
+        return escrever(out -> {
+            out.writeByte(VERSAO);
+            escreverInstante(out, instante);
+        });
+    }
+
+    static LocalDateTime lerInstante(byte[] valor) {
+        return ler(valor, in -> {
+            verificarVersao(in.readByte());
+            return lerInstante(in);
+        });
+    }
+
+    static byte[] codificarDivergencia(DivergenciaSaldo divergencia) {
+        return escrever(out -> {
+            out.writeByte(VERSAO);
+            escreverUuid(out, divergencia.usuarioId());
+            escreverUuid(out, divergencia.mesFinanceiroId());
+            out.writeInt(divergencia.periodo().indice());
+            out.writeUTF(divergencia.tipo().name());
+            out.writeLong(divergencia.esperado().getCentavos());
+            out.writeLong(divergencia.encontrado().getCentavos());
+            out.writeInt(divergencia.lancamentosSuspeitos().size());
+            for (UUID lancamento : divergencia.lancamentosSuspeitos()) {
+                escreverUuid(out, lancamento);
+            }
+        });
+    }
+
+    static DivergenciaSaldo lerDivergencia(byte[] valor) {
+        return ler(valor, in -> {
+            verificarVersao(in.readByte());
+            UUID usuarioId = lerUuid(in);
+            UUID mesFinanceiroId = lerUuid(in);
+            Periodo periodo = Periodo.deIndice(in.readInt());
+            TipoDivergencia tipo = TipoDivergencia.valueOf(in.readUTF());
+            Dinheiro esperado = Dinheiro.deCentavos(in.readLong());
+            Dinheiro encontrado = Dinheiro.deCentavos(in.readLong());
+            int quantidade = in.readInt();
+            List<UUID> suspeitos = new ArrayList<>(quantidade);
+            for (int i = 0; i < quantidade; i++) {
+                suspeitos.add(lerUuid(in));
+            }
+            return new DivergenciaSaldo(usuarioId, mesFinanceiroId, periodo, tipo, esperado, encontrado, suspeitos);
+        });
+    }
+
+    static byte[] codificarProgressoLote(ProgressoFechamentoLote progresso) {
+        return escrever(out -> {
+            out.writeByte(VERSAO);
+            out.writeInt(progresso.periodo().indice());
+            escreverUuidOpcional(out, progresso.ultimoMesId());
+            out.writeLong(progresso.fechados());
+            out.writeLong(progresso.falhas());
+            out.writeBoolean(progresso.concluido());
+        });
+    }
+
+    static ProgressoFechamentoLote lerProgressoLote(byte[] valor) {
+        return ler(valor, in -> {
+            verificarVersao(in.readByte());
+            return new ProgressoFechamentoLote(
+                    Periodo.deIndice(in.readInt()),
+                    lerUuidOpcional(in),
+                    in.readLong(),
+                    in.readLong(),
+                    in.readBoolean());
+        });
+    }
+
+    /**
+     * Regra de classificação como gravada: a categoria vai pelo id e é
+     * resolvida na leitura, como no JOIN do modo relacional; criadaEm dá a
+     * ordem de cadastro.
+     */
+    record RegraGravada(UUID id,
+                        UUID usuarioId,
+                        String palavraChave,
+                        String metodoPagamento,
+                        UUID categoriaId,
+                        int prioridade,
+                        LocalDateTime criadaEm) {
+
+        static RegraGravada de(RegraClassificacao regra, LocalDateTime criadaEm) {
+            return new RegraGravada(regra.getId(), regra.getUsuarioId(), regra.getPalavraChave(),
+                    regra.getMetodoPagamento(), regra.getCategoria().getId(), regra.getPrioridade(), criadaEm);
+        }
+
+        RegraClassificacao paraRegra(Categoria categoria) {
+            return new RegraClassificacao(id, usuarioId, palavraChave, metodoPagamento, categoria, prioridade);
+        }
+    }
+
+    static byte[] codificarRegra(RegraGravada regra) {
+        return escrever(out -> {
+            out.writeByte(VERSAO);
+            escreverUuid(out, regra.usuarioId());
+            escreverTextoOpcional(out, regra.palavraChave());
+            escreverTextoOpcional(out, regra.metodoPagamento());
+            escreverUuid(out, regra.categoriaId());
+            out.writeInt(regra.prioridade());
+            escreverInstante(out, regra.criadaEm());
+        });
+    }
+
+    static RegraGravada lerRegra(UUID id, byte[] valor) {
+        return ler(valor, in -> {
+            verificarVersao(in.readByte());
+            return new RegraGravada(id, lerUuid(in), lerTextoOpcional(in), lerTextoOpcional(in),
+                    lerUuid(in), in.readInt(), lerInstante(in));
+        });
+    }
+
+    /**
+     * Cópia do valor entregue por {@link ArmazemLocal#percorrer}.
+     */
+    static byte[] bytes(ByteBuffer valor) {
+        byte[] bytes = new byte[valor.remaining()];
+        valor.duplicate().get(bytes);
+        return bytes;
+    }
+
+    private static void verificarVersao(byte versao) {
+        if (versao != VERSAO) {
+            throw new IllegalStateException("Versão de registro local desconhecida: " + versao);
+        }
+    }
+
+    private static void escreverUuid(DataOutputStream out, UUID uuid) throws IOException {
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID lerUuid(DataInputStream in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+
+    private static void escreverUuidOpcional(DataOutputStream out, UUID uuid) throws IOException {
+        out.writeBoolean(uuid != null);
+        if (uuid != null) {
+            escreverUuid(out, uuid);
+        }
+    }
+
+    private static UUID lerUuidOpcional(DataInputStream in) throws IOException {
+        return in.readBoolean() ? lerUuid(in) : null;
+    }
+
+    private static void escreverTextoOpcional(DataOutputStream out, String texto) throws IOException {
+        out.writeBoolean(texto != null);
+        if (texto != null) {
+            out.writeUTF(texto);
+        }
+    }
+
+    private static String lerTextoOpcional(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void escreverInstante(DataOutputStream out, LocalDateTime instante) throws IOException {
+        out.writeLong(instante.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(instante.getNano());
+    }
+
+    private static LocalDateTime lerInstante(DataInputStream in) throws IOException {
+        return LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+    }
+
+    private static byte[] escrever(Escrita escrita) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            escrita.escrever(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static <T> T ler(byte[] dados, Leitura<T> leitura) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(dados))) {
+            return leitura.ler(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Registro local corrompido", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Escrita {
+        void escrever(DataOutputStream out) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface Leitura<T> {
+        T ler(DataInputStream in) throws IOException;
+    }
+}
@@ -0,0 +1,90 @@
+package com.financecore.infrastructure.persistence.local;
+
+import java.util.Objects;
+
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.SmartTransactionObject;
+
+import com.financecore.infrastructure.persistence.local.ArmazemLocal.Transacao;
+
+/**
+ * Gerenciador de transações do modo local, no lugar do
+ * DataSourceTransactionManager.
+ *
+ * Uma transação dos casos de uso é uma transação do ArmazemLocal: as
+ * gravações dos repositórios ficam pendentes e vão ao disco em um único
+ * commit, ou são descartadas no rollback junto com as alterações dos índices
+ * em memória. Um fechamento que falha depois de gravar o mês, por exemplo,
+ * não deixa o mês FECHADO sem o histórico.
+ *
+ * Só há uma transação por thread: transações aninhadas participam da
+ * externa, e um rollback nelas marca a externa para ser desfeita.
+ */
+public class GerenciadorTransacoesLocal extends AbstractPlatformTransactionManager {
+
+    private final ArmazemLocal armazem;
+
+    public GerenciadorTransacoesLocal(ArmazemLocal armazem) {
+        this.armazem = Objects.requireNonNull(armazem, "armazem não pode ser nulo");
+    }
+
+    @Override
+    protected Object doGetTransaction() {
+        return new ObjetoTransacao(armazem.transacaoAtual());
+    }
+
+    @Override
+    protected boolean isExistingTransaction(Object transacao) {
+        return ((ObjetoTransacao) transacao).atual != null;
+    }
+
+    @Override
+    protected void doBegin(Object transacao, TransactionDefinition definicao) {
+        ((ObjetoTransacao) transacao).atual = armazem.iniciarTransacao();
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+        armazem.confirmar(((ObjetoTransacao) status.getTransaction()).atual);
+    }
+
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {
+        armazem.desfazer(((ObjetoTransacao) status.getTransaction()).atual);
+    }
+
+    @Override
+    protected void doSetRollbackOnly(DefaultTransactionStatus status) {
+        ((ObjetoTransacao) status.getTransaction()).atual.marcarSomenteDesfazer();
+    }
+
+    @Override
+    protected void doCleanupAfterCompletion(Object transacao) {
+        // Um commit que falhou sem rollback não deixa gravações pendentes na thread
+        Transacao atual = ((ObjetoTransacao) transacao).atual;
+        if (atual != null && armazem.transacaoAtual() == atual) {
+            armazem.desfazer(atual);
+        }
+    }
+
+    private static final class ObjetoTransacao implements SmartTransactionObject {
+
+        private Transacao atual;
+
+        private ObjetoTransacao(Transacao atual) {
+            this.atual = atual;
+        }
+
+        @Override
+        public boolean isRollbackOnly() {
+            return atual != null && atual.isSomenteDesfazer();
+        }
+
+        @Override
+        public void flush() {
+            // As gravações pendentes só vão ao disco no commit
+        }
+    }
+}
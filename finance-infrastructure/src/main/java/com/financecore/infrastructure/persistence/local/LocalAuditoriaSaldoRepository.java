@@ -0,0 +1,77 @@
+package com.financecore.infrastructure.persistence.local;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.financecore.domain.model.entity.DivergenciaSaldo;
+import com.financecore.domain.model.repository.AuditoriaSaldoRepository;
+import com.financecore.infrastructure.persistence.local.ArmazemLocal.Registro;
+
+/**
+ * Repositório de auditoria de saldos sobre o armazenamento local.
+ *
+ * O ponto de retomada é um registro por usuário e cada divergência um
+ * registro próprio; uma auditoria grava os dois em um único commit. Os
+ * usuários pendentes saem dos resumos em memória do repositório de meses.
+ */
+public class LocalAuditoriaSaldoRepository implements AuditoriaSaldoRepository {
+
+    private final ArmazemLocal armazem;
+    private final LocalMesFinanceiroRepository mesFinanceiroRepository;
+
+    public LocalAuditoriaSaldoRepository(ArmazemLocal armazem, LocalMesFinanceiroRepository mesFinanceiroRepository) {
+        this.armazem = Objects.requireNonNull(armazem, "armazem não pode ser nulo");
+        this.mesFinanceiroRepository = Objects.requireNonNull(
+                mesFinanceiroRepository, "mesFinanceiroRepository não pode ser nulo");
+    }
+
+    @Override
+    public Optional<LocalDateTime> buscarUltimaAuditoria(UUID usuarioId) {
+        Objects.requireNonNull(usuarioId, "usuarioId não pode ser nulo");
+        byte[] valor = armazem.ler(ArmazemLocal.AUDITORIA, usuarioId);
+        return valor == null ? Optional.empty() : Optional.of(CodificadorLocal.lerInstante(valor));
+    }
+
+    @Override
+    public void registrarAuditoria(UUID usuarioId, LocalDateTime iniciadaEm, List<DivergenciaSaldo> divergencias) {
+        Objects.requireNonNull(usuarioId, "usuarioId não pode ser nulo");
+        Objects.requireNonNull(iniciadaEm, "iniciadaEm não pode ser nulo");
+        List<Registro> registros = divergencias(divergencias);
+        registros.add(Registro.gravacao(ArmazemLocal.AUDITORIA, usuarioId, CodificadorLocal.codificarInstante(iniciadaEm)));
+        armazem.gravar(registros);
+    }
+
+    @Override
+    public void registrarDivergencias(List<DivergenciaSaldo> divergencias) {
+        List<Registro> registros = divergencias(divergencias);
+        if (!registros.isEmpty()) {
+            armazem.gravar(registros);
+        }
+    }
+
+    @Override
+    public List<UUID> listarUsuariosPendentes() {
+        List<UUID> pendentes = new ArrayList<>();
+        for (UUID usuarioId : mesFinanceiroRepository.listarUsuariosComMeses()) {
+            LocalDateTime auditadoEm = buscarUltimaAuditoria(usuarioId).orElse(null);
+            if (mesFinanceiroRepository.possuiMesGravadoApos(usuarioId, auditadoEm)) {
+                pendentes.add(usuarioId);
+            }
+        }
+        return pendentes;
+    }
+
+    private static List<Registro> divergencias(List<DivergenciaSaldo> divergencias) {
+        Objects.requireNonNull(divergencias, "divergencias não pode ser nula");
+        List<Registro> registros = new ArrayList<>(divergencias.size() + 1);
+        for (DivergenciaSaldo divergencia : divergencias) {
+            registros.add(Registro.gravacao(ArmazemLocal.DIVERGENCIA, UUID.randomUUID(),
+                    CodificadorLocal.codificarDivergencia(divergencia)));
+        }
+        return registros;
+    }
+}
@@ -0,0 +1,108 @@
+package com.financecore.infrastructure.persistence.local;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.financecore.domain.model.entity.Categoria;
+import com.financecore.domain.model.exception.DomainException;
+import com.financecore.domain.model.repository.CategoriaRepository;
+import com.financecore.infrastructure.persistence.local.ArmazemLocal.Registro;
+
+/**
+ * Repositório de Categoria sobre o armazenamento local.
+ *
+ * Categorias são poucas e imutáveis: todas ficam em memória, por id e pelo
+ * nome normalizado ({@link Categoria#normalizarNome}), e as instâncias são
+ * compartilhadas, como no cache do modo relacional. O arquivo só é lido na
+ * abertura.
+ */
+public class LocalCategoriaRepository implements CategoriaRepository {
+
+    private final ArmazemLocal armazem;
+    private final LocalMesFinanceiroRepository mesFinanceiroRepository;
+
+    private final ConcurrentHashMap<UUID, Categoria> porId = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, UUID> porNome = new ConcurrentHashMap<>();
+
+    public LocalCategoriaRepository(ArmazemLocal armazem, LocalMesFinanceiroRepository mesFinanceiroRepository) {
+        this.armazem = Objects.requireNonNull(armazem, "armazem não pode ser nulo");
+        this.mesFinanceiroRepository = Objects.requireNonNull(
+                mesFinanceiroRepository, "mesFinanceiroRepository não pode ser nulo");
+        armazem.percorrer(ArmazemLocal.CATEGORIA, (id, valor) -> {
+            byte[] bytes = new byte[valor.remaining()];
+            valor.get(bytes);
+            indexar(CodificadorLocal.lerCategoria(id, bytes));
+        });
+    }
+
+    @Override
+    public synchronized Categoria salvar(Categoria categoria) {
+        Objects.requireNonNull(categoria, "categoria não pode ser nula");
+        armazem.gravar(List.of(Registro.gravacao(
+                ArmazemLocal.CATEGORIA, categoria.getId(), CodificadorLocal.codificarCategoria(categoria))));
+        armazem.aoDesfazer(() -> restaurar(categoria.getId()));
+        desindexar(categoria.getId());
+        indexar(categoria);
+        return categoria;
+    }
+
+    @Override
+    public Optional<Categoria> buscarPorId(UUID id) {
+        Objects.requireNonNull(id, "id não pode ser nulo");
+        return Optional.ofNullable(porId.get(id));
+    }
+
+    @Override
+    public Optional<Categoria> buscarPorNome(String nome) {
+        UUID id = porNome.get(Categoria.normalizarNome(nome));
+        return id == null ? Optional.empty() : Optional.ofNullable(porId.get(id));
+    }
+
+    @Override
+    public List<Categoria> listarTodas() {
+        return porId.values().stream()
+                .sorted(Comparator.comparing(Categoria::getNome))
+                .toList();
+    }
+
+    @Override
+    public synchronized void remover(Categoria categoria) {
+        Objects.requireNonNull(categoria, "categoria não pode ser nula");
+        if (mesFinanceiroRepository.possuiDespesasDaCategoria(categoria.getId())) {
+            // RN-04: despesas sempre têm categoria válida
+            throw new DomainException("Categoria possui despesas associadas e não pode ser removida.");
+        }
+        armazem.gravar(List.of(Registro.remocao(ArmazemLocal.CATEGORIA, categoria.getId())));
+        armazem.aoDesfazer(() -> restaurar(categoria.getId()));
+        desindexar(categoria.getId());
+    }
+
+    /**
+     * Volta a categoria ao que está gravado, depois de desfeita a transação
+     * que a alterou.
+     */
+    private synchronized void restaurar(UUID id) {
+        desindexar(id);
+        byte[] valor = armazem.ler(ArmazemLocal.CATEGORIA, id);
+        if (valor != null) {
+            indexar(CodificadorLocal.lerCategoria(id, valor));
+        }
+    }
+
+    private void indexar(Categoria categoria) {
+        porId.put(categoria.getId(), categoria);
+        porNome.putIfAbsent(Categoria.normalizarNome(categoria.getNome()), categoria.getId());
+    }
+
+    private void desindexar(UUID id) {
+        Categoria anterior = porId.remove(id);
+        if (anterior != null && porNome.remove(Categoria.normalizarNome(anterior.getNome()), id)) {
+            // Outra categoria de mesmo nome passa a responder pela busca
+            porId.values().forEach(this::indexar);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.financecore.infrastructure.persistence.local;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import com.financecore.domain.model.entity.HistoricoFinanceiro;
+import com.financecore.domain.model.repository.HistoricoFinanceiroRepository;
+import com.financecore.domain.model.valueobject.Periodo;
+import com.financecore.infrastructure.persistence.local.ArmazemLocal.Registro;
+
+/**
+ * Repositório de HistoricoFinanceiro sobre o armazenamento local.
+ *
+ * Cada consolidação é um registro com o id do mês, o que a torna única por
+ * mês como a restrição do modo relacional. O período de cada uma fica em
+ * memória, por usuário; as consolidações são lidas do arquivo a cada busca.
+ */
+public class LocalHistoricoFinanceiroRepository implements HistoricoFinanceiroRepository {
+
+    private final ArmazemLocal armazem;
+    private final ConcurrentHashMap<UUID, ConcurrentSkipListMap<Integer, UUID>> porUsuario =
+            new ConcurrentHashMap<>();
+
+    public LocalHistoricoFinanceiroRepository(ArmazemLocal armazem) {
+        this.armazem = Objects.requireNonNull(armazem, "armazem não pode ser nulo");
+        armazem.percorrer(ArmazemLocal.HISTORICO, (mesId, valor) -> indexar(
+                CodificadorLocal.lerUsuarioDoHistorico(valor), CodificadorLocal.lerIndicePeriodoDoHistorico(valor), mesId));
+    }
+
+    @Override
+    public synchronized HistoricoFinanceiro salvar(HistoricoFinanceiro historico) {
+        Objects.requireNonNull(historico, "historico não pode ser nulo");
+        Optional<HistoricoFinanceiro> existente = buscarPorMesFinanceiroId(historico.getMesFinanceiroId());
+        if (existente.isPresent()) {
+            // Mês já consolidado: a consolidação existente prevalece
+            return existente.get();
+        }
+        salvarNovos(List.of(historico));
+        return historico;
+    }
+
+    @Override
+    public synchronized void salvarTodos(Collection<HistoricoFinanceiro> historicos) {
+        Objects.requireNonNull(historicos, "historicos não pode ser nulo");
+        Set<UUID> meses = new HashSet<>();
+        List<HistoricoFinanceiro> novos = new ArrayList<>(historicos.size());
+        for (HistoricoFinanceiro historico : historicos) {
+            if (meses.add(historico.getMesFinanceiroId())
+                    && armazem.ler(ArmazemLocal.HISTORICO, historico.getMesFinanceiroId()) == null) {
+                novos.add(historico);
+            }
+        }
+        salvarNovos(novos);
+    }
+
+    @Override
+    public Optional<HistoricoFinanceiro> buscarPorMesFinanceiroId(UUID mesFinanceiroId) {
+        Objects.requireNonNull(mesFinanceiroId, "mesFinanceiroId não pode ser nulo");
+        byte[] valor = armazem.ler(ArmazemLocal.HISTORICO, mesFinanceiroId);
+        return valor == null
+                ? Optional.empty()
+                : Optional.of(CodificadorLocal.lerHistorico(mesFinanceiroId, valor));
+    }
+
+    @Override
+    public List<HistoricoFinanceiro> listarPorUsuarioEPeriodo(UUID usuarioId, Periodo inicio, Periodo fim) {
+        Objects.requireNonNull(usuarioId, "usuarioId não pode ser nulo");
+        Objects.requireNonNull(inicio, "inicio não pode ser nulo");
+        Objects.requireNonNull(fim, "fim não pode ser nulo");
+        ConcurrentSkipListMap<Integer, UUID> periodos = porUsuario.get(usuarioId);
+        if (periodos == null || fim.compareTo(inicio) < 0) {
+            return List.of();
+        }
+        List<HistoricoFinanceiro> historicos = new ArrayList<>();
+        for (UUID mesId : periodos.subMap(inicio.indice(), true, fim.indice(), true).values()) {
+            buscarPorMesFinanceiroId(mesId).ifPresent(historicos::add);
+        }
+        return historicos;
+    }
+
+    private void salvarNovos(List<HistoricoFinanceiro> historicos) {
+        if (historicos.isEmpty()) {
+            return;
+        }
+        List<Registro> registros = new ArrayList<>(historicos.size());
+        for (HistoricoFinanceiro historico : historicos) {
+            registros.add(Registro.gravacao(ArmazemLocal.HISTORICO, historico.getMesFinanceiroId(),
+                    CodificadorLocal.codificarHistorico(historico)));
+        }
+        armazem.gravar(registros);
+        for (HistoricoFinanceiro historico : historicos) {
+            indexar(historico.getUsuarioId(), historico.getPeriodo().indice(), historico.getMesFinanceiroId());
+        }
+        armazem.aoDesfazer(() -> desindexarNaoGravados(historicos));
+    }
+
+    private synchronized void desindexarNaoGravados(List<HistoricoFinanceiro> historicos) {
+        for (HistoricoFinanceiro historico : historicos) {
+            ConcurrentSkipListMap<Integer, UUID> periodos = porUsuario.get(historico.getUsuarioId());
+            if (periodos != null && armazem.ler(ArmazemLocal.HISTORICO, historico.getMesFinanceiroId()) == null) {
+                periodos.remove(historico.getPeriodo().indice(), historico.getMesFinanceiroId());
+            }
+        }
+    }
+
+    private void indexar(UUID usuarioId, int indicePeriodo, UUID mesId) {
+        porUsuario.computeIfAbsent(usuarioId, id -> new ConcurrentSkipListMap<>()).put(indicePeriodo, mesId);
+    }
+}
@@ -0,0 +1,616 @@
+package com.financecore.infrastructure.persistence.local;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import com.financecore.domain.model.entity.Categoria;
+import com.financecore.domain.model.entity.HistoricoFinanceiro;
+import com.financecore.domain.model.entity.MesFinanceiro;
+import com.financecore.domain.model.entity.MesFinanceiroStatus;
+import com.financecore.domain.model.event.EventoMesFinanceiro;
+import com.financecore.domain.model.event.EventoMesFinanceiro.MesAberto;
+import com.financecore.domain.model.exception.DespesaSemCategoriaException;
+import com.financecore.domain.model.repository.HistoricoFinanceiroRepository;
+import com.financecore.domain.model.repository.MesFinanceiroRepository;
+import com.financecore.domain.model.valueobject.Periodo;
+import com.financecore.infrastructure.persistence.jdbc.CodificadorEventosMesFinanceiro;
+import com.financecore.infrastructure.persistence.local.ArmazemLocal.Registro;
+import com.financecore.infrastructure.persistence.local.CodificadorLocal.ResumoMes;
+
+/**
+ * Repositório de MêsFinanceiro sobre o armazenamento local.
+ *
+ * Cada mês tem um registro de resumo e um diário: os eventos pendentes do
+ * agregado ({@link MesFinanceiro#getEventos()}) são acrescentados como
+ * registros próprios, numerados por mês, e uma gravação custa o tamanho dos
+ * eventos novos, não o do mês. O snapshot só é regravado na compactação do
+ * armazenamento, que troca os eventos já confirmados de cada mês por um
+ * snapshot novo; a carga lê o snapshot e os eventos posteriores.
+ *
+ * Os resumos ficam em memória, por usuário e período e por período para os
+ * ABERTOS, e respondem às consultas sem tocar o arquivo; só os meses
+ * devolvidos são lidos e decodificados. Um mês sem eventos novos não é
+ * regravado nem conta como alterado para a auditoria incremental. Os eventos
+ * gravados saem dos pendentes do agregado no commit.
+ *
+ * A consolidação fica no HistoricoFinanceiroRepository configurado.
+ */
+public class LocalMesFinanceiroRepository implements MesFinanceiroRepository {
+
+    private final ArmazemLocal armazem;
+    private final HistoricoFinanceiroRepository historicoFinanceiroRepository;
+
+    private final Object travaEscrita = new Object();
+    private final ConcurrentHashMap<UUID, ResumoMes> resumos = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, ConcurrentSkipListMap<Integer, ResumoMes>> porUsuario =
+            new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Integer, ConcurrentSkipListSet<UUID>> abertosPorPeriodo =
+            new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, Diario> diarios = new ConcurrentHashMap<>();
+
+    // Eventos do agregado já gravados na transação em andamento
+    private final Map<MesFinanceiro, Integer> eventosGravados = Collections.synchronizedMap(new WeakHashMap<>());
+    // Última sequência consolidada de cada mês; só na compactação, sob a trava do armazenamento
+    private final Map<UUID, Long> consolidados = new HashMap<>();
+
+    public LocalMesFinanceiroRepository(ArmazemLocal armazem,
+                                        HistoricoFinanceiroRepository historicoFinanceiroRepository) {
+        this.armazem = Objects.requireNonNull(armazem, "armazem não pode ser nulo");
+        this.historicoFinanceiroRepository = Objects.requireNonNull(
+                historicoFinanceiroRepository, "historicoFinanceiroRepository não pode ser nulo");
+        armazem.percorrer(ArmazemLocal.MES_FINANCEIRO,
+                (id, valor) -> indexar(CodificadorLocal.lerResumoMes(id, valor)));
+        armazem.percorrer(ArmazemLocal.MES_EVENTO, (registroId, valor) -> diarios.merge(
+                CodificadorLocal.lerMesDoEvento(valor),
+                Diario.de(new EventoLocal(CodificadorLocal.lerSequenciaDoEvento(valor), registroId)),
+                Diario::juntar));
+        diarios.replaceAll((id, diario) -> diario.ordenado());
+        armazem.registrarConsolidacao(ArmazemLocal.MES_EVENTO, new ArmazemLocal.Consolidacao() {
+            @Override
+            public List<Registro> consolidar() {
+                return consolidarDiarios();
+            }
+
+            @Override
+            public void consolidada() {
+                podarDiarios();
+            }
+        });
+    }
+
+    @Override
+    public MesFinanceiro salvar(MesFinanceiro mesFinanceiro) {
+        Objects.requireNonNull(mesFinanceiro, "mesFinanceiro não pode ser nulo");
+        salvarTodos(List.of(mesFinanceiro));
+        return mesFinanceiro;
+    }
+
+    @Override
+    public List<MesFinanceiro> salvarTodos(Collection<MesFinanceiro> mesesFinanceiros) {
+        Objects.requireNonNull(mesesFinanceiros, "mesesFinanceiros não pode ser nulo");
+        List<MesFinanceiro> lista = List.copyOf(mesesFinanceiros);
+        synchronized (travaEscrita) {
+            LocalDateTime agora = LocalDateTime.now();
+            List<Registro> registros = new ArrayList<>();
+            List<ResumoMes> gravados = new ArrayList<>(lista.size());
+            List<MesFinanceiro> alterados = new ArrayList<>(lista.size());
+            Map<UUID, List<EventoLocal>> acrescentados = new HashMap<>();
+            Map<UUID, Long> ultimasDoLote = new HashMap<>();
+            Map<PeriodoDoUsuario, UUID> periodosDoLote = new HashMap<>();
+            for (MesFinanceiro mes : lista) {
+                List<EventoMesFinanceiro> registrados = mes.getEventos();
+                int jaGravados = eventosGravados.getOrDefault(mes, 0);
+                boolean existente = resumos.containsKey(mes.getId());
+                if (existente && registrados.size() == jaGravados) {
+                    continue;
+                }
+                ResumoMes resumo = ResumoMes.de(mes, agora);
+                verificarUnicidade(resumo, periodosDoLote);
+                registros.add(Registro.gravacao(ArmazemLocal.MES_FINANCEIRO, mes.getId(),
+                        CodificadorLocal.codificarMes(resumo, snapshotEmbutido(mes.getId()))));
+                if (!existente && (registrados.isEmpty() || !(registrados.get(0) instanceof MesAberto))) {
+                    // Mês montado fora do repositório: o estado inteiro vira o snapshot
+                    registros.add(Registro.gravacao(ArmazemLocal.MES_SNAPSHOT, mes.getId(),
+                            CodificadorLocal.codificarSnapshotMes(ultimaSequencia(mes.getId()),
+                                    CodificadorEventosMesFinanceiro.codificarSnapshot(mes))));
+                } else {
+                    List<EventoLocal> novos = new ArrayList<>(registrados.size() - jaGravados);
+                    long sequencia = ultimasDoLote.computeIfAbsent(mes.getId(), this::ultimaSequencia);
+                    for (int i = jaGravados; i < registrados.size(); i++) {
+                        EventoMesFinanceiro evento = registrados.get(i);
+                        EventoLocal local = new EventoLocal(++sequencia, UUID.randomUUID());
+                        registros.add(Registro.gravacao(ArmazemLocal.MES_EVENTO, local.registroId(),
+                                CodificadorLocal.codificarEventoMes(mes.getId(), local.sequencia(),
+                                        CodificadorEventosMesFinanceiro.tipo(evento),
+                                        CodificadorEventosMesFinanceiro.codificar(evento))));
+                        novos.add(local);
+                    }
+                    ultimasDoLote.put(mes.getId(), sequencia);
+                    acrescentados.merge(mes.getId(), novos, (a, b) -> Stream.concat(a.stream(), b.stream()).toList());
+                }
+                eventosGravados.put(mes, registrados.size());
+                gravados.add(resumo);
+                alterados.add(mes);
+            }
+            if (gravados.isEmpty()) {
+                return lista;
+            }
+            armazem.gravar(registros);
+            gravados.forEach(this::indexar);
+            acrescentados.forEach((id, novos) -> diarios.merge(id, new Diario(novos), Diario::juntar));
+            armazem.aoDesfazer(() -> {
+                alterados.forEach(eventosGravados::remove);
+                acrescentados.forEach((id, novos) -> diarios.computeIfPresent(id, (k, diario) -> diario.sem(novos)));
+                restaurarIndices(gravados);
+            });
+            armazem.aoConfirmar(() -> alterados.forEach(this::confirmarEventos));
+        }
+        return lista;
+    }
+
+    @Override
+    public Optional<MesFinanceiro> buscarPorId(UUID id) {
+        Objects.requireNonNull(id, "id não pode ser nulo");
+        return Optional.ofNullable(carregar(id, new HashMap<>()));
+    }
+
+    @Override
+    public List<MesFinanceiro> buscarPorUsuarioEStatus(UUID usuarioId, String status) {
+        Objects.requireNonNull(usuarioId, "usuarioId não pode ser nulo");
+        Objects.requireNonNull(status, "status não pode ser nulo");
+        Map<UUID, Categoria> categorias = new HashMap<>();
+        List<MesFinanceiro> meses = new ArrayList<>();
+        for (ResumoMes resumo : mesesDoUsuario(usuarioId).values()) {
+            if (resumo.status().name().equals(status)) {
+                adicionarSeExistir(meses, carregar(resumo.id(), categorias));
+            }
+        }
+        return meses;
+    }
+
+    @Override
+    public List<MesFinanceiro> buscarPorIds(Collection<UUID> ids) {
+        Objects.requireNonNull(ids, "ids não pode ser nulo");
+        Map<UUID, Categoria> categorias = new HashMap<>();
+        List<MesFinanceiro> meses = new ArrayList<>(ids.size());
+        for (UUID id : new LinkedHashSet<>(ids)) {
+            adicionarSeExistir(meses, carregar(id, categorias));
+        }
+        return meses;
+    }
+
+    @Override
+    public List<UUID> listarIdsAbertosPorPeriodo(Periodo periodo, UUID aposId, int limite) {
+        Objects.requireNonNull(periodo, "periodo não pode ser nulo");
+        ConcurrentSkipListSet<UUID> abertos = abertosPorPeriodo.get(periodo.indice());
+        if (abertos == null) {
+            return List.of();
+        }
+        List<UUID> ids = new ArrayList<>(Math.min(limite, 1024));
+        for (UUID id : aposId == null ? abertos : abertos.tailSet(aposId, false)) {
+            if (ids.size() == limite) {
+                break;
+            }
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    @Override
+    public Optional<MesFinanceiro> buscarMaisRecenteAte(UUID usuarioId, Periodo periodo) {
+        Objects.requireNonNull(usuarioId, "usuarioId não pode ser nulo");
+        Objects.requireNonNull(periodo, "periodo não pode ser nulo");
+        Map.Entry<Integer, ResumoMes> maisRecente = mesesDoUsuario(usuarioId).floorEntry(periodo.indice());
+        return maisRecente == null
+                ? Optional.empty()
+                : Optional.ofNullable(carregar(maisRecente.getValue().id(), new HashMap<>()));
+    }
+
+    @Override
+    public Stream<MesFinanceiro> percorrerPorUsuarioEPeriodo(UUID usuarioId, Periodo inicio, Periodo fim) {
+        return percorrer(intervalo(usuarioId, inicio, fim).values(), id -> true);
+    }
+
+    @Override
+    public Stream<MesFinanceiro> percorrerNaoConsolidados(UUID usuarioId, Periodo inicio, Periodo fim) {
+        NavigableMap<Integer, ResumoMes> intervalo = intervalo(usuarioId, inicio, fim);
+        Set<UUID> consolidados = new HashSet<>();
+        for (HistoricoFinanceiro historico
+                : historicoFinanceiroRepository.listarPorUsuarioEPeriodo(usuarioId, inicio, fim)) {
+            consolidados.add(historico.getMesFinanceiroId());
+        }
+        return percorrer(intervalo.values(), id -> !consolidados.contains(id));
+    }
+
+    @Override
+    public List<Periodo> listarPeriodosAlteradosDesde(UUID usuarioId, LocalDateTime desde) {
+        Objects.requireNonNull(usuarioId, "usuarioId não pode ser nulo");
+        List<Periodo> periodos = new ArrayList<>();
+        for (ResumoMes resumo : mesesDoUsuario(usuarioId).values()) {
+            if (desde == null || resumo.gravadoEm().isAfter(desde)) {
+                periodos.add(Periodo.deIndice(resumo.indicePeriodo()));
+            }
+        }
+        return periodos;
+    }
+
+    /**
+     * Indica se alguma despesa gravada usa a categoria (RN-04).
+     */
+    boolean possuiDespesasDaCategoria(UUID categoriaId) {
+        for (ResumoMes resumo : resumos.values()) {
+            for (UUID categoria : resumo.categorias()) {
+                if (categoria.equals(categoriaId)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Usuários com ao menos um mês gravado, para a auditoria de saldos.
+     */
+    List<UUID> listarUsuariosComMeses() {
+        return new ArrayList<>(porUsuario.keySet());
+    }
+
+    /**
+     * Indica se algum mês do usuário foi gravado depois do instante; sem
+     * instante, se o usuário tem algum mês.
+     */
+    boolean possuiMesGravadoApos(UUID usuarioId, LocalDateTime desde) {
+        for (ResumoMes resumo : mesesDoUsuario(usuarioId).values()) {
+            if (desde == null || resumo.gravadoEm().isAfter(desde)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // ---------------------------------------------------------------------
+    // Índices em memória
+    // ---------------------------------------------------------------------
+
+    private void indexar(ResumoMes resumo) {
+        ResumoMes anterior = resumos.put(resumo.id(), resumo);
+        if (anterior != null && anterior.status() == MesFinanceiroStatus.ABERTO) {
+            ConcurrentSkipListSet<UUID> abertos = abertosPorPeriodo.get(anterior.indicePeriodo());
+            if (abertos != null) {
+                abertos.remove(anterior.id());
+            }
+        }
+        porUsuario.computeIfAbsent(resumo.usuarioId(), id -> new ConcurrentSkipListMap<>())
+                .put(resumo.indicePeriodo(), resumo);
+        if (resumo.status() == MesFinanceiroStatus.ABERTO) {
+            abertosPorPeriodo.computeIfAbsent(resumo.indicePeriodo(), indice -> new ConcurrentSkipListSet<>())
+                    .add(resumo.id());
+        }
+    }
+
+    private void desindexar(ResumoMes resumo) {
+        resumos.remove(resumo.id(), resumo);
+        ConcurrentSkipListMap<Integer, ResumoMes> meses = porUsuario.get(resumo.usuarioId());
+        if (meses != null) {
+            meses.remove(resumo.indicePeriodo(), resumo);
+        }
+        ConcurrentSkipListSet<UUID> abertos = abertosPorPeriodo.get(resumo.indicePeriodo());
+        if (abertos != null) {
+            abertos.remove(resumo.id());
+        }
+    }
+
+    /**
+     * Volta os índices dos meses ao que está gravado, depois de desfeita a
+     * transação que os alterou.
+     */
+    private void restaurarIndices(List<ResumoMes> gravados) {
+        synchronized (travaEscrita) {
+            for (ResumoMes resumo : gravados) {
+                byte[] valor = armazem.ler(ArmazemLocal.MES_FINANCEIRO, resumo.id());
+                ResumoMes atual = resumos.get(resumo.id());
+                if (atual != null) {
+                    desindexar(atual);
+                }
+                if (valor != null) {
+                    indexar(CodificadorLocal.lerResumoMes(resumo.id(), ByteBuffer.wrap(valor)));
+                }
+            }
+        }
+    }
+
+    /**
+     * O usuário tem no máximo um mês por período, como na restrição
+     * uq_mes_usuario do esquema relacional.
+     */
+    private void verificarUnicidade(ResumoMes resumo, Map<PeriodoDoUsuario, UUID> periodosDoLote) {
+        ResumoMes existente = mesesDoUsuario(resumo.usuarioId()).get(resumo.indicePeriodo());
+        UUID doLote = periodosDoLote.putIfAbsent(
+                new PeriodoDoUsuario(resumo.usuarioId(), resumo.indicePeriodo()), resumo.id());
+        if ((existente != null && !existente.id().equals(resumo.id()))
+                || (doLote != null && !doLote.equals(resumo.id()))) {
+            throw new IllegalStateException("Usuário já possui outro mês financeiro em "
+                    + Periodo.deIndice(resumo.indicePeriodo()));
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // Diário
+    // ---------------------------------------------------------------------
+
+    private long ultimaSequencia(UUID id) {
+        Diario diario = diarios.get(id);
+        return diario == null ? 0L : diario.ultimaSequencia();
+    }
+
+    /**
+     * Snapshot embutido no resumo gravado no formato anterior, mantido até a
+     * compactação passá-lo a registro próprio; vazio nos demais.
+     */
+    private byte[] snapshotEmbutido(UUID id) {
+        byte[] atual = armazem.ler(ArmazemLocal.MES_FINANCEIRO, id);
+        if (atual == null) {
+            return new byte[0];
+        }
+        return Arrays.copyOfRange(atual, CodificadorLocal.inicioSnapshot(atual), atual.length);
+    }
+
+    private void confirmarEventos(MesFinanceiro mes) {
+        Integer quantidade = eventosGravados.remove(mes);
+        if (quantidade != null) {
+            mes.confirmarEventos(quantidade);
+        }
+    }
+
+    /**
+     * Troca os eventos confirmados de cada mês por um snapshot que os inclui.
+     * Eventos ainda pendentes em alguma transação interrompem o mês ali; um
+     * mês que não pode ser reproduzido fica como está.
+     */
+    private List<Registro> consolidarDiarios() {
+        consolidados.clear();
+        List<Registro> registros = new ArrayList<>();
+        Map<UUID, Categoria> categorias = new HashMap<>();
+        for (Map.Entry<UUID, Diario> entrada : diarios.entrySet()) {
+            if (entrada.getValue().eventos().isEmpty()) {
+                continue;
+            }
+            try {
+                consolidar(entrada.getKey(), entrada.getValue(), categorias, registros);
+            } catch (RuntimeException e) {
+                // Ex.: categoria removida; os eventos continuam valendo na carga
+            }
+        }
+        return registros;
+    }
+
+    private void consolidar(UUID id, Diario diario, Map<UUID, Categoria> categoriasLidas, List<Registro> registros) {
+        byte[] resumo = armazem.ler(ArmazemLocal.MES_FINANCEIRO, id);
+        if (resumo == null) {
+            return;
+        }
+        Function<UUID, Categoria> categorias = categorias(categoriasLidas);
+        Base base = base(id, resumo, categorias);
+        List<EventoMesFinanceiro> eventos = new ArrayList<>();
+        List<Registro> remocoes = new ArrayList<>();
+        long ultima = base.sequencia();
+        for (EventoLocal evento : diario.eventos()) {
+            if (evento.sequencia() <= base.sequencia()) {
+                continue;
+            }
+            byte[] valor = armazem.ler(ArmazemLocal.MES_EVENTO, evento.registroId());
+            if (valor == null) {
+                break;
+            }
+            eventos.add(decodificarEvento(id, valor, categorias));
+            remocoes.add(Registro.remocao(ArmazemLocal.MES_EVENTO, evento.registroId()));
+            ultima = evento.sequencia();
+        }
+        if (eventos.isEmpty()) {
+            return;
+        }
+        MesFinanceiro mes = MesFinanceiro.reproduzir(base.mes(), eventos);
+        registros.add(Registro.gravacao(ArmazemLocal.MES_SNAPSHOT, id, CodificadorLocal.codificarSnapshotMes(
+                ultima, CodificadorEventosMesFinanceiro.codificarSnapshot(mes))));
+        int inicio = CodificadorLocal.inicioSnapshot(resumo);
+        if (inicio < resumo.length) {
+            registros.add(Registro.gravacao(ArmazemLocal.MES_FINANCEIRO, id, Arrays.copyOf(resumo, inicio)));
+        }
+        registros.addAll(remocoes);
+        consolidados.put(id, ultima);
+    }
+
+    private void podarDiarios() {
+        consolidados.forEach((id, sequencia) -> diarios.computeIfPresent(id, (k, diario) -> diario.posteriores(sequencia)));
+        consolidados.clear();
+    }
+
+    private NavigableMap<Integer, ResumoMes> mesesDoUsuario(UUID usuarioId) {
+        NavigableMap<Integer, ResumoMes> meses = porUsuario.get(usuarioId);
+        return meses == null ? new ConcurrentSkipListMap<>() : meses;
+    }
+
+    private NavigableMap<Integer, ResumoMes> intervalo(UUID usuarioId, Periodo inicio, Periodo fim) {
+        Objects.requireNonNull(usuarioId, "usuarioId não pode ser nulo");
+        Objects.requireNonNull(inicio, "inicio não pode ser nulo");
+        Objects.requireNonNull(fim, "fim não pode ser nulo");
+        if (fim.compareTo(inicio) < 0) {
+            return new ConcurrentSkipListMap<>();
+        }
+        return mesesDoUsuario(usuarioId).subMap(inicio.indice(), true, fim.indice(), true);
+    }
+
+    // ---------------------------------------------------------------------
+    // Leitura
+    // ---------------------------------------------------------------------
+
+    /**
+     * Meses do intervalo, em ordem de período, lidos à medida que o Stream é
+     * consumido. Os períodos são fixados na chamada.
+     */
+    private Stream<MesFinanceiro> percorrer(Collection<ResumoMes> intervalo, Predicate<UUID> incluir) {
+        List<UUID> ids = new ArrayList<>(intervalo.size());
+        for (ResumoMes resumo : intervalo) {
+            if (incluir.test(resumo.id())) {
+                ids.add(resumo.id());
+            }
+        }
+        Map<UUID, Categoria> categorias = new HashMap<>();
+        return ids.stream()
+                .map(id -> carregar(id, categorias))
+                .filter(Objects::nonNull);
+    }
+
+    /**
+     * Snapshot mais os eventos posteriores do mês. Um evento que some durante
+     * a leitura foi consolidado, e a leitura recomeça do snapshot novo; um
+     * que ainda não existe é de uma transação em andamento e é ignorado.
+     */
+    private MesFinanceiro carregar(UUID id, Map<UUID, Categoria> categoriasLidas) {
+        Function<UUID, Categoria> categorias = categorias(categoriasLidas);
+        while (true) {
+            byte[] resumo = armazem.ler(ArmazemLocal.MES_FINANCEIRO, id);
+            if (resumo == null) {
+                return null;
+            }
+            Base base = base(id, resumo, categorias);
+            Diario diario = diarios.get(id);
+            List<EventoMesFinanceiro> eventos = new ArrayList<>();
+            boolean consolidado = false;
+            for (EventoLocal evento : diario == null ? List.<EventoLocal>of() : diario.eventos()) {
+                if (evento.sequencia() <= base.sequencia()) {
+                    continue;
+                }
+                byte[] valor = armazem.ler(ArmazemLocal.MES_EVENTO, evento.registroId());
+                if (valor != null) {
+                    eventos.add(decodificarEvento(id, valor, categorias));
+                } else if (sequenciaDoSnapshot(id) != base.sequencia()) {
+                    consolidado = true;
+                    break;
+                }
+            }
+            if (consolidado) {
+                continue;
+            }
+            if (base.mes() == null && eventos.isEmpty()) {
+                return null;
+            }
+            return MesFinanceiro.reproduzir(base.mes(), eventos);
+        }
+    }
+
+    /**
+     * Snapshot do mês: o registro próprio ou, sem ele, o embutido no resumo
+     * gravado no formato anterior, na sequência zero. Sem nenhum dos dois, o
+     * mês é reproduzido desde o evento de abertura.
+     */
+    private Base base(UUID id, byte[] resumo, Function<UUID, Categoria> categorias) {
+        byte[] snapshot = armazem.ler(ArmazemLocal.MES_SNAPSHOT, id);
+        if (snapshot != null) {
+            return new Base(CodificadorLocal.lerSequenciaDoSnapshot(ByteBuffer.wrap(snapshot)),
+                    CodificadorEventosMesFinanceiro.decodificarSnapshot(
+                            id, CodificadorLocal.lerDadosDoSnapshot(snapshot), categorias));
+        }
+        int inicio = CodificadorLocal.inicioSnapshot(resumo);
+        if (inicio == resumo.length) {
+            return new Base(0L, null);
+        }
+        return new Base(0L, CodificadorEventosMesFinanceiro.decodificarSnapshot(
+                id, Arrays.copyOfRange(resumo, inicio, resumo.length), categorias));
+    }
+
+    private long sequenciaDoSnapshot(UUID id) {
+        byte[] snapshot = armazem.ler(ArmazemLocal.MES_SNAPSHOT, id);
+        return snapshot == null ? 0L : CodificadorLocal.lerSequenciaDoSnapshot(ByteBuffer.wrap(snapshot));
+    }
+
+    private static EventoMesFinanceiro decodificarEvento(UUID id, byte[] valor, Function<UUID, Categoria> categorias) {
+        return CodificadorEventosMesFinanceiro.decodificar(id, CodificadorLocal.lerTipoDoEvento(valor),
+                CodificadorLocal.lerDadosDoEvento(valor), categorias);
+    }
+
+    private Function<UUID, Categoria> categorias(Map<UUID, Categoria> categoriasLidas) {
+        return categoriaId -> categoriasLidas.computeIfAbsent(categoriaId, k -> {
+            byte[] categoria = armazem.ler(ArmazemLocal.CATEGORIA, k);
+            if (categoria == null) {
+                throw new DespesaSemCategoriaException();
+            }
+            return CodificadorLocal.lerCategoria(k, categoria);
+        });
+    }
+
+    private static void adicionarSeExistir(List<MesFinanceiro> meses, MesFinanceiro mes) {
+        if (mes != null) {
+            meses.add(mes);
+        }
+    }
+
+    private record PeriodoDoUsuario(UUID usuarioId, int indicePeriodo) {
+    }
+
+    private record Base(long sequencia, MesFinanceiro mes) {
+    }
+
+    private record EventoLocal(long sequencia, UUID registroId) {
+    }
+
+    /**
+     * Eventos do diário de um mês ainda não consolidados, em ordem de
+     * sequência, e a última sequência atribuída. Imutável: trocado inteiro
+     * no mapa.
+     */
+    private record Diario(List<EventoLocal> eventos, long ultimaSequencia) {
+
+        Diario(List<EventoLocal> eventos) {
+            this(eventos, eventos.isEmpty() ? 0L : eventos.get(eventos.size() - 1).sequencia());
+        }
+
+        static Diario de(EventoLocal evento) {
+            return new Diario(List.of(evento));
+        }
+
+        Diario juntar(Diario outro) {
+            List<EventoLocal> todos = new ArrayList<>(eventos.size() + outro.eventos.size());
+            todos.addAll(eventos);
+            todos.addAll(outro.eventos);
+            return new Diario(List.copyOf(todos), Math.max(ultimaSequencia, outro.ultimaSequencia));
+        }
+
+        Diario ordenado() {
+            List<EventoLocal> ordenados = new ArrayList<>(eventos);
+            ordenados.sort(Comparator.comparingLong(EventoLocal::sequencia));
+            return new Diario(List.copyOf(ordenados), ultimaSequencia);
+        }
+
+        Diario sem(List<EventoLocal> removidos) {
+            return new Diario(eventos.stream().filter(evento -> !removidos.contains(evento)).toList(), ultimaSequencia);
+        }
+
+        Diario posteriores(long sequencia) {
+            return new Diario(eventos.stream().filter(evento -> evento.sequencia() > sequencia).toList(),
+                    ultimaSequencia);
+        }
+    }
+}
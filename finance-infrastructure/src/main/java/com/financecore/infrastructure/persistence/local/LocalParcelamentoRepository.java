@@ -0,0 +1,58 @@
+package com.financecore.infrastructure.persistence.local;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.financecore.domain.model.entity.Parcelamento;
+import com.financecore.domain.model.repository.ParcelamentoRepository;
+import com.financecore.infrastructure.persistence.local.ArmazemLocal.Registro;
+
+/**
+ * Repositório de Parcelamento sobre o armazenamento local.
+ *
+ * Cada parcelamento, com suas parcelas, é um registro. A despesa de cada
+ * parcelamento fica em memória para a busca por despesa (RN-06); o
+ * parcelamento em si é lido do arquivo a cada busca.
+ */
+public class LocalParcelamentoRepository implements ParcelamentoRepository {
+
+    private final ArmazemLocal armazem;
+    private final ConcurrentHashMap<UUID, UUID> porDespesa = new ConcurrentHashMap<>();
+
+    public LocalParcelamentoRepository(ArmazemLocal armazem) {
+        this.armazem = Objects.requireNonNull(armazem, "armazem não pode ser nulo");
+        armazem.percorrer(ArmazemLocal.PARCELAMENTO,
+                (id, valor) -> porDespesa.put(CodificadorLocal.lerDespesaDoParcelamento(valor), id));
+    }
+
+    @Override
+    public Parcelamento salvar(Parcelamento parcelamento) {
+        Objects.requireNonNull(parcelamento, "parcelamento não pode ser nulo");
+        armazem.gravar(List.of(Registro.gravacao(ArmazemLocal.PARCELAMENTO, parcelamento.getId(),
+                CodificadorLocal.codificarParcelamento(parcelamento))));
+        porDespesa.put(parcelamento.getDespesaId(), parcelamento.getId());
+        armazem.aoDesfazer(() -> {
+            if (armazem.ler(ArmazemLocal.PARCELAMENTO, parcelamento.getId()) == null) {
+                porDespesa.remove(parcelamento.getDespesaId(), parcelamento.getId());
+            }
+        });
+        return parcelamento;
+    }
+
+    @Override
+    public Optional<Parcelamento> buscarPorId(UUID id) {
+        Objects.requireNonNull(id, "id não pode ser nulo");
+        byte[] valor = armazem.ler(ArmazemLocal.PARCELAMENTO, id);
+        return valor == null ? Optional.empty() : Optional.of(CodificadorLocal.lerParcelamento(id, valor));
+    }
+
+    @Override
+    public Optional<Parcelamento> buscarPorDespesaId(UUID despesaId) {
+        Objects.requireNonNull(despesaId, "despesaId não pode ser nulo");
+        UUID id = porDespesa.get(despesaId);
+        return id == null ? Optional.empty() : buscarPorId(id);
+    }
+}
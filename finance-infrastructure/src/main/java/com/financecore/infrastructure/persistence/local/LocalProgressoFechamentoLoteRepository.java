@@ -0,0 +1,42 @@
+package com.financecore.infrastructure.persistence.local;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.financecore.domain.model.entity.ProgressoFechamentoLote;
+import com.financecore.domain.model.repository.ProgressoFechamentoLoteRepository;
+import com.financecore.domain.model.valueobject.Periodo;
+import com.financecore.infrastructure.persistence.local.ArmazemLocal.Registro;
+
+/**
+ * Repositório do progresso do fechamento em lote sobre o armazenamento
+ * local: um registro por período, identificado pelo índice do período.
+ */
+public class LocalProgressoFechamentoLoteRepository implements ProgressoFechamentoLoteRepository {
+
+    private final ArmazemLocal armazem;
+
+    public LocalProgressoFechamentoLoteRepository(ArmazemLocal armazem) {
+        this.armazem = Objects.requireNonNull(armazem, "armazem não pode ser nulo");
+    }
+
+    @Override
+    public Optional<ProgressoFechamentoLote> buscar(Periodo periodo) {
+        Objects.requireNonNull(periodo, "periodo não pode ser nulo");
+        byte[] valor = armazem.ler(ArmazemLocal.PROGRESSO_LOTE, id(periodo));
+        return valor == null ? Optional.empty() : Optional.of(CodificadorLocal.lerProgressoLote(valor));
+    }
+
+    @Override
+    public void salvar(ProgressoFechamentoLote progresso) {
+        Objects.requireNonNull(progresso, "progresso não pode ser nulo");
+        armazem.gravar(List.of(Registro.gravacao(ArmazemLocal.PROGRESSO_LOTE, id(progresso.periodo()),
+                CodificadorLocal.codificarProgressoLote(progresso))));
+    }
+
+    private static UUID id(Periodo periodo) {
+        return new UUID(0L, periodo.indice());
+    }
+}
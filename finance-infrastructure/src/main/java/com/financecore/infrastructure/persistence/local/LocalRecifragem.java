@@ -0,0 +1,37 @@
+package com.financecore.infrastructure.persistence.local;
+
+import java.util.Objects;
+
+import com.financecore.application.usecase.criptografia.RecifragemDados;
+import com.financecore.infrastructure.criptografia.CifradorColunas;
+
+/**
+ * Recifragem do modo local: a compactação do armazenamento regrava todos os
+ * registros vivos, cifrando os que estiverem em texto claro ou com versões
+ * anteriores da chave. O segmento inteiro é reescrito de uma vez, então o
+ * tamanho do lote não se aplica.
+ */
+public class LocalRecifragem implements RecifragemDados {
+
+    private final ArmazemLocal armazem;
+    private final CifradorColunas cifrador;
+
+    public LocalRecifragem(ArmazemLocal armazem, CifradorColunas cifrador) {
+        this.armazem = Objects.requireNonNull(armazem, "armazem não pode ser nulo");
+        this.cifrador = Objects.requireNonNull(cifrador, "cifrador não pode ser nulo");
+    }
+
+    @Override
+    public boolean isAtiva() {
+        return cifrador.isAtivo();
+    }
+
+    @Override
+    public long recifrarTudo(int tamanhoLote) {
+        if (!cifrador.isAtivo()) {
+            throw new IllegalStateException("Criptografia desativada: nenhuma chave configurada");
+        }
+        armazem.compactar();
+        return armazem.getQuantidadeRegistros();
+    }
+}
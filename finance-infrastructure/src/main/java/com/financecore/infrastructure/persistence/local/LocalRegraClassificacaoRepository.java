@@ -0,0 +1,88 @@
+package com.financecore.infrastructure.persistence.local;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.financecore.domain.model.entity.RegraClassificacao;
+import com.financecore.domain.model.repository.CategoriaRepository;
+import com.financecore.domain.model.repository.RegraClassificacaoRepository;
+import com.financecore.infrastructure.persistence.local.ArmazemLocal.Registro;
+import com.financecore.infrastructure.persistence.local.CodificadorLocal.RegraGravada;
+
+/**
+ * Repositório de RegraClassificacao sobre o armazenamento local.
+ *
+ * As regras são poucas por usuário e ficam todas em memória; o arquivo só é
+ * lido na abertura. A categoria de cada regra é resolvida na listagem, e
+ * regras de categorias removidas ficam de fora, como no JOIN do modo
+ * relacional.
+ */
+public class LocalRegraClassificacaoRepository implements RegraClassificacaoRepository {
+
+    private static final Comparator<RegraGravada> ORDEM_CADASTRO =
+            Comparator.comparing(RegraGravada::criadaEm).thenComparing(RegraGravada::id);
+
+    private final ArmazemLocal armazem;
+    private final CategoriaRepository categoriaRepository;
+    private final ConcurrentHashMap<UUID, Map<UUID, RegraGravada>> porUsuario = new ConcurrentHashMap<>();
+
+    public LocalRegraClassificacaoRepository(ArmazemLocal armazem, CategoriaRepository categoriaRepository) {
+        this.armazem = Objects.requireNonNull(armazem, "armazem não pode ser nulo");
+        this.categoriaRepository = Objects.requireNonNull(categoriaRepository, "categoriaRepository não pode ser nulo");
+        armazem.percorrer(ArmazemLocal.REGRA_CLASSIFICACAO,
+                (id, valor) -> indexar(CodificadorLocal.lerRegra(id, CodificadorLocal.bytes(valor))));
+    }
+
+    @Override
+    public synchronized RegraClassificacao salvar(RegraClassificacao regra) {
+        Objects.requireNonNull(regra, "regra não pode ser nula");
+        // Uma atualização mantém a posição da regra na ordem de cadastro
+        RegraGravada anterior = regrasDoUsuario(regra.getUsuarioId()).get(regra.getId());
+        RegraGravada gravada = RegraGravada.de(regra,
+                anterior == null ? LocalDateTime.now() : anterior.criadaEm());
+        armazem.gravar(List.of(Registro.gravacao(ArmazemLocal.REGRA_CLASSIFICACAO, regra.getId(),
+                CodificadorLocal.codificarRegra(gravada))));
+        indexar(gravada);
+        armazem.aoDesfazer(() -> restaurar(gravada));
+        return regra;
+    }
+
+    @Override
+    public List<RegraClassificacao> listarPorUsuario(UUID usuarioId) {
+        Objects.requireNonNull(usuarioId, "usuarioId não pode ser nulo");
+        return regrasDoUsuario(usuarioId).values().stream()
+                .sorted(ORDEM_CADASTRO)
+                .flatMap(regra -> categoriaRepository.buscarPorId(regra.categoriaId())
+                        .map(regra::paraRegra)
+                        .stream())
+                .toList();
+    }
+
+    private Map<UUID, RegraGravada> regrasDoUsuario(UUID usuarioId) {
+        return Optional.<Map<UUID, RegraGravada>>ofNullable(porUsuario.get(usuarioId)).orElse(Map.of());
+    }
+
+    /**
+     * Volta a regra ao que está gravado, depois de desfeita a transação que
+     * a alterou.
+     */
+    private synchronized void restaurar(RegraGravada regra) {
+        byte[] valor = armazem.ler(ArmazemLocal.REGRA_CLASSIFICACAO, regra.id());
+        Map<UUID, RegraGravada> regras = porUsuario.get(regra.usuarioId());
+        if (valor == null && regras != null) {
+            regras.remove(regra.id());
+        } else if (valor != null) {
+            indexar(CodificadorLocal.lerRegra(regra.id(), valor));
+        }
+    }
+
+    private void indexar(RegraGravada regra) {
+        porUsuario.computeIfAbsent(regra.usuarioId(), id -> new ConcurrentHashMap<>()).put(regra.id(), regra);
+    }
+}
@@ -0,0 +1,65 @@
+package com.financecore.infrastructure.persistence.local;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.financecore.domain.model.entity.Usuario;
+import com.financecore.domain.model.repository.UsuarioRepository;
+import com.financecore.infrastructure.persistence.local.ArmazemLocal.Registro;
+
+/**
+ * Repositório de Usuário sobre o armazenamento local.
+ *
+ * Usuário e preferências formam um registro; um lote de usuários é gravado
+ * em um único commit. Como no modo relacional, meses financeiros são
+ * gravados e lidos pelo MesFinanceiroRepository e, na carga, o usuário vem
+ * sem meses.
+ */
+public class LocalUsuarioRepository implements UsuarioRepository {
+
+    private final ArmazemLocal armazem;
+
+    public LocalUsuarioRepository(ArmazemLocal armazem) {
+        this.armazem = Objects.requireNonNull(armazem, "armazem não pode ser nulo");
+    }
+
+    @Override
+    public Usuario salvar(Usuario usuario) {
+        Objects.requireNonNull(usuario, "usuario não pode ser nulo");
+        salvarTodos(List.of(usuario));
+        return usuario;
+    }
+
+    @Override
+    public List<Usuario> salvarTodos(Collection<Usuario> usuarios) {
+        Objects.requireNonNull(usuarios, "usuarios não pode ser nulo");
+        List<Usuario> lista = List.copyOf(usuarios);
+        List<Registro> registros = new ArrayList<>(lista.size());
+        for (Usuario usuario : lista) {
+            registros.add(Registro.gravacao(
+                    ArmazemLocal.USUARIO, usuario.getId(), CodificadorLocal.codificarUsuario(usuario)));
+        }
+        armazem.gravar(registros);
+        return lista;
+    }
+
+    @Override
+    public Optional<Usuario> buscarPorId(UUID id) {
+        Objects.requireNonNull(id, "id não pode ser nulo");
+        byte[] valor = armazem.ler(ArmazemLocal.USUARIO, id);
+        if (valor == null) {
+            return Optional.empty();
+        }
+        return Optional.of(CodificadorLocal.lerUsuario(id, valor, List.of()));
+    }
+
+    @Override
+    public boolean existePorId(UUID id) {
+        Objects.requireNonNull(id, "id não pode ser nulo");
+        return armazem.ler(ArmazemLocal.USUARIO, id) != null;
+    }
+}
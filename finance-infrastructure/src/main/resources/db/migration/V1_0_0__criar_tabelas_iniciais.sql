@@ -0,0 +1,133 @@
+-- Criação do esquema inicial conforme modelo físico (07-modelo-dados.md, seção 6).
+
+CREATE EXTENSION IF NOT EXISTS "uuid-ossp";
+
+CREATE TABLE usuario (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    nome VARCHAR(120) NOT NULL,
+    data_criacao TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+CREATE TABLE preferencias_sistema (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    usuario_id UUID NOT NULL,
+    tema VARCHAR(10) NOT NULL CHECK (tema IN ('CLARO', 'ESCURO')),
+    idioma VARCHAR(10) NOT NULL DEFAULT 'pt-BR',
+    notificacoes_ativas BOOLEAN NOT NULL DEFAULT TRUE,
+    CONSTRAINT fk_pref_usuario
+        FOREIGN KEY (usuario_id)
+        REFERENCES usuario(id)
+        ON DELETE CASCADE
+);
+
+CREATE TABLE mes_financeiro (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    usuario_id UUID NOT NULL,
+    mes INTEGER NOT NULL CHECK (mes BETWEEN 1 AND 12),
+    ano INTEGER NOT NULL CHECK (ano >= 2000),
+    status VARCHAR(10) NOT NULL CHECK (status IN ('ABERTO', 'FECHADO')),
+    saldo_inicial NUMERIC(14,2) NOT NULL,
+    saldo_final NUMERIC(14,2),
+    CONSTRAINT uq_mes_usuario UNIQUE (usuario_id, mes, ano),
+    CONSTRAINT fk_mes_usuario
+        FOREIGN KEY (usuario_id)
+        REFERENCES usuario(id)
+        ON DELETE CASCADE
+);
+
+CREATE TABLE receita (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    mes_financeiro_id UUID NOT NULL,
+    descricao VARCHAR(255) NOT NULL,
+    valor NUMERIC(14,2) NOT NULL CHECK (valor > 0),
+    tipo VARCHAR(10) NOT NULL CHECK (tipo IN ('FIXA', 'VARIAVEL')),
+    data_referencia DATE NOT NULL,
+    CONSTRAINT fk_receita_mes
+        FOREIGN KEY (mes_financeiro_id)
+        REFERENCES mes_financeiro(id)
+        ON DELETE RESTRICT
+);
+
+CREATE TABLE categoria (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    nome VARCHAR(100) NOT NULL,
+    essencial BOOLEAN NOT NULL
+);
+
+CREATE TABLE despesa (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    mes_financeiro_id UUID NOT NULL,
+    categoria_id UUID,
+    descricao VARCHAR(255) NOT NULL,
+    valor NUMERIC(14,2) NOT NULL CHECK (valor > 0),
+    data DATE NOT NULL,
+    tipo VARCHAR(15) NOT NULL CHECK (tipo IN ('PONTUAL', 'FIXA', 'PARCELADA')),
+    metodo_pagamento VARCHAR(50) NOT NULL,
+    CONSTRAINT fk_despesa_mes
+        FOREIGN KEY (mes_financeiro_id)
+        REFERENCES mes_financeiro(id)
+        ON DELETE RESTRICT,
+    CONSTRAINT fk_despesa_categoria
+        FOREIGN KEY (categoria_id)
+        REFERENCES categoria(id)
+);
+
+CREATE TABLE parcelamento (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    despesa_id UUID NOT NULL,
+    valor_total NUMERIC(14,2) NOT NULL CHECK (valor_total > 0),
+    numero_parcelas INTEGER NOT NULL CHECK (numero_parcelas > 1),
+    parcela_atual INTEGER NOT NULL DEFAULT 1,
+    CONSTRAINT fk_parcelamento_despesa
+        FOREIGN KEY (despesa_id)
+        REFERENCES despesa(id)
+        ON DELETE CASCADE
+);
+
+CREATE TABLE parcela (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    parcelamento_id UUID NOT NULL,
+    mes_financeiro_id UUID NOT NULL,
+    numero INTEGER NOT NULL,
+    valor NUMERIC(14,2) NOT NULL CHECK (valor > 0),
+    status VARCHAR(10) NOT NULL CHECK (status IN ('PAGA', 'PENDENTE')),
+    CONSTRAINT fk_parcela_parcelamento
+        FOREIGN KEY (parcelamento_id)
+        REFERENCES parcelamento(id)
+        ON DELETE CASCADE,
+    CONSTRAINT fk_parcela_mes
+        FOREIGN KEY (mes_financeiro_id)
+        REFERENCES mes_financeiro(id)
+        ON DELETE RESTRICT
+);
+
+CREATE TABLE historico_financeiro (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    usuario_id UUID NOT NULL,
+    periodo_inicio DATE NOT NULL,
+    periodo_fim DATE NOT NULL,
+    total_receitas NUMERIC(14,2) NOT NULL,
+    total_despesas NUMERIC(14,2) NOT NULL,
+    saldo_final NUMERIC(14,2) NOT NULL,
+    data_geracao TIMESTAMP NOT NULL DEFAULT NOW(),
+    CONSTRAINT fk_historico_usuario
+        FOREIGN KEY (usuario_id)
+        REFERENCES usuario(id)
+        ON DELETE CASCADE
+);
+
+-- Filtros por usuário e status (dashboards)
+CREATE INDEX idx_mes_usuario_status
+    ON mes_financeiro (usuario_id, status);
+
+-- Consultas de despesas por mês (relatórios, fechamento)
+CREATE INDEX idx_despesa_mes
+    ON despesa (mes_financeiro_id);
+
+-- Consultas de parcelas por mês (cálculo de saldo)
+CREATE INDEX idx_parcela_mes
+    ON parcela (mes_financeiro_id);
+
+-- Carga das receitas de um conjunto de meses (reidratação do agregado)
+CREATE INDEX idx_receita_mes
+    ON receita (mes_financeiro_id);
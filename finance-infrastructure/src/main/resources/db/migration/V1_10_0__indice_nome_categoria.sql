@@ -0,0 +1,4 @@
+-- Busca de categoria por nome (Categoria.normalizarNome): a consulta compara
+-- lower(trim(nome)), que não usa um índice sobre a coluna pura.
+CREATE INDEX idx_categoria_nome_normalizado
+    ON categoria (lower(trim(nome)));
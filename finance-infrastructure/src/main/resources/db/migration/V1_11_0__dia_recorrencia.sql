@@ -0,0 +1,25 @@
+-- Dia do mês da primeira ocorrência de cada recorrência FIXA (RN-05).
+-- As ocorrências seguintes caem nesse dia, limitado ao último dia do mês;
+-- sem ele, uma recorrência no dia 31 ficaria presa no dia 28 depois de fevereiro.
+-- Recorrências existentes assumem o dia da ocorrência mais antiga.
+
+ALTER TABLE receita ADD COLUMN dia_recorrencia SMALLINT;
+ALTER TABLE despesa ADD COLUMN dia_recorrencia SMALLINT;
+
+UPDATE receita r
+   SET dia_recorrencia = EXTRACT(DAY FROM (
+           SELECT min(o.data_referencia) FROM receita o WHERE o.recorrencia_id = r.recorrencia_id))
+ WHERE r.recorrencia_id IS NOT NULL;
+
+UPDATE despesa d
+   SET dia_recorrencia = EXTRACT(DAY FROM (
+           SELECT min(o.data) FROM despesa o WHERE o.recorrencia_id = d.recorrencia_id))
+ WHERE d.recorrencia_id IS NOT NULL;
+
+ALTER TABLE receita
+    ADD CONSTRAINT ck_receita_dia_recorrencia
+        CHECK ((recorrencia_id IS NULL) = (dia_recorrencia IS NULL) AND dia_recorrencia BETWEEN 1 AND 31);
+
+ALTER TABLE despesa
+    ADD CONSTRAINT ck_despesa_dia_recorrencia
+        CHECK ((recorrencia_id IS NULL) = (dia_recorrencia IS NULL) AND dia_recorrencia BETWEEN 1 AND 31);
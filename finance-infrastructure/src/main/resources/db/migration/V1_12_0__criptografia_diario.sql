@@ -0,0 +1,7 @@
+-- Criptografia dos eventos e snapshots do diário (RNF02), que carregam as
+-- mesmas descrições e valores das colunas cifradas de receita e despesa.
+-- chave_versao identifica a chave que cifrou "dados"; nula indica texto claro,
+-- gravado antes da ativação e ainda não migrado.
+
+ALTER TABLE mes_financeiro_evento ADD COLUMN chave_versao SMALLINT;
+ALTER TABLE mes_financeiro_snapshot ADD COLUMN chave_versao SMALLINT;
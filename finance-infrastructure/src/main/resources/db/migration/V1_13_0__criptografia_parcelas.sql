@@ -0,0 +1,15 @@
+-- Criptografia do valor das parcelas (RNF02), no mesmo esquema de receita e
+-- despesa (V1_8_0): cada linha guarda o valor claro ou o cifrado, nunca os
+-- dois, e chave_versao nula indica texto claro ainda não migrado.
+-- As parcelas existentes estão todas em texto claro, então a restrição já
+-- nasce validada.
+
+ALTER TABLE parcela
+    ALTER COLUMN valor DROP NOT NULL,
+    ADD COLUMN valor_cifrado BYTEA,
+    ADD COLUMN chave_versao SMALLINT,
+    ADD CONSTRAINT ck_parcela_cifrada
+        CHECK (CASE WHEN chave_versao IS NULL
+                    THEN valor IS NOT NULL AND valor_cifrado IS NULL
+                    ELSE valor IS NULL AND valor_cifrado IS NOT NULL
+               END);
@@ -0,0 +1,20 @@
+-- Gravação do Parcelamento pelo repositório JDBC (RN-06).
+-- Uma despesa PARCELADA origina no máximo um parcelamento: a restrição única
+-- fecha a corrida entre duas gravações para a mesma despesa, e as parcelas
+-- ganham índice pelo parcelamento para a carga do agregado.
+-- O valor total segue o esquema de criptografia de parcela (V1_13_0): cada
+-- linha guarda o valor claro ou o cifrado, nunca os dois, e chave_versao nula
+-- indica texto claro ainda não migrado.
+
+ALTER TABLE parcelamento
+    ADD CONSTRAINT uq_parcelamento_despesa UNIQUE (despesa_id),
+    ALTER COLUMN valor_total DROP NOT NULL,
+    ADD COLUMN valor_total_cifrado BYTEA,
+    ADD COLUMN chave_versao SMALLINT,
+    ADD CONSTRAINT ck_parcelamento_cifrado
+        CHECK (CASE WHEN chave_versao IS NULL
+                    THEN valor_total IS NOT NULL AND valor_total_cifrado IS NULL
+                    ELSE valor_total IS NULL AND valor_total_cifrado IS NOT NULL
+               END);
+
+CREATE INDEX idx_parcela_parcelamento ON parcela (parcelamento_id, numero);
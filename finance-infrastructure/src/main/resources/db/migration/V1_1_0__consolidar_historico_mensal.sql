@@ -0,0 +1,39 @@
+-- Consolidação mensal gravada no fechamento do mês (RN-09).
+-- Colunas novas têm valor padrão para não invalidar linhas existentes.
+
+ALTER TABLE historico_financeiro
+    ADD COLUMN mes_financeiro_id UUID,
+    ADD COLUMN saldo_inicial NUMERIC(14,2) NOT NULL DEFAULT 0,
+    ADD COLUMN total_parcelas NUMERIC(14,2) NOT NULL DEFAULT 0,
+    ADD COLUMN receitas_fixas NUMERIC(14,2) NOT NULL DEFAULT 0,
+    ADD COLUMN receitas_variaveis NUMERIC(14,2) NOT NULL DEFAULT 0,
+    ADD COLUMN despesas_pontuais NUMERIC(14,2) NOT NULL DEFAULT 0,
+    ADD COLUMN despesas_fixas NUMERIC(14,2) NOT NULL DEFAULT 0,
+    ADD COLUMN despesas_parceladas NUMERIC(14,2) NOT NULL DEFAULT 0,
+    ADD COLUMN despesas_essenciais NUMERIC(14,2) NOT NULL DEFAULT 0,
+    ADD COLUMN despesas_nao_essenciais NUMERIC(14,2) NOT NULL DEFAULT 0,
+    ADD CONSTRAINT fk_historico_mes
+        FOREIGN KEY (mes_financeiro_id)
+        REFERENCES mes_financeiro(id)
+        ON DELETE CASCADE;
+
+CREATE TABLE historico_financeiro_categoria (
+    historico_id UUID NOT NULL,
+    categoria_id UUID NOT NULL,
+    nome VARCHAR(100) NOT NULL,
+    essencial BOOLEAN NOT NULL,
+    total NUMERIC(14,2) NOT NULL,
+    PRIMARY KEY (historico_id, categoria_id),
+    CONSTRAINT fk_historico_categoria_historico
+        FOREIGN KEY (historico_id)
+        REFERENCES historico_financeiro(id)
+        ON DELETE CASCADE
+);
+
+-- Uma consolidação por mês fechado (RN-02: o mês não muda depois disso)
+CREATE UNIQUE INDEX uk_historico_mes
+    ON historico_financeiro (mes_financeiro_id);
+
+-- Relatórios históricos por usuário e intervalo de períodos
+CREATE INDEX idx_historico_usuario_periodo
+    ON historico_financeiro (usuario_id, periodo_inicio);
@@ -0,0 +1,25 @@
+-- Regras de classificação automática de despesas (RF06).
+
+CREATE TABLE regra_classificacao (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    usuario_id UUID NOT NULL,
+    palavra_chave VARCHAR(100),
+    metodo_pagamento VARCHAR(50),
+    categoria_id UUID NOT NULL,
+    prioridade INTEGER NOT NULL DEFAULT 0,
+    data_criacao TIMESTAMP NOT NULL DEFAULT NOW(),
+    CONSTRAINT ck_regra_criterio
+        CHECK (palavra_chave IS NOT NULL OR metodo_pagamento IS NOT NULL),
+    CONSTRAINT fk_regra_usuario
+        FOREIGN KEY (usuario_id)
+        REFERENCES usuario(id)
+        ON DELETE CASCADE,
+    CONSTRAINT fk_regra_categoria
+        FOREIGN KEY (categoria_id)
+        REFERENCES categoria(id)
+        ON DELETE CASCADE
+);
+
+-- Carga das regras de um usuário na ordem de cadastro
+CREATE INDEX idx_regra_usuario
+    ON regra_classificacao (usuario_id, data_criacao);
@@ -0,0 +1,28 @@
+-- Recorrência de receitas e despesas FIXA (RN-05).
+-- Todas as ocorrências de um lançamento fixo compartilham recorrencia_id;
+-- lançamentos FIXA já existentes iniciam a própria recorrência.
+
+ALTER TABLE receita
+    ADD COLUMN recorrencia_id UUID,
+    ADD CONSTRAINT ck_receita_recorrencia
+        CHECK ((tipo = 'FIXA') = (recorrencia_id IS NOT NULL)) NOT VALID;
+
+ALTER TABLE despesa
+    ADD COLUMN recorrencia_id UUID,
+    ADD CONSTRAINT ck_despesa_recorrencia
+        CHECK ((tipo = 'FIXA') = (recorrencia_id IS NOT NULL)) NOT VALID;
+
+UPDATE receita SET recorrencia_id = id WHERE tipo = 'FIXA';
+UPDATE despesa SET recorrencia_id = id WHERE tipo = 'FIXA';
+
+ALTER TABLE receita VALIDATE CONSTRAINT ck_receita_recorrencia;
+ALTER TABLE despesa VALIDATE CONSTRAINT ck_despesa_recorrencia;
+
+-- No máximo uma ocorrência de cada recorrência por mês
+CREATE UNIQUE INDEX uk_receita_recorrencia_mes
+    ON receita (mes_financeiro_id, recorrencia_id)
+    WHERE recorrencia_id IS NOT NULL;
+
+CREATE UNIQUE INDEX uk_despesa_recorrencia_mes
+    ON despesa (mes_financeiro_id, recorrencia_id)
+    WHERE recorrencia_id IS NOT NULL;
@@ -0,0 +1,41 @@
+-- Auditoria incremental de saldos (RF10, RN-08).
+
+-- Marcado a cada gravação do mês ou de seus lançamentos
+ALTER TABLE mes_financeiro
+    ADD COLUMN atualizado_em TIMESTAMP NOT NULL DEFAULT NOW();
+
+CREATE INDEX idx_mes_usuario_atualizado
+    ON mes_financeiro (usuario_id, atualizado_em);
+
+-- Ponto de retomada: meses gravados depois de auditado_em são auditados na próxima execução
+CREATE TABLE auditoria_saldo (
+    usuario_id UUID PRIMARY KEY,
+    auditado_em TIMESTAMP NOT NULL,
+    CONSTRAINT fk_auditoria_usuario
+        FOREIGN KEY (usuario_id)
+        REFERENCES usuario(id)
+        ON DELETE CASCADE
+);
+
+CREATE TABLE divergencia_saldo (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    usuario_id UUID NOT NULL,
+    mes_financeiro_id UUID NOT NULL,
+    periodo_inicio DATE NOT NULL,
+    tipo VARCHAR(25) NOT NULL CHECK (tipo IN ('SALDO_INICIAL', 'SALDO_FINAL', 'LANCAMENTO_INCONSISTENTE', 'SALDO_INFORMADO')),
+    esperado NUMERIC(14,2) NOT NULL,
+    encontrado NUMERIC(14,2) NOT NULL,
+    lancamentos_suspeitos UUID[] NOT NULL DEFAULT '{}',
+    detectada_em TIMESTAMP NOT NULL DEFAULT NOW(),
+    CONSTRAINT fk_divergencia_usuario
+        FOREIGN KEY (usuario_id)
+        REFERENCES usuario(id)
+        ON DELETE CASCADE,
+    CONSTRAINT fk_divergencia_mes
+        FOREIGN KEY (mes_financeiro_id)
+        REFERENCES mes_financeiro(id)
+        ON DELETE CASCADE
+);
+
+CREATE INDEX idx_divergencia_usuario_periodo
+    ON divergencia_saldo (usuario_id, periodo_inicio);
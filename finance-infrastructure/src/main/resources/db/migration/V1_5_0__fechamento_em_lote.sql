@@ -0,0 +1,16 @@
+-- Fechamento em lote dos meses de um período (UC-08).
+
+-- Meses ABERTOS de um período percorridos em ordem de id
+CREATE INDEX idx_mes_periodo_abertos
+    ON mes_financeiro (ano, mes, id)
+    WHERE status = 'ABERTO';
+
+-- Ponto de retomada do fechamento em lote, um por período
+CREATE TABLE fechamento_lote (
+    periodo_inicio DATE PRIMARY KEY,
+    ultimo_mes_id UUID,
+    fechados BIGINT NOT NULL DEFAULT 0,
+    falhas BIGINT NOT NULL DEFAULT 0,
+    concluido BOOLEAN NOT NULL DEFAULT FALSE,
+    atualizado_em TIMESTAMP NOT NULL DEFAULT NOW()
+);
@@ -0,0 +1,36 @@
+-- Persistência de MêsFinanceiro por eventos (modo "diario").
+
+-- Eventos acrescentados em ordem; a chave impede duas escritas na mesma sequência
+CREATE TABLE mes_financeiro_evento (
+    mes_financeiro_id UUID NOT NULL,
+    sequencia BIGINT NOT NULL,
+    tipo SMALLINT NOT NULL,
+    dados BYTEA NOT NULL,
+    -- RN-04: categoria referenciada pelo evento, impede a remoção de categorias em uso
+    categoria_id UUID,
+    registrado_em TIMESTAMP NOT NULL DEFAULT NOW(),
+    CONSTRAINT pk_mes_financeiro_evento PRIMARY KEY (mes_financeiro_id, sequencia),
+    CONSTRAINT fk_evento_mes
+        FOREIGN KEY (mes_financeiro_id)
+        REFERENCES mes_financeiro(id)
+        ON DELETE RESTRICT,
+    CONSTRAINT fk_evento_categoria
+        FOREIGN KEY (categoria_id)
+        REFERENCES categoria(id)
+);
+
+CREATE INDEX idx_evento_categoria
+    ON mes_financeiro_evento (categoria_id)
+    WHERE categoria_id IS NOT NULL;
+
+-- Último snapshot de cada mês: estado após o evento "sequencia"
+CREATE TABLE mes_financeiro_snapshot (
+    mes_financeiro_id UUID PRIMARY KEY,
+    sequencia BIGINT NOT NULL,
+    dados BYTEA NOT NULL,
+    gravado_em TIMESTAMP NOT NULL DEFAULT NOW(),
+    CONSTRAINT fk_snapshot_mes
+        FOREIGN KEY (mes_financeiro_id)
+        REFERENCES mes_financeiro(id)
+        ON DELETE RESTRICT
+);
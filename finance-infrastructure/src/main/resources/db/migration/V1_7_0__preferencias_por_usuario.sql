@@ -0,0 +1,10 @@
+-- RN-11: uma linha de preferências por usuário, base do upsert em lote.
+
+-- Duplicatas eventuais: mantém a linha gravada por último
+DELETE FROM preferencias_sistema p
+ USING preferencias_sistema posterior
+ WHERE p.usuario_id = posterior.usuario_id
+   AND p.ctid < posterior.ctid;
+
+CREATE UNIQUE INDEX uq_preferencias_usuario
+    ON preferencias_sistema (usuario_id);
@@ -0,0 +1,38 @@
+-- Criptografia das colunas sensíveis de receita e despesa (RNF02).
+-- Versão intermediária (08-migracoes, 9.1): cada linha guarda o texto claro
+-- ou o conteúdo cifrado, nunca os dois. chave_versao identifica a chave que
+-- cifrou a linha; nula indica texto claro, ainda não migrado. Todas as
+-- linhas existentes estão em texto claro, então as restrições são validadas
+-- na própria criação, sem uma segunda varredura das tabelas.
+
+ALTER TABLE receita
+    ALTER COLUMN descricao DROP NOT NULL,
+    ALTER COLUMN valor DROP NOT NULL,
+    ADD COLUMN descricao_cifrada BYTEA,
+    ADD COLUMN valor_cifrado BYTEA,
+    ADD COLUMN chave_versao SMALLINT,
+    ADD CONSTRAINT ck_receita_cifrada
+        CHECK (CASE WHEN chave_versao IS NULL
+                    THEN descricao IS NOT NULL AND valor IS NOT NULL
+                         AND descricao_cifrada IS NULL AND valor_cifrado IS NULL
+                    ELSE descricao IS NULL AND valor IS NULL
+                         AND descricao_cifrada IS NOT NULL AND valor_cifrado IS NOT NULL
+               END);
+
+ALTER TABLE despesa
+    ALTER COLUMN descricao DROP NOT NULL,
+    ALTER COLUMN valor DROP NOT NULL,
+    ALTER COLUMN metodo_pagamento DROP NOT NULL,
+    ADD COLUMN descricao_cifrada BYTEA,
+    ADD COLUMN valor_cifrado BYTEA,
+    ADD COLUMN metodo_pagamento_cifrado BYTEA,
+    ADD COLUMN chave_versao SMALLINT,
+    ADD CONSTRAINT ck_despesa_cifrada
+        CHECK (CASE WHEN chave_versao IS NULL
+                    THEN descricao IS NOT NULL AND valor IS NOT NULL AND metodo_pagamento IS NOT NULL
+                         AND descricao_cifrada IS NULL AND valor_cifrado IS NULL
+                         AND metodo_pagamento_cifrado IS NULL
+                    ELSE descricao IS NULL AND valor IS NULL AND metodo_pagamento IS NULL
+                         AND descricao_cifrada IS NOT NULL AND valor_cifrado IS NOT NULL
+                         AND metodo_pagamento_cifrado IS NOT NULL
+               END);
@@ -0,0 +1,4 @@
+-- Percurso dos meses de um usuário por período (keyset em (ano, mes)).
+-- uq_mes_usuario começa por (usuario_id, mes), então não serve à ordenação por ano.
+CREATE INDEX idx_mes_usuario_periodo
+    ON mes_financeiro (usuario_id, ano, mes);
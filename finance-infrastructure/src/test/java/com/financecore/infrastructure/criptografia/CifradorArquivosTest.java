@@ -0,0 +1,86 @@
+package com.financecore.infrastructure.criptografia;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class CifradorArquivosTest {
+
+    private static final String CHAVE_1 = "1:" + Base64.getEncoder().encodeToString(new byte[32]);
+    private static final String CHAVE_2 = "2:" + Base64.getEncoder().encodeToString(filled(32, (byte) 7));
+
+    @Test
+    void arquivoDeVariosSegmentosVoltaIgual() throws IOException {
+        CifradorArquivos cifrador = new CifradorArquivos(ChavesCriptografia.de(CHAVE_1, 1));
+        for (int tamanho : new int[] {0, 1, 64 * 1024, 64 * 1024 + 1, 200_000}) {
+            byte[] conteudo = aleatorio(tamanho);
+
+            assertArrayEquals(conteudo, decifrar(cifrador, cifrar(cifrador, conteudo)));
+        }
+    }
+
+    @Test
+    void arquivoCifradoComAChaveAnteriorDecifraAposARotacao() throws IOException {
+        byte[] conteudo = aleatorio(100_000);
+        byte[] cifrado = cifrar(new CifradorArquivos(ChavesCriptografia.de(CHAVE_1, 1)), conteudo);
+
+        CifradorArquivos rotacionado = new CifradorArquivos(ChavesCriptografia.de(CHAVE_1 + "," + CHAVE_2, 2));
+
+        assertArrayEquals(conteudo, decifrar(rotacionado, cifrado));
+    }
+
+    @Test
+    void arquivoTruncadoOuAdulteradoNaoDecifra() throws IOException {
+        CifradorArquivos cifrador = new CifradorArquivos(ChavesCriptografia.de(CHAVE_1, 1));
+        byte[] cifrado = cifrar(cifrador, aleatorio(150_000));
+
+        byte[] truncado = Arrays.copyOf(cifrado, 64 * 1024 + 100);
+        byte[] adulterado = cifrado.clone();
+        adulterado[70_000] ^= 1;
+
+        assertThrows(IOException.class, () -> decifrar(cifrador, truncado));
+        assertThrows(IOException.class, () -> decifrar(cifrador, adulterado));
+    }
+
+    private static byte[] cifrar(CifradorArquivos cifrador, byte[] conteudo) throws IOException {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        try (WritableByteChannel canal = cifrador.cifrar(Channels.newChannel(saida))) {
+            // Escritas pequenas e desalinhadas com os segmentos
+            for (int inicio = 0; inicio < conteudo.length; inicio += 10_000) {
+                canal.write(ByteBuffer.wrap(conteudo, inicio, Math.min(10_000, conteudo.length - inicio)));
+            }
+        }
+        return saida.toByteArray();
+    }
+
+    private static byte[] decifrar(CifradorArquivos cifrador, byte[] cifrado) throws IOException {
+        try (InputStream entrada = Channels.newInputStream(
+                cifrador.decifrar(Channels.newChannel(new ByteArrayInputStream(cifrado))))) {
+            return entrada.readAllBytes();
+        }
+    }
+
+    private static byte[] aleatorio(int tamanho) {
+        byte[] bytes = new byte[tamanho];
+        new Random(tamanho).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static byte[] filled(int tamanho, byte valor) {
+        byte[] bytes = new byte[tamanho];
+        Arrays.fill(bytes, valor);
+        return bytes;
+    }
+}
@@ -0,0 +1,117 @@
+package com.financecore.infrastructure.criptografia;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.financecore.infrastructure.criptografia.CifradorColunas.Coluna;
+
+class CifradorColunasTest {
+
+    private static final String CHAVE_1 = chave(1);
+    private static final String CHAVE_2 = chave(2);
+
+    private final UUID id = UUID.randomUUID();
+
+    @Test
+    void textoECentavosVoltamComoForamGravados() {
+        CifradorColunas cifrador = new CifradorColunas(ChavesCriptografia.de(CHAVE_1, 1));
+
+        byte[] descricao = cifrador.cifrarTexto(id, Coluna.DESCRICAO, "Farmácia São João");
+        byte[] valor = cifrador.cifrarCentavos(id, Coluna.VALOR, -123_456L);
+
+        assertEquals("Farmácia São João", cifrador.decifrarTexto(id, Coluna.DESCRICAO, descricao));
+        assertEquals(-123_456L, cifrador.decifrarCentavos(id, Coluna.VALOR, valor));
+        assertEquals(Long.MIN_VALUE, cifrador.decifrarCentavos(id, Coluna.VALOR,
+                cifrador.cifrarCentavos(id, Coluna.VALOR, Long.MIN_VALUE)));
+        assertEquals(Long.BYTES + CifradorColunas.ACRESCIMO, valor.length);
+        assertEquals(1, CifradorColunas.versao(valor));
+    }
+
+    @Test
+    void mesmoValorGeraCifrasDiferentes() {
+        CifradorColunas cifrador = new CifradorColunas(ChavesCriptografia.de(CHAVE_1, 1));
+
+        byte[] primeira = cifrador.cifrarTexto(id, Coluna.DESCRICAO, "Aluguel");
+        byte[] segunda = cifrador.cifrarTexto(id, Coluna.DESCRICAO, "Aluguel");
+
+        assertFalse(Arrays.equals(primeira, segunda));
+    }
+
+    @Test
+    void valorSoDecifraNaMesmaLinhaColunaEPosicao() {
+        CifradorColunas cifrador = new CifradorColunas(ChavesCriptografia.de(CHAVE_1, 1));
+        byte[] valor = cifrador.cifrarCentavos(id, Coluna.VALOR, 5_000L);
+        byte[] conteudo = cifrador.cifrarConteudo(id, Coluna.EVENTO, 7L, "evento".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IllegalStateException.class, () -> cifrador.decifrarCentavos(UUID.randomUUID(), Coluna.VALOR, valor));
+        assertThrows(IllegalStateException.class, () -> cifrador.decifrarCentavos(id, Coluna.DESCRICAO, valor));
+        assertThrows(IllegalStateException.class, () -> cifrador.decifrarConteudo(id, Coluna.EVENTO, 8L, conteudo));
+        assertArrayEquals("evento".getBytes(StandardCharsets.UTF_8),
+                cifrador.decifrarConteudo(id, Coluna.EVENTO, 7L, conteudo));
+    }
+
+    @Test
+    void valorAdulteradoOuTruncadoEhRejeitado() {
+        CifradorColunas cifrador = new CifradorColunas(ChavesCriptografia.de(CHAVE_1, 1));
+        byte[] valor = cifrador.cifrarTexto(id, Coluna.DESCRICAO, "Mercado");
+
+        byte[] adulterado = valor.clone();
+        adulterado[adulterado.length - 1] ^= 1;
+
+        assertThrows(IllegalStateException.class, () -> cifrador.decifrarTexto(id, Coluna.DESCRICAO, adulterado));
+        assertThrows(IllegalStateException.class,
+                () -> cifrador.decifrarTexto(id, Coluna.DESCRICAO, Arrays.copyOf(valor, 10)));
+    }
+
+    @Test
+    void rotacaoDeChaveLeDadosAntigosEGravaComAVersaoNova() {
+        CifradorColunas antigo = new CifradorColunas(ChavesCriptografia.de(CHAVE_1, 1));
+        byte[] gravadoAntes = antigo.cifrarTexto(id, Coluna.DESCRICAO, "Salário");
+
+        CifradorColunas rotacionado = new CifradorColunas(ChavesCriptografia.de(CHAVE_1 + "," + CHAVE_2, 2));
+        byte[] gravadoDepois = rotacionado.cifrarTexto(id, Coluna.DESCRICAO, "Salário");
+
+        assertEquals("Salário", rotacionado.decifrarTexto(id, Coluna.DESCRICAO, gravadoAntes));
+        assertEquals(2, CifradorColunas.versao(gravadoDepois));
+
+        // Sem a chave 1, só o que foi recifrado continua legível
+        CifradorColunas semChaveAntiga = new CifradorColunas(ChavesCriptografia.de(CHAVE_2, 2));
+        assertEquals("Salário", semChaveAntiga.decifrarTexto(id, Coluna.DESCRICAO, gravadoDepois));
+        assertThrows(IllegalStateException.class,
+                () -> semChaveAntiga.decifrarTexto(id, Coluna.DESCRICAO, gravadoAntes));
+    }
+
+    @Test
+    void configuracaoDeChavesInvalidaEhRejeitada() {
+        String curta = "1:" + Base64.getEncoder().encodeToString(new byte[16]);
+
+        assertThrows(IllegalArgumentException.class, () -> ChavesCriptografia.de(curta, 1));
+        assertThrows(IllegalArgumentException.class, () -> ChavesCriptografia.de(CHAVE_1, 2));
+        assertThrows(IllegalArgumentException.class, () -> ChavesCriptografia.de(CHAVE_1 + "," + CHAVE_1, 1));
+        assertThrows(IllegalArgumentException.class, () -> ChavesCriptografia.de("0:" + CHAVE_1.substring(2), 1));
+    }
+
+    @Test
+    void semChavesNadaEhCifrado() {
+        CifradorColunas cifrador = new CifradorColunas(ChavesCriptografia.de(" ", 1));
+
+        assertFalse(cifrador.isAtivo());
+        assertEquals(0, cifrador.getVersaoAtual());
+        assertThrows(IllegalStateException.class, () -> cifrador.cifrarTexto(id, Coluna.DESCRICAO, "x"));
+    }
+
+    private static String chave(int semente) {
+        byte[] mestra = new byte[32];
+        Arrays.fill(mestra, (byte) semente);
+        return semente + ":" + Base64.getEncoder().encodeToString(mestra);
+    }
+}
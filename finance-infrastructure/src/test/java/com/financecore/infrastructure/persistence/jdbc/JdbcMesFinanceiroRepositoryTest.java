@@ -0,0 +1,261 @@
+package com.financecore.infrastructure.persistence.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import com.financecore.domain.model.entity.Categoria;
+import com.financecore.domain.model.entity.Despesa;
+import com.financecore.domain.model.entity.MesFinanceiro;
+import com.financecore.domain.model.entity.Parcela;
+import com.financecore.domain.model.entity.Receita;
+import com.financecore.domain.model.entity.TipoDespesa;
+import com.financecore.domain.model.entity.TipoReceita;
+import com.financecore.domain.model.valueobject.Dinheiro;
+import com.financecore.infrastructure.criptografia.ChavesCriptografia;
+import com.financecore.infrastructure.criptografia.CifradorColunas;
+import com.financecore.infrastructure.criptografia.CifradorColunas.Coluna;
+
+/**
+ * Escrita do MêsFinanceiro a partir dos eventos pendentes: o que é gravado em
+ * cada lote e quando os eventos são confirmados no agregado.
+ */
+class JdbcMesFinanceiroRepositoryTest {
+
+    private static final String INSERIR_RECEITA = "INSERT INTO receita";
+    private static final String INSERIR_DESPESA = "INSERT INTO despesa";
+    private static final String INSERIR_PARCELA = "INSERT INTO parcela";
+    private static final String RECLASSIFICAR = "UPDATE despesa SET categoria_id";
+    private static final String PAGAR_PARCELA = "UPDATE parcela SET status";
+    private static final String MARCAR_ATUALIZADO = "UPDATE mes_financeiro SET atualizado_em";
+
+    private final JdbcTemplateGravador jdbc = new JdbcTemplateGravador();
+    private final GerenciadorTransacoesFalso transacoes = new GerenciadorTransacoesFalso();
+    private final Categoria moradia = Categoria.nova("Moradia", true);
+    private final Categoria lazer = Categoria.nova("Lazer", false);
+
+    @Test
+    void gravacaoDesfeitaEhRepetidaNaTransacaoSeguinte() {
+        JdbcMesFinanceiroRepository repositorio = new JdbcMesFinanceiroRepository(jdbc);
+        MesFinanceiro mes = MesFinanceiro.novo(UUID.randomUUID(), 3, 2024, Dinheiro.ZERO);
+        Receita salario = receita(mes, "Salário", 500_000);
+        mes.registrarReceita(salario);
+        mes.registrarDespesa(despesa(mes, "Aluguel", 150_000));
+
+        TransactionStatus status = transacoes.getTransaction(TransactionDefinition.withDefaults());
+        repositorio.salvar(mes);
+        transacoes.rollback(status);
+
+        assertEquals(3, mes.getEventos().size());
+
+        jdbc.limpar();
+        status = transacoes.getTransaction(TransactionDefinition.withDefaults());
+        repositorio.salvar(mes);
+        assertEquals(3, mes.getEventos().size());
+        transacoes.commit(status);
+
+        assertTrue(mes.getEventos().isEmpty());
+        assertEquals(List.of(mes), jdbc.itens(JdbcMesFinanceiroRepository.SQL_UPSERT_CABECALHO));
+        assertEquals(List.of(salario), jdbc.itens(INSERIR_RECEITA));
+        assertEquals(1, jdbc.itens(INSERIR_DESPESA).size());
+    }
+
+    @Test
+    void reclassificacaoEPagamentoDesfeitosSaoRegravados() {
+        JdbcMesFinanceiroRepository repositorio = new JdbcMesFinanceiroRepository(jdbc);
+        MesFinanceiro mes = MesFinanceiro.novo(UUID.randomUUID(), 3, 2024, Dinheiro.ZERO);
+        Despesa cinema = despesa(mes, "Cinema", 4_000);
+        Parcela parcela = Parcela.nova(UUID.randomUUID(), mes.getId(), 1, Dinheiro.deCentavos(10_000));
+        mes.registrarDespesa(cinema);
+        mes.registrarParcela(parcela);
+        repositorio.salvar(mes);
+        assertTrue(mes.getEventos().isEmpty());
+
+        mes.reclassificarDespesa(cinema.getId(), lazer);
+        mes.marcarParcelaPaga(parcela.getId());
+        TransactionStatus status = transacoes.getTransaction(TransactionDefinition.withDefaults());
+        repositorio.salvar(mes);
+        transacoes.rollback(status);
+
+        jdbc.limpar();
+        status = transacoes.getTransaction(TransactionDefinition.withDefaults());
+        repositorio.salvar(mes);
+        transacoes.commit(status);
+
+        assertTrue(mes.getEventos().isEmpty());
+        assertEquals(1, jdbc.itens(RECLASSIFICAR).size());
+        assertEquals(List.of(parcela.getId()), jdbc.itens(PAGAR_PARCELA));
+        assertEquals(List.of(mes), jdbc.itens(MARCAR_ATUALIZADO));
+        assertTrue(jdbc.itens(INSERIR_DESPESA).isEmpty());
+        assertTrue(jdbc.itens(INSERIR_PARCELA).isEmpty());
+    }
+
+    @Test
+    void segundaGravacaoNaMesmaTransacaoGravaSoOsEventosNovos() {
+        JdbcMesFinanceiroRepository repositorio = new JdbcMesFinanceiroRepository(jdbc);
+        MesFinanceiro mes = MesFinanceiro.novo(UUID.randomUUID(), 3, 2024, Dinheiro.ZERO);
+        Receita primeira = receita(mes, "Freela", 80_000);
+        Receita segunda = receita(mes, "Reembolso", 5_000);
+
+        TransactionStatus status = transacoes.getTransaction(TransactionDefinition.withDefaults());
+        mes.registrarReceita(primeira);
+        repositorio.salvar(mes);
+        mes.registrarReceita(segunda);
+        repositorio.salvar(mes);
+        repositorio.salvar(mes);
+        transacoes.commit(status);
+
+        assertTrue(mes.getEventos().isEmpty());
+        assertEquals(List.of(primeira, segunda), jdbc.itens(INSERIR_RECEITA));
+        assertEquals(1, jdbc.itens(JdbcMesFinanceiroRepository.SQL_UPSERT_CABECALHO).size());
+    }
+
+    @Test
+    void semTransacaoOsEventosSaoConfirmadosNaHora() {
+        JdbcMesFinanceiroRepository repositorio = new JdbcMesFinanceiroRepository(jdbc);
+        MesFinanceiro mes = MesFinanceiro.novo(UUID.randomUUID(), 3, 2024, Dinheiro.ZERO);
+        repositorio.salvar(mes);
+
+        assertTrue(mes.getEventos().isEmpty());
+
+        jdbc.limpar();
+        repositorio.salvar(mes);
+
+        assertTrue(jdbc.lotes.isEmpty());
+    }
+
+    @Test
+    void comCifradorAtivoSoAsColunasCifradasSaoPreenchidas() throws SQLException {
+        CifradorColunas cifrador = new CifradorColunas(
+                ChavesCriptografia.de("1:" + Base64.getEncoder().encodeToString(new byte[32]), 1));
+        JdbcMesFinanceiroRepository repositorio = new JdbcMesFinanceiroRepository(jdbc, cifrador);
+        MesFinanceiro mes = MesFinanceiro.novo(UUID.randomUUID(), 3, 2024, Dinheiro.ZERO);
+        Despesa aluguel = despesa(mes, "Aluguel", 150_000);
+        mes.registrarDespesa(aluguel);
+        repositorio.salvar(mes);
+
+        Map<Integer, Object> colunas = jdbc.preencher(INSERIR_DESPESA, aluguel);
+
+        assertNull(colunas.get(4));
+        assertNull(colunas.get(5));
+        assertNull(colunas.get(8));
+        assertEquals("Aluguel", cifrador.decifrarTexto(aluguel.getId(), Coluna.DESCRICAO, (byte[]) colunas.get(10)));
+        assertEquals(150_000L, cifrador.decifrarCentavos(aluguel.getId(), Coluna.VALOR, (byte[]) colunas.get(11)));
+        assertEquals("PIX", cifrador.decifrarTexto(aluguel.getId(), Coluna.METODO_PAGAMENTO, (byte[]) colunas.get(12)));
+        assertEquals((short) 1, colunas.get(13));
+    }
+
+    private static Receita receita(MesFinanceiro mes, String descricao, long centavos) {
+        return Receita.nova(mes.getId(), descricao, Dinheiro.deCentavos(centavos), TipoReceita.VARIAVEL,
+                LocalDate.of(mes.getAno(), mes.getMes(), 5));
+    }
+
+    private Despesa despesa(MesFinanceiro mes, String descricao, long centavos) {
+        return Despesa.nova(mes.getId(), moradia, descricao, Dinheiro.deCentavos(centavos),
+                LocalDate.of(mes.getAno(), mes.getMes(), 10), TipoDespesa.PONTUAL, "PIX");
+    }
+
+    /**
+     * Registra os lotes enviados, sem banco. Cada lote guarda o preenchimento
+     * para que o teste possa inspecionar os parâmetros de uma linha.
+     */
+    private static final class JdbcTemplateGravador extends JdbcTemplate {
+
+        private final List<Lote<?>> lotes = new ArrayList<>();
+
+        @Override
+        public <T> int[][] batchUpdate(String sql, Collection<T> itens, int tamanhoLote,
+                                       ParameterizedPreparedStatementSetter<T> preenchimento) {
+            lotes.add(new Lote<>(sql, List.copyOf(itens), preenchimento));
+            return new int[0][];
+        }
+
+        void limpar() {
+            lotes.clear();
+        }
+
+        List<Object> itens(String inicioSql) {
+            List<Object> itens = new ArrayList<>();
+            for (Lote<?> lote : lotes) {
+                if (lote.sql().strip().startsWith(inicioSql.strip())) {
+                    itens.addAll(lote.itens());
+                }
+            }
+            return itens;
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> Map<Integer, Object> preencher(String inicioSql, T item) throws SQLException {
+            for (Lote<?> lote : lotes) {
+                if (lote.sql().strip().startsWith(inicioSql) && lote.itens().contains(item)) {
+                    Map<Integer, Object> parametros = new HashMap<>();
+                    ((ParameterizedPreparedStatementSetter<T>) lote.preenchimento())
+                            .setValues(comando(parametros), item);
+                    return parametros;
+                }
+            }
+            throw new AssertionError("Nenhum lote de " + inicioSql + " contém " + item);
+        }
+
+        // setNull grava null; os demais setters gravam o valor do segundo argumento
+        private static PreparedStatement comando(Map<Integer, Object> parametros) {
+            return (PreparedStatement) Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(),
+                    new Class<?>[] {PreparedStatement.class},
+                    (proxy, metodo, argumentos) -> {
+                        if (metodo.getName().startsWith("set") && argumentos != null && argumentos.length >= 2) {
+                            Object valor = metodo.getName().equals("setNull") ? null : argumentos[1];
+                            parametros.put((Integer) argumentos[0], valor);
+                            return null;
+                        }
+                        throw new UnsupportedOperationException(metodo.getName());
+                    });
+        }
+    }
+
+    private record Lote<T>(String sql, List<T> itens, ParameterizedPreparedStatementSetter<T> preenchimento) {
+    }
+
+    /**
+     * Transações sem recurso: só a sincronização, que é o que o repositório usa.
+     */
+    private static final class GerenciadorTransacoesFalso extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transacao, TransactionDefinition definicao) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
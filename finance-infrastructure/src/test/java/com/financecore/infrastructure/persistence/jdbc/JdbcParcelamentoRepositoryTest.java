@@ -0,0 +1,268 @@
+package com.financecore.infrastructure.persistence.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+
+import com.financecore.domain.model.entity.Categoria;
+import com.financecore.domain.model.entity.Despesa;
+import com.financecore.domain.model.entity.MesFinanceiro;
+import com.financecore.domain.model.entity.Parcela;
+import com.financecore.domain.model.entity.Parcelamento;
+import com.financecore.domain.model.entity.PreferenciasSistema;
+import com.financecore.domain.model.entity.TemaVisual;
+import com.financecore.domain.model.entity.TipoDespesa;
+import com.financecore.domain.model.entity.Usuario;
+import com.financecore.domain.model.valueobject.Dinheiro;
+import com.financecore.infrastructure.criptografia.ChavesCriptografia;
+import com.financecore.infrastructure.criptografia.CifradorColunas;
+import com.financecore.infrastructure.criptografia.CifradorColunas.Coluna;
+
+/**
+ * Gravação e carga do Parcelamento junto com as parcelas gravadas pelo
+ * repositório de MêsFinanceiro, sobre tabelas em memória.
+ */
+class JdbcParcelamentoRepositoryTest {
+
+    private final TabelasEmMemoria jdbc = new TabelasEmMemoria();
+    private final Categoria moradia = Categoria.nova("Moradia", true);
+
+    @Test
+    void cargaReconstituiOParcelamentoComAsParcelasDosMeses() {
+        JdbcParcelamentoRepository repositorio = new JdbcParcelamentoRepository(jdbc);
+        Parcelamento parcelamento = registrar(repositorio, new JdbcMesFinanceiroRepository(jdbc), 100_000, 3);
+
+        Parcelamento carregado = repositorio.buscarPorId(parcelamento.getId()).orElseThrow();
+
+        assertEquals(parcelamento.getDespesaId(), carregado.getDespesaId());
+        assertEquals(Dinheiro.deCentavos(100_000), carregado.getValorTotal());
+        assertEquals(3, carregado.getNumeroParcelas());
+        assertEquals(resumo(parcelamento), resumo(carregado));
+        assertEquals(List.of(Dinheiro.deCentavos(33_334), Dinheiro.deCentavos(33_333), Dinheiro.deCentavos(33_333)),
+                carregado.getParcelas().stream().map(Parcela::getValor).toList());
+        carregado.validarConsistencia();
+        assertEquals(carregado.getId(),
+                repositorio.buscarPorDespesaId(parcelamento.getDespesaId()).orElseThrow().getId());
+    }
+
+    @Test
+    void comCifradorAtivoOValorTotalEhGravadoCifrado() {
+        CifradorColunas cifrador = new CifradorColunas(
+                ChavesCriptografia.de("1:" + Base64.getEncoder().encodeToString(new byte[32]), 1));
+        JdbcParcelamentoRepository repositorio = new JdbcParcelamentoRepository(jdbc, cifrador);
+        Parcelamento parcelamento = registrar(repositorio, new JdbcMesFinanceiroRepository(jdbc, cifrador), 250_000, 4);
+
+        Map<String, Object> linha = jdbc.parcelamentos.get(parcelamento.getId());
+        assertNull(linha.get("valor_total"));
+        assertEquals((short) 1, linha.get("chave_versao"));
+        assertEquals(250_000L, cifrador.decifrarCentavos(parcelamento.getId(), Coluna.VALOR,
+                (byte[]) linha.get("valor_total_cifrado")));
+        assertEquals(resumo(parcelamento), resumo(repositorio.buscarPorId(parcelamento.getId()).orElseThrow()));
+    }
+
+    @Test
+    void gravacaoRepetidaMantemUmaLinha() {
+        JdbcParcelamentoRepository repositorio = new JdbcParcelamentoRepository(jdbc);
+        Parcelamento parcelamento = registrar(repositorio, new JdbcMesFinanceiroRepository(jdbc), 90_000, 2);
+        Map<String, Object> antes = new HashMap<>(jdbc.parcelamentos.get(parcelamento.getId()));
+
+        repositorio.salvar(parcelamento);
+
+        assertEquals(1, jdbc.parcelamentos.size());
+        assertEquals(antes, jdbc.parcelamentos.get(parcelamento.getId()));
+        assertEquals(new BigDecimal("900.00"), antes.get("valor_total"));
+        assertNull(antes.get("valor_total_cifrado"));
+    }
+
+    @Test
+    void parcelasSoPodemSerGravadasDepoisDoParcelamento() {
+        Usuario usuario = Usuario.novo("Ana", new PreferenciasSistema(TemaVisual.CLARO, "pt-BR", true));
+        MesFinanceiro marco = usuario.criarMesFinanceiro(3, 2024, Dinheiro.ZERO);
+        Despesa compra = despesaParcelada(marco, 60_000);
+        marco.registrarDespesa(compra);
+        List<MesFinanceiro> meses = Parcelamento.novo(compra, 2).gerarParcelas(usuario, marco);
+
+        assertThrows(IllegalStateException.class, () -> new JdbcMesFinanceiroRepository(jdbc).salvarTodos(meses));
+    }
+
+    @Test
+    void parcelamentoInexistenteNaoEhEncontrado() {
+        JdbcParcelamentoRepository repositorio = new JdbcParcelamentoRepository(jdbc);
+
+        assertTrue(repositorio.buscarPorId(UUID.randomUUID()).isEmpty());
+        assertTrue(repositorio.buscarPorDespesaId(UUID.randomUUID()).isEmpty());
+    }
+
+    /**
+     * Mesma ordem de RegistrarParcelamentoUseCase: o parcelamento, depois os
+     * meses com as parcelas.
+     */
+    private Parcelamento registrar(JdbcParcelamentoRepository repositorio, JdbcMesFinanceiroRepository meses,
+                                   long centavos, int numeroParcelas) {
+        Usuario usuario = Usuario.novo("Ana", new PreferenciasSistema(TemaVisual.CLARO, "pt-BR", true));
+        MesFinanceiro marco = usuario.criarMesFinanceiro(3, 2024, Dinheiro.ZERO);
+        Despesa compra = despesaParcelada(marco, centavos);
+        marco.registrarDespesa(compra);
+        Parcelamento parcelamento = Parcelamento.novo(compra, numeroParcelas);
+        List<MesFinanceiro> alterados = parcelamento.gerarParcelas(usuario, marco);
+
+        repositorio.salvar(parcelamento);
+        meses.salvarTodos(alterados);
+        return parcelamento;
+    }
+
+    private static List<List<Object>> resumo(Parcelamento parcelamento) {
+        return parcelamento.getParcelas().stream()
+                .map(p -> List.<Object>of(p.getId(), p.getMesFinanceiroId(), p.getNumero(), p.getValor(), p.getStatus()))
+                .toList();
+    }
+
+    private Despesa despesaParcelada(MesFinanceiro mes, long centavos) {
+        return Despesa.nova(mes.getId(), moradia, "Notebook", Dinheiro.deCentavos(centavos),
+                LocalDate.of(mes.getAno(), mes.getMes(), 15), TipoDespesa.PARCELADA, "Cartão");
+    }
+
+    /**
+     * Tabelas parcelamento e parcela em memória, preenchidas pelos parâmetros
+     * dos comandos na ordem das colunas dos INSERTs. A chave estrangeira de
+     * parcela para parcelamento é verificada; os demais comandos são ignorados.
+     */
+    private static final class TabelasEmMemoria extends JdbcTemplate {
+
+        private static final List<String> COLUNAS_PARCELAMENTO = List.of(
+                "id", "despesa_id", "valor_total", "numero_parcelas", "valor_total_cifrado", "chave_versao");
+        private static final List<String> COLUNAS_PARCELA = List.of(
+                "id", "parcelamento_id", "mes_financeiro_id", "numero", "valor", "status", "valor_cifrado",
+                "chave_versao");
+
+        private final Map<UUID, Map<String, Object>> parcelamentos = new LinkedHashMap<>();
+        private final Map<UUID, Map<String, Object>> parcelas = new LinkedHashMap<>();
+
+        @Override
+        public int update(String sql, PreparedStatementSetter preenchimento) {
+            if (!sql.strip().startsWith("INSERT INTO parcelamento")) {
+                throw new UnsupportedOperationException(sql);
+            }
+            Map<String, Object> linha = linha(COLUNAS_PARCELAMENTO, preenchimento::setValues);
+            return parcelamentos.putIfAbsent((UUID) linha.get("id"), linha) == null ? 1 : 0;
+        }
+
+        @Override
+        public <T> int[][] batchUpdate(String sql, Collection<T> itens, int tamanhoLote,
+                                       ParameterizedPreparedStatementSetter<T> preenchimento) {
+            if (sql.strip().startsWith("INSERT INTO parcela ")) {
+                for (T item : itens) {
+                    Map<String, Object> linha = linha(COLUNAS_PARCELA, ps -> preenchimento.setValues(ps, item));
+                    if (!parcelamentos.containsKey(linha.get("parcelamento_id"))) {
+                        throw new IllegalStateException("fk_parcela_parcelamento violada");
+                    }
+                    parcelas.putIfAbsent((UUID) linha.get("id"), linha);
+                }
+            }
+            return new int[0][];
+        }
+
+        @Override
+        public <T> List<T> query(String sql, RowMapper<T> mapeador, Object... argumentos) {
+            List<Map<String, Object>> linhas = new ArrayList<>();
+            if (sql.contains("FROM parcelamento")) {
+                String coluna = sql.contains("WHERE despesa_id") ? "despesa_id" : "id";
+                for (Map<String, Object> linha : parcelamentos.values()) {
+                    if (linha.get(coluna).equals(argumentos[0])) {
+                        linhas.add(linha);
+                    }
+                }
+            } else if (sql.contains("FROM parcela")) {
+                for (Map<String, Object> linha : parcelas.values()) {
+                    if (linha.get("parcelamento_id").equals(argumentos[0])) {
+                        linhas.add(linha);
+                    }
+                }
+                linhas.sort(Comparator.comparing(linha -> (Integer) linha.get("numero")));
+            } else {
+                throw new UnsupportedOperationException(sql);
+            }
+            List<T> resultado = new ArrayList<>(linhas.size());
+            try {
+                for (int i = 0; i < linhas.size(); i++) {
+                    resultado.add(mapeador.mapRow(resultado(linhas.get(i)), i));
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+            return resultado;
+        }
+
+        private static Map<String, Object> linha(List<String> colunas, Preenchimento preenchimento) {
+            Map<Integer, Object> parametros = new HashMap<>();
+            try {
+                preenchimento.preencher(comando(parametros));
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+            Map<String, Object> linha = new HashMap<>();
+            for (int i = 0; i < colunas.size(); i++) {
+                linha.put(colunas.get(i), parametros.get(i + 1));
+            }
+            return linha;
+        }
+
+        // setNull grava null; os demais setters gravam o valor do segundo argumento
+        private static PreparedStatement comando(Map<Integer, Object> parametros) {
+            return (PreparedStatement) Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(),
+                    new Class<?>[] {PreparedStatement.class},
+                    (proxy, metodo, argumentos) -> {
+                        if (metodo.getName().startsWith("set") && argumentos != null && argumentos.length >= 2) {
+                            Object valor = metodo.getName().equals("setNull") ? null : argumentos[1];
+                            parametros.put((Integer) argumentos[0], valor);
+                            return null;
+                        }
+                        throw new UnsupportedOperationException(metodo.getName());
+                    });
+        }
+
+        // Leitura por nome de coluna, com os tipos que os repositórios pedem
+        private static ResultSet resultado(Map<String, Object> linha) {
+            return (ResultSet) Proxy.newProxyInstance(
+                    ResultSet.class.getClassLoader(),
+                    new Class<?>[] {ResultSet.class},
+                    (proxy, metodo, argumentos) -> {
+                        Object valor = linha.get((String) argumentos[0]);
+                        return switch (metodo.getName()) {
+                            case "getObject", "getBytes", "getBigDecimal", "getString" -> valor;
+                            case "getInt" -> valor == null ? 0 : (Integer) valor;
+                            default -> throw new UnsupportedOperationException(metodo.getName());
+                        };
+                    });
+        }
+
+        @FunctionalInterface
+        private interface Preenchimento {
+            void preencher(PreparedStatement ps) throws SQLException;
+        }
+    }
+}
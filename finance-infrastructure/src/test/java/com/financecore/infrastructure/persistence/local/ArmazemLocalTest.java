@@ -0,0 +1,240 @@
+package com.financecore.infrastructure.persistence.local;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.UnexpectedRollbackException;
+
+import com.financecore.infrastructure.persistence.local.ArmazemLocal.Registro;
+
+/**
+ * Recuperação após queda e compactação do armazenamento local. As quedas são
+ * simuladas alterando o segmento com o armazenamento fechado: cabeçalho de 16
+ * bytes seguido de molduras [comprimento][CRC32C][registros].
+ */
+class ArmazemLocalTest {
+
+    private static final int TAMANHO_CABECALHO = 16;
+    private static final int TAMANHO_MOLDURA = 8;
+
+    @TempDir
+    Path diretorio;
+
+    private ArmazemLocal armazem;
+
+    private final UUID a = UUID.randomUUID();
+    private final UUID b = UUID.randomUUID();
+    private final UUID c = UUID.randomUUID();
+
+    @AfterEach
+    void fechar() {
+        if (armazem != null) {
+            armazem.close();
+        }
+    }
+
+    @Test
+    void molduraComCrcInvalidoDescartaOCommitInteiro() throws IOException {
+        armazem = ArmazemLocal.abrir(diretorio);
+        gravar(a, "a1");
+        armazem.gravar(List.of(gravacao(b, "b1"), gravacao(c, "c1")));
+        armazem.close();
+
+        int ultima = molduras(unicoSegmento())[0];
+        alterarByte(unicoSegmento(), ultima + TAMANHO_MOLDURA + 3);
+
+        armazem = ArmazemLocal.abrir(diretorio);
+        assertEquals("a1", ler(a));
+        assertNull(ler(b));
+        assertNull(ler(c));
+    }
+
+    @Test
+    void molduraInterrompidaEhApagadaEAsGravacoesSeguintesSobrevivem() throws IOException {
+        armazem = ArmazemLocal.abrir(diretorio);
+        gravar(a, "a1");
+        armazem.close();
+
+        // Queda depois de gravar o comprimento e antes dos dados
+        Path segmento = unicoSegmento();
+        int fim = molduras(segmento)[1];
+        try (FileChannel canal = FileChannel.open(segmento, StandardOpenOption.WRITE)) {
+            canal.write(ByteBuffer.allocate(8).putInt(0, 64).putInt(4, 0x1234), fim);
+        }
+
+        armazem = ArmazemLocal.abrir(diretorio);
+        assertEquals("a1", ler(a));
+        gravar(b, "b1");
+        armazem.close();
+
+        armazem = ArmazemLocal.abrir(diretorio);
+        assertEquals("a1", ler(a));
+        assertEquals("b1", ler(b));
+        assertEquals(2, armazem.getQuantidadeRegistros());
+    }
+
+    @Test
+    void compactacaoMantemSoOsValoresVivos() throws IOException {
+        armazem = ArmazemLocal.abrir(diretorio);
+        gravar(a, "a1");
+        gravar(a, "a2");
+        gravar(b, "b1");
+        armazem.gravar(List.of(Registro.remocao(ArmazemLocal.USUARIO, b)));
+
+        armazem.compactar();
+
+        assertEquals(1, armazem.getQuantidadeRegistros());
+        assertEquals("a2", ler(a));
+        assertEquals(List.of("segmento-0000000002.fcl"), segmentos());
+        armazem.close();
+
+        armazem = ArmazemLocal.abrir(diretorio);
+        assertEquals("a2", ler(a));
+        assertNull(ler(b));
+    }
+
+    @Test
+    void compactacaoInterrompidaEhDescartadaNaAbertura() throws IOException {
+        armazem = ArmazemLocal.abrir(diretorio);
+        gravar(a, "a1");
+        armazem.close();
+
+        // Segmento da geração seguinte cujo cabeçalho não chegou a ser gravado
+        Files.write(diretorio.resolve("segmento-0000000002.fcl"), new byte[4096]);
+
+        armazem = ArmazemLocal.abrir(diretorio);
+        assertEquals("a1", ler(a));
+        assertEquals(List.of("segmento-0000000001.fcl"), segmentos());
+        gravar(b, "b1");
+        armazem.close();
+
+        armazem = ArmazemLocal.abrir(diretorio);
+        assertEquals("b1", ler(b));
+    }
+
+    @Test
+    void segmentoJaCompactadoQueNaoFoiApagadoEhIgnorado() throws IOException {
+        armazem = ArmazemLocal.abrir(diretorio);
+        gravar(a, "a1");
+        Path copia = diretorio.resolve("copia.bak");
+        Files.copy(unicoSegmento(), copia, StandardCopyOption.REPLACE_EXISTING);
+        armazem.compactar();
+        gravar(a, "a2");
+        armazem.close();
+
+        Files.move(copia, diretorio.resolve("segmento-0000000001.fcl"));
+
+        armazem = ArmazemLocal.abrir(diretorio);
+        assertEquals("a2", ler(a));
+        assertEquals(List.of("segmento-0000000002.fcl"), segmentos());
+    }
+
+    @Test
+    void transacaoDesfeitaNaoChegaAoSegmento() {
+        armazem = ArmazemLocal.abrir(diretorio);
+        GerenciadorTransacoesLocal transacoes = new GerenciadorTransacoesLocal(armazem);
+        boolean[] desfeita = {false};
+
+        TransactionStatus status = transacoes.getTransaction(TransactionDefinition.withDefaults());
+        gravar(a, "a1");
+        armazem.aoDesfazer(() -> desfeita[0] = true);
+        assertEquals("a1", ler(a));
+        transacoes.rollback(status);
+
+        assertTrue(desfeita[0]);
+        assertNull(ler(a));
+        assertEquals(0, armazem.getQuantidadeRegistros());
+
+        status = transacoes.getTransaction(TransactionDefinition.withDefaults());
+        gravar(a, "a2");
+        gravar(b, "b1");
+        transacoes.commit(status);
+        armazem.close();
+
+        armazem = ArmazemLocal.abrir(diretorio);
+        assertEquals("a2", ler(a));
+        assertEquals("b1", ler(b));
+    }
+
+    @Test
+    void transacaoMarcadaParaDesfazerNaoEhConfirmada() {
+        armazem = ArmazemLocal.abrir(diretorio);
+        GerenciadorTransacoesLocal transacoes = new GerenciadorTransacoesLocal(armazem);
+
+        TransactionStatus externa = transacoes.getTransaction(TransactionDefinition.withDefaults());
+        gravar(a, "a1");
+        TransactionStatus interna = transacoes.getTransaction(TransactionDefinition.withDefaults());
+        transacoes.rollback(interna);
+        assertThrows(UnexpectedRollbackException.class, () -> transacoes.commit(externa));
+
+        assertNull(ler(a));
+        assertNull(armazem.transacaoAtual());
+    }
+
+    private void gravar(UUID id, String valor) {
+        armazem.gravar(List.of(gravacao(id, valor)));
+    }
+
+    private static Registro gravacao(UUID id, String valor) {
+        return Registro.gravacao(ArmazemLocal.USUARIO, id, valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String ler(UUID id) {
+        byte[] valor = armazem.ler(ArmazemLocal.USUARIO, id);
+        return valor == null ? null : new String(valor, StandardCharsets.UTF_8);
+    }
+
+    private List<String> segmentos() throws IOException {
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            return arquivos.map(arquivo -> arquivo.getFileName().toString())
+                    .filter(nome -> nome.startsWith("segmento-"))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path unicoSegmento() throws IOException {
+        List<String> nomes = segmentos();
+        assertEquals(1, nomes.size());
+        return diretorio.resolve(nomes.get(0));
+    }
+
+    /**
+     * Início da última moldura e posição seguinte a ela.
+     */
+    private static int[] molduras(Path segmento) throws IOException {
+        ByteBuffer conteudo = ByteBuffer.wrap(Files.readAllBytes(segmento));
+        int ultima = -1;
+        int posicao = TAMANHO_CABECALHO;
+        while (conteudo.getInt(posicao) != 0) {
+            ultima = posicao;
+            posicao += TAMANHO_MOLDURA + conteudo.getInt(posicao);
+        }
+        return new int[] {ultima, posicao};
+    }
+
+    private static void alterarByte(Path segmento, int posicao) throws IOException {
+        byte[] conteudo = Files.readAllBytes(segmento);
+        conteudo[posicao] ^= (byte) 0xFF;
+        Files.write(segmento, conteudo);
+    }
+}
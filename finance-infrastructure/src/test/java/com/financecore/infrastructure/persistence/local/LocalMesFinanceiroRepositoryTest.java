@@ -0,0 +1,201 @@
+package com.financecore.infrastructure.persistence.local;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+
+import com.financecore.domain.model.entity.MesFinanceiro;
+import com.financecore.domain.model.entity.MesFinanceiroStatus;
+import com.financecore.domain.model.entity.Receita;
+import com.financecore.domain.model.entity.TipoReceita;
+import com.financecore.domain.model.valueobject.Dinheiro;
+import com.financecore.domain.model.valueobject.Periodo;
+import com.financecore.infrastructure.criptografia.ChavesCriptografia;
+import com.financecore.infrastructure.criptografia.CifradorColunas;
+
+/**
+ * Diário dos meses no modo local: gravação dos eventos novos, rollback,
+ * consolidação em snapshot na compactação e recuperação após queda.
+ */
+class LocalMesFinanceiroRepositoryTest {
+
+    @TempDir
+    Path diretorio;
+
+    private final UUID usuarioId = UUID.randomUUID();
+    private ArmazemLocal armazem;
+    private LocalMesFinanceiroRepository repositorio;
+
+    @AfterEach
+    void fechar() {
+        if (armazem != null) {
+            armazem.close();
+        }
+    }
+
+    @Test
+    void cadaGravacaoAcrescentaSoOsEventosNovos() {
+        abrir(new CifradorColunas(ChavesCriptografia.nenhuma()));
+        MesFinanceiro mes = MesFinanceiro.novo(usuarioId, 3, 2024, Dinheiro.deCentavos(100));
+        repositorio.salvar(mes);
+        for (int i = 1; i <= 20; i++) {
+            mes.registrarReceita(receita(mes, i));
+            repositorio.salvar(mes);
+        }
+        repositorio.salvar(mes);
+
+        assertTrue(mes.getEventos().isEmpty());
+        assertEquals(21, contar(ArmazemLocal.MES_EVENTO));
+        assertEquals(0, contar(ArmazemLocal.MES_SNAPSHOT));
+        MesFinanceiro lido = repositorio.buscarPorId(mes.getId()).orElseThrow();
+        assertEquals(20, lido.getReceitas().size());
+        assertEquals(mes.getTotalReceitas(), lido.getTotalReceitas());
+        assertTrue(lido.getEventos().isEmpty());
+    }
+
+    @Test
+    void rollbackMantemOsEventosPendentesParaAProximaGravacao() {
+        abrir(new CifradorColunas(ChavesCriptografia.nenhuma()));
+        GerenciadorTransacoesLocal transacoes = new GerenciadorTransacoesLocal(armazem);
+        MesFinanceiro mes = MesFinanceiro.novo(usuarioId, 3, 2024, Dinheiro.ZERO);
+        repositorio.salvar(mes);
+
+        TransactionStatus status = transacoes.getTransaction(TransactionDefinition.withDefaults());
+        mes.registrarReceita(receita(mes, 1));
+        repositorio.salvar(mes);
+        mes.registrarReceita(receita(mes, 2));
+        repositorio.salvar(mes);
+        assertEquals(2, repositorio.buscarPorId(mes.getId()).orElseThrow().getReceitas().size());
+        transacoes.rollback(status);
+
+        assertEquals(2, mes.getEventos().size());
+        assertEquals(0, repositorio.buscarPorId(mes.getId()).orElseThrow().getReceitas().size());
+
+        status = transacoes.getTransaction(TransactionDefinition.withDefaults());
+        repositorio.salvar(mes);
+        transacoes.commit(status);
+
+        assertTrue(mes.getEventos().isEmpty());
+        assertEquals(2, repositorio.buscarPorId(mes.getId()).orElseThrow().getReceitas().size());
+    }
+
+    @Test
+    void compactacaoConsolidaOsEventosEmSnapshotEAReaberturaReproduzACauda() {
+        abrir(new CifradorColunas(ChavesCriptografia.nenhuma()));
+        MesFinanceiro mes = MesFinanceiro.novo(usuarioId, 3, 2024, Dinheiro.ZERO);
+        repositorio.salvar(mes);
+        for (int i = 1; i <= 10; i++) {
+            mes.registrarReceita(receita(mes, i));
+            repositorio.salvar(mes);
+        }
+
+        armazem.compactar();
+
+        assertEquals(0, contar(ArmazemLocal.MES_EVENTO));
+        assertEquals(1, contar(ArmazemLocal.MES_SNAPSHOT));
+        MesFinanceiro consolidado = repositorio.buscarPorId(mes.getId()).orElseThrow();
+        assertEquals(10, consolidado.getReceitas().size());
+
+        consolidado.fechar();
+        repositorio.salvar(consolidado);
+        assertEquals(1, contar(ArmazemLocal.MES_EVENTO));
+        reabrir(new CifradorColunas(ChavesCriptografia.nenhuma()));
+
+        MesFinanceiro reaberto = repositorio.buscarPorId(mes.getId()).orElseThrow();
+        assertEquals(MesFinanceiroStatus.FECHADO, reaberto.getStatus());
+        assertEquals(10, reaberto.getReceitas().size());
+        assertEquals(consolidado.getSaldoFinal(), reaberto.getSaldoFinal());
+    }
+
+    @Test
+    void quedaNoMeioDoCommitPerdeSoOUltimoMesGravado() throws IOException {
+        abrir(new CifradorColunas(ChavesCriptografia.nenhuma()));
+        MesFinanceiro marco = MesFinanceiro.novo(usuarioId, 3, 2024, Dinheiro.ZERO);
+        marco.registrarReceita(receita(marco, 1));
+        repositorio.salvar(marco);
+        MesFinanceiro abril = MesFinanceiro.novo(usuarioId, 4, 2024, Dinheiro.ZERO);
+        repositorio.salvar(abril);
+        armazem.close();
+
+        corromperUltimaMoldura();
+        abrir(new CifradorColunas(ChavesCriptografia.nenhuma()));
+
+        assertTrue(repositorio.buscarPorId(abril.getId()).isEmpty());
+        assertEquals(1, repositorio.buscarPorId(marco.getId()).orElseThrow().getReceitas().size());
+        assertEquals(marco.getId(),
+                repositorio.buscarMaisRecenteAte(usuarioId, Periodo.de(12, 2024)).orElseThrow().getId());
+    }
+
+    @Test
+    void mesCifradoSobreviveAConsolidacaoEAReabertura() {
+        CifradorColunas cifrador = new CifradorColunas(
+                ChavesCriptografia.de("1:" + Base64.getEncoder().encodeToString(new byte[32]), 1));
+        abrir(cifrador);
+        MesFinanceiro mes = MesFinanceiro.novo(usuarioId, 6, 2024, Dinheiro.ZERO);
+        mes.registrarReceita(receita(mes, 5));
+        repositorio.salvar(mes);
+        armazem.compactar();
+        mes.registrarReceita(receita(mes, 6));
+        repositorio.salvar(mes);
+
+        reabrir(cifrador);
+
+        MesFinanceiro lido = repositorio.buscarPorId(mes.getId()).orElseThrow();
+        assertEquals(List.of("Receita 5", "Receita 6"),
+                lido.getReceitas().stream().map(Receita::getDescricao).toList());
+    }
+
+    private void abrir(CifradorColunas cifrador) {
+        armazem = ArmazemLocal.abrir(diretorio, cifrador);
+        repositorio = new LocalMesFinanceiroRepository(armazem, new LocalHistoricoFinanceiroRepository(armazem));
+    }
+
+    private void reabrir(CifradorColunas cifrador) {
+        armazem.close();
+        abrir(cifrador);
+    }
+
+    private int contar(byte tipo) {
+        int[] quantidade = {0};
+        armazem.percorrer(tipo, (id, valor) -> quantidade[0]++);
+        return quantidade[0];
+    }
+
+    // Segmento: cabeçalho de 16 bytes e molduras [comprimento][CRC32C][registros]
+    private void corromperUltimaMoldura() throws IOException {
+        Path segmento;
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            segmento = arquivos.filter(arquivo -> arquivo.getFileName().toString().startsWith("segmento-"))
+                    .findFirst()
+                    .orElseThrow();
+        }
+        byte[] conteudo = Files.readAllBytes(segmento);
+        ByteBuffer molduras = ByteBuffer.wrap(conteudo);
+        int ultima = 16;
+        for (int posicao = 16; molduras.getInt(posicao) != 0; posicao += 8 + molduras.getInt(posicao)) {
+            ultima = posicao;
+        }
+        conteudo[ultima + 8 + 5] ^= (byte) 0xFF;
+        Files.write(segmento, conteudo);
+    }
+
+    private static Receita receita(MesFinanceiro mes, int numero) {
+        return Receita.nova(mes.getId(), "Receita " + numero, Dinheiro.deCentavos(numero * 100L),
+                TipoReceita.VARIAVEL, LocalDate.of(mes.getAno(), mes.getMes(), 1));
+    }
+}
@@ -0,0 +1,120 @@
+package com.financecore.infrastructure.persistence.local;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.financecore.infrastructure.criptografia.ChavesCriptografia;
+import com.financecore.infrastructure.criptografia.CifradorColunas;
+import com.financecore.infrastructure.persistence.local.ArmazemLocal.Registro;
+
+/**
+ * Recifragem do modo local: dados em texto claro passam a ser cifrados e,
+ * após a rotação, tudo fica legível só com a chave nova.
+ */
+class LocalRecifragemTest {
+
+    private static final String CHAVE_1 = chave(1);
+    private static final String CHAVE_2 = chave(2);
+
+    @TempDir
+    Path diretorio;
+
+    private ArmazemLocal armazem;
+    private final List<UUID> ids = new ArrayList<>();
+
+    @AfterEach
+    void fechar() {
+        if (armazem != null) {
+            armazem.close();
+        }
+    }
+
+    @Test
+    void recifragemCifraOTextoClaroEDepoisRotacionaAChave() throws IOException {
+        armazem = ArmazemLocal.abrir(diretorio);
+        for (int i = 0; i < 50; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            armazem.gravar(List.of(Registro.gravacao(ArmazemLocal.USUARIO, id, valor(i))));
+        }
+        assertTrue(segmentoContem("conta-0"));
+
+        long recifrados = recifrar(new CifradorColunas(ChavesCriptografia.de(CHAVE_1, 1)));
+
+        assertEquals(50L, recifrados);
+        assertFalse(segmentoContem("conta-0"));
+        assertTodosLegiveis();
+
+        recifrar(new CifradorColunas(ChavesCriptografia.de(CHAVE_1 + "," + CHAVE_2, 2)));
+        reabrir(new CifradorColunas(ChavesCriptografia.de(CHAVE_2, 2)));
+
+        assertTodosLegiveis();
+    }
+
+    @Test
+    void semChaveNaoHaRecifragem() {
+        armazem = ArmazemLocal.abrir(diretorio);
+        LocalRecifragem recifragem = new LocalRecifragem(armazem, new CifradorColunas(ChavesCriptografia.nenhuma()));
+
+        assertFalse(recifragem.isAtiva());
+        assertThrows(IllegalStateException.class, () -> recifragem.recifrarTudo(100));
+    }
+
+    private long recifrar(CifradorColunas cifrador) {
+        reabrir(cifrador);
+        return new LocalRecifragem(armazem, cifrador).recifrarTudo(100);
+    }
+
+    private void reabrir(CifradorColunas cifrador) {
+        armazem.close();
+        armazem = ArmazemLocal.abrir(diretorio, cifrador);
+    }
+
+    private void assertTodosLegiveis() {
+        for (int i = 0; i < ids.size(); i++) {
+            assertEquals("conta-" + i, new String(armazem.ler(ArmazemLocal.USUARIO, ids.get(i)), StandardCharsets.UTF_8));
+        }
+    }
+
+    private boolean segmentoContem(String texto) throws IOException {
+        byte[] procurado = texto.getBytes(StandardCharsets.UTF_8);
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            for (Path arquivo : arquivos.filter(a -> a.getFileName().toString().startsWith("segmento-")).toList()) {
+                byte[] conteudo = Files.readAllBytes(arquivo);
+                for (int i = 0; i + procurado.length <= conteudo.length; i++) {
+                    if (Arrays.equals(conteudo, i, i + procurado.length, procurado, 0, procurado.length)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private static byte[] valor(int numero) {
+        return ("conta-" + numero).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String chave(int semente) {
+        byte[] mestra = new byte[32];
+        Arrays.fill(mestra, (byte) semente);
+        return semente + ":" + Base64.getEncoder().encodeToString(mestra);
+    }
+}